@@ -22,7 +22,6 @@ import org.ballerinalang.logging.BLogManager;
 import org.ballerinalang.logging.util.BLogLevelMapper;
 
 import java.util.Date;
-import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
 /**
@@ -30,13 +29,18 @@ import java.util.logging.LogRecord;
  *
  * @since 0.89
  */
-public class BallerinaLogFormatter extends Formatter {
+public class BallerinaLogFormatter extends BufferedLogFormatter {
+
+    private static final String DEFAULT_FORMAT =
+            "time = %1$tY-%1$tm-%1$td %1$tH:%1$tM:%1$tS,%1$tL level = %2$-5s module = %3$s %4$s %n";
 
     private static final String format = BLogManager.getLogManager().getProperty(
             BallerinaLogFormatter.class.getCanonicalName() + ".format");
 
+    private static final boolean directFormat = isDirectFormat(format, DEFAULT_FORMAT);
+
     @Override
-    public String format(LogRecord record) {
+    public void formatTo(LogRecord record, StringBuilder buffer) {
         String source = "";
         if (record.getLoggerName().length() > BLogManager.LOGGER_PREFIX_LENGTH) {
             source = record.getLoggerName().substring(BLogManager.LOGGER_PREFIX_LENGTH);
@@ -44,10 +48,16 @@ public class BallerinaLogFormatter extends Formatter {
         if (source.equals("")) {
             source = "\"\"";
         }
-        return String.format(format,
-                             new Date(record.getMillis()),
-                             BLogLevelMapper.getBallerinaLogLevel(record.getLevel()),
-                             source,
-                             record.getMessage());
+        String level = BLogLevelMapper.getBallerinaLogLevel(record.getLevel());
+        if (!directFormat) {
+            buffer.append(String.format(format, new Date(record.getMillis()), level, source, record.getMessage()));
+            return;
+        }
+        buffer.append("time = ");
+        appendTimestamp(buffer, record.getMillis());
+        buffer.append(" level = ");
+        appendPadded(buffer, level, 5);
+        buffer.append(" module = ").append(source).append(' ').append(record.getMessage()).append(' ');
+        appendLineSeparator(buffer);
     }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.logging.formatters;
+
+import java.text.DecimalFormatSymbols;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.logging.Formatter;
+import java.util.logging.LogRecord;
+
+/**
+ * A log formatter which appends a formatted log record to a buffer supplied by the caller, so that a writer which
+ * formats many records could reuse a single buffer.
+ * <p>
+ * The formatters of this kind append the records in their default format directly, with the same output as the
+ * {@link String#format(String, Object...)} pattern of the format, instead of parsing the pattern for every record.
+ *
+ * @since 2.0.0
+ */
+public abstract class BufferedLogFormatter extends Formatter {
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private static volatile TimestampPrefix timestampPrefix = new TimestampPrefix(Long.MIN_VALUE, null, "");
+
+    /**
+     * Appends a formatted log record to a buffer.
+     *
+     * @param record the log record
+     * @param buffer the buffer
+     */
+    public abstract void formatTo(LogRecord record, StringBuilder buffer);
+
+    @Override
+    public String format(LogRecord record) {
+        StringBuilder buffer = new StringBuilder(128);
+        formatTo(record, buffer);
+        return buffer.toString();
+    }
+
+    /**
+     * Checks whether a format could be appended directly instead of through its pattern, which is the case when it is
+     * the default format and the digits of the default locale are ASCII digits.
+     *
+     * @param format        the format
+     * @param defaultFormat the default format
+     * @return true if the format could be appended directly
+     */
+    static boolean isDirectFormat(String format, String defaultFormat) {
+        return defaultFormat.equals(format) &&
+                DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getZeroDigit() == '0';
+    }
+
+    /**
+     * Appends a time as {@code %1$tY-%1$tm-%1$td %1$tH:%1$tM:%1$tS,%1$tL} does. The part up to the seconds is kept
+     * and reused for the records logged within the same second.
+     *
+     * @param buffer the buffer
+     * @param millis the time in milliseconds since the epoch
+     */
+    static void appendTimestamp(StringBuilder buffer, long millis) {
+        long second = Math.floorDiv(millis, 1000);
+        ZoneId zone = ZoneId.systemDefault();
+        TimestampPrefix prefix = timestampPrefix;
+        if (prefix.second != second || !zone.equals(prefix.zone)) {
+            prefix = new TimestampPrefix(second, zone, formatPrefix(second, zone));
+            timestampPrefix = prefix;
+        }
+        buffer.append(prefix.value).append(',');
+        appendDigits(buffer, (int) Math.floorMod(millis, 1000), 3);
+    }
+
+    /**
+     * Appends a value left justified in a field of a width, as {@code %-<width>s} does.
+     *
+     * @param buffer the buffer
+     * @param value  the value
+     * @param width  the width
+     */
+    static void appendPadded(StringBuilder buffer, String value, int width) {
+        buffer.append(value);
+        for (int i = value.length(); i < width; i++) {
+            buffer.append(' ');
+        }
+    }
+
+    static void appendLineSeparator(StringBuilder buffer) {
+        buffer.append(LINE_SEPARATOR);
+    }
+
+    private static String formatPrefix(long second, ZoneId zone) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochSecond(second), zone);
+        StringBuilder buffer = new StringBuilder(19);
+        appendDigits(buffer, time.getYear(), 4);
+        buffer.append('-');
+        appendDigits(buffer, time.getMonthValue(), 2);
+        buffer.append('-');
+        appendDigits(buffer, time.getDayOfMonth(), 2);
+        buffer.append(' ');
+        appendDigits(buffer, time.getHour(), 2);
+        buffer.append(':');
+        appendDigits(buffer, time.getMinute(), 2);
+        buffer.append(':');
+        appendDigits(buffer, time.getSecond(), 2);
+        return buffer.toString();
+    }
+
+    private static void appendDigits(StringBuilder buffer, int value, int width) {
+        for (int divisor = (int) Math.pow(10, width - 1); divisor > 1 && value < divisor; divisor /= 10) {
+            buffer.append('0');
+        }
+        buffer.append(value);
+    }
+
+    /**
+     * The formatted part of a timestamp up to the seconds.
+     */
+    private static class TimestampPrefix {
+
+        private final long second;
+        private final ZoneId zone;
+        private final String value;
+
+        TimestampPrefix(long second, ZoneId zone, String value) {
+            this.second = second;
+            this.zone = zone;
+            this.value = value;
+        }
+    }
+}
@@ -24,7 +24,6 @@ import org.ballerinalang.logging.util.BLogLevelMapper;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Date;
-import java.util.logging.Formatter;
 import java.util.logging.LogRecord;
 
 /**
@@ -32,13 +31,18 @@ import java.util.logging.LogRecord;
  *
  * @since 0.89
  */
-public class DefaultLogFormatter extends Formatter {
+public class DefaultLogFormatter extends BufferedLogFormatter {
+
+    private static final String DEFAULT_FORMAT =
+            "[%1$tY-%1$tm-%1$td %1$tH:%1$tM:%1$tS,%1$tL] %2$-5s {%3$s} - %4$s %5$s %n";
 
     private static final String format = BLogManager.getLogManager().getProperty(
             DefaultLogFormatter.class.getCanonicalName() + ".format");
 
+    private static final boolean directFormat = isDirectFormat(format, DEFAULT_FORMAT);
+
     @Override
-    public String format(LogRecord record) {
+    public void formatTo(LogRecord record, StringBuilder buffer) {
         String source = record.getLoggerName();
         String ex = "";
 
@@ -49,11 +53,17 @@ public class DefaultLogFormatter extends Formatter {
             ex = stringWriter.toString();
         }
 
-        return String.format(format,
-                             new Date(record.getMillis()),
-                             BLogLevelMapper.getBallerinaLogLevel(record.getLevel()),
-                             source,
-                             record.getMessage(),
-                             ex);
+        String level = BLogLevelMapper.getBallerinaLogLevel(record.getLevel());
+        if (!directFormat) {
+            buffer.append(String.format(format, new Date(record.getMillis()), level, source, record.getMessage(), ex));
+            return;
+        }
+        buffer.append('[');
+        appendTimestamp(buffer, record.getMillis());
+        buffer.append("] ");
+        appendPadded(buffer, level, 5);
+        buffer.append(" {").append(source).append("} - ").append(record.getMessage()).append(' ').append(ex)
+                .append(' ');
+        appendLineSeparator(buffer);
     }
 }
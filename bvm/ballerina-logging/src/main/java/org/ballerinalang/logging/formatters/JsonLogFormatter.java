@@ -30,8 +30,11 @@ import java.util.logging.LogRecord;
  */
 public class JsonLogFormatter extends Formatter {
 
+    // Gson instances are thread safe, and creating one builds its type adapter caches.
+    private static final Gson GSON = new Gson();
+
     @Override
     public String format(LogRecord record) {
-        return new Gson().toJson(record) + System.getProperty("line.separator");
+        return GSON.toJson(record) + System.getProperty("line.separator");
     }
 }
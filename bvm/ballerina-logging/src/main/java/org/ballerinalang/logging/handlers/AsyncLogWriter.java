@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.logging.handlers;
+
+import org.ballerinalang.logging.formatters.BufferedLogFormatter;
+import org.ballerinalang.logging.util.RingBuffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * Writes the log records published to a handler from a background thread, so that the threads which log do not
+ * format the records or wait on the output stream.
+ * <p>
+ * The records are queued in a lock-free ring buffer. The writer drains them in batches, formats a batch into a
+ * buffer which is reused for every batch, and writes and flushes the batch at once. When the ring buffer is full, a
+ * record is either dropped or the logging thread waits for space, as per the overflow policy.
+ *
+ * @since 2.0.0
+ */
+class AsyncLogWriter {
+
+    /**
+     * The action taken when a record is published while the ring buffer is full.
+     */
+    enum OverflowPolicy {
+        BLOCK, DROP
+    }
+
+    private static final int BATCH_SIZE = 256;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final Handler handler;
+    private final Supplier<OutputStream> outputStream;
+    private final OverflowPolicy overflowPolicy;
+    private final RingBuffer<LogRecord> records;
+    private final AtomicLong droppedRecords = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean idle;
+    private volatile boolean closed;
+
+    private StringBuilder textBuffer = new StringBuilder(8192);
+    private final ByteBuffer byteBuffer = ByteBuffer.allocate(8192);
+    private CharsetEncoder encoder;
+
+    AsyncLogWriter(Handler handler, Supplier<OutputStream> outputStream, int bufferSize,
+                   OverflowPolicy overflowPolicy) {
+        this.handler = handler;
+        this.outputStream = outputStream;
+        this.overflowPolicy = overflowPolicy;
+        this.records = new RingBuffer<>(bufferSize);
+        this.writerThread = new Thread(this::run, "ballerina-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Queues a record to be written.
+     *
+     * @param record the record
+     */
+    void publish(LogRecord record) {
+        while (!records.offer(record)) {
+            if (overflowPolicy == OverflowPolicy.DROP || closed) {
+                droppedRecords.incrementAndGet();
+                return;
+            }
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        if (idle) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Writes the queued records and stops the writer.
+     */
+    void close() {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            boolean stopping = closed;
+            if (writeBatch() > 0) {
+                continue;
+            }
+            if (stopping) {
+                return;
+            }
+            idle = true;
+            // A record queued while the writer became idle did not unpark it, so the buffer is checked once again.
+            if (records.isEmpty()) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            idle = false;
+        }
+    }
+
+    private int writeBatch() {
+        textBuffer.setLength(0);
+        long dropped = droppedRecords.getAndSet(0);
+        if (dropped > 0) {
+            textBuffer.append("ballerina: ").append(dropped)
+                    .append(" log records were dropped as the log buffer was full").append(System.lineSeparator());
+        }
+        int count = 0;
+        LogRecord record;
+        while (count < BATCH_SIZE && (record = records.poll()) != null) {
+            append(record);
+            count++;
+        }
+        if (textBuffer.length() > 0) {
+            write();
+        }
+        return count;
+    }
+
+    private void append(LogRecord record) {
+        try {
+            Formatter formatter = handler.getFormatter();
+            if (formatter instanceof BufferedLogFormatter) {
+                ((BufferedLogFormatter) formatter).formatTo(record, textBuffer);
+            } else {
+                textBuffer.append(formatter.format(record));
+            }
+        } catch (RuntimeException e) {
+            handler.getErrorManager().error("failed to format the log record", e, ErrorManager.FORMAT_FAILURE);
+        }
+    }
+
+    private void write() {
+        try {
+            CharsetEncoder currentEncoder = getEncoder();
+            CharBuffer text = CharBuffer.wrap(textBuffer);
+            OutputStream stream = outputStream.get();
+            currentEncoder.reset();
+            while (currentEncoder.encode(text, byteBuffer, true).isOverflow()) {
+                drain(stream);
+            }
+            while (currentEncoder.flush(byteBuffer).isOverflow()) {
+                drain(stream);
+            }
+            drain(stream);
+            stream.flush();
+        } catch (Exception e) {
+            handler.getErrorManager().error("failed to write the log records", e, ErrorManager.WRITE_FAILURE);
+        } finally {
+            byteBuffer.clear();
+            if (textBuffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                textBuffer = new StringBuilder(8192);
+            }
+        }
+    }
+
+    private void drain(OutputStream stream) throws IOException {
+        stream.write(byteBuffer.array(), 0, byteBuffer.position());
+        byteBuffer.clear();
+    }
+
+    private CharsetEncoder getEncoder() throws UnsupportedEncodingException {
+        String encoding = handler.getEncoding();
+        Charset charset;
+        try {
+            charset = encoding == null ? Charset.defaultCharset() : Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            throw new UnsupportedEncodingException(encoding);
+        }
+        if (encoder == null || !encoder.charset().equals(charset)) {
+            encoder = charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        return encoder;
+    }
+}
@@ -18,12 +18,63 @@
  package org.ballerinalang.logging.handlers;
 
  import java.util.logging.ConsoleHandler;
+ import java.util.logging.LogManager;
+ import java.util.logging.LogRecord;
 
  /**
   * Console log handler used for Ballerina Log API.
+  * <p>
+  * When the handler is configured to be asynchronous, the records are written to the standard error stream by a
+  * background writer instead of by the logging thread.
   */
  public class BallerinaLogApiHandler extends ConsoleHandler {
 
+     private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+     private final AsyncLogWriter asyncLogWriter;
+
      public BallerinaLogApiHandler() {
+         LogManager manager = LogManager.getLogManager();
+         String prefix = getClass().getName();
+         if (Boolean.parseBoolean(manager.getProperty(prefix + ".async"))) {
+             asyncLogWriter = new AsyncLogWriter(this, () -> System.err,
+                                                 getBufferSize(manager.getProperty(prefix + ".bufferSize")),
+                                                 getOverflowPolicy(manager.getProperty(prefix + ".overflowPolicy")));
+         } else {
+             asyncLogWriter = null;
+         }
+     }
+
+     @Override
+     public void publish(LogRecord record) {
+         if (asyncLogWriter == null) {
+             super.publish(record);
+         } else if (isLoggable(record)) {
+             asyncLogWriter.publish(record);
+         }
+     }
+
+     @Override
+     public void close() {
+         if (asyncLogWriter != null) {
+             asyncLogWriter.close();
+         }
+         super.close();
+     }
+
+     private static int getBufferSize(String bufferSize) {
+         try {
+             return bufferSize == null ? DEFAULT_BUFFER_SIZE : Math.max(2, Integer.parseInt(bufferSize.trim()));
+         } catch (NumberFormatException e) {
+             return DEFAULT_BUFFER_SIZE;
+         }
+     }
+
+     private static AsyncLogWriter.OverflowPolicy getOverflowPolicy(String overflowPolicy) {
+         if (overflowPolicy != null && AsyncLogWriter.OverflowPolicy.DROP.name().equalsIgnoreCase(
+                 overflowPolicy.trim())) {
+             return AsyncLogWriter.OverflowPolicy.DROP;
+         }
+         return AsyncLogWriter.OverflowPolicy.BLOCK;
      }
  }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.logging.formatters;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Date;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * Test that the formatters which append records directly produce the same output as the patterns of their default
+ * formats.
+ *
+ * @since 2.0.0
+ */
+public class BufferedLogFormatterTest {
+
+    private static final String BALLERINA_DEFAULT_FORMAT =
+            "time = %1$tY-%1$tm-%1$td %1$tH:%1$tM:%1$tS,%1$tL level = %2$-5s module = %3$s %4$s %n";
+
+    private static final String DEFAULT_FORMAT =
+            "[%1$tY-%1$tm-%1$td %1$tH:%1$tM:%1$tS,%1$tL] %2$-5s {%3$s} - %4$s %5$s %n";
+
+    // Times in the same second, in different seconds and before the epoch, with milliseconds which need padding.
+    private static final long[] TIMES = {1600000000007L, 1600000000250L, 1600000001999L, 0L, -1L, 946684799001L};
+
+    @BeforeClass
+    public void setup() throws IOException {
+        // The formats are read from the logging configuration when the formatters are loaded.
+        try (InputStream configuration = getClass().getResourceAsStream("/logging.properties")) {
+            LogManager.getLogManager().readConfiguration(configuration);
+        }
+    }
+
+    @Test(description = "Test the Ballerina log formatter with levels of every width and with the root module")
+    public void testBallerinaLogFormatter() {
+        BallerinaLogFormatter formatter = new BallerinaLogFormatter();
+        Level[] levels = {Level.SEVERE, Level.WARNING, Level.INFO, Level.FINE, Level.FINEST};
+        String[] levelNames = {"ERROR", "WARN", "INFO", "DEBUG", "TRACE"};
+        for (long time : TIMES) {
+            for (int i = 0; i < levels.length; i++) {
+                LogRecord record = createRecord(levels[i], "ballerina.foo/bar", "message " + i, time);
+                String expected = String.format(BALLERINA_DEFAULT_FORMAT, new Date(time), levelNames[i], "foo/bar",
+                                                "message " + i);
+                assertFormat(formatter, record, expected);
+            }
+        }
+
+        LogRecord record = createRecord(Level.WARNING, "ballerina", "root module", TIMES[0]);
+        String expected = String.format(BALLERINA_DEFAULT_FORMAT, new Date(TIMES[0]), "WARN", "\"\"", "root module");
+        assertFormat(formatter, record, expected);
+    }
+
+    @Test(description = "Test the default log formatter with and without a stack trace")
+    public void testDefaultLogFormatter() {
+        DefaultLogFormatter formatter = new DefaultLogFormatter();
+        for (long time : TIMES) {
+            LogRecord record = createRecord(Level.INFO, "org.ballerinalang.test", "no error", time);
+            String expected = String.format(DEFAULT_FORMAT, new Date(time), "INFO", "org.ballerinalang.test",
+                                            "no error", "");
+            assertFormat(formatter, record, expected);
+        }
+
+        Exception error = new IllegalStateException("failed", new RuntimeException("cause"));
+        LogRecord record = createRecord(Level.SEVERE, "org.ballerinalang.test", "with error", TIMES[1]);
+        record.setThrown(error);
+        StringWriter stackTrace = new StringWriter();
+        stackTrace.append('\n');
+        error.printStackTrace(new PrintWriter(stackTrace));
+        String expected = String.format(DEFAULT_FORMAT, new Date(TIMES[1]), "ERROR", "org.ballerinalang.test",
+                                        "with error", stackTrace.toString());
+        assertFormat(formatter, record, expected);
+    }
+
+    private static LogRecord createRecord(Level level, String loggerName, String message, long millis) {
+        LogRecord record = new LogRecord(level, message);
+        record.setLoggerName(loggerName);
+        record.setMillis(millis);
+        return record;
+    }
+
+    private static void assertFormat(BufferedLogFormatter formatter, LogRecord record, String expected) {
+        Assert.assertEquals(formatter.format(record), expected);
+
+        StringBuilder buffer = new StringBuilder("previous record");
+        formatter.formatTo(record, buffer);
+        Assert.assertEquals(buffer.toString(), "previous record" + expected);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.logging.handlers;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Test the writer which writes log records from a background thread.
+ *
+ * @since 2.0.0
+ */
+public class AsyncLogWriterTest {
+
+    @Test(description = "Test that the records queued before the writer is closed are all written, in order")
+    public void testCloseDrainsRecords() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        AsyncLogWriter writer = new AsyncLogWriter(createHandler(), () -> outputStream, 1024,
+                                                   AsyncLogWriter.OverflowPolicy.BLOCK);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            writer.publish(new LogRecord(Level.INFO, "record " + i));
+            expected.append("record ").append(i).append('\n');
+        }
+        writer.close();
+
+        Assert.assertEquals(new String(outputStream.toByteArray(), StandardCharsets.UTF_8), expected.toString());
+    }
+
+    @Test(description = "Test that records are dropped and reported while the buffer is full, with the DROP policy")
+    public void testDropPolicy() throws InterruptedException {
+        BlockingOutputStream outputStream = new BlockingOutputStream();
+        AsyncLogWriter writer = new AsyncLogWriter(createHandler(), () -> outputStream, 2,
+                                                   AsyncLogWriter.OverflowPolicy.DROP);
+        writer.publish(new LogRecord(Level.INFO, "record 0"));
+        Assert.assertTrue(outputStream.writeStarted.await(10, TimeUnit.SECONDS));
+
+        // The writer is blocked on the first record, so the buffer is filled by the next two records.
+        for (int i = 1; i <= 4; i++) {
+            writer.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        outputStream.release.countDown();
+        writer.close();
+
+        Assert.assertEquals(outputStream.getContent(), "record 0\n" +
+                "ballerina: 2 log records were dropped as the log buffer was full" + System.lineSeparator() +
+                "record 1\nrecord 2\n");
+    }
+
+    @Test(description = "Test that a record waits for space while the buffer is full, with the BLOCK policy")
+    public void testBlockPolicy() throws InterruptedException {
+        BlockingOutputStream outputStream = new BlockingOutputStream();
+        AsyncLogWriter writer = new AsyncLogWriter(createHandler(), () -> outputStream, 2,
+                                                   AsyncLogWriter.OverflowPolicy.BLOCK);
+        writer.publish(new LogRecord(Level.INFO, "record 0"));
+        Assert.assertTrue(outputStream.writeStarted.await(10, TimeUnit.SECONDS));
+        writer.publish(new LogRecord(Level.INFO, "record 1"));
+        writer.publish(new LogRecord(Level.INFO, "record 2"));
+
+        Thread publisher = new Thread(() -> writer.publish(new LogRecord(Level.INFO, "record 3")));
+        publisher.start();
+        publisher.join(500);
+        Assert.assertTrue(publisher.isAlive(), "the record was published while the buffer was full");
+
+        outputStream.release.countDown();
+        publisher.join(10000);
+        Assert.assertFalse(publisher.isAlive(), "the record was not published once the buffer had space");
+        writer.close();
+
+        Assert.assertEquals(outputStream.getContent(), "record 0\nrecord 1\nrecord 2\nrecord 3\n");
+    }
+
+    private static Handler createHandler() {
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        handler.setFormatter(new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getMessage() + "\n";
+            }
+        });
+        return handler;
+    }
+
+    /**
+     * An output stream which blocks the first write until it is released.
+     */
+    private static class BlockingOutputStream extends OutputStream {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            writeStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            content.write(bytes, offset, length);
+        }
+
+        private String getContent() {
+            return new String(content.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.logging.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Test the lock-free ring buffer which queues log records.
+ *
+ * @since 2.0.0
+ */
+public class RingBufferTest {
+
+    @Test(description = "Test that the capacity is rounded up to a power of two")
+    public void testCapacity() {
+        Assert.assertEquals(new RingBuffer<Integer>(1).capacity(), 2);
+        Assert.assertEquals(new RingBuffer<Integer>(5).capacity(), 8);
+        Assert.assertEquals(new RingBuffer<Integer>(8192).capacity(), 8192);
+    }
+
+    @Test(description = "Test offering to a full buffer and polling from an empty buffer")
+    public void testFullAndEmpty() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        Assert.assertTrue(buffer.isEmpty());
+        Assert.assertNull(buffer.poll());
+
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(buffer.offer(i));
+        }
+        Assert.assertFalse(buffer.offer(4));
+        Assert.assertFalse(buffer.isEmpty());
+
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(buffer.poll(), Integer.valueOf(i));
+        }
+        Assert.assertNull(buffer.poll());
+        Assert.assertTrue(buffer.isEmpty());
+    }
+
+    @Test(description = "Test that the elements keep their order as the buffer wraps around over many laps")
+    public void testWrapAround() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        int next = 0;
+        int expected = 0;
+        for (int lap = 0; lap < 10; lap++) {
+            // Three elements are added in every lap, so that every lap starts and ends at a different slot of the ring.
+            Assert.assertTrue(buffer.offer(next++));
+            Assert.assertTrue(buffer.offer(next++));
+            Assert.assertEquals(buffer.poll(), Integer.valueOf(expected++));
+            Assert.assertTrue(buffer.offer(next++));
+            Assert.assertEquals(buffer.poll(), Integer.valueOf(expected++));
+            Assert.assertEquals(buffer.poll(), Integer.valueOf(expected++));
+            Assert.assertTrue(buffer.isEmpty());
+        }
+        while (buffer.offer(next)) {
+            next++;
+        }
+        Assert.assertEquals(next - expected, buffer.capacity());
+        Integer element;
+        while ((element = buffer.poll()) != null) {
+            Assert.assertEquals(element, Integer.valueOf(expected++));
+        }
+        Assert.assertEquals(expected, next);
+    }
+
+    @Test(description = "Test that the elements of concurrent producers are all polled, in the order of each producer")
+    public void testConcurrentProducers() throws InterruptedException {
+        int producerCount = 4;
+        int elementCount = 20000;
+        RingBuffer<int[]> buffer = new RingBuffer<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int producer = 0; producer < producerCount; producer++) {
+            int producerId = producer;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < elementCount; i++) {
+                    int[] element = new int[]{producerId, i};
+                    while (!buffer.offer(element)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.start();
+            producers.add(thread);
+        }
+
+        start.countDown();
+        int[] nextElements = new int[producerCount];
+        int polled = 0;
+        long deadline = System.currentTimeMillis() + 60000;
+        while (polled < producerCount * elementCount && System.currentTimeMillis() < deadline) {
+            int[] element = buffer.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            Assert.assertEquals(element[1], nextElements[element[0]], "element out of order for producer " +
+                    element[0]);
+            nextElements[element[0]]++;
+            polled++;
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        Assert.assertEquals(polled, producerCount * elementCount);
+        Assert.assertNull(buffer.poll());
+        Assert.assertTrue(buffer.isEmpty());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *   Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.api.utils;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.CborGenerator;
+import io.ballerina.runtime.internal.CborParser;
+import io.ballerina.runtime.internal.values.ErrorValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Class @{@link CborUtils} provides APIs to write anydata values in the Concise Binary Object Representation (CBOR)
+ * and to read them back as values of a given type.
+ *
+ * @since 2.0.0
+ */
+public class CborUtils {
+
+    /**
+     * Reads a single CBOR data item from the given {@link InputStream} and returns it as a value of the given type.
+     * The stream is not read past the end of the data item.
+     *
+     * @param in         input stream which contains the CBOR content
+     * @param targetType the type of the value
+     * @return the value
+     * @throws BError for any parsing error, or if the data item does not belong to the type
+     */
+    public static Object parse(InputStream in, Type targetType) throws BError {
+        return CborParser.parse(in, targetType);
+    }
+
+    /**
+     * Reads the given CBOR content and returns it as a value of the given type.
+     *
+     * @param bytes      the CBOR content
+     * @param targetType the type of the value
+     * @return the value
+     * @throws BError for any parsing error, or if the data item does not belong to the type
+     */
+    public static Object parse(byte[] bytes, Type targetType) throws BError {
+        return CborParser.parse(new ByteArrayInputStream(bytes), targetType);
+    }
+
+    /**
+     * Serialize an anydata value to be written out to a given {@link OutputStream} as CBOR.
+     *
+     * @param value anydata value
+     * @param out   Output source
+     * @throws BError If error occur while serialize the value.
+     */
+    public static void serialize(Object value, OutputStream out) throws BError {
+        try {
+            CborGenerator gen = new CborGenerator(out);
+            gen.serialize(value);
+            gen.flush();
+        } catch (IOException e) {
+            throw new ErrorValue(StringUtils.fromString(e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Serialize an anydata value as CBOR.
+     *
+     * @param value anydata value
+     * @return the CBOR content
+     * @throws BError If error occur while serialize the value.
+     */
+    public static byte[] serialize(Object value) throws BError {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serialize(value, out);
+        return out.toByteArray();
+    }
+}
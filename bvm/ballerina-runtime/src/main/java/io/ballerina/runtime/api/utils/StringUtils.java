@@ -35,6 +35,7 @@ import io.ballerina.runtime.internal.values.AbstractObjectValue;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.ArrayValueImpl;
 import io.ballerina.runtime.internal.values.BmpStringValue;
+import io.ballerina.runtime.internal.values.ByteStringValue;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
@@ -45,8 +46,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -80,6 +83,9 @@ public class StringUtils {
             while ((data = bis.read()) != -1) {
                 bos.write(data);
             }
+            if (Charset.defaultCharset().equals(StandardCharsets.UTF_8)) {
+                return fromBytes(bos.toByteArray());
+            }
             result = bos.toString();
         } catch (IOException ioe) {
             throw new BallerinaException("Error occurred when reading input stream", ioe);
@@ -93,6 +99,9 @@ public class StringUtils {
     }
 
     public static BString getStringFromInputStream(InputStream inputStream, String charset) {
+        if (StandardCharsets.UTF_8.equals(Charset.forName(charset))) {
+            return getUtf8StringFromInputStream(inputStream);
+        }
         StringBuilder textBuilder = new StringBuilder();
         try (Reader reader = new InputStreamReader(inputStream, Charset.forName(charset))) {
             int character;
@@ -105,6 +114,20 @@ public class StringUtils {
         return StringUtils.fromString(textBuilder.toString());
     }
 
+    private static BString getUtf8StringFromInputStream(InputStream inputStream) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = inputStream) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                bos.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new BallerinaException("Error occurred when reading input stream with the charset UTF-8", e);
+        }
+        return fromBytes(bos.toByteArray());
+    }
+
     public static BString getStringAt(BString s, long index) {
         if (index < 0 || index >= s.length()) {
             throw ErrorCreator.createError(getModulePrefixedReason(STRING_LANG_LIB,
@@ -143,6 +166,42 @@ public class StringUtils {
         return new NonBmpStringValue(s, highSurrogatesArr);
     }
 
+    /**
+     * Create a string value from UTF-8 encoded bytes. The bytes are retained as is, so that the value can be
+     * written back without re-encoding.
+     *
+     * @param bytes UTF-8 encoded bytes
+     * @return string value
+     */
+    public static BString fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        BString str = ByteStringValue.fromUtf8(bytes, 0, bytes.length);
+        if (str == null) {
+            // Malformed input, decode with replacement characters as the JDK does.
+            return fromString(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return str;
+    }
+
+    /**
+     * Write the given string to an output stream using the given charset. Byte backed UTF-8 strings are written
+     * as is, without decoding and re-encoding them.
+     *
+     * @param str          string to write
+     * @param outputStream output stream to write to
+     * @param charset      charset to encode the string with
+     * @throws IOException if an error occurs while writing
+     */
+    public static void writeString(BString str, OutputStream outputStream, Charset charset) throws IOException {
+        if (str instanceof ByteStringValue && StandardCharsets.UTF_8.equals(charset)) {
+            ((ByteStringValue) str).serialize(outputStream);
+            return;
+        }
+        outputStream.write(str.getValue().getBytes(charset));
+    }
+
     public static BArray fromStringArray(String[] s) {
         BString[] bStringArray = new BString[s.length];
         for (int i = 0; i < s.length; i++) {
@@ -22,13 +22,17 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlQName;
+import io.ballerina.runtime.internal.XmlElementIterator;
 import io.ballerina.runtime.internal.XmlFactory;
 import io.ballerina.runtime.internal.XmlValidator;
 import io.ballerina.runtime.internal.values.TableValueImpl;
 import io.ballerina.runtime.internal.values.XmlQName;
 
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.util.Iterator;
 
 /**
  * Class @{@link XmlUtils} provides APIs to handle xml values.
@@ -88,6 +92,34 @@ public class XmlUtils {
         return XmlFactory.parse(reader);
     }
 
+    /**
+     * Create an iterator over the elements at the given path of the XML document read from the given reader. Only
+     * the selected elements are built, one at a time, so the whole document is never held in memory.
+     *
+     * @param reader XML reader
+     * @param path   local names of the elements from the root element, where {@code *} matches any element. An empty
+     *               path selects the children of the root element.
+     * @return iterator over the selected elements, which throws a {@link BError} if the document is malformed
+     */
+    public static Iterator<BXml> parseElements(Reader reader, String[] path) {
+        return new XmlElementIterator(reader, path);
+    }
+
+    /**
+     * Create an iterator over the elements at the given path of the XML document read from the given input stream.
+     *
+     * @param xmlStream XML input stream
+     * @param charset   Charset to be used for parsing
+     * @param path      local names of the elements from the root element, where {@code *} matches any element
+     * @return iterator over the selected elements
+     * @throws UnsupportedEncodingException if the charset is not supported
+     * @see #parseElements(Reader, String[])
+     */
+    public static Iterator<BXml> parseElements(InputStream xmlStream, String charset, String[] path)
+            throws UnsupportedEncodingException {
+        return new XmlElementIterator(new InputStreamReader(xmlStream, charset), path);
+    }
+
     /**
      * Converts a {@link io.ballerina.runtime.internal.values.TableValue} to {@link BXml}.
      *
@@ -151,6 +151,13 @@ public interface BArray extends BRefValue, BCollection {
      */
     void append(Object value);
 
+    /**
+     * Append all the given values to the existing array. Capacity is ensured once for all the values.
+     *
+     * @param values values to be appended
+     */
+    void appendAll(Object[] values);
+
     /**
      * Reverse an array.
      *
@@ -202,6 +209,24 @@ public interface BArray extends BRefValue, BCollection {
      */
     long[] getIntArray();
 
+    /**
+     * Get a copy of float array.
+     * @return float array
+     */
+    double[] getFloatArray();
+
+    /**
+     * Get a copy of boolean array.
+     * @return boolean array
+     */
+    boolean[] getBooleanArray();
+
+    /**
+     * Get a copy of the BString array.
+     * @return BString array
+     */
+    BString[] getBStringArray();
+
     /**
      * Get {@code BType} of the array elements.
      * @return element type
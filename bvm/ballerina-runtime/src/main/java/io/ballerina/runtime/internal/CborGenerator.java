@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map.Entry;
+
+/**
+ * This class represents the functionality to write anydata values out to a given {@link OutputStream} in the
+ * Concise Binary Object Representation (CBOR) defined by RFC 8949.
+ * <p>
+ * Values are mapped to the CBOR data items as follows.
+ * <ul>
+ * <li>() - the simple value null</li>
+ * <li>boolean - the simple values false and true</li>
+ * <li>int, byte - an unsigned or a negative integer</li>
+ * <li>float - a single-precision float if it holds the value exactly, or else a double-precision float</li>
+ * <li>decimal - a decimal fraction (tag 4), whose mantissa is a bignum (tag 2 or 3) if it does not fit in 64 bits</li>
+ * <li>string - a text string</li>
+ * <li>byte[] - a byte string</li>
+ * <li>any other list and a table - an array</li>
+ * <li>a mapping - a map with text string keys</li>
+ * <li>xml - the text string of the XML wrapped in a serialised object with the type name "xml" (tag 27)</li>
+ * </ul>
+ * All the items are written with definite lengths, so a value is written in a single pass without buffering.
+ *
+ * @since 2.0.0
+ */
+public class CborGenerator {
+
+    static final int MAJOR_UNSIGNED_INT = 0;
+    static final int MAJOR_NEGATIVE_INT = 1;
+    static final int MAJOR_BYTE_STRING = 2;
+    static final int MAJOR_TEXT_STRING = 3;
+    static final int MAJOR_ARRAY = 4;
+    static final int MAJOR_MAP = 5;
+    static final int MAJOR_TAG = 6;
+    static final int MAJOR_SIMPLE = 7;
+
+    static final int FALSE = 0xf4;
+    static final int TRUE = 0xf5;
+    static final int NULL = 0xf6;
+    static final int UNDEFINED = 0xf7;
+    static final int HALF_FLOAT = 0xf9;
+    static final int SINGLE_FLOAT = 0xfa;
+    static final int DOUBLE_FLOAT = 0xfb;
+    static final int BREAK = 0xff;
+
+    static final long TAG_POSITIVE_BIGNUM = 2;
+    static final long TAG_NEGATIVE_BIGNUM = 3;
+    static final long TAG_DECIMAL_FRACTION = 4;
+    static final long TAG_TYPED_OBJECT = 27;
+    static final String XML_TYPE_NAME = "xml";
+
+    private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private final OutputStream out;
+    private final byte[] header = new byte[9];
+
+    public CborGenerator(OutputStream out) {
+        this.out = out;
+    }
+
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    @SuppressWarnings("unchecked")
+    public void serialize(Object value) throws IOException {
+        if (value == null) {
+            this.out.write(NULL);
+            return;
+        }
+
+        Type type = TypeChecker.getType(value);
+        switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+            case TypeTags.BYTE_TAG:
+                this.writeInt(((Number) value).longValue());
+                break;
+            case TypeTags.FLOAT_TAG:
+                this.writeFloat(((Number) value).doubleValue());
+                break;
+            case TypeTags.DECIMAL_TAG:
+                this.writeDecimal(((DecimalValue) value).value());
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                this.out.write((Boolean) value ? TRUE : FALSE);
+                break;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                this.writeText(((BString) value).getValue());
+                break;
+            case TypeTags.ARRAY_TAG:
+                ArrayValue array = (ArrayValue) value;
+                if (((ArrayType) type).getElementType().getTag() == TypeTags.BYTE_TAG) {
+                    byte[] bytes = array.getBytes();
+                    this.writeHeader(MAJOR_BYTE_STRING, bytes.length);
+                    this.out.write(bytes);
+                    break;
+                }
+                this.writeList(array);
+                break;
+            case TypeTags.TUPLE_TAG:
+                this.writeList((ArrayValue) value);
+                break;
+            case TypeTags.MAP_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.JSON_TAG:
+                MapValueImpl<BString, Object> map = (MapValueImpl<BString, Object>) value;
+                this.writeHeader(MAJOR_MAP, map.size());
+                for (Entry<BString, Object> entry : map.entrySet()) {
+                    this.writeText(entry.getKey().getValue());
+                    this.serialize(entry.getValue());
+                }
+                break;
+            case TypeTags.TABLE_TAG:
+                Collection<Object> rows = ((TableValueImpl<Object, Object>) value).values();
+                this.writeHeader(MAJOR_ARRAY, rows.size());
+                for (Object row : rows) {
+                    this.serialize(row);
+                }
+                break;
+            case TypeTags.XML_TAG:
+            case TypeTags.XML_ELEMENT_TAG:
+            case TypeTags.XML_COMMENT_TAG:
+            case TypeTags.XML_PI_TAG:
+            case TypeTags.XML_TEXT_TAG:
+                this.writeHeader(MAJOR_TAG, TAG_TYPED_OBJECT);
+                this.writeHeader(MAJOR_ARRAY, 2);
+                this.writeText(XML_TYPE_NAME);
+                this.writeText(StringUtils.getStringValue(value, null));
+                break;
+            default:
+                throw new IOException("cannot write a value of type '" + type + "' as CBOR");
+        }
+    }
+
+    private void writeList(ArrayValue list) throws IOException {
+        int size = list.size();
+        this.writeHeader(MAJOR_ARRAY, size);
+        for (int i = 0; i < size; i++) {
+            this.serialize(list.get(i));
+        }
+    }
+
+    private void writeInt(long value) throws IOException {
+        if (value >= 0) {
+            this.writeHeader(MAJOR_UNSIGNED_INT, value);
+        } else {
+            // The argument of a negative integer is -1 - value, which is the bitwise complement of the value.
+            this.writeHeader(MAJOR_NEGATIVE_INT, ~value);
+        }
+    }
+
+    private void writeFloat(double value) throws IOException {
+        float singleValue = (float) value;
+        if (singleValue == value || Double.isNaN(value)) {
+            int bits = Float.floatToIntBits(singleValue);
+            this.out.write(SINGLE_FLOAT);
+            this.writeBytes(bits, 4);
+            return;
+        }
+        this.out.write(DOUBLE_FLOAT);
+        this.writeBytes(Double.doubleToLongBits(value), 8);
+    }
+
+    private void writeDecimal(BigDecimal value) throws IOException {
+        this.writeHeader(MAJOR_TAG, TAG_DECIMAL_FRACTION);
+        this.writeHeader(MAJOR_ARRAY, 2);
+        this.writeInt(-value.scale());
+        BigInteger mantissa = value.unscaledValue();
+        if (mantissa.compareTo(MIN_LONG) >= 0 && mantissa.compareTo(MAX_LONG) <= 0) {
+            this.writeInt(mantissa.longValue());
+            return;
+        }
+        boolean negative = mantissa.signum() < 0;
+        byte[] magnitude = (negative ? mantissa.not() : mantissa).toByteArray();
+        // The sign byte of the two's complement representation is not a part of the bignum.
+        int offset = magnitude[0] == 0 ? 1 : 0;
+        this.writeHeader(MAJOR_TAG, negative ? TAG_NEGATIVE_BIGNUM : TAG_POSITIVE_BIGNUM);
+        this.writeHeader(MAJOR_BYTE_STRING, magnitude.length - offset);
+        this.out.write(magnitude, offset, magnitude.length - offset);
+    }
+
+    private void writeText(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        this.writeHeader(MAJOR_TEXT_STRING, bytes.length);
+        this.out.write(bytes);
+    }
+
+    /**
+     * Writes the initial byte of an item with its argument, which is treated as an unsigned value.
+     */
+    private void writeHeader(int majorType, long argument) throws IOException {
+        int initialByte = majorType << 5;
+        if (argument >= 0 && argument < 24) {
+            this.out.write(initialByte | (int) argument);
+        } else if (argument >= 0 && argument <= 0xff) {
+            this.out.write(initialByte | 24);
+            this.out.write((int) argument);
+        } else if (argument >= 0 && argument <= 0xffff) {
+            this.out.write(initialByte | 25);
+            this.writeBytes(argument, 2);
+        } else if (argument >= 0 && argument <= 0xffffffffL) {
+            this.out.write(initialByte | 26);
+            this.writeBytes(argument, 4);
+        } else {
+            this.out.write(initialByte | 27);
+            this.writeBytes(argument, 8);
+        }
+    }
+
+    private void writeBytes(long value, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            this.header[i] = (byte) (value >>> (8 * (count - 1 - i)));
+        }
+        this.out.write(this.header, 0, count);
+    }
+}
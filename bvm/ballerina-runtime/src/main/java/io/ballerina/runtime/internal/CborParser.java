@@ -0,0 +1,818 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.ListInitialValueEntry;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.RefValue;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import io.ballerina.runtime.internal.values.TupleValueImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.runtime.internal.CborGenerator.BREAK;
+import static io.ballerina.runtime.internal.CborGenerator.DOUBLE_FLOAT;
+import static io.ballerina.runtime.internal.CborGenerator.FALSE;
+import static io.ballerina.runtime.internal.CborGenerator.HALF_FLOAT;
+import static io.ballerina.runtime.internal.CborGenerator.MAJOR_ARRAY;
+import static io.ballerina.runtime.internal.CborGenerator.MAJOR_BYTE_STRING;
+import static io.ballerina.runtime.internal.CborGenerator.MAJOR_MAP;
+import static io.ballerina.runtime.internal.CborGenerator.MAJOR_NEGATIVE_INT;
+import static io.ballerina.runtime.internal.CborGenerator.MAJOR_SIMPLE;
+import static io.ballerina.runtime.internal.CborGenerator.MAJOR_TAG;
+import static io.ballerina.runtime.internal.CborGenerator.MAJOR_TEXT_STRING;
+import static io.ballerina.runtime.internal.CborGenerator.MAJOR_UNSIGNED_INT;
+import static io.ballerina.runtime.internal.CborGenerator.NULL;
+import static io.ballerina.runtime.internal.CborGenerator.SINGLE_FLOAT;
+import static io.ballerina.runtime.internal.CborGenerator.TAG_DECIMAL_FRACTION;
+import static io.ballerina.runtime.internal.CborGenerator.TAG_NEGATIVE_BIGNUM;
+import static io.ballerina.runtime.internal.CborGenerator.TAG_POSITIVE_BIGNUM;
+import static io.ballerina.runtime.internal.CborGenerator.TAG_TYPED_OBJECT;
+import static io.ballerina.runtime.internal.CborGenerator.TRUE;
+import static io.ballerina.runtime.internal.CborGenerator.UNDEFINED;
+import static io.ballerina.runtime.internal.CborGenerator.XML_TYPE_NAME;
+
+/**
+ * This class represents a parser which reads a single CBOR data item (RFC 8949) from an {@link InputStream} and
+ * creates a value of a given type out of it.
+ * <p>
+ * The value is created directly as per the target type, instead of creating a value of a natural type first and
+ * converting it afterwards. That is, a map is read straight into a record of the target type, and a list into an
+ * array or a tuple of it. When the target type is a union, the member type is chosen by the kind of the data item
+ * which is read: a member type which holds the item as it is, e.g. int for an integer, is preferred to a natural type
+ * such as anydata, which is preferred to a member type which the item is converted to, e.g. float for an integer.
+ * <p>
+ * Only the bytes of the data item are read from the input stream, so the stream could hold more data after it.
+ *
+ * @since 2.0.0
+ */
+public class CborParser {
+
+    private static final int MAX_NESTING_DEPTH = 512;
+    private static final int READ_CHUNK_SIZE = 8192;
+
+    private static final int KIND_NIL = 0;
+    private static final int KIND_BOOLEAN = 1;
+    private static final int KIND_INT = 2;
+    private static final int KIND_FLOAT = 3;
+    private static final int KIND_DECIMAL = 4;
+    private static final int KIND_STRING = 5;
+    private static final int KIND_BYTES = 6;
+    private static final int KIND_XML = 7;
+    private static final int KIND_LIST = 8;
+    private static final int KIND_MAP = 9;
+    private static final String[] KIND_NAMES = {"null", "boolean", "integer", "float", "decimal", "text string",
+            "byte string", "xml", "array", "map"};
+
+    private static final int NO_MATCH = 0;
+    private static final int CONVERTIBLE_MATCH = 1;
+    private static final int NATURAL_MATCH = 2;
+    private static final int EXACT_MATCH = 3;
+
+    private static final ArrayType ANYDATA_ARRAY_TYPE = new BArrayType(PredefinedTypes.TYPE_ANYDATA);
+    private static final MapType ANYDATA_MAP_TYPE = new BMapType(PredefinedTypes.TYPE_ANYDATA);
+    private static final MapType JSON_MAP_TYPE = new BMapType(PredefinedTypes.TYPE_JSON);
+
+    private final InputStream in;
+    private long offset;
+    // The byte which was read ahead to look for a break, if any.
+    private int pushedBack = -1;
+
+    private CborParser(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Reads a data item from the given {@link InputStream} and returns it as a value of the given type.
+     *
+     * @param in         input stream which contains the CBOR content
+     * @param targetType the type of the value
+     * @return the value
+     * @throws BError for any parsing error
+     */
+    public static Object parse(InputStream in, Type targetType) throws BError {
+        CborParser parser = new CborParser(in);
+        try {
+            return parser.readItem(targetType, 0);
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading CBOR: " + e.getMessage()));
+        } catch (CborParserException e) {
+            throw ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at byte offset: " +
+                                                                          parser.offset));
+        }
+    }
+
+    private Object readItem(Type targetType, int depth) throws IOException, CborParserException {
+        if (depth > MAX_NESTING_DEPTH) {
+            throw new CborParserException("data items are nested deeper than " + MAX_NESTING_DEPTH + " levels");
+        }
+        int initialByte = this.readByte();
+        Object scalar;
+        switch (initialByte >>> 5) {
+            case MAJOR_ARRAY:
+                return this.readList(this.readLength(initialByte), targetType, depth);
+            case MAJOR_MAP:
+                return this.readMap(this.readLength(initialByte), targetType, depth);
+            case MAJOR_TAG:
+                long tag = this.readArgument(initialByte);
+                if (tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM) {
+                    scalar = new BigDecimal(this.readBignum(tag));
+                } else if (tag == TAG_DECIMAL_FRACTION) {
+                    scalar = this.readDecimalFraction();
+                } else if (tag == TAG_TYPED_OBJECT) {
+                    scalar = this.readTypedObject();
+                } else {
+                    // The tags which are not known are ignored, and the tagged item is read as it is.
+                    return this.readItem(targetType, depth + 1);
+                }
+                break;
+            default:
+                scalar = this.readScalar(initialByte);
+        }
+        return this.createValue(scalar, targetType);
+    }
+
+    private Object readScalar(int initialByte) throws IOException, CborParserException {
+        switch (initialByte >>> 5) {
+            case MAJOR_UNSIGNED_INT:
+                long value = this.readArgument(initialByte);
+                return value >= 0 ? (Object) value : new BigDecimal(toUnsigned(value));
+            case MAJOR_NEGATIVE_INT:
+                long argument = this.readArgument(initialByte);
+                return argument >= 0 ? (Object) (~argument) : new BigDecimal(toUnsigned(argument).not());
+            case MAJOR_BYTE_STRING:
+                return this.readString(initialByte);
+            case MAJOR_TEXT_STRING:
+                return new String(this.readString(initialByte), StandardCharsets.UTF_8);
+            case MAJOR_SIMPLE:
+                switch (initialByte) {
+                    case FALSE:
+                        return Boolean.FALSE;
+                    case TRUE:
+                        return Boolean.TRUE;
+                    case NULL:
+                    case UNDEFINED:
+                        return null;
+                    case HALF_FLOAT:
+                        return halfToDouble((int) this.readBytes(2));
+                    case SINGLE_FLOAT:
+                        return (double) Float.intBitsToFloat((int) this.readBytes(4));
+                    case DOUBLE_FLOAT:
+                        return Double.longBitsToDouble(this.readBytes(8));
+                    case BREAK:
+                        throw new CborParserException("unexpected break");
+                    default:
+                        throw new CborParserException("unsupported simple value: " + (initialByte & 0x1f));
+                }
+            default:
+                throw new CborParserException("unexpected data item with the initial byte: " + initialByte);
+        }
+    }
+
+    private BigInteger readBignum(long tag) throws IOException, CborParserException {
+        int initialByte = this.readByte();
+        if (initialByte >>> 5 != MAJOR_BYTE_STRING) {
+            throw new CborParserException("expected a byte string in a bignum");
+        }
+        BigInteger magnitude = new BigInteger(1, this.readString(initialByte));
+        return tag == TAG_NEGATIVE_BIGNUM ? magnitude.not() : magnitude;
+    }
+
+    private BigDecimal readDecimalFraction() throws IOException, CborParserException {
+        if (this.readByte() != ((MAJOR_ARRAY << 5) | 2)) {
+            throw new CborParserException("expected an array of two items in a decimal fraction");
+        }
+        BigInteger exponent = this.readInteger();
+        if (exponent.bitLength() > 31) {
+            throw new CborParserException("exponent of the decimal fraction is out of range");
+        }
+        return new BigDecimal(this.readInteger(), -exponent.intValue());
+    }
+
+    private BigInteger readInteger() throws IOException, CborParserException {
+        int initialByte = this.readByte();
+        switch (initialByte >>> 5) {
+            case MAJOR_UNSIGNED_INT:
+                return toUnsigned(this.readArgument(initialByte));
+            case MAJOR_NEGATIVE_INT:
+                return toUnsigned(this.readArgument(initialByte)).not();
+            case MAJOR_TAG:
+                long tag = this.readArgument(initialByte);
+                if (tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM) {
+                    return this.readBignum(tag);
+                }
+                // fall through
+            default:
+                throw new CborParserException("expected an integer in a decimal fraction");
+        }
+    }
+
+    private XmlText readTypedObject() throws IOException, CborParserException {
+        if (this.readByte() != ((MAJOR_ARRAY << 5) | 2)) {
+            throw new CborParserException("expected an array of two items in a serialised object");
+        }
+        int initialByte = this.readByte();
+        if (initialByte >>> 5 != MAJOR_TEXT_STRING) {
+            throw new CborParserException("expected a type name in a serialised object");
+        }
+        String typeName = new String(this.readString(initialByte), StandardCharsets.UTF_8);
+        if (!XML_TYPE_NAME.equals(typeName)) {
+            throw new CborParserException("unsupported type of serialised object: " + typeName);
+        }
+        initialByte = this.readByte();
+        if (initialByte >>> 5 != MAJOR_TEXT_STRING) {
+            throw new CborParserException("expected a text string in a serialised xml object");
+        }
+        return new XmlText(new String(this.readString(initialByte), StandardCharsets.UTF_8));
+    }
+
+    private Object readList(long length, Type targetType, int depth) throws IOException, CborParserException {
+        Type type = this.resolveType(targetType, KIND_LIST, null);
+        boolean readOnly = false;
+        if (type.getTag() == TypeTags.INTERSECTION_TAG) {
+            type = ((IntersectionType) type).getEffectiveType();
+            readOnly = true;
+        }
+
+        RefValue value;
+        switch (type.getTag()) {
+            case TypeTags.ARRAY_TAG:
+                ArrayType arrayType = (ArrayType) type;
+                List<Object> elements = this.readElements(length, arrayType.getElementType(), null, depth);
+                int size = -1;
+                if (arrayType.getState() == ArrayType.ArrayState.CLOSED) {
+                    size = arrayType.getSize();
+                    if (elements.size() != size) {
+                        throw new CborParserException("expected " + size + " items for '" + arrayType + "', found " +
+                                                              elements.size());
+                    }
+                }
+                value = new ArrayValueImpl(arrayType, size, toInitialValues(elements));
+                break;
+            case TypeTags.TUPLE_TAG:
+                TupleType tupleType = (TupleType) type;
+                elements = this.readElements(length, tupleType.getRestType(), tupleType.getTupleTypes(), depth);
+                if (elements.size() < tupleType.getTupleTypes().size()) {
+                    throw new CborParserException("expected at least " + tupleType.getTupleTypes().size() +
+                                                          " items for '" + tupleType + "', found " + elements.size());
+                }
+                value = new TupleValueImpl(tupleType, elements.size(), toInitialValues(elements));
+                break;
+            case TypeTags.TABLE_TAG:
+                TableValueImpl<Object, Object> table = new TableValueImpl<>((TableType) type);
+                for (Object row : this.readElements(length, ((TableType) type).getConstrainedType(), null, depth)) {
+                    table.add(row);
+                }
+                value = table;
+                break;
+            case TypeTags.JSON_TAG:
+                readOnly |= type.isReadOnly();
+                elements = this.readElements(length, PredefinedTypes.TYPE_JSON, null, depth);
+                value = new ArrayValueImpl(PredefinedTypes.TYPE_JSON_ARRAY, -1, toInitialValues(elements));
+                break;
+            default:
+                // A natural type such as anydata.
+                readOnly |= type.isReadOnly();
+                elements = this.readElements(length, PredefinedTypes.TYPE_ANYDATA, null, depth);
+                value = new ArrayValueImpl(ANYDATA_ARRAY_TYPE, -1, toInitialValues(elements));
+        }
+        if (readOnly) {
+            value.freezeDirect();
+        }
+        return value;
+    }
+
+    /**
+     * Reads the items of an array, each as per the member type at its position or else as per the rest type.
+     */
+    private List<Object> readElements(long length, Type restType, List<Type> memberTypes, int depth)
+            throws IOException, CborParserException {
+        List<Object> elements = new ArrayList<>((int) Math.min(Math.max(length, 0), READ_CHUNK_SIZE));
+        for (int i = 0; length == -1 || i < length; i++) {
+            if (length == -1 && this.isBreak()) {
+                break;
+            }
+            Type type = memberTypes != null && i < memberTypes.size() ? memberTypes.get(i) : restType;
+            if (type == null) {
+                throw new CborParserException("expected at most " + i + " items in the array");
+            }
+            elements.add(this.readItem(type, depth + 1));
+        }
+        return elements;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readMap(long length, Type targetType, int depth) throws IOException, CborParserException {
+        Type type = this.resolveType(targetType, KIND_MAP, null);
+        boolean readOnly = false;
+        if (type.getTag() == TypeTags.INTERSECTION_TAG) {
+            type = ((IntersectionType) type).getEffectiveType();
+            readOnly = true;
+        }
+
+        Map<String, Field> fields = null;
+        Type restType;
+        switch (type.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                RecordType recordType = (RecordType) type;
+                fields = recordType.getFields();
+                restType = recordType.isSealed() ? null : recordType.getRestFieldType();
+                break;
+            case TypeTags.MAP_TAG:
+                restType = ((MapType) type).getConstrainedType();
+                break;
+            case TypeTags.JSON_TAG:
+                readOnly |= type.isReadOnly();
+                type = JSON_MAP_TYPE;
+                restType = PredefinedTypes.TYPE_JSON;
+                break;
+            default:
+                // A natural type such as anydata.
+                readOnly |= type.isReadOnly();
+                type = ANYDATA_MAP_TYPE;
+                restType = PredefinedTypes.TYPE_ANYDATA;
+        }
+
+        MapValueImpl<BString, Object> map = new MapValueImpl<>(type);
+        for (long i = 0; length == -1 || i < length; i++) {
+            if (length == -1 && this.isBreak()) {
+                break;
+            }
+            int initialByte = this.readByte();
+            if (initialByte >>> 5 != MAJOR_TEXT_STRING) {
+                throw new CborParserException("expected a text string as the key of a map entry");
+            }
+            String key = new String(this.readString(initialByte), StandardCharsets.UTF_8);
+            Field field = fields != null ? fields.get(key) : null;
+            Type fieldType = field != null ? field.getFieldType() : restType;
+            if (fieldType == null) {
+                throw new CborParserException("unexpected field '" + key + "' for '" + type + "'");
+            }
+            map.populateInitialValue(StringUtils.fromString(key), this.readItem(fieldType, depth + 1));
+        }
+
+        if (fields != null) {
+            for (Field field : fields.values()) {
+                BString fieldName = StringUtils.fromString(field.getFieldName());
+                if (map.containsKey(fieldName) || SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL)) {
+                    continue;
+                }
+                if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED)) {
+                    throw new CborParserException("missing required field '" + field.getFieldName() + "' of '" +
+                                                          type + "'");
+                }
+                // If a field which has a default value is not in the map, the zero value of its type is set.
+                map.populateInitialValue(fieldName, field.getFieldType().getZeroValue());
+            }
+        }
+        if (readOnly) {
+            map.freezeDirect();
+        }
+        return map;
+    }
+
+    private Object createValue(Object scalar, Type targetType) throws CborParserException {
+        Type type = this.resolveType(targetType, kindOf(scalar), scalar);
+        if (type.getTag() == TypeTags.INTERSECTION_TAG) {
+            Object value = this.createValue(scalar, ((IntersectionType) type).getEffectiveType());
+            if (value instanceof RefValue) {
+                ((RefValue) value).freezeDirect();
+            }
+            return value;
+        }
+
+        switch (type.getTag()) {
+            case TypeTags.NULL_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                return scalar;
+            case TypeTags.BYTE_TAG:
+                return ((Long) scalar).intValue();
+            case TypeTags.FLOAT_TAG:
+                return ((Number) scalar).doubleValue();
+            case TypeTags.DECIMAL_TAG:
+                if (scalar instanceof BigDecimal) {
+                    return new DecimalValue((BigDecimal) scalar);
+                }
+                if (scalar instanceof Long) {
+                    return new DecimalValue(BigDecimal.valueOf((Long) scalar));
+                }
+                return new DecimalValue(BigDecimal.valueOf((Double) scalar));
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                return StringUtils.fromString((String) scalar);
+            case TypeTags.ARRAY_TAG:
+                ArrayType arrayType = (ArrayType) type;
+                byte[] bytes = (byte[]) scalar;
+                if (arrayType.getState() != ArrayType.ArrayState.CLOSED && !arrayType.isReadOnly()) {
+                    return new ArrayValueImpl(bytes);
+                }
+                if (arrayType.getState() == ArrayType.ArrayState.CLOSED && bytes.length != arrayType.getSize()) {
+                    throw new CborParserException("expected " + arrayType.getSize() + " bytes for '" + arrayType +
+                                                          "', found " + bytes.length);
+                }
+                List<Object> elements = new ArrayList<>(bytes.length);
+                for (byte b : bytes) {
+                    elements.add(Byte.toUnsignedInt(b));
+                }
+                return new ArrayValueImpl(arrayType, arrayType.getState() == ArrayType.ArrayState.CLOSED ?
+                        arrayType.getSize() : -1, toInitialValues(elements));
+            case TypeTags.XML_TAG:
+            case TypeTags.XML_ELEMENT_TAG:
+            case TypeTags.XML_COMMENT_TAG:
+            case TypeTags.XML_PI_TAG:
+            case TypeTags.XML_TEXT_TAG:
+                Object xml = createNaturalValue(scalar, type);
+                if (!TypeChecker.checkIsType(xml, type)) {
+                    throw new CborParserException("xml value is not a '" + type + "'");
+                }
+                return xml;
+            case TypeTags.FINITE_TYPE_TAG:
+                // The value is checked against the value space when the type is resolved.
+                return createNaturalValue(scalar, type);
+            default:
+                // A natural type such as anydata.
+                return createNaturalValue(scalar, type);
+        }
+    }
+
+    private static Object createNaturalValue(Object scalar, Type type) {
+        Object value;
+        if (scalar instanceof String) {
+            value = StringUtils.fromString((String) scalar);
+        } else if (scalar instanceof BigDecimal) {
+            value = new DecimalValue((BigDecimal) scalar);
+        } else if (scalar instanceof XmlText) {
+            value = XmlFactory.parse(((XmlText) scalar).text);
+        } else if (scalar instanceof byte[]) {
+            if (type.getTag() == TypeTags.JSON_TAG) {
+                // json does not have byte arrays, so the bytes are read as an array of integers.
+                byte[] bytes = (byte[]) scalar;
+                List<Object> elements = new ArrayList<>(bytes.length);
+                for (byte b : bytes) {
+                    elements.add((long) Byte.toUnsignedInt(b));
+                }
+                value = new ArrayValueImpl(PredefinedTypes.TYPE_JSON_ARRAY, -1, toInitialValues(elements));
+            } else {
+                value = new ArrayValueImpl((byte[]) scalar);
+            }
+        } else {
+            return scalar;
+        }
+        if (type.isReadOnly()) {
+            ((RefValue) value).freezeDirect();
+        }
+        return value;
+    }
+
+    /**
+     * Resolves the type which a data item is read as, out of the target type. If the target type is a union, its
+     * member type which matches the data item best is chosen.
+     */
+    private Type resolveType(Type targetType, int kind, Object scalar) throws CborParserException {
+        Type type = targetType;
+        while (type.getTag() == TypeTags.UNION_TAG) {
+            Type bestMatch = null;
+            int bestScore = NO_MATCH;
+            for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                int score = match(memberType, kind, scalar);
+                if (score > bestScore) {
+                    bestMatch = memberType;
+                    bestScore = score;
+                }
+            }
+            if (bestMatch == null) {
+                break;
+            }
+            type = bestMatch;
+        }
+        if (match(type, kind, scalar) == NO_MATCH) {
+            throw new CborParserException("cannot read a " + KIND_NAMES[kind] + " as '" + targetType + "'");
+        }
+        return type;
+    }
+
+    private static int match(Type type, int kind, Object scalar) {
+        switch (type.getTag()) {
+            case TypeTags.UNION_TAG:
+                int bestScore = NO_MATCH;
+                for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                    bestScore = Math.max(bestScore, match(memberType, kind, scalar));
+                }
+                return bestScore;
+            case TypeTags.INTERSECTION_TAG:
+                return match(((IntersectionType) type).getEffectiveType(), kind, scalar);
+            case TypeTags.ANYDATA_TAG:
+            case TypeTags.ANY_TAG:
+            case TypeTags.READONLY_TAG:
+                return NATURAL_MATCH;
+            case TypeTags.JSON_TAG:
+                if (kind == KIND_XML) {
+                    return NO_MATCH;
+                }
+                return kind == KIND_BYTES ? CONVERTIBLE_MATCH : NATURAL_MATCH;
+            case TypeTags.NULL_TAG:
+                return kind == KIND_NIL ? EXACT_MATCH : NO_MATCH;
+            case TypeTags.BOOLEAN_TAG:
+                return kind == KIND_BOOLEAN ? EXACT_MATCH : NO_MATCH;
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+            case TypeTags.BYTE_TAG:
+                return kind == KIND_INT && isInRange(type.getTag(), (Long) scalar) ? EXACT_MATCH : NO_MATCH;
+            case TypeTags.FLOAT_TAG:
+                if (kind == KIND_FLOAT) {
+                    return EXACT_MATCH;
+                }
+                return kind == KIND_INT || kind == KIND_DECIMAL ? CONVERTIBLE_MATCH : NO_MATCH;
+            case TypeTags.DECIMAL_TAG:
+                if (kind == KIND_DECIMAL) {
+                    return EXACT_MATCH;
+                }
+                if (kind == KIND_FLOAT) {
+                    double value = (Double) scalar;
+                    return Double.isNaN(value) || Double.isInfinite(value) ? NO_MATCH : CONVERTIBLE_MATCH;
+                }
+                return kind == KIND_INT ? CONVERTIBLE_MATCH : NO_MATCH;
+            case TypeTags.STRING_TAG:
+                return kind == KIND_STRING ? EXACT_MATCH : NO_MATCH;
+            case TypeTags.CHAR_STRING_TAG:
+                return kind == KIND_STRING && ((String) scalar).codePointCount(0, ((String) scalar).length()) == 1 ?
+                        EXACT_MATCH : NO_MATCH;
+            case TypeTags.ARRAY_TAG:
+                if (((ArrayType) type).getElementType().getTag() == TypeTags.BYTE_TAG) {
+                    if (kind == KIND_BYTES) {
+                        return EXACT_MATCH;
+                    }
+                    return kind == KIND_LIST ? CONVERTIBLE_MATCH : NO_MATCH;
+                }
+                return kind == KIND_LIST ? EXACT_MATCH : NO_MATCH;
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.TABLE_TAG:
+                return kind == KIND_LIST ? EXACT_MATCH : NO_MATCH;
+            case TypeTags.MAP_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+                return kind == KIND_MAP ? EXACT_MATCH : NO_MATCH;
+            case TypeTags.XML_TAG:
+            case TypeTags.XML_ELEMENT_TAG:
+            case TypeTags.XML_COMMENT_TAG:
+            case TypeTags.XML_PI_TAG:
+            case TypeTags.XML_TEXT_TAG:
+                return kind == KIND_XML ? EXACT_MATCH : NO_MATCH;
+            case TypeTags.FINITE_TYPE_TAG:
+                if (kind == KIND_LIST || kind == KIND_MAP || kind == KIND_BYTES || kind == KIND_XML) {
+                    return NO_MATCH;
+                }
+                return TypeChecker.checkIsType(createNaturalValue(scalar, type), type) ? EXACT_MATCH : NO_MATCH;
+            default:
+                return NO_MATCH;
+        }
+    }
+
+    private static boolean isInRange(int typeTag, long value) {
+        switch (typeTag) {
+            case TypeTags.SIGNED32_INT_TAG:
+                return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+            case TypeTags.SIGNED16_INT_TAG:
+                return value >= Short.MIN_VALUE && value <= Short.MAX_VALUE;
+            case TypeTags.SIGNED8_INT_TAG:
+                return value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE;
+            case TypeTags.UNSIGNED32_INT_TAG:
+                return value >= 0 && value <= 0xffffffffL;
+            case TypeTags.UNSIGNED16_INT_TAG:
+                return value >= 0 && value <= 0xffff;
+            case TypeTags.UNSIGNED8_INT_TAG:
+            case TypeTags.BYTE_TAG:
+                return value >= 0 && value <= 0xff;
+            default:
+                return true;
+        }
+    }
+
+    private static int kindOf(Object scalar) {
+        if (scalar == null) {
+            return KIND_NIL;
+        } else if (scalar instanceof Boolean) {
+            return KIND_BOOLEAN;
+        } else if (scalar instanceof Long) {
+            return KIND_INT;
+        } else if (scalar instanceof Double) {
+            return KIND_FLOAT;
+        } else if (scalar instanceof BigDecimal) {
+            return KIND_DECIMAL;
+        } else if (scalar instanceof String) {
+            return KIND_STRING;
+        } else if (scalar instanceof byte[]) {
+            return KIND_BYTES;
+        }
+        return KIND_XML;
+    }
+
+    private static ListInitialValueEntry[] toInitialValues(List<Object> elements) {
+        ListInitialValueEntry[] initialValues = new ListInitialValueEntry[elements.size()];
+        for (int i = 0; i < initialValues.length; i++) {
+            initialValues[i] = new ListInitialValueEntry.ExpressionEntry(elements.get(i));
+        }
+        return initialValues;
+    }
+
+    private static BigInteger toUnsigned(long value) {
+        BigInteger bigValue = BigInteger.valueOf(value & Long.MAX_VALUE);
+        return value < 0 ? bigValue.setBit(63) : bigValue;
+    }
+
+    private static double halfToDouble(int bits) {
+        int exponent = (bits >> 10) & 0x1f;
+        int mantissa = bits & 0x3ff;
+        double value;
+        if (exponent == 0) {
+            value = mantissa * Math.pow(2, -24);
+        } else if (exponent == 0x1f) {
+            value = mantissa == 0 ? Double.POSITIVE_INFINITY : Double.NaN;
+        } else {
+            value = (mantissa + 1024) * Math.pow(2, exponent - 25);
+        }
+        return (bits & 0x8000) != 0 ? -value : value;
+    }
+
+    /**
+     * Reads a byte string or a text string, which could be split into chunks if its length is indefinite.
+     */
+    private byte[] readString(int initialByte) throws IOException, CborParserException {
+        long length = this.readLength(initialByte);
+        if (length != -1) {
+            return this.readFully(length);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        while (!this.isBreak()) {
+            int chunkInitialByte = this.readByte();
+            if (chunkInitialByte >>> 5 != initialByte >>> 5 || (chunkInitialByte & 0x1f) == 31) {
+                throw new CborParserException("invalid chunk in a string of indefinite length");
+            }
+            out.write(this.readFully(this.readLength(chunkInitialByte)));
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] readFully(long length) throws IOException, CborParserException {
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new CborParserException("string is too long: " + length);
+        }
+        // The length is not trusted to allocate the buffer upfront, as it could be larger than the input.
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(length, READ_CHUNK_SIZE));
+        byte[] chunk = new byte[(int) Math.min(length, READ_CHUNK_SIZE)];
+        long remaining = length;
+        while (remaining > 0) {
+            int count = this.in.read(chunk, 0, (int) Math.min(remaining, chunk.length));
+            if (count == -1) {
+                throw new CborParserException("unexpected end of input");
+            }
+            out.write(chunk, 0, count);
+            remaining -= count;
+            this.offset += count;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads the length of a string, an array or a map, which is -1 if the length is indefinite.
+     */
+    private long readLength(int initialByte) throws IOException, CborParserException {
+        if ((initialByte & 0x1f) == 31) {
+            return -1;
+        }
+        long length = this.readArgument(initialByte);
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new CborParserException("length is out of range: " + Long.toUnsignedString(length));
+        }
+        return length;
+    }
+
+    private long readArgument(int initialByte) throws IOException, CborParserException {
+        int additionalInfo = initialByte & 0x1f;
+        if (additionalInfo < 24) {
+            return additionalInfo;
+        }
+        switch (additionalInfo) {
+            case 24:
+                return this.readBytes(1);
+            case 25:
+                return this.readBytes(2);
+            case 26:
+                return this.readBytes(4);
+            case 27:
+                return this.readBytes(8);
+            default:
+                throw new CborParserException("invalid additional information: " + additionalInfo);
+        }
+    }
+
+    private long readBytes(int count) throws IOException, CborParserException {
+        long value = 0;
+        for (int i = 0; i < count; i++) {
+            value = (value << 8) | this.readByte();
+        }
+        return value;
+    }
+
+    /**
+     * Checks whether the next byte is the break which ends an item of indefinite length, and reads it if it is.
+     */
+    private boolean isBreak() throws IOException, CborParserException {
+        int next = this.readByte();
+        if (next == BREAK) {
+            return true;
+        }
+        this.pushedBack = next;
+        this.offset--;
+        return false;
+    }
+
+    private int readByte() throws IOException, CborParserException {
+        int next;
+        if (this.pushedBack != -1) {
+            next = this.pushedBack;
+            this.pushedBack = -1;
+        } else {
+            next = this.in.read();
+        }
+        if (next == -1) {
+            throw new CborParserException("unexpected end of input");
+        }
+        this.offset++;
+        return next;
+    }
+
+    /**
+     * The text of an xml value, which is parsed once the type it is read as is known.
+     */
+    private static class XmlText {
+
+        private final String text;
+
+        XmlText(String text) {
+            this.text = text;
+        }
+    }
+
+    private static class CborParserException extends Exception {
+
+        CborParserException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.XmlItem;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Iterates over the elements of an XML document that are at a given path, without building the rest of the
+ * document.
+ * <p>
+ * The path is a list of element local names starting from the root element, where {@code *} matches any element.
+ * An empty path selects the children of the root element. Only the selected elements are built as xml values, one at
+ * a time as the iterator advances, so the memory needed is bounded by the largest selected element rather than the
+ * document size. The namespace declarations of the enclosing elements are carried onto each selected element, so
+ * that it keeps its namespaces once taken out of the document. The reader is closed once the end of the document is
+ * reached or the document fails to parse.
+ *
+ * @since 2.0.0
+ */
+public class XmlElementIterator implements Iterator<BXml> {
+
+    private static final String ANY_ELEMENT = "*";
+
+    private final Reader reader;
+    private final String[] path;
+    private XMLStreamReader xmlStreamReader;
+    // Number of enclosing elements of the current position which match the path.
+    private int matchedDepth;
+    // Namespace declarations of the enclosing elements which match the path, innermost first.
+    private final Deque<Map<String, String>> enclosingNamespaces = new ArrayDeque<>();
+    private BXml next;
+    private boolean endOfDocument;
+
+    public XmlElementIterator(Reader reader, String[] path) {
+        this.reader = reader;
+        this.path = path.length == 0 ? new String[]{ANY_ELEMENT, ANY_ELEMENT} : path;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !endOfDocument) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public BXml next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        BXml element = next;
+        next = null;
+        return element;
+    }
+
+    private BXml readNext() {
+        try {
+            if (xmlStreamReader == null) {
+                // Created on first use since it starts reading the document.
+                xmlStreamReader = XmlTreeBuilder.createXMLStreamReader(reader);
+            }
+            while (xmlStreamReader.hasNext()) {
+                switch (xmlStreamReader.next()) {
+                    case START_ELEMENT:
+                        if (!matches(path[matchedDepth], xmlStreamReader.getLocalName())) {
+                            skipElement();
+                        } else if (matchedDepth == path.length - 1) {
+                            return addEnclosingNamespaces(new XmlTreeBuilder(xmlStreamReader).parseElement());
+                        } else {
+                            enclosingNamespaces.push(readNamespaces());
+                            matchedDepth++;
+                        }
+                        break;
+                    case END_ELEMENT:
+                        enclosingNamespaces.pop();
+                        matchedDepth--;
+                        break;
+                    case END_DOCUMENT:
+                        close();
+                        return null;
+                    default:
+                        // Content outside of the selected elements is not needed.
+                        break;
+                }
+            }
+        } catch (BError e) {
+            close();
+            throw e;
+        } catch (Throwable e) {
+            close();
+            throw ErrorCreator.createError(StringUtils.fromString("failed to create xml: " + e.getMessage()));
+        }
+        return null;
+    }
+
+    private Map<String, String> readNamespaces() {
+        Map<String, String> namespaces = new HashMap<>();
+        int namespaceCount = xmlStreamReader.getNamespaceCount();
+        for (int i = 0; i < namespaceCount; i++) {
+            String prefix = xmlStreamReader.getNamespacePrefix(i);
+            namespaces.put(prefix == null || prefix.isEmpty() ? "xmlns" : prefix, xmlStreamReader.getNamespaceURI(i));
+        }
+        return namespaces;
+    }
+
+    private BXml addEnclosingNamespaces(BXml element) {
+        if (enclosingNamespaces.isEmpty()) {
+            return element;
+        }
+        // Outer declarations are overridden by the inner ones, and all of them by the element's own declarations.
+        Map<String, String> inScope = new LinkedHashMap<>();
+        Iterator<Map<String, String>> outermostFirst = enclosingNamespaces.descendingIterator();
+        while (outermostFirst.hasNext()) {
+            inScope.putAll(outermostFirst.next());
+        }
+        MapValue<BString, BString> attributes = ((XmlItem) element).getAttributesMap();
+        for (Map.Entry<String, String> namespace : inScope.entrySet()) {
+            BString key = StringUtils.fromString(XmlItem.XMLNS_URL_PREFIX + namespace.getKey());
+            if (!attributes.containsKey(key)) {
+                attributes.put(key, StringUtils.fromString(namespace.getValue()));
+            }
+        }
+        return element;
+    }
+
+    private void close() {
+        endOfDocument = true;
+        try {
+            if (xmlStreamReader != null) {
+                xmlStreamReader.close();
+            }
+        } catch (XMLStreamException e) {
+            // The reader is closed below regardless.
+        }
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // Nothing more can be read from it either way.
+        }
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = xmlStreamReader.next();
+            if (event == START_ELEMENT) {
+                depth++;
+            } else if (event == END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static boolean matches(String step, String localName) {
+        return ANY_ELEMENT.equals(step) || step.equals(localName);
+    }
+}
@@ -79,6 +79,17 @@ public class XmlTreeBuilder {
     }
 
     public XmlTreeBuilder(Reader stringReader) {
+        this(createXMLStreamReader(stringReader));
+    }
+
+    /**
+     * Creates a builder that reads from an already positioned {@code XMLStreamReader}. Used to build individual
+     * elements of a document with {@link #parseElement()}.
+     *
+     * @param xmlStreamReader XML stream reader
+     */
+    XmlTreeBuilder(XMLStreamReader xmlStreamReader) {
+        this.xmlStreamReader = xmlStreamReader;
         namespaces = new HashMap<>();
         seqDeque = new ArrayDeque<>();
         siblingDeque = new ArrayDeque<>();
@@ -86,11 +97,13 @@ public class XmlTreeBuilder {
         ArrayList<BXml> siblings = new ArrayList<>();
         siblingDeque.push(siblings);
         seqDeque.push(new XmlSequence(siblings));
+    }
 
+    static XMLStreamReader createXMLStreamReader(Reader reader) {
         try {
-            xmlStreamReader = xmlInputFactory.createXMLStreamReader(stringReader);
+            return xmlInputFactory.createXMLStreamReader(reader);
         } catch (XMLStreamException e) {
-            handleXMLStreamException(e);
+            throw new BallerinaException(e.getMessage(), e);
         }
     }
 
@@ -103,31 +116,10 @@ public class XmlTreeBuilder {
         try {
             while (xmlStreamReader.hasNext()) {
                 int next = xmlStreamReader.next();
-                switch (next) {
-                    case START_ELEMENT:
-                        readElement(xmlStreamReader);
-                        break;
-                    case END_ELEMENT:
-                        endElement();
-                        break;
-                    case PROCESSING_INSTRUCTION:
-                        readPI(xmlStreamReader);
-                        break;
-                    case COMMENT:
-                        readComment(xmlStreamReader);
-                        break;
-                    case CDATA:
-                    case CHARACTERS:
-                        readText(xmlStreamReader);
-                        break;
-                    case END_DOCUMENT:
-                        return buildDocument();
-                    case DTD:
-                        handleDTD(xmlStreamReader);
-                        break;
-                    default:
-                        assert false;
+                if (next == END_DOCUMENT) {
+                    return buildDocument();
                 }
+                readEvent(next);
             }
         } catch (Exception e) {
             handleXMLStreamException(e);
@@ -136,6 +128,58 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Builds the element at the current position of the stream reader, which should be at a {@code START_ELEMENT}.
+     * The reader is left at the matching {@code END_ELEMENT}.
+     *
+     * @return the element
+     */
+    BXml parseElement() {
+        try {
+            int depth = 0;
+            int next = xmlStreamReader.getEventType();
+            while (true) {
+                readEvent(next);
+                if (next == START_ELEMENT) {
+                    depth++;
+                } else if (next == END_ELEMENT && --depth == 0) {
+                    break;
+                }
+                next = xmlStreamReader.next();
+            }
+        } catch (Exception e) {
+            handleXMLStreamException(e);
+        }
+
+        return buildDocument().getChildrenList().get(0);
+    }
+
+    private void readEvent(int event) {
+        switch (event) {
+            case START_ELEMENT:
+                readElement(xmlStreamReader);
+                break;
+            case END_ELEMENT:
+                endElement();
+                break;
+            case PROCESSING_INSTRUCTION:
+                readPI(xmlStreamReader);
+                break;
+            case COMMENT:
+                readComment(xmlStreamReader);
+                break;
+            case CDATA:
+            case CHARACTERS:
+                readText(xmlStreamReader);
+                break;
+            case DTD:
+                handleDTD(xmlStreamReader);
+                break;
+            default:
+                assert false;
+        }
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -209,6 +209,18 @@ public abstract class AbstractArrayValue implements ArrayValue {
         add(size, value);
     }
 
+    /**
+     * Append all the given values to the existing array.
+     *
+     * @param values values to be appended
+     */
+    @Override
+    public void appendAll(Object[] values) {
+        for (Object value : values) {
+            add(size, value);
+        }
+    }
+
     /**
      * Reverse the array in-place.
      *
@@ -43,7 +43,6 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
-import java.util.stream.IntStream;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INDEX_OUT_OF_RANGE_ERROR_IDENTIFIER;
@@ -532,7 +531,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
     public void addInt(long index, long value) {
         if (intValues != null) {
-            prepareForAdd(index, value, PredefinedTypes.TYPE_INT, intValues.length);
+            if (this.elementType.getTag() == TypeTags.INT_TAG) {
+                prepareForAdd(index, intValues.length);
+            } else {
+                prepareForAdd(index, value, PredefinedTypes.TYPE_INT, intValues.length);
+            }
             intValues[(int) index] = value;
             return;
         }
@@ -542,17 +545,29 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     private void addBoolean(long index, boolean value) {
-        prepareForAdd(index, value, PredefinedTypes.TYPE_BOOLEAN, booleanValues.length);
+        if (this.elementType.getTag() == TypeTags.BOOLEAN_TAG) {
+            prepareForAdd(index, booleanValues.length);
+        } else {
+            prepareForAdd(index, value, PredefinedTypes.TYPE_BOOLEAN, booleanValues.length);
+        }
         booleanValues[(int) index] = value;
     }
 
     private void addByte(long index, byte value) {
-        prepareForAdd(index, value, PredefinedTypes.TYPE_BYTE, byteValues.length);
+        if (this.elementType.getTag() == TypeTags.BYTE_TAG) {
+            prepareForAdd(index, byteValues.length);
+        } else {
+            prepareForAdd(index, value, PredefinedTypes.TYPE_BYTE, byteValues.length);
+        }
         byteValues[(int) index] = value;
     }
 
     private void addFloat(long index, double value) {
-        prepareForAdd(index, value, PredefinedTypes.TYPE_FLOAT, floatValues.length);
+        if (this.elementType.getTag() == TypeTags.FLOAT_TAG) {
+            prepareForAdd(index, floatValues.length);
+        } else {
+            prepareForAdd(index, value, PredefinedTypes.TYPE_FLOAT, floatValues.length);
+        }
         floatValues[(int) index] = value;
     }
 
@@ -562,7 +577,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     private void addBString(long index, BString value) {
-        prepareForAdd(index, value, PredefinedTypes.TYPE_STRING, bStringValues.length);
+        if (this.elementType.getTag() == TypeTags.STRING_TAG) {
+            prepareForAdd(index, bStringValues.length);
+        } else {
+            prepareForAdd(index, value, PredefinedTypes.TYPE_STRING, bStringValues.length);
+        }
         bStringValues[(int) index] = value;
     }
 
@@ -578,6 +597,24 @@ public class ArrayValueImpl extends AbstractArrayValue {
         add(this.size, value);
     }
 
+    /**
+     * Append all the given values to the existing array. The backing array is grown at most once.
+     *
+     * @param values values to be appended
+     */
+    @Override
+    public void appendAll(Object[] values) {
+        handleImmutableArrayValue();
+        int nValues = values.length;
+        if (nValues == 0) {
+            return;
+        }
+        ensureCapacity(this.size + nValues, getCurrentArrayLength());
+        for (Object value : values) {
+            addRefValue(this.size, value);
+        }
+    }
+
     @Override
     public Object shift(long index) {
         handleImmutableArrayValue();
@@ -734,6 +771,15 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
     @Override
     public Object copy(Map<Object, Object> refs) {
+        return copy(refs, false);
+    }
+
+    @Override
+    public Object frozenCopy(Map<Object, Object> refs) {
+        return copy(refs, true);
+    }
+
+    private Object copy(Map<Object, Object> refs, boolean readOnly) {
         if (isFrozen()) {
             return this;
         }
@@ -769,28 +815,24 @@ public class ArrayValueImpl extends AbstractArrayValue {
             default:
                 Object[] values = new Object[this.size];
                 valueArray = new ArrayValueImpl(values, arrayType);
-                IntStream.range(0, this.size).forEach(i -> {
+                // Register the copy before copying the members, so that cyclic references resolve to it.
+                refs.put(this, valueArray);
+                for (int i = 0; i < this.size; i++) {
                     Object value = this.refValues[i];
                     if (value instanceof RefValue) {
                         values[i] = ((RefValue) value).copy(refs);
                     } else {
                         values[i] = value;
                     }
-                });
+                }
                 break;
         }
 
         refs.put(this, valueArray);
-        return valueArray;
-    }
-
-    @Override
-    public Object frozenCopy(Map<Object, Object> refs) {
-        ArrayValue copy = (ArrayValue) copy(refs);
-        if (!copy.isFrozen()) {
-            copy.freezeDirect();
+        if (readOnly) {
+            valueArray.freezeDirect();
         }
-        return copy;
+        return valueArray;
     }
 
     /**
@@ -895,6 +937,36 @@ public class ArrayValueImpl extends AbstractArrayValue {
         return Arrays.copyOf(intValues, size);
     }
 
+    /**
+     * Get a copy of float array.
+     *
+     * @return float array
+     */
+    @Override
+    public double[] getFloatArray() {
+        return Arrays.copyOf(floatValues, size);
+    }
+
+    /**
+     * Get a copy of boolean array.
+     *
+     * @return boolean array
+     */
+    @Override
+    public boolean[] getBooleanArray() {
+        return Arrays.copyOf(booleanValues, size);
+    }
+
+    /**
+     * Get a copy of the BString array.
+     *
+     * @return BString array
+     */
+    @Override
+    public BString[] getBStringArray() {
+        return Arrays.copyOf(bStringValues, size);
+    }
+
     @Override
     public void serialize(OutputStream outputStream) {
         if (this.elementType.getTag() == TypeTags.BYTE_TAG) {
@@ -1107,6 +1179,11 @@ public class ArrayValueImpl extends AbstractArrayValue {
             throw ErrorCreator.createError(reason, detail);
         }
 
+        prepareForAdd(index, currentArraySize);
+    }
+
+    // Used directly when the value is known to belong to the element type, to avoid boxing primitives for the check.
+    private void prepareForAdd(long index, int currentArraySize) {
         int intIndex = (int) index;
         rangeCheck(index, size);
         fillerValueCheck(intIndex, size);
@@ -18,6 +18,7 @@
 
 package io.ballerina.runtime.internal.values;
 
+ import io.ballerina.runtime.api.utils.StringUtils;
  import io.ballerina.runtime.api.values.BLink;
  import io.ballerina.runtime.api.values.BString;
 
@@ -54,9 +55,13 @@ package io.ballerina.runtime.internal.values;
          if (str instanceof BmpStringValue) {
              return new BmpStringValue(this.value + ((BmpStringValue) str).value);
          } else if (str instanceof NonBmpStringValue) {
-             return new NonBmpStringValue(this.value + str.getValue(), ((NonBmpStringValue) str).getSurrogates());
+             int[] surrogates = ((NonBmpStringValue) str).getSurrogates();
+             for (int i = 0; i < surrogates.length; i++) {
+                 surrogates[i] += value.length();
+             }
+             return new NonBmpStringValue(this.value + str.getValue(), surrogates);
          } else {
-             throw new RuntimeException("not impl yet");
+             return StringUtils.fromString(getValue() + str.getValue());
          }
      }
 
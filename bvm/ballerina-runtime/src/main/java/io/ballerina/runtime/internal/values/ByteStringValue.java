@@ -0,0 +1,368 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Represent ballerina strings backed by their UTF-8 encoded bytes, as received from the wire.
+ * <p>
+ * The bytes are kept as is so that the value can be written back without re-encoding. The byte offset of every
+ * {@link #INDEX_STRIDE}th code point is recorded in a sparse index, so code point based access only has to decode
+ * a bounded number of characters. Pure ASCII content needs no index at all since code point and byte offsets match.
+ *
+ * @since 2.0.0
+ */
+public class ByteStringValue implements StringValue {
+
+    static final int INDEX_STRIDE = 64;
+
+    private final byte[] bytes;
+    private final int length;
+    // Byte offset of every INDEX_STRIDE-th code point, null when the content is ASCII only.
+    private final int[] index;
+    private String value;
+    private int hash;
+
+    private ByteStringValue(byte[] bytes, int length, int[] index) {
+        this.bytes = bytes;
+        this.length = length;
+        this.index = index;
+    }
+
+    /**
+     * Create a string value from the given UTF-8 encoded bytes. The given range is copied.
+     *
+     * @param bytes  UTF-8 encoded bytes
+     * @param offset offset of the first byte
+     * @param len    number of bytes
+     * @return string value, or null if the bytes are not well-formed UTF-8
+     */
+    public static ByteStringValue fromUtf8(byte[] bytes, int offset, int len) {
+        return fromOwnedBytes(Arrays.copyOfRange(bytes, offset, offset + len));
+    }
+
+    private static ByteStringValue fromOwnedBytes(byte[] bytes) {
+        int ascii = 0;
+        while (ascii < bytes.length && bytes[ascii] >= 0) {
+            ascii++;
+        }
+        if (ascii == bytes.length) {
+            return new ByteStringValue(bytes, bytes.length, null);
+        }
+
+        int[] index = new int[(bytes.length / INDEX_STRIDE) + 1];
+        for (int i = 0; i * INDEX_STRIDE < ascii; i++) {
+            index[i] = i * INDEX_STRIDE;
+        }
+        int codePoints = ascii;
+        int pos = ascii;
+        while (pos < bytes.length) {
+            if (codePoints % INDEX_STRIDE == 0) {
+                index[codePoints / INDEX_STRIDE] = pos;
+            }
+            int seqLength = validSequenceLength(bytes, pos);
+            if (seqLength < 0) {
+                return null;
+            }
+            pos += seqLength;
+            codePoints++;
+        }
+        int blocks = (codePoints + INDEX_STRIDE - 1) / INDEX_STRIDE;
+        return new ByteStringValue(bytes, codePoints, Arrays.copyOf(index, blocks));
+    }
+
+    /**
+     * Returns the length of the well-formed UTF-8 sequence starting at the given position, or -1 if the sequence is
+     * malformed, overlong or encodes a surrogate.
+     */
+    private static int validSequenceLength(byte[] bytes, int pos) {
+        int lead = bytes[pos] & 0xFF;
+        if (lead < 0x80) {
+            return 1;
+        }
+        int seqLength;
+        int min = 0x80;
+        int max = 0xBF;
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            seqLength = 2;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            seqLength = 3;
+            if (lead == 0xE0) {
+                min = 0xA0;
+            } else if (lead == 0xED) {
+                max = 0x9F;
+            }
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            seqLength = 4;
+            if (lead == 0xF0) {
+                min = 0x90;
+            } else if (lead == 0xF4) {
+                max = 0x8F;
+            }
+        } else {
+            return -1;
+        }
+        if (pos + seqLength > bytes.length) {
+            return -1;
+        }
+        int second = bytes[pos + 1] & 0xFF;
+        if (second < min || second > max) {
+            return -1;
+        }
+        for (int i = 2; i < seqLength; i++) {
+            if ((bytes[pos + i] & 0xC0) != 0x80) {
+                return -1;
+            }
+        }
+        return seqLength;
+    }
+
+    private static int sequenceLength(byte lead) {
+        if (lead >= 0) {
+            return 1;
+        } else if ((lead & 0xE0) == 0xC0) {
+            return 2;
+        } else if ((lead & 0xF0) == 0xE0) {
+            return 3;
+        }
+        return 4;
+    }
+
+    private int decodeAt(int pos) {
+        byte lead = bytes[pos];
+        switch (sequenceLength(lead)) {
+            case 1:
+                return lead;
+            case 2:
+                return ((lead & 0x1F) << 6) | (bytes[pos + 1] & 0x3F);
+            case 3:
+                return ((lead & 0x0F) << 12) | ((bytes[pos + 1] & 0x3F) << 6) | (bytes[pos + 2] & 0x3F);
+            default:
+                return ((lead & 0x07) << 18) | ((bytes[pos + 1] & 0x3F) << 12) | ((bytes[pos + 2] & 0x3F) << 6) |
+                        (bytes[pos + 3] & 0x3F);
+        }
+    }
+
+    private int byteOffset(int codePointIndex) {
+        if (index == null) {
+            return codePointIndex;
+        }
+        if (codePointIndex == length) {
+            return bytes.length;
+        }
+        int pos = index[codePointIndex / INDEX_STRIDE];
+        for (int i = codePointIndex % INDEX_STRIDE; i > 0; i--) {
+            pos += sequenceLength(bytes[pos]);
+        }
+        return pos;
+    }
+
+    private int codePointIndex(int byteOffset) {
+        if (index == null) {
+            return byteOffset;
+        }
+        int block = Arrays.binarySearch(index, byteOffset);
+        if (block >= 0) {
+            return block * INDEX_STRIDE;
+        }
+        block = -block - 2;
+        int codePoint = block * INDEX_STRIDE;
+        for (int pos = index[block]; pos < byteOffset; pos += sequenceLength(bytes[pos])) {
+            codePoint++;
+        }
+        return codePoint;
+    }
+
+    private byte[] utf8Bytes(BString str) {
+        if (str instanceof ByteStringValue) {
+            return ((ByteStringValue) str).bytes;
+        }
+        return str.getValue().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private boolean matchesAt(byte[] target, int pos) {
+        for (int i = 0; i < target.length; i++) {
+            if (bytes[pos + i] != target[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of UTF-8 encoded bytes of this string.
+     *
+     * @return byte length
+     */
+    public int byteLength() {
+        return bytes.length;
+    }
+
+    /**
+     * Writes the UTF-8 encoded content of this string to the given output stream without re-encoding it.
+     *
+     * @param outputStream the output stream to write to
+     * @throws IOException if an error occurs while writing
+     */
+    public void serialize(OutputStream outputStream) throws IOException {
+        outputStream.write(bytes);
+    }
+
+    @Override
+    public String getValue() {
+        String str = value;
+        if (str == null) {
+            str = new String(bytes, StandardCharsets.UTF_8);
+            value = str;
+        }
+        return str;
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        if (index < 0 || index >= length) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        return decodeAt(byteOffset(index));
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        if (str instanceof ByteStringValue) {
+            byte[] other = ((ByteStringValue) str).bytes;
+            byte[] both = Arrays.copyOf(bytes, bytes.length + other.length);
+            System.arraycopy(other, 0, both, bytes.length, other.length);
+            return fromOwnedBytes(both);
+        }
+        return StringUtils.fromString(getValue() + str.getValue());
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        byte[] target = utf8Bytes(str);
+        int from = Math.max(fromIndex, 0);
+        if (from > length) {
+            return target.length == 0 ? (long) length : null;
+        }
+        int last = bytes.length - target.length;
+        for (int pos = byteOffset(from); pos <= last; pos++) {
+            if (matchesAt(target, pos)) {
+                return (long) codePointIndex(pos);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        if (fromIndex < 0) {
+            return null;
+        }
+        byte[] target = utf8Bytes(str);
+        int pos = Math.min(byteOffset(Math.min(fromIndex, length)), bytes.length - target.length);
+        for (; pos >= 0; pos--) {
+            if (matchesAt(target, pos)) {
+                return (long) codePointIndex(pos);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        if (beginIndex < 0 || endIndex > length || beginIndex > endIndex) {
+            throw new StringIndexOutOfBoundsException("begin " + beginIndex + ", end " + endIndex + ", length " +
+                                                              length);
+        }
+        int beginOffset = byteOffset(beginIndex);
+        int endOffset = byteOffset(endIndex);
+        byte[] subBytes = Arrays.copyOfRange(bytes, beginOffset, endOffset);
+        if (index == null) {
+            return new ByteStringValue(subBytes, subBytes.length, null);
+        }
+        return fromOwnedBytes(subBytes);
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String informalStringValue(BLink parent) {
+        return "\"" + toString() + "\"";
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        return informalStringValue(parent);
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as String.hashCode() over the UTF-16 form, computed straight from the bytes.
+        int h = hash;
+        if (h == 0 && bytes.length > 0) {
+            int pos = 0;
+            while (pos < bytes.length) {
+                int codePoint = decodeAt(pos);
+                pos += sequenceLength(bytes[pos]);
+                if (Character.isBmpCodePoint(codePoint)) {
+                    h = 31 * h + codePoint;
+                } else {
+                    h = 31 * h + Character.highSurrogate(codePoint);
+                    h = 31 * h + Character.lowSurrogate(codePoint);
+                }
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof ByteStringValue) {
+            return Arrays.equals(bytes, ((ByteStringValue) str).bytes);
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+}
@@ -36,7 +36,7 @@ import io.ballerina.runtime.internal.types.BTypeIdSet;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
 
 import java.io.PrintWriter;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -227,7 +227,7 @@ public class ErrorValue extends BError implements RefValue {
      */
     public Object getDetails() {
         if (details instanceof RefValue) {
-            return ((RefValue) details).copy(new HashMap<>());
+            return ((RefValue) details).copy(new IdentityHashMap<>());
         }
         return details;
     }
@@ -412,9 +412,27 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         return stringValue(null);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public Object copy(Map<Object, Object> refs) {
+        return copy(refs, false);
+    }
+
+    @Override
+    public Object frozenCopy(Map<Object, Object> refs) {
+        return copy(refs, true);
+    }
+
+    /**
+     * Copy this map. Frozen subtrees are shared by reference. When a read-only copy is requested, the whole copy is
+     * built first and then frozen from this map in a single pass, since with cyclic references a member may refer
+     * back to a copy which is still being filled.
+     *
+     * @param refs     map of already copied values, to handle cycles
+     * @param readOnly whether the copy should be read-only
+     * @return the copy
+     */
+    @SuppressWarnings("unchecked")
+    private Object copy(Map<Object, Object> refs, boolean readOnly) {
         if (isFrozen()) {
             return this;
         }
@@ -427,20 +445,16 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         refs.put(this, newMap);
         for (Map.Entry<K, V> entry : this.entrySet()) {
             V value = entry.getValue();
-            value = value instanceof RefValue ? (V) ((RefValue) value).copy(refs) : value;
+            if (value instanceof RefValue) {
+                value = (V) ((RefValue) value).copy(refs);
+            }
             newMap.put(entry.getKey(), value);
         }
-        return newMap;
-    }
 
-    @SuppressWarnings("unchecked")
-    @Override
-    public Object frozenCopy(Map<Object, Object> refs) {
-        MapValueImpl<K, V> copy = (MapValueImpl<K, V>) copy(refs);
-        if (!copy.isFrozen()) {
-            copy.freezeDirect();
+        if (readOnly) {
+            newMap.freezeDirect();
         }
-        return copy;
+        return newMap;
     }
 
     @Override
@@ -50,17 +50,12 @@
             throw new StringIndexOutOfBoundsException(index);
         }
 
-        int offset = index;
-        for (int surrogate : surrogates) {
-            if (surrogate < index) {
-                offset++;
-            } else if (surrogate > index) {
-                break;
-            } else {
-                return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
-            }
+        int surrogatesBefore = Arrays.binarySearch(surrogates, index);
+        if (surrogatesBefore >= 0) {
+            int offset = index + surrogatesBefore;
+            return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
         }
-        return value.charAt(offset);
+        return value.charAt(index - surrogatesBefore - 1);
     }
 
     @Override
@@ -73,13 +68,16 @@
         if (str instanceof NonBmpStringValue) {
             NonBmpStringValue other = (NonBmpStringValue) str;
             int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
-            System.arraycopy(other.surrogates, 0, both, surrogates.length, other.surrogates.length);
+            int shift = length();
+            for (int i = 0; i < other.surrogates.length; i++) {
+                both[surrogates.length + i] = other.surrogates[i] + shift;
+            }
             return new NonBmpStringValue(this.value + other.value, both);
         } else if (str instanceof BmpStringValue) {
             BmpStringValue other = (BmpStringValue) str;
             return new NonBmpStringValue(this.value + other.getValue(), surrogates);
         } else {
-            throw new RuntimeException("not impl yet");
+            return StringUtils.fromString(getValue() + str.getValue());
         }
     }
 
@@ -162,14 +160,8 @@
      }
 
      private int getOffset(int fromIndex) {
-         int offset = fromIndex;
-         for (int surrogate : surrogates) {
-             if (surrogate < fromIndex) {
-                 offset++;
-             } else {
-                 break;
-             }
-         }
-         return offset;
+         // Surrogate pair locations are sorted, so the number of pairs before the index is its insertion point.
+         int surrogatesBefore = Arrays.binarySearch(surrogates, fromIndex);
+         return fromIndex + (surrogatesBefore >= 0 ? surrogatesBefore : -surrogatesBefore - 1);
      }
  }
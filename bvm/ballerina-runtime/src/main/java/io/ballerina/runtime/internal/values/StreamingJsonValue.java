@@ -180,6 +180,13 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
         return super.copy(refs);
     }
 
+    @Override
+    public Object frozenCopy(Map<Object, Object> refs) {
+        // Consume and materialize the stream.
+        buildDatasource();
+        return super.frozenCopy(refs);
+    }
+
     private void buildDatasource() {
         try {
             while (datasource.hasNext()) {
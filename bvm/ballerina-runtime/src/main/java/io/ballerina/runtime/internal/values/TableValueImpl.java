@@ -130,6 +130,15 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Object copy(Map<Object, Object> refs) {
+        return copy(refs, false);
+    }
+
+    @Override
+    public Object frozenCopy(Map<Object, Object> refs) {
+        return copy(refs, true);
+    }
+
+    private Object copy(Map<Object, Object> refs, boolean readOnly) {
         if (isFrozen()) {
             return this;
         }
@@ -142,25 +151,22 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         if (fieldNames != null) {
             clone.fieldNames = fieldNames;
         }
+        refs.put(this, clone);
 
         IteratorValue itr = getIterator();
         while (itr.hasNext()) {
             TupleValueImpl tupleValue = (TupleValueImpl) itr.next();
             Object value = tupleValue.get(1);
-            value = value instanceof RefValue ? ((RefValue) value).copy(refs) : value;
+            if (value instanceof RefValue) {
+                value = ((RefValue) value).copy(refs);
+            }
             clone.add((V) value);
         }
 
-       return clone;
-    }
-
-    @Override
-    public Object frozenCopy(Map<Object, Object> refs) {
-        TableValueImpl<K, V> copy = (TableValueImpl<K, V>) copy(refs);
-        if (!copy.isFrozen()) {
-            copy.freezeDirect();
+        if (readOnly) {
+            clone.freezeDirect();
         }
-        return copy;
+        return clone;
     }
 
     protected void handleFrozenTableValue() {
@@ -26,6 +26,8 @@ import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.CycleUtils;
 import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BUnionType;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
@@ -34,12 +36,12 @@ import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
-import java.util.stream.IntStream;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INDEX_OUT_OF_RANGE_ERROR_IDENTIFIER;
@@ -425,13 +427,37 @@ public class TupleValueImpl extends AbstractArrayValue {
         return this.size == 0;
     }
 
+    /**
+     * Get a slice of the tuple, as an array of the union of its member types.
+     *
+     * @param startIndex index of first member to include in the slice
+     * @param endIndex index of first member not to include in the slice
+     * @return array slice within specified range
+     */
     @Override
     public BArray slice(long startIndex, long endIndex) {
-        return null;
+        List<Type> memberTypes = new ArrayList<>(this.tupleType.getTupleTypes());
+        Type restType = this.tupleType.getRestType();
+        if (restType != null) {
+            memberTypes.add(restType);
+        }
+        int slicedSize = (int) (endIndex - startIndex);
+        ArrayValueImpl slicedArray = new ArrayValueImpl(new BArrayType(new BUnionType(memberTypes), slicedSize));
+        System.arraycopy(this.refValues, (int) startIndex, slicedArray.refValues, 0, slicedSize);
+        return slicedArray;
     }
 
     @Override
     public Object copy(Map<Object, Object> refs) {
+        return copy(refs, false);
+    }
+
+    @Override
+    public Object frozenCopy(Map<Object, Object> refs) {
+        return copy(refs, true);
+    }
+
+    private Object copy(Map<Object, Object> refs, boolean readOnly) {
         if (isFrozen()) {
             return this;
         }
@@ -443,15 +469,18 @@ public class TupleValueImpl extends AbstractArrayValue {
         Object[] values = new Object[this.size];
         TupleValueImpl refValueArray = new TupleValueImpl(values, this.tupleType);
         refs.put(this, refValueArray);
-        IntStream.range(0, this.size).forEach(i -> {
+        for (int i = 0; i < this.size; i++) {
             Object value = this.refValues[i];
             if (value instanceof RefValue) {
                 values[i] = ((RefValue) value).copy(refs);
             } else {
                 values[i] = value;
             }
-        });
+        }
 
+        if (readOnly) {
+            refValueArray.freezeDirect();
+        }
         return refValueArray;
     }
 
@@ -486,17 +515,72 @@ public class TupleValueImpl extends AbstractArrayValue {
     }
 
     public long[] getLongArray() {
-        throw new UnsupportedOperationException();
+        return getIntArray();
     }
 
     /**
-     * Get a copy of int array.
+     * Get a copy of int array, if all the members of the tuple are ints.
      * 
      * @return int array
      */
     @Override
     public long[] getIntArray() {
-        throw new UnsupportedOperationException();
+        long[] values = new long[this.size];
+        for (int i = 0; i < this.size; i++) {
+            values[i] = (long) getMember(i, Long.class);
+        }
+        return values;
+    }
+
+    /**
+     * Get a copy of float array, if all the members of the tuple are floats.
+     *
+     * @return float array
+     */
+    @Override
+    public double[] getFloatArray() {
+        double[] values = new double[this.size];
+        for (int i = 0; i < this.size; i++) {
+            values[i] = (double) getMember(i, Double.class);
+        }
+        return values;
+    }
+
+    /**
+     * Get a copy of boolean array, if all the members of the tuple are booleans.
+     *
+     * @return boolean array
+     */
+    @Override
+    public boolean[] getBooleanArray() {
+        boolean[] values = new boolean[this.size];
+        for (int i = 0; i < this.size; i++) {
+            values[i] = (boolean) getMember(i, Boolean.class);
+        }
+        return values;
+    }
+
+    /**
+     * Get a copy of the BString array, if all the members of the tuple are strings.
+     *
+     * @return BString array
+     */
+    @Override
+    public BString[] getBStringArray() {
+        BString[] values = new BString[this.size];
+        for (int i = 0; i < this.size; i++) {
+            values[i] = (BString) getMember(i, BString.class);
+        }
+        return values;
+    }
+
+    private Object getMember(int index, Class<?> memberClass) {
+        Object value = this.refValues[index];
+        if (!memberClass.isInstance(value)) {
+            throw new UnsupportedOperationException("tuple member at index " + index + " is not of the requested " +
+                                                            "type");
+        }
+        return value;
     }
 
     @Override
@@ -552,6 +552,10 @@ public final class XmlSequence extends XmlValue implements BXmlSequence {
 
     @Override
     public void freezeDirect() {
+        if (this.type.isReadOnly()) {
+            return;
+        }
+
         this.type = ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(this.type);
         for (BXml elem : children) {
             elem.freezeDirect();
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.flags.TypeFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.CborUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BTupleType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for writing and reading anydata values as CBOR.
+ */
+public class CborTests {
+
+    private static final int ANYDATA_TYPE_FLAGS = TypeFlags.asMask(TypeFlags.ANYDATA, TypeFlags.PURETYPE);
+
+    @Test
+    void testNaturalRoundTrip() {
+        BMap<BString, Object> value = ValueCreator.createMapValue(new BMapType(PredefinedTypes.TYPE_ANYDATA));
+        value.put(StringUtils.fromString("int"), 1000000L);
+        value.put(StringUtils.fromString("negative"), Long.MIN_VALUE);
+        value.put(StringUtils.fromString("float"), 0.1);
+        value.put(StringUtils.fromString("decimal"), ValueCreator.createDecimalValue("-12.345"));
+        value.put(StringUtils.fromString("bigDecimal"), ValueCreator.createDecimalValue("123456789012345678901.5"));
+        value.put(StringUtils.fromString("string"), StringUtils.fromString("C\uD83D\uDEF8mmander"));
+        value.put(StringUtils.fromString("boolean"), true);
+        value.put(StringUtils.fromString("nil"), null);
+        value.put(StringUtils.fromString("bytes"), ValueCreator.createArrayValue(new byte[]{0, 1, (byte) 255}));
+        value.put(StringUtils.fromString("list"), ValueCreator.createArrayValue(new long[]{1, 2, 3}));
+
+        Object result = CborUtils.parse(CborUtils.serialize(value), PredefinedTypes.TYPE_ANYDATA);
+        Assert.assertTrue(TypeChecker.isEqual(value, result));
+        BMap<BString, Object> map = (BMap<BString, Object>) result;
+        Assert.assertEquals(TypeChecker.getType(map.get(StringUtils.fromString("bytes"))).toString(), "byte[]");
+        Assert.assertEquals(((BDecimal) map.get(StringUtils.fromString("bigDecimal"))).value(),
+                            new BigDecimal("123456789012345678901.5"));
+    }
+
+    @Test
+    void testEncoding() {
+        Assert.assertEquals(CborUtils.serialize(1000000L), new byte[]{0x1a, 0x00, 0x0f, 0x42, 0x40});
+        Assert.assertEquals(CborUtils.serialize(-1L), new byte[]{0x20});
+        Assert.assertEquals(CborUtils.serialize(1.5), new byte[]{(byte) 0xfa, 0x3f, (byte) 0xc0, 0x00, 0x00});
+        Assert.assertEquals(CborUtils.serialize(ValueCreator.createDecimalValue("1.23")),
+                            new byte[]{(byte) 0xc4, (byte) 0x82, 0x21, 0x18, 0x7b});
+        Assert.assertEquals(CborUtils.serialize(StringUtils.fromString("a")), new byte[]{0x61, 0x61});
+    }
+
+    @Test
+    void testRecord() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(PredefinedTypes.TYPE_INT, "id", SymbolFlags.REQUIRED + SymbolFlags.PUBLIC));
+        fields.put("score", new BField(PredefinedTypes.TYPE_FLOAT, "score", SymbolFlags.PUBLIC));
+        fields.put("note", new BField(PredefinedTypes.TYPE_STRING, "note", SymbolFlags.OPTIONAL + SymbolFlags.PUBLIC));
+        BRecordType recordType = new BRecordType("Person", new Module("test", "cbor", "1.0.0"), 0, fields,
+                                                 PredefinedTypes.TYPE_ANYDATA, false, ANYDATA_TYPE_FLAGS);
+
+        BMap<BString, Object> value = ValueCreator.createMapValue();
+        value.put(StringUtils.fromString("id"), 7L);
+        value.put(StringUtils.fromString("extra"), true);
+        Object result = CborUtils.parse(CborUtils.serialize(value), recordType);
+        Assert.assertEquals(TypeChecker.getType(result), recordType);
+        BMap<BString, Object> record = (BMap<BString, Object>) result;
+        Assert.assertEquals(record.get(StringUtils.fromString("id")), 7L);
+        Assert.assertEquals(record.get(StringUtils.fromString("score")), 0.0);
+        Assert.assertFalse(record.containsKey(StringUtils.fromString("note")));
+        Assert.assertEquals(record.get(StringUtils.fromString("extra")), true);
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = ".*missing required field 'id'.*")
+    void testRecordWithoutRequiredField() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(PredefinedTypes.TYPE_INT, "id", SymbolFlags.REQUIRED + SymbolFlags.PUBLIC));
+        BRecordType recordType = new BRecordType("Person", new Module("test", "cbor", "1.0.0"), 0, fields,
+                                                 null, true, ANYDATA_TYPE_FLAGS);
+        CborUtils.parse(CborUtils.serialize(ValueCreator.createMapValue()), recordType);
+    }
+
+    @Test
+    void testUnionMemberSelection() {
+        Type intOrFloat = new BUnionType(Arrays.asList(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_FLOAT), 0);
+        Assert.assertEquals(CborUtils.parse(CborUtils.serialize(1.5), intOrFloat), 1.5);
+        Assert.assertEquals(CborUtils.parse(CborUtils.serialize(3L), intOrFloat), 3L);
+
+        Type byteOrInt = new BUnionType(Arrays.asList(PredefinedTypes.TYPE_BYTE, PredefinedTypes.TYPE_INT), 0);
+        Assert.assertEquals(CborUtils.parse(CborUtils.serialize(7L), byteOrInt), 7);
+        Assert.assertEquals(CborUtils.parse(CborUtils.serialize(300L), byteOrInt), 300L);
+
+        Type decimalOrString = new BUnionType(Arrays.asList(PredefinedTypes.TYPE_DECIMAL,
+                                                            PredefinedTypes.TYPE_STRING), 0);
+        Object decimal = CborUtils.parse(CborUtils.serialize(5L), decimalOrString);
+        Assert.assertEquals(((BDecimal) decimal).value(), BigDecimal.valueOf(5));
+    }
+
+    @Test
+    void testTuple() {
+        BTupleType tupleType = new BTupleType(Arrays.asList(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_INT),
+                                              PredefinedTypes.TYPE_BOOLEAN, ANYDATA_TYPE_FLAGS, false);
+        BArray list = ValueCreator.createArrayValue(new BArrayType(PredefinedTypes.TYPE_ANYDATA));
+        list.append(StringUtils.fromString("a"));
+        list.append(1L);
+        list.append(true);
+        list.append(false);
+        BArray tuple = (BArray) CborUtils.parse(CborUtils.serialize(list), tupleType);
+        Assert.assertEquals(TypeChecker.getType(tuple), tupleType);
+        Assert.assertEquals(tuple.size(), 4);
+        Assert.assertEquals(tuple.get(3), false);
+    }
+
+    @Test
+    void testForeignEncodings() {
+        // A half-precision float, an array and a text string of indefinite length, and an unknown tag.
+        byte[] bytes = {(byte) 0xf9, 0x3c, 0x00, (byte) 0x9f, 0x01, 0x02, (byte) 0xff, 0x7f, 0x61, 0x61, 0x61, 0x62,
+                (byte) 0xff, (byte) 0xc1, 0x1a, 0x5f, 0x00, 0x00, 0x00};
+        ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+        Assert.assertEquals(CborUtils.parse(in, PredefinedTypes.TYPE_FLOAT), 1.0);
+        BArray array = (BArray) CborUtils.parse(in, new BArrayType(PredefinedTypes.TYPE_INT));
+        Assert.assertEquals(array.getIntArray(), new long[]{1, 2});
+        Assert.assertEquals(CborUtils.parse(in, PredefinedTypes.TYPE_STRING).toString(), "ab");
+        Assert.assertEquals(CborUtils.parse(in, PredefinedTypes.TYPE_INT), 0x5f000000L);
+        Assert.assertEquals(in.available(), 0);
+    }
+
+    @Test(expectedExceptions = BError.class,
+            expectedExceptionsMessageRegExp = "unexpected end of input at byte offset: 3")
+    void testTruncatedInput() {
+        CborUtils.parse(new byte[]{(byte) 0x83, 0x01, 0x02}, PredefinedTypes.TYPE_ANYDATA);
+    }
+
+    @Test(expectedExceptions = BError.class,
+            expectedExceptionsMessageRegExp = "cannot read a text string as 'int' at byte offset: 2")
+    void testIncompatibleType() {
+        CborUtils.parse(CborUtils.serialize(StringUtils.fromString("a")), PredefinedTypes.TYPE_INT);
+    }
+}
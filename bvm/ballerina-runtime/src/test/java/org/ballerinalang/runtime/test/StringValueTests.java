@@ -1,9 +1,16 @@
 package org.ballerinalang.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.ByteStringValue;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 
 /**
  * Test cases for {@link io.ballerina.runtime.internal.values.StringValue class} implementations.
@@ -40,4 +47,67 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testUnicodeConcatShiftsSurrogates() {
+        BString both = SUBJECT.concat(SUBJECT);
+        Assert.assertEquals(both.length(), 32);
+        Assert.assertEquals(both.getCodePoint(17), 0x1F6F8);
+        Assert.assertEquals(both.getCodePoint(31), 'r');
+        Assert.assertEquals(both.substring(16, 18).getValue(), "C\uD83D\uDEF8");
+    }
+
+    @Test
+    void testByteStringCodePoints() {
+        BString str = fromUtf8(UNICODE_STR);
+        Assert.assertTrue(str instanceof ByteStringValue);
+        Assert.assertEquals(str.length(), 16);
+        Assert.assertEquals(str.getCodePoint(1), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(15), 'r');
+        Assert.assertEquals(str.getValue(), UNICODE_STR);
+        Assert.assertEquals(str.hashCode(), UNICODE_STR.hashCode());
+        Assert.assertEquals(str, StringUtils.fromString(UNICODE_STR));
+    }
+
+    @Test
+    void testByteStringLongContent() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            builder.append(i % 7 == 0 ? "\u00e9" : "a").append(i % 50 == 0 ? "\uD83D\uDC7D" : "");
+        }
+        String value = builder.toString();
+        BString str = fromUtf8(value);
+        int[] codePoints = value.codePoints().toArray();
+        Assert.assertEquals(str.length(), codePoints.length);
+        for (int i = 0; i < codePoints.length; i++) {
+            Assert.assertEquals(str.getCodePoint(i), codePoints[i]);
+        }
+        Assert.assertEquals(str.substring(100, 300).getValue(), new String(codePoints, 100, 200));
+        Assert.assertEquals(str.indexOf(fromUtf8("\uD83D\uDC7D"), 60), Long.valueOf(103));
+        Assert.assertEquals(str.lastIndexOf(StringUtils.fromString("\uD83D\uDC7D"), 500), Long.valueOf(460));
+        Assert.assertNull(str.indexOf(fromUtf8("b"), 0));
+    }
+
+    @Test
+    void testByteStringAsciiContent() throws IOException {
+        BString str = fromUtf8("{\"name\":\"John\"}");
+        Assert.assertEquals(str.length(), 15);
+        Assert.assertEquals(str.indexOf(fromUtf8("John"), 0), Long.valueOf(9));
+        Assert.assertEquals(str.substring(9, 13).getValue(), "John");
+        Assert.assertEquals(str.concat(fromUtf8("!")).getValue(), "{\"name\":\"John\"}!");
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        StringUtils.writeString(str, outputStream, StandardCharsets.UTF_8);
+        Assert.assertEquals(outputStream.toByteArray(), "{\"name\":\"John\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testByteStringMalformedInput() {
+        BString str = StringUtils.fromBytes(new byte[]{'a', (byte) 0xC0, (byte) 0x80});
+        Assert.assertFalse(str instanceof ByteStringValue);
+        Assert.assertEquals(str.getValue(), "a\uFFFD\uFFFD");
+    }
+
+    private static BString fromUtf8(String value) {
+        return StringUtils.fromBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
 }
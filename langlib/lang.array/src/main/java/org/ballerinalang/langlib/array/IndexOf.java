@@ -18,12 +18,11 @@
 
 package org.ballerinalang.langlib.array;
 
-import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
-import io.ballerina.runtime.internal.TypeChecker;
-import org.ballerinalang.langlib.array.utils.GetFunction;
 
-import static org.ballerinalang.langlib.array.utils.ArrayUtils.getElementAccessFunction;
+import java.util.function.LongPredicate;
+
+import static org.ballerinalang.langlib.array.utils.ArrayUtils.getElementEqualityCheck;
 
 /**
  * Native implementation of lang.array:indexOf((anydata|error)[], anydata|error, int).
@@ -40,12 +39,11 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.getElementAccessF
 public class IndexOf {
 
     public static Object indexOf(BArray arr, Object val, long startIndex) {
-        Type arrType = arr.getType();
         int size = arr.size();
-        GetFunction getFn = getElementAccessFunction(arrType, "indexOf()");
+        LongPredicate isEqual = getElementEqualityCheck(arr, val, "indexOf()");
 
         for (long i = startIndex; i < size; i++) {
-            if (TypeChecker.isEqual(val, getFn.get(arr, i))) {
+            if (isEqual.test(i)) {
                 return i;
             }
         }
@@ -18,12 +18,11 @@
 
 package org.ballerinalang.langlib.array;
 
-import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
-import io.ballerina.runtime.internal.TypeChecker;
-import org.ballerinalang.langlib.array.utils.GetFunction;
 
-import static org.ballerinalang.langlib.array.utils.ArrayUtils.getElementAccessFunction;
+import java.util.function.LongPredicate;
+
+import static org.ballerinalang.langlib.array.utils.ArrayUtils.getElementEqualityCheck;
 
 /**
  * Native implementation of lang.array:lastIndexOf((anydata|error)[], anydata|error, int).
@@ -40,12 +39,10 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.getElementAccessF
 public class LastIndexOf {
 
     public static Object lastIndexOf(BArray arr, Object val, long startIndex) {
-        Type arrType = arr.getType();
-        int size = arr.size();
-        GetFunction getFn = getElementAccessFunction(arrType, "lastIndexOf()");
+        LongPredicate isEqual = getElementEqualityCheck(arr, val, "lastIndexOf()");
 
         for (long i = startIndex; i >= 0; i--) {
-            if (TypeChecker.isEqual(val, getFn.get(arr, i))) {
+            if (isEqual.test(i)) {
                 return i;
             }
         }
@@ -19,19 +19,11 @@
 package org.ballerinalang.langlib.array;
 
 import io.ballerina.runtime.api.TypeTags;
-import io.ballerina.runtime.api.creators.TypeCreator;
-import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.ArrayType;
-import io.ballerina.runtime.api.types.TupleType;
 import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.createOpNotSupportedError;
 
 /**
@@ -72,25 +64,9 @@ public class Slice {
 
         switch (arrType.getTag()) {
             case TypeTags.ARRAY_TAG:
-                slicedArr = ((BArray) arr).slice(startIndex, endIndex);
-                break;
             case TypeTags.TUPLE_TAG:
-                TupleType tupleType = (TupleType) arrType;
-
-                List<Type> memTypes = new ArrayList<>(tupleType.getTupleTypes());
-
-                Type restType = tupleType.getRestType();
-                if (restType != null) {
-                    memTypes.add(restType);
-                }
-
-                UnionType unionType = TypeCreator.createUnionType(memTypes);
-                ArrayType slicedArrType = TypeCreator.createArrayType(unionType, (int) (endIndex - startIndex));
-                slicedArr = ValueCreator.createArrayValue(slicedArrType);
-
-                for (long i = startIndex, j = 0; i < endIndex; i++, j++) {
-                    slicedArr.add(j, arr.getRefValue(i));
-                }
+                // Both copy the members in the range with System.arraycopy.
+                slicedArr = arr.slice(startIndex, endIndex);
                 break;
             default:
                 throw createOpNotSupportedError(arrType, "slice()");
@@ -27,13 +27,18 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 
-import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntBinaryOperator;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INVALID_TYPE_TO_SORT;
@@ -47,6 +52,9 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
  */
 public class Sort {
 
+    // Below this size the index sort does not fork, as in java.util.Arrays.parallelSort.
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
     public static BArray sort(BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(arr.getType(), "sort()");
         BFunctionPointer<Object, Object> function = (BFunctionPointer<Object, Object>) func;
@@ -56,28 +64,35 @@ public class Sort {
             isAscending = false;
         }
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        if (function == null && sortPrimitiveArray(arr, elemType, isAscending)) {
+            return arr;
+        }
+
+        int size = arr.size();
+        Object[] values = new Object[size];
+        Object[] keys;
         if (function != null) {
+            keys = new Object[size];
             boolean elementTypeIdentified = false;
             elemType = ((FunctionType) function.getType()).getReturnType();
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
-                // Get the type of the sortArr elements when there is an arrow expression as the key function
+            for (int i = 0; i < size; i++) {
+                values[i] = arr.get(i);
+                keys[i] = function.call(new Object[]{Scheduler.getStrand(), values[i], true});
+                // Get the type of the keys when there is an arrow expression as the key function
                 if (!elementTypeIdentified && elemType.getTag() == TypeTags.UNION_TAG &&
                         ((UnionType) elemType).getMemberTypes().size() > 2) {
-                    Type sortArrElemType = TypeChecker.getType(sortArr[i][0]);
-                    if (sortArrElemType.getTag() != TypeTags.NULL_TAG) {
-                        elemType = sortArrElemType;
+                    Type keyType = TypeChecker.getType(keys[i]);
+                    if (keyType.getTag() != TypeTags.NULL_TAG) {
+                        elemType = keyType;
                         elementTypeIdentified = true;
                     }
                 }
-                sortArr[i][1] = arr.get(i);
             }
         } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+            for (int i = 0; i < size; i++) {
+                values[i] = arr.get(i);
             }
+            keys = values;
         }
 
         if (elemType.getTag() == TypeTags.UNION_TAG) {
@@ -91,15 +106,202 @@ public class Sort {
             }
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, isAscending, elemType);
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        IntBinaryOperator comparator = getKeyComparator(keys, elemType, isAscending);
+        if (size >= PARALLEL_SORT_THRESHOLD && isOrderedType(elemType)) {
+            ForkJoinPool.commonPool().invoke(new IndexMergeSort(order, new int[size], 0, size, comparator));
+        } else {
+            mergesort(order, new int[size], 0, size, comparator);
+        }
 
-        for (int k = 0; k < sortArr.length; k++) {
-            arr.add(k, sortArr[k][1]);
+        for (int k = 0; k < size; k++) {
+            arr.add(k, values[order[k]]);
         }
 
         return arr;
     }
 
+    /**
+     * Sorts arrays of basic types in their primitive form, without extracting and boxing the members.
+     *
+     * @return false if the member type has no primitive representation
+     */
+    private static boolean sortPrimitiveArray(BArray arr, Type elemType, boolean isAscending) {
+        int size = arr.size();
+        switch (elemType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                long[] intValues = arr.getIntArray();
+                Arrays.parallelSort(intValues);
+                for (int i = 0; i < size; i++) {
+                    arr.add(i, intValues[isAscending ? i : size - 1 - i]);
+                }
+                return true;
+            case TypeTags.FLOAT_TAG:
+                double[] floatValues = sortFloats(arr.getFloatArray(), isAscending);
+                for (int i = 0; i < size; i++) {
+                    arr.add(i, floatValues[i]);
+                }
+                return true;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                BString[] stringValues = arr.getBStringArray();
+                Comparator<BString> stringComparator = (str1, str2) -> codePointCompare(str1.getValue(),
+                                                                                       str2.getValue());
+                Arrays.parallelSort(stringValues, isAscending ? stringComparator : stringComparator.reversed());
+                for (int i = 0; i < size; i++) {
+                    arr.add(i, stringValues[i]);
+                }
+                return true;
+            case TypeTags.BOOLEAN_TAG:
+                int trueCount = 0;
+                for (boolean value : arr.getBooleanArray()) {
+                    if (value) {
+                        trueCount++;
+                    }
+                }
+                int falseCount = size - trueCount;
+                for (int i = 0; i < size; i++) {
+                    arr.add(i, isAscending ? i >= falseCount : i < trueCount);
+                }
+                return true;
+            case TypeTags.BYTE_TAG:
+                // Counting sort over the unsigned byte values.
+                int[] counts = new int[256];
+                for (byte value : arr.getBytes()) {
+                    counts[Byte.toUnsignedInt(value)]++;
+                }
+                int index = 0;
+                for (int i = 0; i < 256; i++) {
+                    int value = isAscending ? i : 255 - i;
+                    for (int j = counts[value]; j > 0; j--) {
+                        arr.add(index++, (byte) value);
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static double[] sortFloats(double[] values, boolean isAscending) {
+        // -0.0 and +0.0 are equal keys, so a stable sort keeps them in their original order.
+        int zeroCount = 0;
+        for (double value : values) {
+            if (value == 0) {
+                zeroCount++;
+            }
+        }
+        double[] zeros = new double[zeroCount];
+        for (int i = 0, j = 0; j < zeroCount; i++) {
+            if (values[i] == 0) {
+                zeros[j++] = values[i];
+            }
+        }
+
+        // Arrays.sort places NaN last, which is where it goes irrespective of the sort direction.
+        Arrays.parallelSort(values);
+        int nanIndex = values.length;
+        while (nanIndex > 0 && Double.isNaN(values[nanIndex - 1])) {
+            nanIndex--;
+        }
+        if (!isAscending) {
+            for (int i = 0, j = nanIndex - 1; i < j; i++, j--) {
+                double temp = values[i];
+                values[i] = values[j];
+                values[j] = temp;
+            }
+        }
+
+        if (zeroCount > 0) {
+            int zeroIndex = 0;
+            while (values[zeroIndex] != 0) {
+                zeroIndex++;
+            }
+            System.arraycopy(zeros, 0, values, zeroIndex, zeroCount);
+        }
+        return values;
+    }
+
+    /**
+     * Returns a comparator over key indices that orders the keys in the given direction. Integer and float keys are
+     * unboxed into a primitive array up front when none of them is ().
+     */
+    private static IntBinaryOperator getKeyComparator(Object[] keys, Type type, boolean isAscending) {
+        int tag = type.getTag();
+        if (TypeTags.isIntegerTypeTag(tag) && !containsNil(keys)) {
+            long[] intKeys = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                intKeys[i] = (long) keys[i];
+            }
+            return isAscending ? (a, b) -> Long.compare(intKeys[a], intKeys[b]) :
+                    (a, b) -> Long.compare(intKeys[b], intKeys[a]);
+        } else if (tag == TypeTags.FLOAT_TAG && !containsNil(keys)) {
+            double[] floatKeys = new double[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                floatKeys[i] = (double) keys[i];
+            }
+            return (a, b) -> compareFloat(floatKeys[a], floatKeys[b], isAscending);
+        }
+        // The descending order reverses the comparison, apart from () which is placed last either way.
+        return isAscending ? (a, b) -> sortFunc(keys[a], keys[b], type, true) :
+                (a, b) -> sortFunc(keys[b], keys[a], type, false);
+    }
+
+    private static boolean containsNil(Object[] keys) {
+        for (Object key : keys) {
+            if (key == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int compareFloat(double value1, double value2, boolean isAscending) {
+        // NaN should be placed last irrespective of the sort direction.
+        if (Double.isNaN(value1)) {
+            return Double.isNaN(value2) ? 0 : 1;
+        }
+        if (Double.isNaN(value2)) {
+            return -1;
+        }
+        // -0.0 = +0.0
+        if (value1 == value2) {
+            return 0;
+        }
+        return isAscending ? Double.compare(value1, value2) : Double.compare(value2, value1);
+    }
+
+    /**
+     * Checks whether all values of the type can be compared without an error, which is what allows the comparisons
+     * to be done off the current thread.
+     */
+    private static boolean isOrderedType(Type type) {
+        int tag = type.getTag();
+        if (TypeTags.isIntegerTypeTag(tag) || TypeTags.isStringTypeTag(tag)) {
+            return true;
+        }
+        switch (tag) {
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.BYTE_TAG:
+                return true;
+            case TypeTags.ARRAY_TAG:
+                return isOrderedType(((ArrayType) type).getElementType());
+            default:
+                return false;
+        }
+    }
+
     private static Type getMemberType(UnionType unionType) {
         List<Type> memberTypes = unionType.getMemberTypes();
         for (Type type : memberTypes) {
@@ -110,40 +312,69 @@ public class Sort {
         return unionType;
     }
 
-    // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, boolean isAscending, Type type) {
-        if (hi <= lo) {
+    // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html, sorting indices in [lo, hi).
+    private static void mergesort(int[] input, int[] aux, int lo, int hi, IntBinaryOperator comparator) {
+        if (hi - lo <= 1) {
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, isAscending, type);
-        mergesort(input, aux, mid + 1, hi, isAscending, type);
+        mergesort(input, aux, lo, mid, comparator);
+        mergesort(input, aux, mid, hi, comparator);
 
-        merge(input, aux, lo, mid, hi, isAscending, type);
+        merge(input, aux, lo, mid, hi, comparator);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, boolean isAscending,
-                              Type type) {
-        if (hi + 1 - lo >= 0) {
-            System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
-        }
-
-        for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            int index;
-            if (i > mid) {
-                index = j++;
-            } else if (j > hi) {
-                index = i++;
-            } else if (isAscending && sortFunc(aux[j][0], aux[i][0], type, true) < 0) {
-                index = j++;
-            } else if (!isAscending && sortFunc(aux[i][0], aux[j][0], type, false) < 0) {
-                index = j++;
+    private static void merge(int[] input, int[] aux, int lo, int mid, int hi, IntBinaryOperator comparator) {
+        // Already in order, which is common for partially sorted input.
+        if (comparator.applyAsInt(input[mid], input[mid - 1]) >= 0) {
+            return;
+        }
+        System.arraycopy(input, lo, aux, lo, hi - lo);
+
+        for (int i = lo, j = mid, k = lo; k < hi; k++) {
+            if (i >= mid) {
+                input[k] = aux[j++];
+            } else if (j >= hi) {
+                input[k] = aux[i++];
+            } else if (comparator.applyAsInt(aux[j], aux[i]) < 0) {
+                input[k] = aux[j++];
             } else {
-                index = i++;
+                input[k] = aux[i++];
             }
-            input[k] = aux[index];
+        }
+    }
+
+    /**
+     * Merge sort of key indices which sorts the two halves in parallel until they fall below the threshold.
+     */
+    private static class IndexMergeSort extends RecursiveAction {
+
+        private final int[] input;
+        private final int[] aux;
+        private final int lo;
+        private final int hi;
+        private final transient IntBinaryOperator comparator;
+
+        IndexMergeSort(int[] input, int[] aux, int lo, int hi, IntBinaryOperator comparator) {
+            this.input = input;
+            this.aux = aux;
+            this.lo = lo;
+            this.hi = hi;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < PARALLEL_SORT_THRESHOLD) {
+                mergesort(input, aux, lo, hi, comparator);
+                return;
+            }
+            int mid = lo + (hi - lo) / 2;
+            invokeAll(new IndexMergeSort(input, aux, lo, mid, comparator),
+                      new IndexMergeSort(input, aux, mid, hi, comparator));
+            merge(input, aux, lo, mid, hi, comparator);
         }
     }
 
@@ -189,11 +420,11 @@ public class Sort {
             }
             return Double.compare((double) value1, (double) value2);
         } else if (type.getTag() == TypeTags.DECIMAL_TAG) {
-            return new BigDecimal(value1.toString()).compareTo(new BigDecimal(value2.toString()));
+            return ((BDecimal) value1).decimalValue().compareTo(((BDecimal) value2).decimalValue());
         } else if (type.getTag() == TypeTags.BOOLEAN_TAG) {
             return Boolean.compare((boolean) value1, (boolean) value2);
         } else if (TypeTags.isStringTypeTag(type.getTag())) {
-            return codePointCompare(value1.toString(), value2.toString());
+            return codePointCompare(((BString) value1).getValue(), ((BString) value2).getValue());
         } else if (type.getTag() == TypeTags.BYTE_TAG) {
             return Integer.compare((int) value1, (int) value2);
         } else if (type.getTag() == TypeTags.ARRAY_TAG) {
@@ -209,19 +440,15 @@ public class Sort {
                 return 1;
             }
             int len = Math.min(lengthVal1, lengthVal2);
-            int c = 0;
             for (int i = 0; i < len; i++) {
-                c = sortFunc(((BArray) value1).get(i), ((BArray) value2).get(i),
+                int c = sortFunc(((BArray) value1).get(i), ((BArray) value2).get(i),
                         ((ArrayType) type).getElementType(), isAscending);
                 if (c != 0) {
-                    break;
-                } else {
-                    if (i == len - 1 && lengthVal1 < lengthVal2) {
-                        return -1;
-                    }
+                    return c;
                 }
             }
-            return c;
+            // A proper prefix is ordered first.
+            return Integer.compare(lengthVal1, lengthVal2);
         }
         throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
                                        StringUtils.fromString("expected an ordered type, but found '" +
@@ -229,23 +456,19 @@ public class Sort {
     }
 
     private static int codePointCompare(String str1, String str2) {
-        PrimitiveIterator.OfInt iterator1 = str1.codePoints().iterator();
-        PrimitiveIterator.OfInt iterator2 = str2.codePoints().iterator();
-        while (iterator1.hasNext()) {
-            if (!iterator2.hasNext()) {
-                return 1;
-            }
-            Integer codePoint1 = iterator1.next();
-            Integer codePoint2 = iterator2.next();
-
-            int cmp = codePoint1.compareTo(codePoint2);
-            if (cmp != 0) {
-                return cmp;
+        // UTF-16 code unit order matches code point order, except when a surrogate is compared against a BMP
+        // character above the surrogate range.
+        int len = Math.min(str1.length(), str2.length());
+        for (int i = 0; i < len; i++) {
+            char c1 = str1.charAt(i);
+            char c2 = str2.charAt(i);
+            if (c1 != c2) {
+                if (Character.isSurrogate(c1) || Character.isSurrogate(c2)) {
+                    return Integer.compare(str1.codePointAt(i), str2.codePointAt(i));
+                }
+                return Character.compare(c1, c2);
             }
         }
-        if (iterator2.hasNext()) {
-            return -1;
-        }
-        return 0;
+        return Integer.compare(str1.length(), str2.length());
     }
 }
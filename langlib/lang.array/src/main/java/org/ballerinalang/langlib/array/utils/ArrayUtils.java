@@ -24,6 +24,10 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.function.LongPredicate;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.OPERATION_NOT_SUPPORTED_IDENTIFIER;
@@ -71,6 +75,52 @@ public class ArrayUtils {
         }
     }
 
+    /**
+     * Returns a check for whether the element at a given index is equal to the given value. For arrays of int, float,
+     * boolean and string, elements are compared without boxing them.
+     *
+     * @param arr      the array or tuple
+     * @param val      the value to compare against
+     * @param funcName name of the calling function, used in the error for unsupported types
+     * @return a predicate on the element index
+     */
+    public static LongPredicate getElementEqualityCheck(BArray arr, Object val, String funcName) {
+        Type arrType = arr.getType();
+        if (arrType.getTag() == TypeTags.ARRAY_TAG) {
+            switch (arr.getElementType().getTag()) {
+                case TypeTags.INT_TAG:
+                    if (val instanceof Long) {
+                        long intVal = (Long) val;
+                        return i -> arr.getInt(i) == intVal;
+                    }
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    if (val instanceof Double) {
+                        // Same as Double.equals(), which is what the generic equality check uses.
+                        long floatBits = Double.doubleToLongBits((Double) val);
+                        return i -> Double.doubleToLongBits(arr.getFloat(i)) == floatBits;
+                    }
+                    break;
+                case TypeTags.BOOLEAN_TAG:
+                    if (val instanceof Boolean) {
+                        boolean booleanVal = (Boolean) val;
+                        return i -> arr.getBoolean(i) == booleanVal;
+                    }
+                    break;
+                case TypeTags.STRING_TAG:
+                    if (val instanceof BString) {
+                        return i -> val.equals(arr.getBString(i));
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        GetFunction getFn = getElementAccessFunction(arrType, funcName);
+        return i -> TypeChecker.isEqual(val, getFn.get(arr, i));
+    }
+
     public static void checkIsArrayOnlyOperation(Type arrType, String op) {
         if (arrType.getTag() != TypeTags.ARRAY_TAG) {
             throw createOpNotSupportedError(arrType, op);
@@ -516,6 +516,7 @@ public class LangLibArrayTest {
         return new Object[]{
                 "testSliceOnTupleWithRestDesc",
                 "testLastIndexOf",
+                "testIndexOfOnPrimitiveArrays",
                 "testPush",
                 "testShiftOperation",
                 "testSort1",
@@ -527,6 +528,7 @@ public class LangLibArrayTest {
                 "testSort8",
                 "testSort9",
                 "testSort10",
+                "testSort11",
                 "testReadOnlyArrayFilter"
         };
     }
@@ -188,6 +188,31 @@ function testLastIndexOf() {
     }
 }
 
+function testIndexOfOnPrimitiveArrays() {
+    int[] ints = [1, 2, 3, 2, 1];
+    assertValueEquality(1, ints.indexOf(2));
+    assertValueEquality(3, ints.lastIndexOf(2));
+    assertValueEquality(3, ints.indexOf(2, 2));
+    assertValueEquality((), ints.indexOf(4));
+
+    float[] floats = [1.5, 0.0, 2.5, 0.0];
+    assertValueEquality(1, floats.indexOf(0.0));
+    assertValueEquality(3, floats.lastIndexOf(0.0));
+    assertValueEquality((), floats.indexOf(3.5));
+
+    boolean[] booleans = [true, true, false];
+    assertValueEquality(2, booleans.indexOf(false));
+    assertValueEquality(1, booleans.lastIndexOf(true));
+
+    string[] strings = ["a", "b", "c", "b"];
+    assertValueEquality(1, strings.indexOf("b"));
+    assertValueEquality(3, strings.lastIndexOf("b"));
+    assertValueEquality((), strings.indexOf("d"));
+
+    byte[] bytes = [1, 2, 3];
+    assertValueEquality(2, bytes.indexOf(3));
+}
+
 function testReverseInt() {
     int[] arr = [10, 20, 30, 40, 50];
     assertValueEquality(arr.reverse(), [50, 40, 30, 20, 10]);
@@ -1127,6 +1152,34 @@ function assertFalse(any|error actual) {
 }
 
 
+function testSort11() {
+    int[] arr = [];
+    foreach int i in 0 ..< 20000 {
+        arr.push((i * 7919) % 20000);
+    }
+
+    int[] sortedArr = arr.sort(array:DESCENDING);
+    assertValueEquality(20000, sortedArr.length());
+    assertValueEquality(19999, sortedArr[0]);
+    assertValueEquality(0, sortedArr[19999]);
+
+    int[] sortedArr2 = arr.sort(array:ASCENDING, isolated function(int x) returns int => x % 100);
+    foreach int i in 1 ..< sortedArr2.length() {
+        int prev = sortedArr2[i - 1];
+        int curr = sortedArr2[i];
+        // Members with equal keys keep their relative (descending) order.
+        if prev % 100 > curr % 100 || (prev % 100 == curr % 100 && prev < curr) {
+            panic error("unexpected order at " + i.toString());
+        }
+    }
+
+    byte[] arr2 = [200, 1, 255, 0, 128];
+    assertValueEquality([0, 1, 128, 200, 255], arr2.sort());
+
+    int[][] arr3 = [[1, 2], [1], [0, 5], []];
+    assertValueEquality([[], [0, 5], [1], [1, 2]], arr3.sort());
+}
+
 function assertValueEquality(anydata expected, anydata actual) {
     if expected == actual {
         return;
@@ -15,8 +15,6 @@
 // under the License.
 
 import ballerina/java;
-import ballerina/task;
-import ballerina/time;
 
 # Represents configurations for the `cache:Cache` object.
 #
@@ -35,27 +33,25 @@ public type CacheConfig record {|
     int cleanupIntervalInSeconds?;
 |};
 
+# Represents the statistics of a `cache:Cache` object since it was created.
+#
+# + hits - Number of lookups which returned a cached value
+# + misses - Number of lookups which did not find a valid cached value
+# + evictions - Number of entries which were evicted since the cache was full
+# + expirations - Number of expired entries which were removed by the clean up
+public type CacheStats record {|
+    int hits;
+    int misses;
+    int evictions;
+    int expirations;
+|};
+
+// The value of a linked list node, when the cache uses a custom eviction policy.
 type CacheEntry record {|
     string key;
     any data;
-    int expTime;       // exp time since epoch. calculated based on the `maxAge` parameter when inserting to map
 |};
 
-// Cleanup service which cleans the cache entries periodically.
-boolean cleanupInProgress = false;
-
-// Cleanup service which cleans the cache entries periodically.
-service class CleanupService {
-    remote function onTrigger(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy) {
-        // This check will skip the processes triggered while the clean up in progress.
-        if (!cleanupInProgress) {
-            cleanupInProgress = true;
-            cleanup(cache, list, evictionPolicy);
-            cleanupInProgress = false;
-        }
-    }
-}
-
 # The `cache:Cache` object, which is used for all the cache-related operations. It is not recommended to insert `()`
 # as the value of the cache since it doesn't make any sense to cache a nil.
 public class Cache {
@@ -67,6 +63,8 @@ public class Cache {
     private float evictionFactor;
     private int defaultMaxAgeInSeconds;
     private LinkedList list;
+    // Whether the entries are evicted in LRU order by the native cache, rather than by the eviction policy.
+    private boolean nativeEviction = true;
 
     # Called when a new `cache:Cache` object is created.
     #
@@ -96,24 +94,9 @@ public class Cache {
             tail: ()
         };
 
-        externInit(self, self.capacity_);
-
-        int? cleanupIntervalInSeconds = cacheConfig?.cleanupIntervalInSeconds;
-        if (cleanupIntervalInSeconds is int) {
-            task:TimerConfiguration timerConfiguration = {
-                intervalInMillis: cleanupIntervalInSeconds,
-                initialDelayInMillis: cleanupIntervalInSeconds
-            };
-            task:Scheduler cleanupScheduler = new(timerConfiguration);
-            task:SchedulerError? result = cleanupScheduler.attach(new CleanupService(), self, self.list, self.evictionPolicy);
-            if (result is task:SchedulerError) {
-                panic prepareError("Failed to create the cache cleanup task.", result);
-            }
-            result = cleanupScheduler.start();
-            if (result is task:SchedulerError) {
-                panic prepareError("Failed to start the cache cleanup task.", result);
-            }
-        }
+        int cleanupIntervalInSeconds = cacheConfig?.cleanupIntervalInSeconds ?: -1;
+        self.nativeEviction = externInit(self, self.capacity_, self.evictionFactor, self.defaultMaxAgeInSeconds,
+                                         cleanupIntervalInSeconds, self.evictionPolicy);
     }
 
     # Adds the given key value pair to the cache. If the cache previously contained a value associated with the
@@ -129,36 +112,28 @@ public class Cache {
             return prepareError("Unsupported cache value '()' for the key: " + key + ".",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
-        // If the current cache is full (i.e. size = capacity), evict cache.
-        if (self.size() == self.capacity_) {
-            evict(self, self.list, self.evictionPolicy, self.capacity_, self.evictionFactor);
+        if (self.nativeEviction) {
+            _ = externPut(self, key, value, maxAgeInSeconds);
+            return;
         }
 
-        // Calculate the `expTime` of the cache entry based on the `maxAgeInSeconds` property and
-        // `defaultMaxAgeInSeconds` property.
-        int calculatedExpTime = -1;
-        if (maxAgeInSeconds != -1 && maxAgeInSeconds > 0) {
-            calculatedExpTime = time:nanoTime() + (maxAgeInSeconds * 1000 * 1000 * 1000);
-        } else {
-            if (self.defaultMaxAgeInSeconds != -1) {
-                calculatedExpTime = time:nanoTime() + (self.defaultMaxAgeInSeconds * 1000 * 1000 * 1000);
-            }
+        removeExpiredNodes(self, self.list, self.evictionPolicy);
+        // If the current cache is full (i.e. size = capacity), evict cache.
+        if (self.size() == self.capacity_ && !self.hasKey(key)) {
+            evict(self, self.list, self.evictionPolicy, self.capacity_, self.evictionFactor);
         }
 
         CacheEntry entry = {
             key: key,
-            data: value,
-            expTime: calculatedExpTime
+            data: value
         };
         Node newNode = { value: entry };
-
-        if (self.hasKey(key)) {
-            Node oldNode = externGet(self, key);
+        any oldNode = externPut(self, key, newNode, maxAgeInSeconds);
+        if (oldNode is Node) {
             self.evictionPolicy.replace(self.list, newNode, oldNode);
         } else {
             self.evictionPolicy.put(self.list, newNode);
         }
-        externPut(self, key, newNode);
     }
 
     # Returns the cached value associated with the provided key.
@@ -167,25 +142,72 @@ public class Cache {
     # + return - The cached value associated with the provided key or an `Error` if the provided cache key is not
     #            exisiting in the cache or any error occurred while retrieving the value from the cache.
     public function get(string key) returns any|Error {
-        if (!self.hasKey(key)) {
+        any value = externGet(self, key);
+        if (value is ()) {
             return prepareError("Cache entry from the given key: " + key + ", is not available.",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
-
-        Node node = externGet(self, key);
-        CacheEntry entry = <CacheEntry>node.value;
-
-        // Check whether the cache entry is already expired. Even though the cache cleaning task is configured
-        // and runs in predefined intervals, sometimes the cache entry might not have been removed at this point
-        // even though it is expired. So this check guarantees that the expired cache entries will not be returned.
-        if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
-            self.evictionPolicy.remove(self.list, node);
-            externRemove(self, key);
+        if (value is ExpiredEntry) {
+            // The cache entry is expired, but it was not cleaned up yet. The lookup removed it, which guarantees
+            // that the expired cache entries will not be returned.
+            any expiredValue = value.value;
+            if (!self.nativeEviction && expiredValue is Node) {
+                self.evictionPolicy.remove(self.list, expiredValue);
+            }
             return ();
         }
+        if (self.nativeEviction) {
+            return value;
+        }
 
+        Node node = <Node>value;
         self.evictionPolicy.get(self.list, node);
-        return entry.data;
+        return (<CacheEntry>node.value).data;
+    }
+
+    # Returns the cached value associated with the provided key, loading it with the given function if it is not
+    # cached or is expired. Concurrent calls for the same key wait for a single call of the function, and then
+    # return the value it loaded.
+    #
+    # + key - Key of the cached value, which should be retrieved
+    # + loader - Function, which loads the value of a key which is not cached
+    # + maxAgeInSeconds - The time in seconds for which a loaded cache entry is valid. If the value is '-1', the
+    #                     default max age of the cache applies.
+    # + return - The cached or loaded value or an `Error` if the function failed to load the value or loaded `()`
+    public function getOrLoad(string key, function (string) returns any|error loader, int maxAgeInSeconds = -1)
+                              returns any|Error {
+        any|Error value = self.get(key);
+        if (!(value is Error || value is ())) {
+            return value;
+        }
+        boolean loading = externStartLoad(self, key);
+        if (!loading) {
+            // Loaded by a concurrent call, unless it failed.
+            value = self.get(key);
+            if (!(value is Error || value is ())) {
+                return value;
+            }
+        }
+        // The load is completed even if the loader panics, so that the calls waiting for it are not held up.
+        any|error result = trap self.load(key, loader, maxAgeInSeconds);
+        if (loading) {
+            externCompleteLoad(self, key);
+        }
+        if (result is any|Error) {
+            return result;
+        }
+        panic result;
+    }
+
+    private function load(string key, function (string) returns any|error loader, int maxAgeInSeconds)
+                          returns any|Error {
+        any|error loadedValue = loader(key);
+        if (loadedValue is error) {
+            return prepareError("Failed to load the cache entry for the key: " + key + ".", loadedValue,
+                                LOG_LEVEL_DEBUG);
+        }
+        Error? putResult = self.put(key, loadedValue, maxAgeInSeconds);
+        return putResult is Error ? putResult : loadedValue;
     }
 
     # Discards a cached value from the cache.
@@ -194,14 +216,14 @@ public class Cache {
     # + return - `()` if successfully discarded the value or an `Error` if the provided cache key is not present in the
     #            cache
     public function invalidate(string key) returns Error? {
-        if (!self.hasKey(key)) {
+        any value = externRemove(self, key);
+        if (value is ()) {
             return prepareError("Cache entry from the given key: " + key + ", is not available.",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
-
-        Node node = externGet(self, key);
-        self.evictionPolicy.remove(self.list, node);
-        externRemove(self, key);
+        if (!self.nativeEviction) {
+            self.evictionPolicy.remove(self.list, <Node>value);
+        }
     }
 
     # Discards all the cached values from the cache.
@@ -209,7 +231,9 @@ public class Cache {
     # + return - `()` if successfully discarded all the values from the cache or an `Error` if any error occurred while
     # discarding all the values from the cache.
     public function invalidateAll() returns Error? {
-        self.evictionPolicy.clear(self.list);
+        if (!self.nativeEviction) {
+            self.evictionPolicy.clear(self.list);
+        }
         externRemoveAll(self);
     }
 
@@ -242,53 +266,72 @@ public class Cache {
     public function capacity() returns int {
         return self.capacity_;
     }
+
+    # Returns the statistics of the cache.
+    #
+    # + return - The statistics of the cache since it was created
+    public function getStats() returns CacheStats {
+        return externGetStats(self);
+    }
+}
+
+// Returned by `externGet` in place of a value which has expired. The lookup removed the value, which is held here,
+// or `()` if it was removed concurrently.
+class ExpiredEntry {
+    any value = ();
+}
+
+// Removes the nodes of the entries which the cleanup removed as they expired from a custom eviction policy, so that
+// the policy does not evict keys which are already gone.
+function removeExpiredNodes(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy) {
+    foreach any value in externTakeExpired(cache) {
+        if (value is Node) {
+            evictionPolicy.remove(list, value);
+        }
+    }
 }
 
+// Evicts the entries of a cache which uses a custom eviction policy.
 function evict(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy, int capacity, float evictionFactor) {
     int evictionKeysCount = <int>(capacity * evictionFactor);
-    foreach int i in 1...evictionKeysCount {
+    int evictedCount = 0;
+    while (evictedCount < evictionKeysCount) {
         Node? node = evictionPolicy.evict(list);
-        if (node is Node) {
-            CacheEntry entry = <CacheEntry>node.value;
-            externRemove(cache, entry.key);
-            // The return result (error which occurred due to unavailability of the key or nil) is ignored
-            // since no purpose of handling it.
-        } else {
+        if (node is ()) {
             break;
         }
-    }
-}
-
-function cleanup(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy) {
-    if (externSize(cache) == 0) {
-        return;
-    }
-    foreach string key in externKeys(cache) {
-        Node node = externGet(cache, key);
         CacheEntry entry = <CacheEntry>node.value;
-        if (entry.expTime != -1 && entry.expTime < time:nanoTime()) {
-            evictionPolicy.remove(list, node);
-            externRemove(cache, entry.key);
-            // The return result (error which occurred due to unavailability of the key or nil) is ignored
-            // since no purpose of handling it.
-            return;
+        // Only removes the entry if it is still the evicted node, since an expired entry might have been cleaned up
+        // and replaced concurrently. A node which is no longer cached does not count as evicted.
+        if (externRemoveNode(cache, entry.key, node)) {
+            evictedCount += 1;
         }
     }
 }
 
-function externInit(Cache cache, int capacity) = @java:Method {
+function externInit(Cache cache, int capacity, float evictionFactor, int defaultMaxAgeInSeconds,
+                    int cleanupIntervalInSeconds, AbstractEvictionPolicy evictionPolicy)
+                    returns boolean = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externPut(Cache cache, string key, any value, int maxAgeInSeconds) returns any = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externPut(Cache cache, string key, Node value) = @java:Method {
+function externGet(Cache cache, string key) returns any = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externGet(Cache cache, string key) returns Node = @java:Method {
+function externRemove(Cache cache, string key) returns any = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
-function externRemove(Cache cache, string key) = @java:Method {
+function externRemoveNode(Cache cache, string key, Node node) returns boolean = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externTakeExpired(Cache cache) returns any[] = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
@@ -307,3 +350,15 @@ function externKeys(Cache cache) returns string[] = @java:Method {
 function externSize(Cache cache) returns int = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
+
+function externStartLoad(Cache cache, string key) returns boolean = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externCompleteLoad(Cache cache, string key) = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externGetStats(Cache cache) returns CacheStats = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
@@ -18,67 +18,213 @@
 
 package org.ballerinalang.stdlib.cache.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Ballerina function to cache with java.util.concurrent.ConcurrentHashMap.
+ * Ballerina functions of the cache, which keep the cache entries in a {@link CacheEngine}.
  *
  * @since 2.0.0
  */
 public class Cache {
 
     public static final String CACHE_MAP = "CACHE_MAP";
+    private static final String CACHE_STATS = "CacheStats";
+    private static final String LRU_EVICTION_POLICY = "LruEvictionPolicy";
+    private static final String EXPIRED_ENTRY = "ExpiredEntry";
+    private static final BString EXPIRED_ENTRY_VALUE = StringUtils.fromString("value");
+    private static final String BALLERINA_ORG = "ballerina";
+    private static final String CACHE_MODULE = "cache";
+    // Bounds the wait for a load by another strand, in case it never completes.
+    private static final long LOAD_WAIT_TIMEOUT_MILLIS = 60000;
 
-    public static void externInit(BObject cache, int capacity) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map = new ConcurrentHashMap<>(capacity);
-        cache.addNativeData(CACHE_MAP, map);
+    private static final ScheduledThreadPoolExecutor cacheTimer = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "ballerina-cache-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        // The timeout of a wait is cancelled once the load completes, which is the common case.
+        cacheTimer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Creates the engine of a cache. The entries are evicted by the engine if the cache uses the LRU eviction policy
+     * of this module. Otherwise the cache keeps linked list nodes in the engine, and evicts them with its own policy.
+     *
+     * @return true if the entries are evicted by the engine
+     */
+    public static boolean externInit(BObject cache, long capacity, double evictionFactor, long defaultMaxAgeInSeconds,
+                                     long cleanupIntervalInSeconds, BObject evictionPolicy) {
+        boolean evictsEntries = isLruEvictionPolicy(evictionPolicy);
+        long defaultMaxAgeNanos = defaultMaxAgeInSeconds > 0 ? TimeUnit.SECONDS.toNanos(defaultMaxAgeInSeconds) : -1;
+        CacheEngine<BString, Object> engine =
+                new CacheEngine<>((int) capacity, evictionFactor, defaultMaxAgeNanos, evictsEntries);
+        cache.addNativeData(CACHE_MAP, engine);
+        if (cleanupIntervalInSeconds > 0) {
+            scheduleCleanUp(engine, cleanupIntervalInSeconds);
+        }
+        return evictsEntries;
     }
 
-    public static void externPut(BObject cache, BString key, BMap<BString, Object> value) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.put(key, value);
+    public static Object externPut(BObject cache, BString key, Object value, long maxAgeInSeconds) {
+        long maxAgeNanos = maxAgeInSeconds > 0 ? TimeUnit.SECONDS.toNanos(maxAgeInSeconds) : -1;
+        return getEngine(cache).put(key, value, maxAgeNanos);
     }
 
-    public static BMap<BString, Object> externGet(BObject cache, BString key) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.get(key);
+    /**
+     * Gets the value of a key. A value which has expired is removed, and an {@code ExpiredEntry} which holds the
+     * removed value is returned in its place.
+     *
+     * @return the value, an {@code ExpiredEntry} if it has expired, or null if there is none
+     */
+    public static Object externGet(Environment env, BObject cache, BString key) {
+        return getEngine(cache).get(key, expiredValue -> {
+            BObject expiredEntry = ValueCreator.createObjectValue(env.getCurrentModule(), EXPIRED_ENTRY);
+            expiredEntry.set(EXPIRED_ENTRY_VALUE, expiredValue);
+            return expiredEntry;
+        });
     }
 
-    public static void externRemove(BObject cache, BString key) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.remove(key);
+    public static Object externRemove(BObject cache, BString key) {
+        return getEngine(cache).remove(key);
+    }
+
+    public static boolean externRemoveNode(BObject cache, BString key, BMap<BString, Object> node) {
+        return getEngine(cache).remove(key, node);
     }
 
     public static void externRemoveAll(BObject cache) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        map.clear();
+        getEngine(cache).clear();
     }
 
     public static boolean externHasKey(BObject cache, BString key) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.containsKey(key);
+        return getEngine(cache).containsKey(key);
     }
 
     public static BArray externKeys(BObject cache) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return ValueCreator.createArrayValue(map.keySet().toArray(new BString[0]));
+        return ValueCreator.createArrayValue(getEngine(cache).keySet().toArray(new BString[0]));
     }
 
     public static int externSize(BObject cache) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
-        return map.size();
+        return getEngine(cache).size();
+    }
+
+    /**
+     * Takes the values which were removed by the cleanup as they expired, so that a cache which evicts its entries
+     * with its own policy could remove their nodes from the policy.
+     *
+     * @return the removed values
+     */
+    public static BArray externTakeExpired(BObject cache) {
+        return ValueCreator.createArrayValue(getEngine(cache).takeExpiredValues().toArray(),
+                                             TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY));
+    }
+
+    public static boolean externStartLoad(Environment env, BObject cache, BString key) {
+        LoadWait loadWait = new LoadWait();
+        if (getEngine(cache).startLoad(key, loadWait)) {
+            return true;
+        }
+        // The strand is resumed with false once the load by another strand completes.
+        loadWait.await(env.markAsync());
+        return false;
+    }
+
+    public static void externCompleteLoad(BObject cache, BString key) {
+        getEngine(cache).completeLoad(key);
+    }
+
+    public static BMap<BString, Object> externGetStats(Environment env, BObject cache) {
+        CacheEngine<BString, Object> engine = getEngine(cache);
+        BMap<BString, Object> stats = ValueCreator.createRecordValue(env.getCurrentModule(), CACHE_STATS);
+        stats.put(StringUtils.fromString("hits"), engine.getHitCount());
+        stats.put(StringUtils.fromString("misses"), engine.getMissCount());
+        stats.put(StringUtils.fromString("evictions"), engine.getEvictionCount());
+        stats.put(StringUtils.fromString("expirations"), engine.getExpirationCount());
+        return stats;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CacheEngine<BString, Object> getEngine(BObject cache) {
+        return (CacheEngine<BString, Object>) cache.getNativeData(CACHE_MAP);
+    }
+
+    private static boolean isLruEvictionPolicy(BObject evictionPolicy) {
+        Module module = evictionPolicy.getType().getPackage();
+        return LRU_EVICTION_POLICY.equals(evictionPolicy.getType().getName()) && module != null &&
+                BALLERINA_ORG.equals(module.getOrg()) && CACHE_MODULE.equals(module.getName());
+    }
+
+    // The task only holds a weak reference to the engine, so that it is cancelled once the cache is not used.
+    private static void scheduleCleanUp(CacheEngine<BString, Object> engine, long intervalInSeconds) {
+        WeakReference<CacheEngine<BString, Object>> engineRef = new WeakReference<>(engine);
+        ScheduledFuture<?>[] cleanUpTask = new ScheduledFuture<?>[1];
+        Runnable cleanUp = () -> {
+            CacheEngine<BString, Object> cacheEngine = engineRef.get();
+            if (cacheEngine != null) {
+                cacheEngine.cleanUp();
+            } else {
+                cleanUpTask[0].cancel(false);
+            }
+        };
+        cleanUpTask[0] = cacheTimer.scheduleAtFixedRate(cleanUp, intervalInSeconds, intervalInSeconds,
+                                                        TimeUnit.SECONDS);
+    }
+
+    /**
+     * Resumes a strand waiting for a load by another strand, once the load completes or the wait times out.
+     */
+    private static class LoadWait implements Runnable {
+
+        private Future future;
+        private ScheduledFuture<?> timeout;
+        private boolean done;
+
+        @Override
+        public void run() {
+            Future waitingFuture;
+            ScheduledFuture<?> pendingTimeout;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                waitingFuture = future;
+                pendingTimeout = timeout;
+            }
+            if (pendingTimeout != null) {
+                pendingTimeout.cancel(false);
+            }
+            if (waitingFuture != null) {
+                waitingFuture.complete(false);
+            }
+        }
+
+        void await(Future future) {
+            synchronized (this) {
+                this.future = future;
+                if (!done) {
+                    timeout = cacheTimer.schedule(this, LOAD_WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                    return;
+                }
+            }
+            future.complete(false);
+        }
     }
 }
@@ -0,0 +1,475 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * Concurrent store of the entries of a {@code cache:Cache}, which evicts them in LRU order and expires them by age.
+ * <p>
+ * A lookup only reads a concurrent map and records the access in one of several lossy ring buffers, picked by the
+ * calling thread, so cache hits neither lock nor contend with each other. The recorded accesses are applied to the LRU
+ * order under a lock, by writers or by the reader which fills up a buffer. Entries which have a maximum age are kept in
+ * a {@link TimerWheel}, so the ones which have expired are removed without scanning the whole cache.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ * @since 2.0.0
+ */
+public class CacheEngine<K, V> {
+
+    // Must be powers of two.
+    private static final int READ_BUFFER_SIZE = 64;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int READ_BUFFER_STRIPES =
+            Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 16) * 2 - 1);
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final ConcurrentHashMap<K, Entry<K, V>> entries;
+    private final ConcurrentHashMap<K, Load> loads = new ConcurrentHashMap<>();
+    // The values which expired, if the entries are evicted by the caller, which has to forget them as well.
+    private final ConcurrentLinkedQueue<V> expiredValues = new ConcurrentLinkedQueue<>();
+    private final int capacity;
+    private final int evictionBatchSize;
+    private final boolean evictsEntries;
+    private final long defaultMaxAgeNanos;
+    private final long startTime = System.nanoTime();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer[] readBuffers = new ReadBuffer[READ_BUFFER_STRIPES];
+    // A circular list from the least to the most recently used entry, guarded by the eviction lock.
+    private final Entry<K, V> accessOrder = new Entry<>();
+    private final TimerWheel timerWheel = new TimerWheel(0);
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private volatile long evictionCount;
+    private volatile long expirationCount;
+
+    /**
+     * Creates a cache engine.
+     *
+     * @param capacity           maximum number of entries
+     * @param evictionFactor     fraction of the capacity which is evicted at once when a new entry does not fit
+     * @param defaultMaxAgeNanos time for which an entry is valid, unless it is given a maximum age of its own, or a
+     *                           non-positive value for entries which are valid until they are removed
+     * @param evictsEntries      whether entries are evicted in LRU order when the cache is full, rather than by the
+     *                           caller
+     */
+    public CacheEngine(int capacity, double evictionFactor, long defaultMaxAgeNanos, boolean evictsEntries) {
+        this.entries = new ConcurrentHashMap<>(capacity);
+        this.capacity = capacity;
+        this.evictionBatchSize = Math.max(1, (int) (capacity * evictionFactor));
+        this.defaultMaxAgeNanos = defaultMaxAgeNanos;
+        this.evictsEntries = evictsEntries;
+        for (int i = 0; i < READ_BUFFER_STRIPES; i++) {
+            readBuffers[i] = new ReadBuffer();
+        }
+    }
+
+    /**
+     * Get the value of the given key.
+     *
+     * @param key key of the value
+     * @return the value, or null if there is none or it has expired
+     */
+    public V get(K key) {
+        Entry<K, V> entry = entries.get(key);
+        if (entry == null || isExpired(entry)) {
+            missCount.increment();
+            return null;
+        }
+        return onHit(entry);
+    }
+
+    /**
+     * Get the value of the given key, removing the value if it has expired, so that a single lookup tells apart a key
+     * which has no value from one whose value has expired.
+     *
+     * @param key       key of the value
+     * @param onExpired maps the expired value, or null if it was removed concurrently, to the result
+     * @return the value, the result of {@code onExpired} if it has expired, or null if there is none
+     */
+    public V get(K key, UnaryOperator<V> onExpired) {
+        Entry<K, V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        if (isExpired(entry)) {
+            missCount.increment();
+            return onExpired.apply(remove(key, entry.value) ? entry.value : null);
+        }
+        return onHit(entry);
+    }
+
+    /**
+     * Associate a value with the given key, evicting the least recently used entries if a new key does not fit.
+     *
+     * @param key         key of the value
+     * @param value       value to cache
+     * @param maxAgeNanos time for which the entry is valid, or a non-positive value to use the default maximum age
+     * @return the value previously associated with the key, or null if there was none
+     */
+    public V put(K key, V value, long maxAgeNanos) {
+        long now = now();
+        long maxAge = maxAgeNanos > 0 ? maxAgeNanos : defaultMaxAgeNanos;
+        Entry<K, V> entry = new Entry<>(key, value, maxAge > 0 ? now + maxAge : NO_EXPIRY);
+        evictionLock.lock();
+        try {
+            maintain(now);
+            Entry<K, V> existing = entries.get(key);
+            if (existing != null) {
+                unlink(existing);
+            } else if (evictsEntries && entries.size() >= capacity) {
+                evict();
+            }
+            entries.put(key, entry);
+            link(entry);
+            return existing == null ? null : existing.value;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Remove the value of the given key.
+     *
+     * @param key key of the value
+     * @return the removed value, or null if there was none
+     */
+    public V remove(K key) {
+        evictionLock.lock();
+        try {
+            Entry<K, V> entry = entries.remove(key);
+            if (entry == null) {
+                return null;
+            }
+            unlink(entry);
+            return entry.value;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Remove the value of the given key, only if it is still the given one.
+     *
+     * @param key   key of the value
+     * @param value value to remove
+     * @return true if the value was removed
+     */
+    public boolean remove(K key, V value) {
+        evictionLock.lock();
+        try {
+            Entry<K, V> entry = entries.get(key);
+            if (entry == null || entry.value != value) {
+                return false;
+            }
+            entries.remove(key);
+            unlink(entry);
+            return true;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Remove all the entries.
+     */
+    public void clear() {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            for (Entry<K, V> entry : entries.values()) {
+                unlink(entry);
+            }
+            entries.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Check whether the given key has a value, which includes a value which has expired but is not removed yet.
+     *
+     * @param key key of the value
+     * @return true if the key has a value
+     */
+    public boolean containsKey(K key) {
+        return entries.containsKey(key);
+    }
+
+    public Set<K> keySet() {
+        return entries.keySet();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Apply the recorded accesses and remove the entries which have expired.
+     */
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            maintain(now());
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Start loading the value of the given key, unless another caller is already loading it. In that case the given
+     * callback is run once the load in progress completes, so that concurrent misses for the same key load the value
+     * once.
+     *
+     * @param key      key of the value
+     * @param onLoaded callback to run once the value has been loaded by another caller
+     * @return true if the caller should load the value and then call {@link #completeLoad(Object)}
+     */
+    public boolean startLoad(K key, Runnable onLoaded) {
+        Load load = new Load();
+        while (true) {
+            Load inProgress = loads.putIfAbsent(key, load);
+            if (inProgress == null) {
+                return true;
+            }
+            if (inProgress.addCallback(onLoaded)) {
+                return false;
+            }
+            // Completed concurrently, so it is no longer in progress.
+            loads.remove(key, inProgress);
+        }
+    }
+
+    /**
+     * Complete loading the value of the given key, whether or not it was cached, and run the callbacks of the callers
+     * which waited for it.
+     *
+     * @param key key of the value
+     */
+    public void completeLoad(K key) {
+        Load load = loads.remove(key);
+        if (load != null) {
+            load.complete();
+        }
+    }
+
+    /**
+     * Take the values which have been removed as they expired, if the entries are evicted by the caller rather than
+     * in LRU order. Values which expired are not returned if the entries are evicted in LRU order.
+     *
+     * @return the values, in the order in which they expired
+     */
+    public List<V> takeExpiredValues() {
+        List<V> values = new ArrayList<>();
+        V value;
+        while ((value = expiredValues.poll()) != null) {
+            values.add(value);
+        }
+        return values;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    private long now() {
+        return System.nanoTime() - startTime;
+    }
+
+    private boolean isExpired(Entry<K, V> entry) {
+        return entry.expiryTime != NO_EXPIRY && now() - entry.expiryTime >= 0;
+    }
+
+    private V onHit(Entry<K, V> entry) {
+        hitCount.increment();
+        if (evictsEntries) {
+            recordAccess(entry);
+        }
+        return entry.value;
+    }
+
+    private void recordAccess(Entry<K, V> entry) {
+        ReadBuffer buffer = readBuffers[(int) Thread.currentThread().getId() & (READ_BUFFER_STRIPES - 1)];
+        long count = buffer.writeCount.getAndIncrement();
+        int index = (int) count & READ_BUFFER_MASK;
+        buffer.entries.lazySet(index, entry);
+        if (index == READ_BUFFER_MASK && evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void maintain(long now) {
+        drainReadBuffers();
+        timerWheel.advance(now, this::expire);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drainReadBuffers() {
+        for (ReadBuffer buffer : readBuffers) {
+            for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+                Entry<K, V> entry = (Entry<K, V>) buffer.entries.getAndSet(i, null);
+                if (entry != null && entry.prev != null) {
+                    unlinkAccessOrder(entry);
+                    linkAccessOrder(entry);
+                }
+            }
+        }
+    }
+
+    private void evict() {
+        for (int i = 0; i < evictionBatchSize && accessOrder.next != accessOrder; i++) {
+            Entry<K, V> victim = accessOrder.next;
+            entries.remove(victim.key, victim);
+            unlink(victim);
+            evictionCount++;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expire(TimerWheel.Node node) {
+        Entry<K, V> entry = (Entry<K, V>) node;
+        if (entries.remove(entry.key, entry)) {
+            expirationCount++;
+            if (!evictsEntries) {
+                expiredValues.add(entry.value);
+            }
+        }
+        if (entry.prev != null) {
+            unlinkAccessOrder(entry);
+        }
+    }
+
+    private void link(Entry<K, V> entry) {
+        linkAccessOrder(entry);
+        if (entry.expiryTime != NO_EXPIRY) {
+            timerWheel.schedule(entry);
+        }
+    }
+
+    private void unlink(Entry<K, V> entry) {
+        if (entry.prev != null) {
+            unlinkAccessOrder(entry);
+        }
+        timerWheel.deschedule(entry);
+    }
+
+    private void linkAccessOrder(Entry<K, V> entry) {
+        entry.prev = accessOrder.prev;
+        entry.next = accessOrder;
+        accessOrder.prev.next = entry;
+        accessOrder.prev = entry;
+    }
+
+    private void unlinkAccessOrder(Entry<K, V> entry) {
+        entry.prev.next = entry.next;
+        entry.next.prev = entry.prev;
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    /**
+     * The value of a key. Immutable apart from its position in the access order and the timer wheel, which are
+     * guarded by the eviction lock. An entry in the access order has a non-null {@code prev}.
+     */
+    private static class Entry<K, V> extends TimerWheel.Node {
+
+        private final K key;
+        private final V value;
+        private Entry<K, V> prev;
+        private Entry<K, V> next;
+
+        // Creates the sentinel of the access order.
+        Entry() {
+            this(null, null, NO_EXPIRY);
+            prev = this;
+            next = this;
+        }
+
+        Entry(K key, V value, long expiryTime) {
+            super(expiryTime);
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A lossy ring buffer of the entries which were read.
+     */
+    private static class ReadBuffer {
+
+        private final AtomicReferenceArray<Entry<?, ?>> entries = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicLong writeCount = new AtomicLong();
+    }
+
+    /**
+     * A load in progress, with the callbacks of the callers waiting for it.
+     */
+    private static class Load {
+
+        private List<Runnable> callbacks = new ArrayList<>();
+
+        synchronized boolean addCallback(Runnable callback) {
+            if (callbacks == null) {
+                return false;
+            }
+            callbacks.add(callback);
+            return true;
+        }
+
+        void complete() {
+            List<Runnable> completedCallbacks;
+            synchronized (this) {
+                completedCallbacks = callbacks;
+                callbacks = null;
+            }
+            for (Runnable callback : completedCallbacks) {
+                callback.run();
+            }
+        }
+    }
+}
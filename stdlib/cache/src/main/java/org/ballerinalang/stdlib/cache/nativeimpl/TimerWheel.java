@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel, which finds the cache entries that have expired without scanning all of them.
+ * <p>
+ * Each wheel is a ring of buckets which span a power of two of nanoseconds: about a second, a minute, an hour and a
+ * day, with a final bucket for the entries which expire later. An entry is placed in the wheel with the finest
+ * buckets that can hold its expiry time. As time advances, the buckets which were passed are emptied: the entries
+ * which have expired are handed over to be removed, and the rest move to a finer wheel. Not thread safe.
+ *
+ * @since 2.0.0
+ */
+class TimerWheel {
+
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {
+            Long.highestOneBit(TimeUnit.SECONDS.toNanos(1)) << 1,
+            Long.highestOneBit(TimeUnit.MINUTES.toNanos(1)) << 1,
+            Long.highestOneBit(TimeUnit.HOURS.toNanos(1)) << 1,
+            Long.highestOneBit(TimeUnit.DAYS.toNanos(1)) << 1,
+            BUCKETS[3] * (Long.highestOneBit(TimeUnit.DAYS.toNanos(1)) << 1),
+            BUCKETS[3] * (Long.highestOneBit(TimeUnit.DAYS.toNanos(1)) << 1)
+    };
+    private static final int[] SHIFT = {
+            Long.numberOfTrailingZeros(SPANS[0]),
+            Long.numberOfTrailingZeros(SPANS[1]),
+            Long.numberOfTrailingZeros(SPANS[2]),
+            Long.numberOfTrailingZeros(SPANS[3]),
+            Long.numberOfTrailingZeros(SPANS[4])
+    };
+
+    private final Node[][] wheel;
+    private long time;
+
+    TimerWheel(long time) {
+        this.time = time;
+        wheel = new Node[BUCKETS.length][];
+        for (int i = 0; i < BUCKETS.length; i++) {
+            wheel[i] = new Node[BUCKETS[i]];
+            for (int j = 0; j < BUCKETS[i]; j++) {
+                Node sentinel = new Node(0);
+                sentinel.timerPrev = sentinel;
+                sentinel.timerNext = sentinel;
+                wheel[i][j] = sentinel;
+            }
+        }
+    }
+
+    /**
+     * Add a node, to be expired at its expiry time.
+     *
+     * @param node node which is not in the wheel
+     */
+    void schedule(Node node) {
+        Node sentinel = findBucket(node.expiryTime);
+        node.timerPrev = sentinel.timerPrev;
+        node.timerNext = sentinel;
+        sentinel.timerPrev.timerNext = node;
+        sentinel.timerPrev = node;
+    }
+
+    /**
+     * Remove a node, if it is in the wheel.
+     *
+     * @param node node to remove
+     */
+    void deschedule(Node node) {
+        if (node.timerNext != null) {
+            node.timerPrev.timerNext = node.timerNext;
+            node.timerNext.timerPrev = node.timerPrev;
+            node.timerPrev = null;
+            node.timerNext = null;
+        }
+    }
+
+    /**
+     * Advance the wheel to the given time, handing over the nodes which have expired by then. Those are no longer in
+     * the wheel.
+     *
+     * @param currentTime current time
+     * @param onExpiry    consumer of the expired nodes
+     */
+    void advance(long currentTime, Consumer<Node> onExpiry) {
+        long previousTime = time;
+        time = currentTime;
+        for (int i = 0; i < SHIFT.length; i++) {
+            long previousTicks = previousTime >>> SHIFT[i];
+            long currentTicks = currentTime >>> SHIFT[i];
+            long delta = currentTicks - previousTicks;
+            if (delta <= 0) {
+                break;
+            }
+            expire(i, previousTicks, delta, onExpiry);
+        }
+    }
+
+    private void expire(int index, long previousTicks, long delta, Consumer<Node> onExpiry) {
+        Node[] buckets = wheel[index];
+        int mask = buckets.length - 1;
+        int start = (int) (previousTicks & mask);
+        int end = start + (int) Math.min(delta + 1, buckets.length);
+        for (int i = start; i < end; i++) {
+            Node sentinel = buckets[i & mask];
+            Node node = sentinel.timerNext;
+            sentinel.timerPrev = sentinel;
+            sentinel.timerNext = sentinel;
+            while (node != sentinel) {
+                Node next = node.timerNext;
+                node.timerPrev = null;
+                node.timerNext = null;
+                if (node.expiryTime - time > 0) {
+                    schedule(node);
+                } else {
+                    onExpiry.accept(node);
+                }
+                node = next;
+            }
+        }
+    }
+
+    private Node findBucket(long expiryTime) {
+        long duration = expiryTime - time;
+        int last = wheel.length - 1;
+        for (int i = 0; i < last; i++) {
+            if (duration < SPANS[i + 1]) {
+                long ticks = expiryTime >>> SHIFT[i];
+                return wheel[i][(int) (ticks & (wheel[i].length - 1))];
+            }
+        }
+        return wheel[last][0];
+    }
+
+    /**
+     * A node of the wheel. A node which is in the wheel has a non-null {@code timerNext}.
+     */
+    static class Node {
+
+        final long expiryTime;
+        private Node timerPrev;
+        private Node timerNext;
+
+        Node(long expiryTime) {
+            this.expiryTime = expiryTime;
+        }
+    }
+}
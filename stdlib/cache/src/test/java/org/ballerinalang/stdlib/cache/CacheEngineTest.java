@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache;
+
+import org.ballerinalang.stdlib.cache.nativeimpl.CacheEngine;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for the native cache engine.
+ */
+public class CacheEngineTest {
+
+    @Test(description = "Test that the least recently used entries are evicted in batches")
+    public void testLruEviction() {
+        CacheEngine<String, String> engine = new CacheEngine<>(4, 0.5, -1, true);
+        engine.put("A", "1", -1);
+        engine.put("B", "2", -1);
+        engine.put("C", "3", -1);
+        engine.put("D", "4", -1);
+        Assert.assertEquals(engine.get("A"), "1");
+        engine.put("E", "5", -1);
+
+        Assert.assertEquals(engine.keySet(), new HashSet<>(Arrays.asList("A", "D", "E")));
+        Assert.assertEquals(engine.getEvictionCount(), 2);
+        Assert.assertEquals(engine.getHitCount(), 1);
+        Assert.assertNull(engine.get("B"));
+        Assert.assertEquals(engine.getMissCount(), 1);
+    }
+
+    @Test(description = "Test that replacing a value does not evict other entries")
+    public void testReplace() {
+        CacheEngine<String, String> engine = new CacheEngine<>(2, 1, -1, true);
+        engine.put("A", "1", -1);
+        engine.put("B", "2", -1);
+        Assert.assertEquals(engine.put("A", "3", -1), "1");
+
+        Assert.assertEquals(engine.size(), 2);
+        Assert.assertEquals(engine.get("A"), "3");
+        Assert.assertFalse(engine.remove("A", "1"));
+        Assert.assertTrue(engine.remove("A", "3"));
+        Assert.assertEquals(engine.remove("B"), "2");
+        Assert.assertEquals(engine.size(), 0);
+    }
+
+    @Test(description = "Test that the entries are not evicted when the caller evicts them")
+    public void testWithoutEviction() {
+        CacheEngine<String, String> engine = new CacheEngine<>(1, 1, -1, false);
+        engine.put("A", "1", -1);
+        engine.put("B", "2", -1);
+
+        Assert.assertEquals(engine.size(), 2);
+        engine.clear();
+        Assert.assertEquals(engine.size(), 0);
+    }
+
+    @Test(description = "Test that expired entries are not returned and are removed by the clean up")
+    public void testExpiry() throws InterruptedException {
+        CacheEngine<String, String> engine = new CacheEngine<>(10, 0.2, TimeUnit.MILLISECONDS.toNanos(100), true);
+        engine.put("A", "1", -1);
+        engine.put("B", "2", TimeUnit.HOURS.toNanos(1));
+        Thread.sleep(200);
+
+        Assert.assertNull(engine.get("A"));
+        Assert.assertTrue(engine.containsKey("A"));
+        Assert.assertEquals(engine.get("B"), "2");
+        // The expired entry is removed once the timer wheel moves past its bucket.
+        Thread.sleep(2500);
+        engine.cleanUp();
+        Assert.assertFalse(engine.containsKey("A"));
+        Assert.assertEquals(engine.getExpirationCount(), 1);
+        Assert.assertEquals(engine.get("B"), "2");
+    }
+
+    @Test(description = "Test that the values removed as they expired are handed to a caller which evicts entries")
+    public void testTakeExpiredValues() throws InterruptedException {
+        CacheEngine<String, String> engine = new CacheEngine<>(10, 0.2, TimeUnit.MILLISECONDS.toNanos(100), false);
+        engine.put("A", "1", -1);
+        engine.put("B", "2", TimeUnit.HOURS.toNanos(1));
+        Thread.sleep(2700);
+        engine.cleanUp();
+
+        Assert.assertEquals(engine.takeExpiredValues(), Collections.singletonList("1"));
+        Assert.assertTrue(engine.takeExpiredValues().isEmpty());
+        Assert.assertEquals(engine.get("B"), "2");
+    }
+
+    @Test(description = "Test that a lookup tells apart a missing key from an expired one, and removes the latter")
+    public void testGetOrRemoveExpired() throws InterruptedException {
+        CacheEngine<String, String> engine = new CacheEngine<>(10, 0.2, TimeUnit.MILLISECONDS.toNanos(100), false);
+        engine.put("A", "1", -1);
+        engine.put("B", "2", TimeUnit.HOURS.toNanos(1));
+        Thread.sleep(200);
+
+        Assert.assertEquals(engine.get("A", expired -> "expired " + expired), "expired 1");
+        Assert.assertFalse(engine.containsKey("A"));
+        Assert.assertNull(engine.get("A", expired -> "expired " + expired));
+        Assert.assertEquals(engine.get("B", expired -> "expired " + expired), "2");
+        Assert.assertEquals(engine.getMissCount(), 2);
+        Assert.assertEquals(engine.getHitCount(), 1);
+    }
+
+    @Test(description = "Test that concurrent loads of a key wait for the first one")
+    public void testSingleFlightLoad() {
+        CacheEngine<String, String> engine = new CacheEngine<>(10, 0.2, -1, true);
+        AtomicInteger completedLoads = new AtomicInteger();
+        Assert.assertTrue(engine.startLoad("A", completedLoads::incrementAndGet));
+        Assert.assertFalse(engine.startLoad("A", completedLoads::incrementAndGet));
+        Assert.assertFalse(engine.startLoad("A", completedLoads::incrementAndGet));
+
+        engine.completeLoad("A");
+        Assert.assertEquals(completedLoads.get(), 2);
+        Assert.assertTrue(engine.startLoad("A", completedLoads::incrementAndGet));
+    }
+}
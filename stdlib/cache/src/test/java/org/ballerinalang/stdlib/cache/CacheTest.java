@@ -285,6 +285,21 @@ public class CacheTest {
         BRunUtil.invoke(compileResult, "testCreateCacheWithNegativeDefaultMaxAge");
     }
 
+    @Test(description = "Test that a loader which panics does not hold up the next load of the key")
+    public void testGetOrLoadAfterPanickingLoader() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testGetOrLoadAfterPanickingLoader");
+        Assert.assertEquals(returns[0].stringValue(), "loaded A");
+    }
+
+    @Test(description = "Test that a custom eviction policy does not evict the entries which already expired")
+    public void testCustomEvictionPolicyAfterExpiry() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCustomEvictionPolicyAfterExpiry");
+        String[] actual = removeEmptyValues(((BValueArray) returns[0]).getStringArray());
+        Arrays.sort(actual);
+        Assert.assertEquals(actual, new String[]{"D", "E"});
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), 2);
+    }
+
     private String[] removeEmptyValues(String[] arr) {
         List<String> list = new ArrayList<>(Arrays.asList(arr));
         list.removeAll(Arrays.asList("", null));
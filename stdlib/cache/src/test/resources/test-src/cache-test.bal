@@ -293,3 +293,62 @@ function testCreateCacheWithNegativeDefaultMaxAge() {
     };
     cache:Cache c = new(config);
 }
+
+function testGetOrLoadAfterPanickingLoader() returns any|cache:Error {
+    cache:Cache cache = new();
+    any|cache:Error|error panicked = trap cache.getOrLoad("A", function (string key) returns any|error {
+        panic error("loader failed");
+    });
+    // The failed load must not hold up the next load of the key.
+    return cache.getOrLoad("A", function (string key) returns any|error {
+        return "loaded " + key;
+    });
+}
+
+class FifoEvictionPolicy {
+
+    *cache:AbstractEvictionPolicy;
+
+    public function get(cache:LinkedList list, cache:Node node) {
+    }
+
+    public function put(cache:LinkedList list, cache:Node node) {
+        cache:addFirst(list, node);
+    }
+
+    public function remove(cache:LinkedList list, cache:Node node) {
+        cache:remove(list, node);
+    }
+
+    public function replace(cache:LinkedList list, cache:Node newNode, cache:Node oldNode) {
+        cache:remove(list, oldNode);
+        cache:addFirst(list, newNode);
+    }
+
+    public function clear(cache:LinkedList list) {
+        cache:clear(list);
+    }
+
+    public function evict(cache:LinkedList list) returns cache:Node? {
+        return cache:removeLast(list);
+    }
+}
+
+function testCustomEvictionPolicyAfterExpiry() returns [string[], int] {
+    int cleanupIntervalInSeconds = 1;
+    cache:CacheConfig config = {
+        capacity: 2,
+        evictionFactor: 0.5,
+        evictionPolicy: new FifoEvictionPolicy(),
+        defaultMaxAgeInSeconds: 1,
+        cleanupIntervalInSeconds: cleanupIntervalInSeconds
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    runtime:sleep(cleanupIntervalInSeconds * 1000 * 2 + 500);
+    checkpanic cache.put("C", "3", 3600);
+    checkpanic cache.put("D", "4", 3600);
+    checkpanic cache.put("E", "5", 3600);
+    return [cache.keys(), cache.size()];
+}
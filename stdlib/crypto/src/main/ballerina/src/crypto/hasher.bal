@@ -0,0 +1,106 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+# The hashing algorithms supported by the `crypto:Hasher`.
+public type HashAlgorithm MD5|SHA1|SHA256|SHA384|SHA512;
+
+# The `MD5` hashing algorithm.
+public const MD5 = "MD5";
+
+# The `SHA-1` hashing algorithm.
+public const SHA1 = "SHA1";
+
+# The `SHA-256` hashing algorithm.
+public const SHA256 = "SHA256";
+
+# The `SHA-384` hashing algorithm.
+public const SHA384 = "SHA384";
+
+# The `SHA-512` hashing algorithm.
+public const SHA512 = "SHA512";
+
+# Calculates a hash, or an HMAC when a key is given, of data which is provided in parts. Large payloads could be
+# hashed part by part as they are read, without holding the whole payload in memory.
+# ```ballerina
+#  crypto:Hasher hasher = check new(crypto:SHA256);
+#  hasher.update("Hello ".toBytes());
+#  hasher.update("Ballerina".toBytes());
+#  byte[] hash = hasher.digest();
+# ```
+# A `crypto:Hasher` holds the state of a single calculation, so it should not be used by several workers at once.
+public class Hasher {
+
+    # Called when a new `crypto:Hasher` is created.
+    #
+    # + algorithm - Hashing algorithm
+    # + key - Key used for HMAC generation, or `()` to calculate a hash
+    # + return - A `crypto:Error` if the key is not valid for the algorithm
+    public function init(HashAlgorithm algorithm, byte[]? key = ()) returns Error? {
+        return externInit(self, algorithm, key);
+    }
+
+    # Adds a part of the data to the hash.
+    #
+    # + input - Part of the data to be hashed
+    public function update(byte[] input) {
+        externUpdate(self, input);
+    }
+
+    # Adds all the parts of the data produced by a stream to the hash. The stream is read till it ends.
+    # ```ballerina
+    #  stream<byte[], io:Error> blocks = ...;
+    #  check hasher.updateFromStream(blocks);
+    # ```
+    #
+    # + input - Stream of the parts of the data to be hashed
+    # + return - A `crypto:Error` if the stream fails to produce a part
+    public function updateFromStream(stream<byte[], error> input) returns Error? {
+        while (true) {
+            record {| byte[] value; |}|error? block = input.next();
+            if (block is ()) {
+                return;
+            } else if (block is error) {
+                return CryptoError("Error occurred while reading the stream: " + block.message(), block);
+            }
+            externUpdate(self, block.value);
+        }
+    }
+
+    # Returns the hash of the data added so far, and resets the `crypto:Hasher` so that it could be used to hash
+    # other data with the same algorithm and key.
+    #
+    # + return - Hashed output
+    public function digest() returns byte[] {
+        return externDigest(self);
+    }
+}
+
+function externInit(Hasher hasher, string algorithm, byte[]? key) returns Error? = @java:Method {
+    name: "init",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hasher"
+} external;
+
+function externUpdate(Hasher hasher, byte[] input) = @java:Method {
+    name: "update",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hasher"
+} external;
+
+function externDigest(Hasher hasher) returns byte[] = @java:Method {
+    name: "digest",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hasher"
+} external;
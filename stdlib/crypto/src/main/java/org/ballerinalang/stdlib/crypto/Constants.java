@@ -54,6 +54,9 @@ public class Constants {
     // Native data key for private key within the PublicKey record.
     public static final String NATIVE_DATA_PUBLIC_KEY_CERTIFICATE = "NATIVE_DATA_PUBLIC_KEY_CERTIFICATE";
 
+    // Native data key for the hash engine within the Hasher object.
+    public static final String NATIVE_DATA_HASHER = "NATIVE_DATA_HASHER";
+
     // Path field in KEY_STORE_RECORD record.
     public static final BString KEY_STORE_RECORD_PATH_FIELD = StringUtils.fromString("path");
 
@@ -33,6 +33,8 @@ import java.security.Signature;
 import java.security.SignatureException;
 import java.security.spec.AlgorithmParameterSpec;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -73,6 +75,16 @@ public class CryptoUtils {
      */
     private static final int[] VALID_AES_KEY_SIZES = new int[] { 16, 24, 32 };
 
+    /**
+     * Engines of each algorithm, which are created once for a thread instead of being looked up from the security
+     * providers on every operation. An engine is used from start to end of an operation within a single call, so it
+     * is never shared between threads or between strands.
+     */
+    private static final ThreadLocal<Map<String, MessageDigest>> messageDigests = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, KeyedMac>> macs = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Signature>> signatures = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Cipher>> ciphers = ThreadLocal.withInitial(HashMap::new);
+
     private CryptoUtils() {
 
     }
@@ -87,10 +99,7 @@ public class CryptoUtils {
      */
     public static byte[] hmac(String algorithm, byte[] key, byte[] input) {
         try {
-            SecretKey secretKey = new SecretKeySpec(key, algorithm);
-            Mac mac = Mac.getInstance(algorithm);
-            mac.init(secretKey);
-            return mac.doFinal(input);
+            return getMac(algorithm, key).doFinal(input);
         } catch (NoSuchAlgorithmException | InvalidKeyException e) {
             throw CryptoUtils.createError("Error occurred while calculating HMAC: " + e.getMessage());
         }
@@ -105,10 +114,7 @@ public class CryptoUtils {
      */
     public static byte[] hash(String algorithm, byte[] input) {
         try {
-            MessageDigest messageDigest;
-            messageDigest = MessageDigest.getInstance(algorithm);
-            messageDigest.update(input);
-            return messageDigest.digest();
+            return getMessageDigest(algorithm).digest(input);
         } catch (NoSuchAlgorithmException e) {
             throw CryptoUtils.createError("Error occurred while calculating hash: " + e.getMessage());
         }
@@ -124,7 +130,7 @@ public class CryptoUtils {
      */
     public static Object sign(String algorithm, PrivateKey privateKey, byte[] input) {
         try {
-            Signature sig = Signature.getInstance(algorithm);
+            Signature sig = getSignature(algorithm);
             sig.initSign(privateKey);
             sig.update(input);
             return ValueCreator.createArrayValue(sig.sign());
@@ -146,7 +152,7 @@ public class CryptoUtils {
      */
     public static Object verify(String algorithm, PublicKey publicKey, byte[] data, byte[] signature) {
         try {
-            Signature sig = Signature.getInstance(algorithm);
+            Signature sig = getSignature(algorithm);
             sig.initVerify(publicKey);
             sig.update(data);
             return sig.verify(signature);
@@ -157,6 +163,86 @@ public class CryptoUtils {
         }
     }
 
+    /**
+     * Get the message digest of an algorithm which is cached for the current thread, in its initial state.
+     *
+     * @param algorithm hashing algorithm
+     * @return message digest
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     */
+    public static MessageDigest getMessageDigest(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, MessageDigest> cache = messageDigests.get();
+        MessageDigest messageDigest = cache.get(algorithm);
+        if (messageDigest == null) {
+            messageDigest = MessageDigest.getInstance(algorithm);
+            cache.put(algorithm, messageDigest);
+        } else {
+            messageDigest.reset();
+        }
+        return messageDigest;
+    }
+
+    /**
+     * Get the MAC of an algorithm which is cached for the current thread, initialized with a key. The MAC is
+     * initialized again only if the key differs from the key of the last operation of the thread.
+     *
+     * @param algorithm HMAC algorithm
+     * @param key       key used during HMAC generation
+     * @return initialized MAC
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     * @throws InvalidKeyException      if the key is not valid for the algorithm
+     */
+    private static Mac getMac(String algorithm, byte[] key) throws NoSuchAlgorithmException, InvalidKeyException {
+        Map<String, KeyedMac> cache = macs.get();
+        KeyedMac keyedMac = cache.get(algorithm);
+        if (keyedMac == null) {
+            keyedMac = new KeyedMac(Mac.getInstance(algorithm));
+            cache.put(algorithm, keyedMac);
+        }
+        if (keyedMac.key != null && MessageDigest.isEqual(keyedMac.key, key)) {
+            keyedMac.mac.reset();
+        } else {
+            keyedMac.key = null;
+            SecretKey secretKey = new SecretKeySpec(key, algorithm);
+            keyedMac.mac.init(secretKey);
+            keyedMac.key = key.clone();
+        }
+        return keyedMac.mac;
+    }
+
+    private static Signature getSignature(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, Signature> cache = signatures.get();
+        Signature signature = cache.get(algorithm);
+        if (signature == null) {
+            signature = Signature.getInstance(algorithm);
+            cache.put(algorithm, signature);
+        }
+        return signature;
+    }
+
+    /**
+     * Get the cipher of a transformation, which is cached for the current thread unless it uses the GCM mode. A GCM
+     * cipher rejects being initialized again for encryption with the key and IV it was last initialized with, so a
+     * new one is created for each operation.
+     *
+     * @param transformation cipher transformation
+     * @return cipher, which is yet to be initialized
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     * @throws NoSuchPaddingException   if the padding is not supported
+     */
+    private static Cipher getCipher(String transformation) throws NoSuchAlgorithmException, NoSuchPaddingException {
+        if (transformation.contains("/" + Constants.GCM + "/")) {
+            return Cipher.getInstance(transformation);
+        }
+        Map<String, Cipher> cache = ciphers.get();
+        Cipher cipher = cache.get(transformation);
+        if (cipher == null) {
+            cipher = Cipher.getInstance(transformation);
+            cache.put(transformation, cipher);
+        }
+        return cipher;
+    }
+
     /**
      * Create crypto error.
      *
@@ -188,7 +274,7 @@ public class CryptoUtils {
                 return CryptoUtils.createError("Valid tag sizes are: " + Arrays.toString(VALID_GCM_TAG_SIZES));
             }
             AlgorithmParameterSpec paramSpec = buildParameterSpec(transformedAlgorithmMode, iv, (int) tagSize);
-            Cipher cipher = Cipher.getInstance(Constants.RSA + "/" + transformedAlgorithmMode + "/"
+            Cipher cipher = getCipher(Constants.RSA + "/" + transformedAlgorithmMode + "/"
                     + transformedAlgorithmPadding);
             initCipher(cipher, cipherMode, key, paramSpec);
             return ValueCreator.createArrayValue(cipher.doFinal(input));
@@ -231,7 +317,7 @@ public class CryptoUtils {
                         Arrays.toString(VALID_GCM_TAG_SIZES));
             }
             AlgorithmParameterSpec paramSpec = buildParameterSpec(transformedAlgorithmMode, iv, (int) tagSize);
-            Cipher cipher = Cipher.getInstance("AES/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding);
+            Cipher cipher = getCipher("AES/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding);
             initCipher(cipher, cipherMode, keySpec, paramSpec);
             return ValueCreator.createArrayValue(cipher.doFinal(input));
         } catch (NoSuchAlgorithmException e) {
@@ -405,4 +491,17 @@ public class CryptoUtils {
             return defaultValue;
         }
     }
+
+    /**
+     * A MAC along with the key it is initialized with.
+     */
+    private static class KeyedMac {
+
+        private final Mac mac;
+        private byte[] key;
+
+        KeyedMac(Mac mac) {
+            this.mac = mac;
+        }
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.crypto.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.stdlib.crypto.Constants;
+import org.ballerinalang.stdlib.crypto.CryptoUtils;
+
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Extern functions of the ballerina hasher, which calculates a hash or an HMAC of data provided in parts.
+ *
+ * @since 2.0.0
+ */
+public class Hasher {
+
+    public static Object init(BObject hasher, BString algorithm, Object key) {
+        String hashAlgorithm = getHashAlgorithm(algorithm.getValue());
+        try {
+            if (key == null) {
+                hasher.addNativeData(Constants.NATIVE_DATA_HASHER, MessageDigest.getInstance(hashAlgorithm));
+            } else {
+                String macAlgorithm = "Hmac" + hashAlgorithm.replace("-", "");
+                Mac mac = Mac.getInstance(macAlgorithm);
+                mac.init(new SecretKeySpec(((BArray) key).getBytes(), macAlgorithm));
+                hasher.addNativeData(Constants.NATIVE_DATA_HASHER, mac);
+            }
+            return null;
+        } catch (NoSuchAlgorithmException | InvalidKeyException | IllegalArgumentException e) {
+            return CryptoUtils.createError("Error occurred while initializing the hasher: " + e.getMessage());
+        }
+    }
+
+    public static void update(BObject hasher, BArray input) {
+        Object engine = hasher.getNativeData(Constants.NATIVE_DATA_HASHER);
+        if (engine instanceof Mac) {
+            ((Mac) engine).update(input.getBytes());
+        } else {
+            ((MessageDigest) engine).update(input.getBytes());
+        }
+    }
+
+    public static BArray digest(BObject hasher) {
+        Object engine = hasher.getNativeData(Constants.NATIVE_DATA_HASHER);
+        if (engine instanceof Mac) {
+            return ValueCreator.createArrayValue(((Mac) engine).doFinal());
+        }
+        return ValueCreator.createArrayValue(((MessageDigest) engine).digest());
+    }
+
+    private static String getHashAlgorithm(String algorithm) {
+        switch (algorithm) {
+            case "MD5":
+                return "MD5";
+            case "SHA1":
+                return "SHA-1";
+            case "SHA256":
+                return "SHA-256";
+            case "SHA384":
+                return "SHA-384";
+            case "SHA512":
+                return "SHA-512";
+            default:
+                throw CryptoUtils.createError("Unsupported hashing algorithm: " + algorithm);
+        }
+    }
+}
@@ -97,6 +97,35 @@ public class CryptoTest {
         Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSHA512Hash);
     }
 
+    @Test(description = "Test hashing data provided in parts")
+    public void testHasher() throws DecoderException {
+        BValue[] args = {new BValueArray("Ballerina ".getBytes(StandardCharsets.UTF_8)),
+                new BValueArray("test".getBytes(StandardCharsets.UTF_8))};
+        byte[] expectedSha256Hash = Hex
+                .decodeHex("68F6CA0B55B55099331BF4EAA659B8BDC94FBDCE2F54D94FD90DA8240797A5D7".toCharArray());
+
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testHasherWithSHA256", args);
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSha256Hash);
+
+        returnValues = BRunUtil.invoke(compileResult, "testHasherFromStream", args);
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSha256Hash);
+    }
+
+    @Test(description = "Test HMAC generation of data provided in parts")
+    public void testHasherWithKey() throws DecoderException {
+        BValue[] args = {new BValueArray("Ballerina ".getBytes(StandardCharsets.UTF_8)),
+                new BValueArray("HMAC test".getBytes(StandardCharsets.UTF_8)),
+                new BValueArray("abcdefghijk".getBytes(StandardCharsets.UTF_8))};
+        byte[] expectedSHA256Hash = Hex
+                .decodeHex("2651203E18BF0088D3EF1215022D147E2534FD4BAD5689C9E5F12436E9758B15".toCharArray());
+
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testHasherWithHmacSHA256", args);
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSHA256Hash);
+    }
+
     @Test(description = "Test hmac generation with an empty password", expectedExceptions = BLangRuntimeException.class)
     public void testHmacNegativeInvalidKey() {
         BValue[] args = {new BValueArray("Ballerina HMAC test".getBytes(StandardCharsets.UTF_8)),
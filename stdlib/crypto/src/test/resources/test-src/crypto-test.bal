@@ -60,6 +60,48 @@ function testHmacWithSHA512(byte[] input, byte[] key) returns byte[] {
     return crypto:hmacSha512(input, key);
 }
 
+function testHasherWithSHA256(byte[] first, byte[] second) returns byte[]|crypto:Error {
+    crypto:Hasher hasher = check new(crypto:SHA256);
+    hasher.update(first);
+    hasher.update(second);
+    return hasher.digest();
+}
+
+function testHasherWithHmacSHA256(byte[] first, byte[] second, byte[] key) returns byte[]|crypto:Error {
+    crypto:Hasher hasher = check new(crypto:SHA256, key);
+    hasher.update(first);
+    hasher.update(second);
+    return hasher.digest();
+}
+
+function testHasherFromStream(byte[] first, byte[] second) returns byte[]|crypto:Error {
+    crypto:Hasher hasher = check new(crypto:SHA256);
+    hasher.update("discarded".toBytes());
+    _ = hasher.digest();
+    ByteBlocks blocks = new ([first, second]);
+    check hasher.updateFromStream(new stream<byte[], error>(blocks));
+    return hasher.digest();
+}
+
+class ByteBlocks {
+
+    private byte[][] blocks;
+    private int index = 0;
+
+    function init(byte[][] blocks) {
+        self.blocks = blocks;
+    }
+
+    public function next() returns record {| byte[] value; |}|error? {
+        if (self.index < self.blocks.length()) {
+            byte[] block = self.blocks[self.index];
+            self.index += 1;
+            return {value: block};
+        }
+        return ();
+    }
+}
+
 function testSignRsaSha1(byte[] input, string path, string keyStorePassword, string keyAlias, string keyPassword)
                          returns byte[]|crypto:Error {
     crypto:KeyStore keyStore = {
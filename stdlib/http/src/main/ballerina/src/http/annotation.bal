@@ -106,6 +106,8 @@ public annotation WSServiceConfig WebSocketServiceConfig on service;
 # + transactionInfectable - Allow to participate in the distributed transactions if value is true
 # + webSocketUpgrade - Annotation to define HTTP to WebSocket upgrade
 # + auth - Authentication Configs to secure the resource
+# + coalescing - Coalesces identical GET requests which arrive while one of them is being executed, so that they are
+#                sent its response. Coalescing is disabled if this is not set.
 public type HttpResourceConfig record {|
     string[] methods = [];
     string path = "";
@@ -116,6 +118,21 @@ public type HttpResourceConfig record {|
     boolean transactionInfectable = true;
     WebSocketUpgradeConfig? webSocketUpgrade = ();
     ResourceAuth auth?;
+    RequestCoalescingConfig? coalescing = ();
+|};
+
+# Configuration for coalescing the identical GET requests of a resource. Requests are identical if they have the same
+# path, query, origin and `Accept*` headers. The response of a request is not shared if it sets cookies or if its
+# payload is a stream. Requests which carry credentials (`Authorization`, `Proxy-Authorization` or `Cookie`) and
+# requests received by a listener with filters or auth configured are never coalesced, as their resources must run.
+#
+# + maxWaitTimeInMillis - Maximum time a request waits for the response of the identical request being executed.
+#                         Once it elapses, the request executes the resource on its own.
+# + maxWaitersPerKey - Maximum number of requests which wait for the same request. Requests over this limit execute
+#                      the resource on their own.
+public type RequestCoalescingConfig record {|
+    int maxWaitTimeInMillis = 5000;
+    int maxWaitersPerKey = 1000;
 |};
 
 # Resource configuration to upgrade from HTTP to WebSocket.
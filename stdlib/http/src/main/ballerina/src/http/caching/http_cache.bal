@@ -14,20 +14,19 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/cache;
+import ballerina/java;
 import ballerina/log;
 
 # Implements a cache for storing HTTP responses. This cache complies with the caching policy set when configuring
-# HTTP caching in the HTTP client endpoint.
+# HTTP caching in the HTTP client endpoint. The responses are kept in a native store which can be read concurrently
+# without locking.
 #
-# + cache - The underlying cache used for storing HTTP responses
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
 public class HttpCache {
 
-    public cache:Cache cache;
     public CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
     public boolean isShared = false;
 
@@ -35,11 +34,7 @@ public class HttpCache {
     #
     # + cacheConfig - The configurations for the HTTP cache
     public function init(CacheConfig cacheConfig) {
-        cache:CacheConfig config = {
-            capacity: cacheConfig.capacity,
-            evictionFactor: cacheConfig.evictionFactor
-        };
-        self.cache = new cache:Cache(config);
+        externInitCache(self, cacheConfig.capacity, cacheConfig.maxSizeInBytes, cacheConfig.maxEntryAge);
         self.policy = cacheConfig.policy;
         self.isShared = cacheConfig.isShared;
     }
@@ -61,8 +56,9 @@ public class HttpCache {
             // IMPT: The call to getBinaryPayload() builds the payload from the stream. If this is not done, the stream
             // will be read by the client and the response will be after the first cache hit.
             var binaryPayload = inboundResponse.getBinaryPayload();
+            int size = binaryPayload is byte[] ? binaryPayload.length() : 0;
             log:printDebug(() => "Adding new cache entry for: " + key);
-            addEntry(self.cache, key, inboundResponse);
+            externPutResponse(self, key, inboundResponse, size);
         }
     }
 
@@ -92,23 +88,38 @@ public class HttpCache {
         return allowedByCacheControl || inboundResp.hasHeader(EXPIRES) || isCacheableStatusCode(inboundResp.statusCode);
     }
 
-    function hasKey(string key) returns boolean {
-        return self.cache.hasKey(key);
-    }
-
-    function get(string key) returns Response {
-        Response[] cacheEntry = <Response[]> self.cache.get(key);
-        return cacheEntry[cacheEntry.length() - 1];
+    function get(string key) returns Response? {
+        return externGetResponse(self, key);
     }
 
     function getAll(string key) returns Response[]|() {
-        var cacheEntry = trap <Response[]> self.cache.get(key);
-        if (cacheEntry is Response[]) {
-            return cacheEntry;
+        Response[] cachedResponses = [];
+        if (externGetAllResponses(self, key, cachedResponses)) {
+            return cachedResponses;
         }
         return ();
     }
 
+    # Waits for a concurrent request for the given key to the origin server to complete, if there is one. Otherwise,
+    # marks the caller as the one sending the request, which must call `completeFetch()` once it is done.
+    #
+    # + key - The cache key
+    # + return - `true` if the caller should send the request
+    function startFetch(string key) returns boolean {
+        return externStartFetch(self, key);
+    }
+
+    function completeFetch(string key) {
+        externCompleteFetch(self, key);
+    }
+
+    # Gets the statistics of the cache.
+    #
+    # + return - The cache statistics
+    public function getStats() returns CacheStats {
+        return externGetCacheStats(self);
+    }
+
     function getAllByETag(string key, string etag) returns Response[] {
         Response[] cachedResponses = [];
         Response[] matchingResponses = [];
@@ -150,10 +161,7 @@ public class HttpCache {
     }
 
     function remove(string key) {
-        cache:Error? result = self.cache.invalidate(key);
-        if (result is cache:Error) {
-            log:printDebug(() => "Failed to remove the key: " + key + " from the HTTP cache.");
-        }
+        externRemoveResponses(self, key);
     }
 }
 
@@ -166,19 +174,6 @@ function isCacheableStatusCode(int statusCode) returns boolean {
            statusCode == STATUS_NOT_IMPLEMENTED;
 }
 
-function addEntry(cache:Cache cache, string key, Response inboundResponse) {
-    if (cache.hasKey(key)) {
-        Response[] existingResponses = <Response[]>cache.get(key);
-        existingResponses.push(inboundResponse);
-    } else {
-        Response[] cachedResponses = [inboundResponse];
-        cache:Error? result = cache.put(key, cachedResponses);
-        if (result is cache:Error) {
-            log:printDebug(() => "Failed to add cached response with the key: " + key + " to the HTTP cache.");
-        }
-    }
-}
-
 function weakValidatorEquals(string etag1, string etag2) returns boolean {
     string validatorPortion1 = etag1.startsWith(WEAK_VALIDATOR_TAG) ? etag1.substring(2, etag1.length()) : etag1;
     string validatorPortion2 = etag2.startsWith(WEAK_VALIDATOR_TAG) ? etag2.substring(2, etag2.length()) : etag2;
@@ -189,3 +184,44 @@ function weakValidatorEquals(string etag1, string etag2) returns boolean {
 function getCacheKey(string httpMethod, string url) returns string {
     return string `${httpMethod} ${url}`;
 }
+
+function externInitCache(HttpCache httpCache, int capacity, int maxSizeInBytes, int maxEntryAge) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "init"
+} external;
+
+function externGetResponse(HttpCache httpCache, string key) returns Response? = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "get"
+} external;
+
+function externGetAllResponses(HttpCache httpCache, string key, Response[] responses) returns boolean =
+@java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "getAll"
+} external;
+
+function externPutResponse(HttpCache httpCache, string key, Response response, int size) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "put"
+} external;
+
+function externRemoveResponses(HttpCache httpCache, string key) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "remove"
+} external;
+
+function externStartFetch(HttpCache httpCache, string key) returns boolean = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "startFetch"
+} external;
+
+function externCompleteFetch(HttpCache httpCache, string key) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "completeFetch"
+} external;
+
+function externGetCacheStats(HttpCache httpCache) returns CacheStats = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternHttpCache",
+    name: "getStats"
+} external;
@@ -14,7 +14,6 @@
 // specific language governing permissions and limitations
 // under the License.
 
-import ballerina/cache;
 import ballerina/log;
 import ballerina/time;
 import ballerina/io;
@@ -283,9 +282,19 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
     time:Time currentT = time:currentTime();
     req.parseCacheControlHeader();
 
-    if (cache.hasKey(getCacheKey(httpMethod, path))) {
-        Response cachedResponse = cache.get(getCacheKey(httpMethod, path));
+    string cacheKey = getCacheKey(httpMethod, path);
+    Response? cachedResponse = cache.get(cacheKey);
+    boolean isFetching = false;
+    if (cachedResponse is () && isCoalescable(req)) {
+        // Concurrent misses for the same resource wait for a single request to the origin server, and then look up
+        // the response it cached, if any.
+        isFetching = cache.startFetch(cacheKey);
+        if (!isFetching) {
+            cachedResponse = cache.get(cacheKey);
+        }
+    }
 
+    if (cachedResponse is Response) {
         log:printDebug(() => "Cached response found for: '" + httpMethod + " " + path + "'");
 
         // Based on https://tools.ietf.org/html/rfc7234#section-4
@@ -332,12 +341,38 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
     log:printDebug(() => "Cached response not found for: '" + httpMethod + " " + path + "'");
     log:printDebug(() => "Sending new request to: " + path);
 
+    if (!isFetching) {
+        return sendAndCacheNewRequest(cache, httpClient, req, cacheKey, path, httpMethod, forwardRequest, currentT);
+    }
+    // The fetch is completed even if sending or caching the response panics, so that the waiting requests resume.
+    var response = trap sendAndCacheNewRequest(cache, httpClient, req, cacheKey, path, httpMethod, forwardRequest,
+                                               currentT);
+    cache.completeFetch(cacheKey);
+    if (response is Response|ClientError) {
+        return response;
+    }
+    panic response;
+}
+
+// A request which must not be served a stored response would wait for another request to the origin server only to
+// send its own, so it is not coalesced with the other requests of the resource.
+function isCoalescable(Request req) returns boolean {
+    if (req.hasHeader(PRAGMA)) {
+        return false;
+    }
+    RequestCacheControl? reqCache = req.cacheControl;
+    return !(reqCache is RequestCacheControl && (reqCache.noCache || reqCache.noStore));
+}
+
+function sendAndCacheNewRequest(HttpCache cache, HttpClient httpClient, @tainted Request req, string cacheKey,
+                                string path, string httpMethod, boolean forwardRequest, time:Time currentT)
+                                returns @tainted Response|ClientError {
     var response = sendNewRequest(httpClient, req, path, httpMethod, forwardRequest);
     if (response is Response) {
         if (cache.isAllowedToCache(response)) {
             response.requestTime = currentT.time;
             response.receivedTime = time:currentTime().time;
-            cache.put(<@untainted> getCacheKey(httpMethod, path), <@untainted> req.cacheControl, <@untainted> response);
+            cache.put(<@untainted> cacheKey, <@untainted> req.cacheControl, <@untainted> response);
         }
     }
     return response;
@@ -348,21 +383,8 @@ function invalidateResponses(HttpCache httpCache, Response inboundResponse, stri
     // TODO: Improve this logic in accordance with the spec
     if (isCacheableStatusCode(inboundResponse.statusCode) &&
                     inboundResponse.statusCode >= 200 && inboundResponse.statusCode < 400) {
-        string getMethodCacheKey = getCacheKey(HTTP_GET, path);
-        if (httpCache.cache.hasKey(getMethodCacheKey)) {
-            cache:Error? result = httpCache.cache.invalidate(getMethodCacheKey);
-            if (result is cache:Error) {
-                log:printDebug(() => "Failed to remove the key: " + getMethodCacheKey + " from the cache.");
-            }
-        }
-
-        string headMethodCacheKey = getCacheKey(HTTP_HEAD, path);
-        if (httpCache.cache.hasKey(headMethodCacheKey)) {
-            cache:Error? result = httpCache.cache.invalidate(headMethodCacheKey);
-            if (result is cache:Error) {
-                log:printDebug(() => "Failed to remove the key: " + headMethodCacheKey + " from the cache.");
-            }
-        }
+        httpCache.remove(getCacheKey(HTTP_GET, path));
+        httpCache.remove(getCacheKey(HTTP_HEAD, path));
     }
 }
 
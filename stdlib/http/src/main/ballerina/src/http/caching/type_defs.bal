@@ -29,9 +29,11 @@ public const RFC_7234 = "RFC_7234";
 #
 # + enabled - Specifies whether HTTP caching is enabled. Caching is enabled by default.
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
-# + capacity - The capacity of the cache
-# + evictionFactor - The fraction of entries to be removed when the cache is full. The value should be
-#                    between 0 (exclusive) and 1 (inclusive).
+# + capacity - The maximum number of resources of which responses are cached
+# + evictionFactor - Not used. The least valuable entry is evicted whenever the cache is full.
+# + maxSizeInBytes - The maximum total size of the cached response payloads in bytes. `-1` means no bound.
+# + maxEntryAge - The maximum time in seconds for which a response is kept in the cache, regardless of its freshness.
+#                 `-1` keeps responses until they are evicted or invalidated.
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
@@ -40,5 +42,25 @@ public type CacheConfig record {|
     boolean isShared = false;
     int capacity = 8388608; // 8MB
     float evictionFactor = 0.2;
+    int maxSizeInBytes = -1;
+    int maxEntryAge = -1;
     CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
 |};
+
+# Statistics of an HTTP cache.
+#
+# + hits - The number of lookups which found a cached response
+# + misses - The number of lookups which did not find a cached response
+# + evictions - The number of entries evicted to keep the cache within its bounds
+# + coalescedRequests - The number of requests which waited for the response of a concurrent request for the same
+#                       resource instead of going to the origin server
+# + size - The number of resources of which responses are currently cached
+# + sizeInBytes - The total size of the currently cached response payloads in bytes
+public type CacheStats record {|
+    int hits = 0;
+    int misses = 0;
+    int evictions = 0;
+    int coalescedRequests = 0;
+    int size = 0;
+    int sizeInBytes = 0;
+|};
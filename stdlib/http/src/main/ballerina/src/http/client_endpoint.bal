@@ -16,7 +16,6 @@
 
 import ballerina/java;
 import ballerina/crypto;
-import ballerina/time;
 import ballerina/observe;
 
 ////////////////////////////////
@@ -502,15 +501,7 @@ function createCircuitBreakerClient(string uri, ClientConfiguration configuratio
             }
         }
 
-        time:Time circuitStartTime = time:currentTime();
         int numberOfBuckets = (cbConfig.rollingWindow.timeWindowInMillis / cbConfig.rollingWindow.bucketSizeInMillis);
-        Bucket?[] bucketArray = [];
-        int bucketIndex = 0;
-        while (bucketIndex < numberOfBuckets) {
-            bucketArray[bucketIndex] = {};
-            bucketIndex = bucketIndex + 1;
-        }
-
         CircuitBreakerInferredConfig circuitBreakerInferredConfig = {
             failureThreshold: cbConfig.failureThreshold,
             resetTimeInMillis: cbConfig.resetTimeInMillis,
@@ -518,13 +509,7 @@ function createCircuitBreakerClient(string uri, ClientConfiguration configuratio
             noOfBuckets: numberOfBuckets,
             rollingWindow: cbConfig.rollingWindow
         };
-        CircuitHealth circuitHealth = {
-            startTime: circuitStartTime,
-            lastRequestTime: circuitStartTime,
-            lastErrorTime: circuitStartTime,
-            lastForcedOpenTime: circuitStartTime,
-            totalBuckets: bucketArray
-        };
+        CircuitHealth circuitHealth = new(cbConfig.rollingWindow);
         return new CircuitBreakerClient(uri, configuration, circuitBreakerInferredConfig, cbHttpClient, circuitHealth);
     } else {
         return createCookieClient(uri, configuration, cookieStore);
@@ -23,13 +23,45 @@ import ballerina/java;
 # + maxIdleConnections - Maximum number of idle connections allowed per pool.
 # + waitTimeInMillis - Maximum amount of time, the client should wait for an idle connection before it sends an error when the pool is exhausted
 # + maxActiveStreamsPerConnection - Maximum active streams per connection. This only applies to HTTP/2.
+# + maxHttp2ConnectionsPerHost - Maximum HTTP/2 connections per route(host:port). Requests which exceed the active streams
+#                                of these connections wait up to `waitTimeInMillis` for a stream. Default value is -1
+#                                which indicates unlimited. This only applies to HTTP/2.
 public type PoolConfiguration record {
     int maxActiveConnections = config:getAsInt("b7a.http.pool.maxActiveConnections", -1);
     int maxIdleConnections = config:getAsInt("b7a.http.pool.maxIdleConnections", 100);
     int waitTimeInMillis = config:getAsInt("b7a.http.pool.waitTimeInMillis", 30000);
     int maxActiveStreamsPerConnection = config:getAsInt("b7a.http.pool.maxActiveStreamsPerConnection", 50);
+    int maxHttp2ConnectionsPerHost = config:getAsInt("b7a.http.pool.maxHttp2ConnectionsPerHost", -1);
 };
 
+# Statistics of the HTTP/2 streams which the clients of a connection pool open to a route(host:port).
+#
+# + activeStreams - Number of streams in use
+# + pendingAcquisitions - Number of requests waiting for a stream
+# + maxConcurrentStreams - Maximum number of streams in use at the same time
+# + acquisitions - Number of streams acquired
+# + acquisitionTimeouts - Number of requests which failed as no stream was released within the wait time
+# + acquisitionLatencyHistogram - Number of streams acquired within 1, 10, 100 and 1000 milliseconds, and after that
+public type ConnectionPoolStats record {|
+    int activeStreams = 0;
+    int pendingAcquisitions = 0;
+    int maxConcurrentStreams = 0;
+    int acquisitions = 0;
+    int acquisitionTimeouts = 0;
+    int[] acquisitionLatencyHistogram = [];
+|};
+
+# Gets the statistics of the HTTP/2 streams which the clients of a connection pool open to a route(host:port).
+#
+# + url - URL of the route
+# + poolConfig - The connection pool, or `()` for the global connection pool
+# + return - The statistics, `()` if the pool does not limit the HTTP/2 connections per route, or else
+#            an `http:ClientError` if the URL is malformed
+public function getConnectionPoolStats(string url, PoolConfiguration? poolConfig = ())
+        returns ConnectionPoolStats|ClientError? {
+    return externGetConnectionPoolStats(poolConfig ?: globalHttpClientConnPool, url);
+}
+
 //This is a hack to get the global map initialized, without involving locking.
 class ConnectionManager {
     public PoolConfiguration poolConfig = {};
@@ -49,3 +81,9 @@ function externInitGlobalPool(PoolConfiguration poolConfig) =
 
 ConnectionManager connectionManager = new;
 PoolConfiguration globalHttpClientConnPool = connectionManager.poolConfig;
+
+function externGetConnectionPoolStats(PoolConfiguration poolConfig, string url)
+        returns ConnectionPoolStats|ClientError? = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternConnectionPool",
+    name: "getStats"
+} external;
@@ -82,9 +82,13 @@ public type ListenerOcspStapling record {|
 #
 # + enable - The status of compression
 # + contentTypes - Content types which are allowed for compression
+# + minimumSize - Minimum size in bytes of a payload which is compressed. Smaller payloads are sent uncompressed, as
+#                 compressing them costs more than it saves. A payload which is not built in memory is compressed
+#                 regardless of its size
 public type CompressionConfig record {|
     Compression enable = COMPRESSION_AUTO;
     string[] contentTypes = [];
+    int minimumSize = 0;
 |};
 
 type HTTPError record {
@@ -297,6 +297,27 @@ public class Request {
         }
     }
 
+    # Gets the request payload as a stream of byte arrays. The payload is read as the stream is consumed, so that a
+    # payload of any size can be processed or passed on in constant memory.
+    #
+    # + arraySize - Maximum number of bytes in an array of the stream
+    # + return - A stream of byte arrays from which the message payload can be read or `http:ClientError` in case of
+    #            errors
+    public function getByteStream(int arraySize = 8192) returns @tainted stream<byte[], io:Error>|ClientError {
+        var result = self.getEntity();
+        if (result is error) {
+            return result;
+        } else {
+            var byteStream = result.getByteStream(arraySize);
+            if (byteStream is mime:Error) {
+                string message = "Error occurred while retrieving the byte stream from the request";
+                return GenericClientError(message, byteStream);
+            } else {
+                return byteStream;
+            }
+        }
+    }
+
     # Gets the request payload as a `byte[]`.
     #
     # + return - The byte[] representation of the message payload or `http:ClientError` in case of errors
@@ -315,6 +336,31 @@ public class Request {
         }
     }
 
+    # Extracts a value of the given type from the CBOR (Concise Binary Object Representation) payload of the request.
+    # A record is read straight into a value of the record type.
+    #
+    # + targetType - The type of the value, which is `anydata` by default
+    # + return - The value or `http:ClientError` if the payload is not a CBOR data item of the given type
+    public function getCborPayload(typedesc<anydata> targetType = anydata) returns @tainted anydata|ClientError {
+        var result = self.getEntityWithBodyAndWithoutHeaders();
+        if (result is error) {
+            return result;
+        } else {
+            string message = "Error occurred while retrieving the cbor payload from the request";
+            // The body is read in a non-blocking manner before it is decoded.
+            var bytes = externGetByteArray(result);
+            if (bytes is mime:Error) {
+                return GenericClientError(message, bytes);
+            }
+            var payload = result.getCbor(targetType);
+            if (payload is mime:Error) {
+                return GenericClientError(message, payload);
+            } else {
+                return payload;
+            }
+        }
+    }
+
     # Gets the form parameters from the HTTP request as a `map` when content type is application/x-www-form-urlencoded.
     #
     # + return - The map of form params or `http:ClientError` in case of errors
@@ -433,6 +479,17 @@ public class Request {
         self.setEntityAndUpdateContentTypeHeader(entity);
     }
 
+    # Sets an `anydata` value as the payload, encoded in the Concise Binary Object Representation (CBOR).
+    #
+    # + payload - The `anydata` payload
+    # + contentType - The content type of the payload. Set this to override the default `content-type` header value
+    #                 for CBOR
+    public function setCborPayload(anydata payload, string contentType = "application/cbor") {
+        mime:Entity entity = self.getEntityWithoutBodyAndHeaders();
+        entity.setCbor(payload, contentType);
+        self.setEntityAndUpdateContentTypeHeader(entity);
+    }
+
     # Set multiparts as the payload.
     #
     # + bodyParts - The entities which make up the message body
@@ -466,6 +523,18 @@ public class Request {
         self.setEntityAndUpdateContentTypeHeader(entity);
     }
 
+    # Sets a stream of byte arrays as the payload. The arrays are taken from the stream as the payload is written, so
+    # that a payload of any size can be sent in constant memory.
+    #
+    # + payload - A stream of byte arrays from which the message payload is taken
+    # + contentType - The content type of the payload. Set this to override the default `content-type`
+    #                 header value
+    public function setByteStream(stream<byte[], io:Error> payload, string contentType = "application/octet-stream") {
+        mime:Entity entity = self.getEntityWithoutBodyAndHeaders();
+        entity.setByteStream(payload, contentType);
+        self.setEntityAndUpdateContentTypeHeader(entity);
+    }
+
     # Sets the request payload. Note that any string value is set as `text/plain`. To send a JSON-compatible string,
     # set the content-type header to `application/json` or use the `setJsonPayload` method instead.
     #
@@ -0,0 +1,95 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/java;
+
+# Implementation of the least outstanding requests load balancing strategy. The client with the fewest requests in
+# progress is chosen, so that a slow client gets fewer requests than the others.
+public class LoadBalancerLeastOutstandingRule {
+
+    *AdaptiveLoadBalancerRule;
+
+    public function init() {
+        externInitLeastOutstandingRule(self);
+    }
+
+    # Provides an HTTP client, which is chosen according to the least outstanding requests algorithm.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients, which needs to be load balanced
+    # + return - Chosen `http:Client` from the algorithm or else an `http:ClientError` for a failure in
+    #            the algorithm implementation
+    public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
+        return <Client>loadBalanceCallerActionsArray[externSelectClient(self, loadBalanceCallerActionsArray.length())];
+    }
+
+    # Notifies that a request sent to a client chosen by this rule is completed.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients, which are load balanced
+    # + httpClient - The chosen `http:Client`
+    # + latencyInNanos - Time taken by the request in nanoseconds
+    # + success - Whether the request succeeded
+    public function onCompletion(Client?[] loadBalanceCallerActionsArray, Client httpClient, int latencyInNanos,
+                                 boolean success) {
+        externCompleteRequest(self, loadBalanceCallerActionsArray, httpClient, latencyInNanos, success);
+    }
+}
+
+# Implementation of the peak EWMA load balancing strategy, which prefers the clients with lower latency.
+#
+# The latency of a client is a moving average of the latencies of its requests, which decays over time. A latency
+# above the average replaces it at once, so a client which slows down is avoided quickly. Of two clients picked at
+# random, the one with the lower latency multiplied by the number of requests in progress plus one is chosen.
+public class LoadBalancerPeakEwmaRule {
+
+    *AdaptiveLoadBalancerRule;
+
+    # Creates a peak EWMA load balancing rule.
+    #
+    # + decayTimeInMillis - Time in milliseconds in which the weight of an observed latency decays to 1/e
+    public function init(int decayTimeInMillis = 10000) {
+        externInitPeakEwmaRule(self, decayTimeInMillis);
+    }
+
+    # Provides an HTTP client, which is chosen according to the peak EWMA algorithm.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients, which needs to be load balanced
+    # + return - Chosen `http:Client` from the algorithm or else an `http:ClientError` for a failure in
+    #            the algorithm implementation
+    public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
+        return <Client>loadBalanceCallerActionsArray[externSelectClient(self, loadBalanceCallerActionsArray.length())];
+    }
+
+    # Notifies that a request sent to a client chosen by this rule is completed.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients, which are load balanced
+    # + httpClient - The chosen `http:Client`
+    # + latencyInNanos - Time taken by the request in nanoseconds
+    # + success - Whether the request succeeded
+    public function onCompletion(Client?[] loadBalanceCallerActionsArray, Client httpClient, int latencyInNanos,
+                                 boolean success) {
+        externCompleteRequest(self, loadBalanceCallerActionsArray, httpClient, latencyInNanos, success);
+    }
+}
+
+function externInitLeastOutstandingRule(LoadBalancerLeastOutstandingRule lbRule) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternLoadBalancer",
+    name: "initLeastOutstanding"
+} external;
+
+function externInitPeakEwmaRule(LoadBalancerPeakEwmaRule lbRule, int decayTimeInMillis) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternLoadBalancer",
+    name: "initPeakEwma"
+} external;
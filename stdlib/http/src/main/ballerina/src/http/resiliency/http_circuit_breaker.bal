@@ -14,8 +14,8 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/java;
 import ballerina/log;
-import ballerina/time;
 
 # A finite type for modeling the states of the Circuit Breaker. The Circuit Breaker starts in the `CLOSED` state.
 # If any failure thresholds are exceeded during execution, the circuit trips and goes to the `OPEN` state. After
@@ -37,26 +37,18 @@ public const CB_HALF_OPEN_STATE = "HALF_OPEN";
 # will trip and move to the `OPEN` state.
 public const CB_CLOSED_STATE = "CLOSED";
 
-# Maintains the health of the Circuit Breaker.
-#
-# + lastRequestSuccess - Whether last request is success or not
-# + totalRequestCount - Total request count received within the `RollingWindow`
-# + lastUsedBucketId - ID of the last bucket used in Circuit Breaker calculations
-# + startTime - Circuit Breaker start time
-# + lastRequestTime - The time that the last request received
-# + lastErrorTime - The time that the last error occurred
-# + lastForcedOpenTime - The time that circuit forcefully opened at last
-# + totalBuckets - The discrete time buckets into which the time window is divided
-public type CircuitHealth record {|
-    boolean lastRequestSuccess = false;
-    int totalRequestCount = 0;
-    int lastUsedBucketId = 0;
-    time:Time startTime = time:currentTime();
-    time:Time lastRequestTime?;
-    time:Time lastErrorTime?;
-    time:Time lastForcedOpenTime?;
-    Bucket?[] totalBuckets = [];
-|};
+# Maintains the health of the Circuit Breaker. The requests, failures, and rejected requests are counted in the
+# discrete time buckets into which the `RollingWindow` is divided.
+public class CircuitHealth {
+
+    # Creates the health monitor of a Circuit Breaker.
+    #
+    # + rollingWindow - The `http:RollingWindow` options of the `CircuitBreaker`
+    public function init(RollingWindow rollingWindow = {}) {
+        externInitCircuitHealth(self, rollingWindow.bucketSizeInMillis,
+                                rollingWindow.timeWindowInMillis / rollingWindow.bucketSizeInMillis);
+    }
+}
 
 # Provides a set of configurations for controlling the behaviour of the Circuit Breaker.
 #
@@ -84,19 +76,6 @@ public type RollingWindow record {|
     int bucketSizeInMillis = 10000;
 |};
 
-# Represents a discrete sub-part of the time window (Bucket).
-#
-# + totalCount - Total number of requests received during the sub-window time frame
-# + failureCount - Number of failed requests during the sub-window time frame
-# + rejectedCount - Number of rejected requests during the sub-window time frame
-# + lastUpdatedTime - The time that the `Bucket` is last updated.
-public type Bucket record {|
-    int totalCount = 0;
-    int failureCount = 0;
-    int rejectedCount = 0;
-    time:Time lastUpdatedTime?;
-|};
-
 # Derived set of configurations from the `CircuitBreakerConfig`.
 #
 # + failureThreshold - The threshold for request failures. When this threshold exceeds, the circuit trips.
@@ -422,7 +401,7 @@ public client class CircuitBreakerClient {
     # until `resetTimeInMillis` interval exceeds.
     public function forceOpen() {
         self.currentCircuitState = CB_OPEN_STATE;
-        self.circuitHealth.lastForcedOpenTime = time:currentTime();
+        externRecordForcedOpen(self.circuitHealth);
     }
 
     # Provides the `http:CircuitState` of the circuit breaker.
@@ -442,47 +421,37 @@ public client class CircuitBreakerClient {
 # + return - State of the circuit
 function updateCircuitState(CircuitHealth circuitHealth, CircuitState currentStateValue,
                             CircuitBreakerInferredConfig circuitBreakerInferredConfig) returns CircuitState {
-    lock {
-        CircuitState currentState = currentStateValue;
-        prepareRollingWindow(circuitHealth, circuitBreakerInferredConfig);
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        circuitHealth.lastRequestTime = time:currentTime();
-        int totalRequestsCount = getTotalRequestsCount(circuitHealth);
-        circuitHealth.totalRequestCount = totalRequestsCount;
-        if (totalRequestsCount >= circuitBreakerInferredConfig.rollingWindow.requestVolumeThreshold) {
-            if (currentState == CB_OPEN_STATE) {
-                currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
-                                                                                    circuitHealth, currentState);
-            } else if (currentState == CB_HALF_OPEN_STATE) {
-                if (!circuitHealth.lastRequestSuccess) {
-                    // If the trial run has failed, trip the circuit again
-                    currentState = CB_OPEN_STATE;
-                    log:printInfo("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.")
-                    ;
-                } else {
-                    // If the trial run was successful reset the circuit
-                    currentState = CB_CLOSED_STATE;
-                    log:printInfo(
-                        "CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
-                }
+    CircuitState currentState = currentStateValue;
+    int totalRequestsCount = externGetTotalRequestCount(circuitHealth);
+    if (totalRequestsCount >= circuitBreakerInferredConfig.rollingWindow.requestVolumeThreshold) {
+        if (currentState == CB_OPEN_STATE) {
+            currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
+                                                                                circuitHealth, currentState);
+        } else if (currentState == CB_HALF_OPEN_STATE) {
+            if (!externIsLastRequestSuccess(circuitHealth)) {
+                // If the trial run has failed, trip the circuit again
+                currentState = CB_OPEN_STATE;
+                log:printInfo("CircuitBreaker trial run has failed. Circuit switched from HALF_OPEN to OPEN state.");
             } else {
-                float currentFailureRate = getCurrentFailureRatio(circuitHealth);
-
-                if (currentFailureRate > circuitBreakerInferredConfig.failureThreshold) {
-                    currentState = CB_OPEN_STATE;
-                    log:printInfo("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state."
-                    );
-                }
+                // If the trial run was successful reset the circuit
+                currentState = CB_CLOSED_STATE;
+                log:printInfo(
+                    "CircuitBreaker trial run  was successful. Circuit switched from HALF_OPEN to CLOSE state.");
             }
         } else {
-            currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
-                                                                                    circuitHealth, currentState);
+            float currentFailureRate = externGetFailureRatio(circuitHealth);
+
+            if (currentFailureRate > circuitBreakerInferredConfig.failureThreshold) {
+                currentState = CB_OPEN_STATE;
+                log:printInfo("CircuitBreaker failure threshold exceeded. Circuit tripped from CLOSE to OPEN state.");
+            }
         }
-        Bucket bucket = <Bucket> circuitHealth.totalBuckets[currentBucketId];
-        bucket.totalCount += 1;
-        return currentState;
+    } else {
+        currentState = switchCircuitStateOpenToHalfOpenOnResetTime(circuitBreakerInferredConfig,
+                                                                                circuitHealth, currentState);
     }
+    externRecordRequest(circuitHealth);
+    return currentState;
 }
 
 function updateCircuitHealthAndRespond(Response|ClientError serviceResponse, CircuitHealth circuitHealth,
@@ -501,50 +470,20 @@ function updateCircuitHealthAndRespond(Response|ClientError serviceResponse, Cir
 
 function updateCircuitHealthFailure(CircuitHealth circuitHealth,
                                     CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-    lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        circuitHealth.lastRequestSuccess = false;
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        Bucket bucket = <Bucket> circuitHealth.totalBuckets[currentBucketId];
-        bucket.failureCount += 1;
-        time:Time lastUpdated = time:currentTime();
-        circuitHealth.lastErrorTime = lastUpdated;
-        Bucket?[] buckets = circuitHealth.totalBuckets;
-        if (buckets is Bucket[]) {
-            //TODO:Get this verified
-            time:Time? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-            if (lastUpdatedTime is time:Time) {
-                lastUpdatedTime = lastUpdated;
-            }
-        }
-    }
+    externRecordFailure(circuitHealth);
 }
 
 function updateCircuitHealthSuccess(CircuitHealth circuitHealth,
                                     CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-    lock {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        time:Time lastUpdated = time:currentTime();
-        updateLastUsedBucketId(currentBucketId, circuitHealth);
-        circuitHealth.lastRequestSuccess = true;
-        Bucket?[] buckets = circuitHealth.totalBuckets;
-        if (buckets is Bucket[]) {
-            //TODO:Get this verified
-            time:Time? lastUpdatedTime = buckets[currentBucketId]?.lastUpdatedTime;
-            if (lastUpdatedTime is time:Time) {
-                lastUpdatedTime = lastUpdated;
-            }
-        }
-    }
+    externRecordSuccess(circuitHealth);
 }
 
 // Handles open circuit state.
 function handleOpenCircuit(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
              returns (ClientError) {
-    time:Time effectiveErrorTime = getEffectiveErrorTime(circuitHealth);
-    int timeDif = time:currentTime().time - effectiveErrorTime.time;
+    int timeDif = externGetMillisSinceLastError(circuitHealth);
     int timeRemaining = circuitBreakerInferredConfig.resetTimeInMillis - timeDif;
-    updateRejectedRequestCount(circuitHealth, circuitBreakerInferredConfig);
+    externRecordRejection(circuitHealth);
     string errorMessage = "Upstream service unavailable. Requests to upstream service will be suspended for "
         + timeRemaining.toString() + " milliseconds.";
     return UpstreamServiceUnavailableError(errorMessage);
@@ -560,160 +499,6 @@ function validateCircuitBreakerConfiguration(CircuitBreakerConfig circuitBreaker
     }
 }
 
-# Calculates a failure at a given point.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Current failure ratio
-function getCurrentFailureRatio(CircuitHealth circuitHealth) returns float {
-    int totalCount = 0;
-    int totalFailures = 0;
-
-    foreach var optBucket in circuitHealth.totalBuckets {
-        var bucket = <Bucket>optBucket;
-        totalCount =  totalCount + bucket.failureCount +
-                                        (bucket.totalCount - (bucket.failureCount + bucket.rejectedCount));
-        totalFailures = totalFailures + bucket.failureCount;
-    }
-    float ratio = 0.0;
-    if (totalCount > 0) {
-        ratio = <float> totalFailures / totalCount;
-    }
-    return ratio;
-}
-
-# Calculates the total requests count within a `RollingWindow`.
-#
-# + circuitHealth - Circuit Breaker health status
-# + return - Total requests count
-function getTotalRequestsCount(CircuitHealth circuitHealth) returns int {
-    int totalCount = 0;
-
-    foreach var bucket in circuitHealth.totalBuckets {
-        Bucket temp = <Bucket>bucket;
-        totalCount  =  totalCount + temp.totalCount;
-    }
-    return totalCount;
-}
-
-# Calculates the current bucket ID.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-# + return - Current bucket id
-function getCurrentBucketId(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig)
-             returns int {
-    int elapsedTime = (time:currentTime().time - circuitHealth.startTime.time) % circuitBreakerInferredConfig.
-        rollingWindow.timeWindowInMillis;
-    int currentBucketId = ((elapsedTime / circuitBreakerInferredConfig.rollingWindow.bucketSizeInMillis) + 1)
-        % circuitBreakerInferredConfig.noOfBuckets;
-    return currentBucketId;
-}
-
-# Updates the rejected requests count.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function updateRejectedRequestCount(CircuitHealth circuitHealth,
-                                                CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-    updateLastUsedBucketId(currentBucketId, circuitHealth);
-    Bucket bucket = <Bucket>circuitHealth.totalBuckets[currentBucketId];
-    bucket.rejectedCount += 1;
-}
-
-# Resets the bucket values to the default ones.
-#
-# + circuitHealth - - Circuit Breaker health status.
-# + bucketId - - Id of the bucket should reset.
-function resetBucketStats(CircuitHealth circuitHealth, int bucketId) {
-    circuitHealth.totalBuckets[bucketId] = {};
-}
-
-function getEffectiveErrorTime(CircuitHealth circuitHealth) returns time:Time {
-    time:Time? lastErrorTime = circuitHealth?.lastErrorTime;
-    time:Time? lastForcedOpenTime = circuitHealth?.lastForcedOpenTime;
-    if (lastErrorTime is time:Time && lastForcedOpenTime is time:Time) {
-     return (lastErrorTime.time > lastForcedOpenTime.time)
-        ? lastErrorTime : lastForcedOpenTime;
-    }
-    //TODO:What to send?
-    return time:currentTime();
-}
-
-# Populates the `RollingWindow` statistics to handle circuit breaking within the `RollingWindow` time frame.
-#
-# + circuitHealth - Circuit Breaker health status
-# + circuitBreakerInferredConfig - Configurations derived from `CircuitBreakerConfig`
-function prepareRollingWindow(CircuitHealth circuitHealth, CircuitBreakerInferredConfig circuitBreakerInferredConfig) {
-
-    int currentTime = time:currentTime().time;
-    time:Time? lastRequestTime = circuitHealth?.lastRequestTime;
-    //TODO:Get this logic verified
-    int idleTime = 0;
-    if (lastRequestTime is time:Time) {
-        idleTime = currentTime - lastRequestTime.time;
-    }
-    RollingWindow rollingWindow = circuitBreakerInferredConfig.rollingWindow;
-    // If the time duration between two requests greater than timeWindowInMillis values, reset the buckets to default.
-    if (idleTime > rollingWindow.timeWindowInMillis) {
-        reInitializeBuckets(circuitHealth);
-    } else {
-        int currentBucketId = getCurrentBucketId(circuitHealth, circuitBreakerInferredConfig);
-        int lastUsedBucketId = circuitHealth.lastUsedBucketId;
-        // Check whether subsequent requests received within same bucket(sub time window). If the idle time is greater
-        // than bucketSizeInMillis means subsequent calls are received time exceeding the rolling window. if we need to
-        // reset the buckets to default.
-        if (currentBucketId == circuitHealth.lastUsedBucketId && idleTime > rollingWindow.bucketSizeInMillis) {
-            reInitializeBuckets(circuitHealth);
-        // If the current bucket (sub time window) is less than last updated bucket. Stats of the current bucket to
-        // zeroth bucket and Last bucket to last used bucket needs to be reset to default.
-        } else if (currentBucketId < lastUsedBucketId) {
-            int index = currentBucketId;
-            while (index >= 0) {
-                resetBucketStats(circuitHealth, index);
-                index -= 1;
-            }
-            int lastIndex = (circuitHealth.totalBuckets.length()) - 1;
-            while (lastIndex > currentBucketId) {
-                resetBucketStats(circuitHealth, lastIndex);
-                lastIndex -= 1;
-            }
-        } else {
-            // If the current bucket (sub time window) is greater than last updated bucket. Stats of current bucket to
-            // last used bucket needs to be reset without resetting last used bucket stat.
-            while (currentBucketId > lastUsedBucketId && idleTime > rollingWindow.bucketSizeInMillis) {
-                resetBucketStats(circuitHealth, currentBucketId);
-                currentBucketId -= 1;
-            }
-        }
-    }
-}
-
-# Reinitializes the Buckets to the default state.
-#
-# + circuitHealth - Circuit Breaker health status
-function reInitializeBuckets(CircuitHealth circuitHealth) {
-    Bucket?[] bucketArray = [];
-    int bucketIndex = 0;
-    while (bucketIndex < circuitHealth.totalBuckets.length()) {
-        bucketArray[bucketIndex] = {};
-        bucketIndex += 1;
-    }
-    circuitHealth.totalBuckets = bucketArray;
-}
-
-# Updates the `lastUsedBucketId` in `CircuitHealth`.
-#
-# + bucketId - Possition of the currrently used bucket
-# + circuitHealth - Circuit Breaker health status
-function updateLastUsedBucketId(int bucketId, CircuitHealth circuitHealth) {
-    if (bucketId != circuitHealth.lastUsedBucketId) {
-        resetBucketStats(circuitHealth, bucketId);
-        circuitHealth.lastUsedBucketId = bucketId;
-    }
-}
-
 # Switches circuit state from open to half open state when reset time exceeded.
 #
 # + circuitBreakerInferredConfig -  Configurations derived from `CircuitBreakerConfig`
@@ -724,8 +509,7 @@ function switchCircuitStateOpenToHalfOpenOnResetTime(CircuitBreakerInferredConfi
                                         CircuitHealth circuitHealth, CircuitState currentState) returns CircuitState {
     CircuitState currentCircuitState = currentState;
     if (currentState == CB_OPEN_STATE) {
-        time:Time effectiveErrorTime = getEffectiveErrorTime(circuitHealth);
-        int elapsedTime = time:currentTime().time - effectiveErrorTime.time;
+        int elapsedTime = externGetMillisSinceLastError(circuitHealth);
         if (elapsedTime > circuitBreakerInferredConfig.resetTimeInMillis) {
             currentCircuitState = CB_HALF_OPEN_STATE;
             log:printInfo("CircuitBreaker reset timeout reached. Circuit switched from OPEN to HALF_OPEN state.");
@@ -733,3 +517,53 @@ function switchCircuitStateOpenToHalfOpenOnResetTime(CircuitBreakerInferredConfi
     }
     return currentCircuitState;
 }
+
+function externInitCircuitHealth(CircuitHealth circuitHealth, int bucketSizeInMillis, int noOfBuckets) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitHealth",
+    name: "init"
+} external;
+
+function externRecordRequest(CircuitHealth circuitHealth) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitHealth",
+    name: "recordRequest"
+} external;
+
+function externRecordSuccess(CircuitHealth circuitHealth) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitHealth",
+    name: "recordSuccess"
+} external;
+
+function externRecordFailure(CircuitHealth circuitHealth) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitHealth",
+    name: "recordFailure"
+} external;
+
+function externRecordRejection(CircuitHealth circuitHealth) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitHealth",
+    name: "recordRejection"
+} external;
+
+function externRecordForcedOpen(CircuitHealth circuitHealth) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitHealth",
+    name: "recordForcedOpen"
+} external;
+
+function externIsLastRequestSuccess(CircuitHealth circuitHealth) returns boolean = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitHealth",
+    name: "isLastRequestSuccess"
+} external;
+
+function externGetTotalRequestCount(CircuitHealth circuitHealth) returns int = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitHealth",
+    name: "getTotalRequestCount"
+} external;
+
+function externGetFailureRatio(CircuitHealth circuitHealth) returns float = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitHealth",
+    name: "getFailureRatio"
+} external;
+
+function externGetMillisSinceLastError(CircuitHealth circuitHealth) returns int = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternCircuitHealth",
+    name: "getMillisSinceLastError"
+} external;
@@ -26,3 +26,19 @@ public type LoadBalancerRule object {
     #            for the failure in the algorithm implementation
     public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError;
 };
+
+# AdaptiveLoadBalancerRule is a `LoadBalancerRule`, which is notified when the requests sent to the chosen clients
+# complete, so that it can balance the load based on them.
+public type AdaptiveLoadBalancerRule object {
+
+    *LoadBalancerRule;
+
+    # Notifies that a request sent to a client chosen by the rule is completed.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients, which are load balanced
+    # + httpClient - The chosen `Client`
+    # + latencyInNanos - Time taken by the request in nanoseconds
+    # + success - Whether the request succeeded
+    public function onCompletion(Client?[] loadBalanceCallerActionsArray, Client httpClient, int latencyInNanos,
+                                 boolean success);
+};
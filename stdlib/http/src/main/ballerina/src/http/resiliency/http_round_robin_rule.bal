@@ -14,12 +14,15 @@
 // specific language governing permissions and limitations
 // under the License.
 
-# Implementation of round robin load balancing strategy.
-#
-# + index - Keep tracks the current point of the Client[]
+import ballerina/java;
+
+# Implementation of round robin load balancing strategy. The clients are chosen in turn with an atomic counter, so
+# concurrent requests do not wait for each other.
 public class LoadBalancerRoundRobinRule {
 
-    public int index = 0;
+    public function init() {
+        externInitRoundRobinRule(self);
+    }
 
     # Provides an HTTP client, which is chosen according to the round robin algorithm.
     #
@@ -27,16 +30,22 @@ public class LoadBalancerRoundRobinRule {
     # + return - Chosen `http:Client` from the algorithm or else an `http:ClientError` for a failure in
     #            the algorithm implementation
     public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
-        Client httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-        lock {
-            if (self.index == ((loadBalanceCallerActionsArray.length()) - 1)) {
-                httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-                self.index = 0;
-            } else {
-                httpClient = <Client>loadBalanceCallerActionsArray[self.index];
-                self.index += 1;
-            }
-        }
-        return httpClient;
+        return <Client>loadBalanceCallerActionsArray[externSelectClient(self, loadBalanceCallerActionsArray.length())];
     }
 }
+
+function externInitRoundRobinRule(LoadBalancerRoundRobinRule lbRule) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternLoadBalancer",
+    name: "initRoundRobin"
+} external;
+
+function externSelectClient(LoadBalancerRule lbRule, int noOfClients) returns int = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternLoadBalancer",
+    name: "select"
+} external;
+
+function externCompleteRequest(LoadBalancerRule lbRule, Client?[] loadBalanceCallerActionsArray, Client httpClient,
+                               int latencyInNanos, boolean success) = @java:Method {
+    'class: "org.ballerinalang.net.http.nativeimpl.ExternLoadBalancer",
+    name: "complete"
+} external;
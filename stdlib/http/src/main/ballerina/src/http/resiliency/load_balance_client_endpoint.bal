@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/mime;
+import ballerina/time;
 
 # LoadBalanceClient endpoint provides load balancing functionality over multiple HTTP clients.
 #
@@ -243,10 +244,16 @@ function performLoadBalanceAction(LoadBalanceClient lb, string path, Request req
         }
     }
 
+    LoadBalancerRule lbRule = lb.lbRule;
     while (loadBalanceTermination < lb.loadBalanceClientsArray.length()) {
-        var loadBalanceClient = lb.lbRule.getNextClient(lb.loadBalanceClientsArray);
+        var loadBalanceClient = lbRule.getNextClient(lb.loadBalanceClientsArray);
         if (loadBalanceClient is Client) {
+            int startTime = time:nanoTime();
             var serviceResponse = invokeEndpoint(path, request, requestAction, loadBalanceClient);
+            if (lbRule is AdaptiveLoadBalancerRule) {
+                lbRule.onCompletion(lb.loadBalanceClientsArray, loadBalanceClient, time:nanoTime() - startTime,
+                                    !(serviceResponse is error));
+            }
             if (serviceResponse is Response) {
                 return serviceResponse;
             } else if (serviceResponse is HttpFuture) {
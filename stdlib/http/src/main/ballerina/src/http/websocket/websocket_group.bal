@@ -0,0 +1,146 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.'string as strings;
+import ballerina/java;
+
+# The member of the group misses the messages broadcast while it has too many pending messages.
+public const SLOW_CONSUMER_SKIP = "SKIP";
+
+# The member of the group is removed from the group once it has too many pending messages.
+public const SLOW_CONSUMER_DROP = "DROP";
+
+# The action taken on a member of a `http:WebSocketGroup` which cannot keep up with the messages broadcast.
+public type SlowConsumerPolicy SLOW_CONSUMER_SKIP|SLOW_CONSUMER_DROP;
+
+# Configurations of a `http:WebSocketGroup`.
+#
+# + maxPendingMessages - The maximum number of broadcast messages which are yet to be written to a member
+# + slowConsumerPolicy - The action taken on a member once it has the maximum number of pending messages
+public type WebSocketGroupConfiguration record {|
+    int maxPendingMessages = 64;
+    SlowConsumerPolicy slowConsumerPolicy = SLOW_CONSUMER_SKIP;
+|};
+
+# Represents a group of WebSocket connections, which a message could be broadcast to at once. A message is prepared
+# only once for all the members, and a member which cannot keep up with the messages broadcast does not hold the
+# others back. A connection is removed from the group once it is closed.
+# ```ballerina
+#  http:WebSocketGroup subscribers = new({maxPendingMessages: 16});
+#  _ = check subscribers.add(caller);
+#  int count = check subscribers.broadcastText(update);
+# ```
+public class WebSocketGroup {
+
+    # Called when a new `http:WebSocketGroup` is created.
+    #
+    # + config - Configurations of the group
+    public function init(WebSocketGroupConfiguration config = {}) {
+        if (config.maxPendingMessages <= 0) {
+            panic WsGenericError("Maximum pending messages of a WebSocket group should be greater than 0");
+        }
+        externInitGroup(self, config.maxPendingMessages, config.slowConsumerPolicy);
+    }
+
+    # Adds a connection to the group.
+    #
+    # + caller - The connection
+    # + return - `true` if the connection was added, `false` if it is already a member, or else a `WebSocketError`
+    #            if the connection has not been made
+    public function add(WebSocketCaller caller) returns boolean|WebSocketError {
+        return externAddToGroup(self, caller);
+    }
+
+    # Removes a connection from the group.
+    #
+    # + caller - The connection
+    # + return - `true` if the connection was removed, `false` if it is not a member, or else a `WebSocketError`
+    #            if the connection has not been made
+    public function remove(WebSocketCaller caller) returns boolean|WebSocketError {
+        return externRemoveFromGroup(self, caller);
+    }
+
+    # Returns the number of connections in the group.
+    #
+    # + return - The number of connections
+    public function size() returns int {
+        return externGetGroupSize(self);
+    }
+
+    # Pushes text to all the connections in the group. The message is not pushed to a connection which has the
+    # maximum number of pending messages.
+    #
+    # + data - Data to be sent. If it is a byte[], it is converted to a UTF-8 string for sending
+    # + return - The number of connections the message was pushed to, or else a `WebSocketError` if the text message
+    #            could not be created
+    public function broadcastText(string|json|xml|boolean|int|float|byte|byte[] data) returns int|WebSocketError {
+        string text = "";
+        if (data is byte[]) {
+            string|error result = strings:fromBytes(data);
+            if (result is error) {
+                return WsGenericError("Error occurred during the text message creation", result);
+            }
+            text = <string> result;
+        } else if (data is json) {
+            text = data.toJsonString();
+        } else {
+            text = data.toString();
+        }
+        return externBroadcastText(self, text);
+    }
+
+    # Pushes binary data to all the connections in the group. The message is not pushed to a connection which has
+    # the maximum number of pending messages.
+    #
+    # + data - Binary data to be sent
+    # + return - The number of connections the message was pushed to
+    public function broadcastBinary(byte[] data) returns int {
+        return externBroadcastBinary(self, data);
+    }
+}
+
+function externInitGroup(WebSocketGroup wsGroup, int maxPendingMessages, string slowConsumerPolicy) =
+@java:Method {
+    'class: "org.ballerinalang.net.http.actions.websocketconnector.Broadcast",
+    name: "initGroup"
+} external;
+
+function externAddToGroup(WebSocketGroup wsGroup, WebSocketCaller caller) returns boolean|WebSocketError =
+@java:Method {
+    'class: "org.ballerinalang.net.http.actions.websocketconnector.Broadcast",
+    name: "addToGroup"
+} external;
+
+function externRemoveFromGroup(WebSocketGroup wsGroup, WebSocketCaller caller) returns boolean|WebSocketError =
+@java:Method {
+    'class: "org.ballerinalang.net.http.actions.websocketconnector.Broadcast",
+    name: "removeFromGroup"
+} external;
+
+function externGetGroupSize(WebSocketGroup wsGroup) returns int = @java:Method {
+    'class: "org.ballerinalang.net.http.actions.websocketconnector.Broadcast",
+    name: "getGroupSize"
+} external;
+
+function externBroadcastText(WebSocketGroup wsGroup, string text) returns int = @java:Method {
+    'class: "org.ballerinalang.net.http.actions.websocketconnector.Broadcast",
+    name: "broadcastText"
+} external;
+
+function externBroadcastBinary(WebSocketGroup wsGroup, byte[] data) returns int = @java:Method {
+    'class: "org.ballerinalang.net.http.actions.websocketconnector.Broadcast",
+    name: "broadcastBinary"
+} external;
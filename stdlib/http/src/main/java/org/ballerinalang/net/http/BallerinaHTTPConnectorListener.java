@@ -18,9 +18,12 @@
 package org.ballerinalang.net.http;
 
 import io.ballerina.runtime.api.BRuntime;
+import io.ballerina.runtime.api.BStringUtils;
 import io.ballerina.runtime.api.connector.CallableUnitCallback;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaConnectorException;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 import io.ballerina.runtime.observability.ObservabilityConstants;
@@ -49,6 +52,8 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
 
     private static final Logger log = LoggerFactory.getLogger(BallerinaHTTPConnectorListener.class);
     protected static final String HTTP_RESOURCE = "httpResource";
+    private static final BString FILTERS_FIELD = BStringUtils.fromString(HttpConstants.ENDPOINT_CONFIG_FILTERS);
+    private static final BString AUTH_FIELD = BStringUtils.fromString("auth");
 
     private final HTTPServicesRegistry httpServicesRegistry;
 
@@ -65,7 +70,7 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
             HttpResource httpResource;
             if (accessed(inboundMessage)) {
                 httpResource = (HttpResource) inboundMessage.getProperty(HTTP_RESOURCE);
-                extractPropertiesAndStartResourceExecution(inboundMessage, httpResource);
+                dispatchResource(inboundMessage, httpResource);
                 return;
             }
             httpResource = HttpDispatcher.findResource(httpServicesRegistry, inboundMessage);
@@ -78,7 +83,7 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
             }
             try {
                 if (httpResource != null) {
-                    extractPropertiesAndStartResourceExecution(inboundMessage, httpResource);
+                    dispatchResource(inboundMessage, httpResource);
                 }
             } catch (BallerinaException ex) {
                 HttpUtil.handleFailure(inboundMessage, new BallerinaConnectorException(ex.getMessage(), ex.getCause()));
@@ -93,6 +98,56 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
         log.warn("Error in HTTP server connector: {}", throwable.getMessage());
     }
 
+    /**
+     * Execute the resource for a request, unless the request is coalesced with an identical request whose execution
+     * is in progress.
+     *
+     * @param inboundMessage inbound request
+     * @param httpResource   matched resource
+     */
+    private void dispatchResource(HttpCarbonMessage inboundMessage, HttpResource httpResource) {
+        RequestCoalescer<CoalescedResponse> requestCoalescer = httpResource.getRequestCoalescer();
+        String key = null;
+        if (requestCoalescer != null && HttpConstants.HTTP_METHOD_GET.equals(inboundMessage.getHttpMethod())
+                && !hasFilters()) {
+            key = CoalescedResponse.getRequestKey(inboundMessage);
+        }
+        if (key == null) {
+            extractPropertiesAndStartResourceExecution(inboundMessage, httpResource);
+            return;
+        }
+        requestCoalescer.dispatch(key,
+                                  flight -> startCoalescedResourceExecution(inboundMessage, httpResource, flight),
+                                  response -> response.send(inboundMessage));
+    }
+
+    private void startCoalescedResourceExecution(HttpCarbonMessage inboundMessage, HttpResource httpResource,
+                                                 RequestCoalescer.Flight<CoalescedResponse> flight) {
+        if (flight != null) {
+            inboundMessage.setProperty(HttpConstants.COALESCING_FLIGHT, flight);
+        }
+        try {
+            extractPropertiesAndStartResourceExecution(inboundMessage, httpResource);
+        } catch (Exception ex) {
+            if (flight != null) {
+                flight.abandon();
+            }
+            HttpUtil.handleFailure(inboundMessage, new BallerinaConnectorException(ex.getMessage(), ex.getCause()));
+        }
+    }
+
+    /**
+     * Specifies whether the listener runs filters, which include the authentication and authorization filters. The
+     * filters are run as a part of the resource, so a request whose resource is not executed would skip them.
+     */
+    private boolean hasFilters() {
+        if (endpointConfig == null) {
+            return false;
+        }
+        Object filters = endpointConfig.get(FILTERS_FIELD);
+        return endpointConfig.get(AUTH_FIELD) != null || (filters instanceof BArray && ((BArray) filters).size() > 0);
+    }
+
     protected void extractPropertiesAndStartResourceExecution(HttpCarbonMessage inboundMessage,
                                                               HttpResource httpResource) {
         boolean isTransactionInfectable = httpResource.isTransactionInfectable();
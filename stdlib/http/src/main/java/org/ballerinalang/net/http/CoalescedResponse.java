@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.StreamingJsonValue;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.ballerinalang.mime.util.EntityBodyHandler;
+import org.ballerinalang.net.http.nativeimpl.pipelining.PipeliningHandler;
+import org.wso2.transport.http.netty.message.HttpCarbonMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.ballerinalang.net.http.HttpUtil.extractEntity;
+
+/**
+ * The response of a coalesced request, kept in memory so that it can be sent to the requests which waited for it.
+ *
+ * @since 2.0.0
+ */
+public class CoalescedResponse {
+
+    /**
+     * The request headers a response may vary on. Requests are coalesced only if they have the same values for them.
+     */
+    private static final String[] KEY_HEADERS = {
+            HttpHeaderNames.ORIGIN.toString(), HttpHeaderNames.ACCEPT.toString(),
+            HttpHeaderNames.ACCEPT_ENCODING.toString(), HttpHeaderNames.ACCEPT_LANGUAGE.toString(),
+            HttpHeaderNames.ACCEPT_CHARSET.toString(), HttpHeaderNames.AUTHORIZATION.toString(),
+            HttpHeaderNames.COOKIE.toString()
+    };
+
+    /**
+     * The request headers which carry credentials. The response to such a request belongs to a single client.
+     */
+    private static final String[] CREDENTIAL_HEADERS = {
+            HttpHeaderNames.AUTHORIZATION.toString(), HttpHeaderNames.PROXY_AUTHORIZATION.toString(),
+            HttpHeaderNames.COOKIE.toString()
+    };
+
+    private final int statusCode;
+    private final Object reasonPhrase;
+    private final HttpHeaders headers;
+    private final byte[] body;
+
+    private CoalescedResponse(int statusCode, Object reasonPhrase, HttpHeaders headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.reasonPhrase = reasonPhrase;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    /**
+     * Get the key a request is coalesced by. A request which carries credentials is never coalesced, as its response
+     * belongs to a single client.
+     *
+     * @param requestMsg the request
+     * @return the key, or null if the request must not be coalesced
+     */
+    public static String getRequestKey(HttpCarbonMessage requestMsg) {
+        HttpHeaders requestHeaders = requestMsg.getHeaders();
+        for (String header : CREDENTIAL_HEADERS) {
+            if (requestHeaders.contains(header)) {
+                return null;
+            }
+        }
+        StringBuilder key = new StringBuilder(requestMsg.getRequestUrl());
+        for (String header : KEY_HEADERS) {
+            key.append('\n');
+            for (String value : requestHeaders.getAll(header)) {
+                key.append(value).append(',');
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Copy an outbound response so that it can be shared. A response which sets cookies is not shared as it belongs
+     * to a single client, and neither is a response whose payload is not built in memory or is streamed, as reading it
+     * here would consume it before it is sent.
+     *
+     * @param responseMsg         outbound response message
+     * @param outboundResponseObj outbound response object
+     * @return the copy, or null if the response cannot be shared
+     */
+    public static CoalescedResponse copyOf(HttpCarbonMessage responseMsg, BObject outboundResponseObj) {
+        if (responseMsg.getHeaders().contains(HttpHeaderNames.SET_COOKIE)) {
+            return null;
+        }
+        ByteArrayOutputStream bodyStream = new ByteArrayOutputStream();
+        BObject entityObj = extractEntity(outboundResponseObj);
+        if (entityObj != null) {
+            Object dataSource = EntityBodyHandler.getMessageDataSource(entityObj);
+            if (dataSource == null || dataSource instanceof StreamingJsonValue) {
+                return null;
+            }
+            try {
+                HttpUtil.serializeDataSource(dataSource, entityObj, bodyStream);
+            } catch (IOException | RuntimeException e) {
+                // The serialization error is reported to the leader when its response is sent.
+                return null;
+            }
+        }
+        HttpHeaders headers = new DefaultHttpHeaders().set(responseMsg.getHeaders());
+        return new CoalescedResponse(responseMsg.getHttpStatusCode(),
+                                     responseMsg.getProperty(HttpConstants.HTTP_REASON_PHRASE), headers,
+                                     bodyStream.toByteArray());
+    }
+
+    /**
+     * Send the response to a request which waited for it.
+     *
+     * @param requestMsg the waiting request
+     */
+    public void send(HttpCarbonMessage requestMsg) {
+        HttpCarbonMessage responseMsg = HttpUtil.createHttpCarbonMessage(false);
+        responseMsg.getHeaders().set(headers);
+        if (!headers.contains(HttpHeaderNames.CONTENT_LENGTH) && !headers.contains(HttpHeaderNames.TRANSFER_ENCODING)) {
+            responseMsg.setHeader(HttpHeaderNames.CONTENT_LENGTH.toString(), String.valueOf(body.length));
+        }
+        responseMsg.setHttpStatusCode(statusCode);
+        if (reasonPhrase != null) {
+            responseMsg.setProperty(HttpConstants.HTTP_REASON_PHRASE, reasonPhrase);
+        }
+        responseMsg.setSequenceId(requestMsg.getSequenceId());
+        responseMsg.addHttpContent(new DefaultLastHttpContent(Unpooled.wrappedBuffer(body)));
+        PipeliningHandler.sendPipelinedResponse(requestMsg, responseMsg);
+        requestMsg.waitAndReleaseAllEntities();
+    }
+}
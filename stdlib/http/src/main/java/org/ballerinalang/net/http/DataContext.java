@@ -25,9 +25,12 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.scheduling.Strand;
+import org.ballerinalang.net.http.clientendpoint.Http2StreamScheduler;
 import org.wso2.transport.http.netty.contract.HttpClientConnector;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import static io.ballerina.runtime.internal.util.BLangConstants.BALLERINA_BUILTIN_PKG_ID;
 import static org.ballerinalang.net.http.HttpConstants.STRUCT_GENERIC_ERROR;
 
@@ -40,6 +43,7 @@ public class DataContext {
     private BObject requestObj;
     private BalFuture future;
     private HttpCarbonMessage correlatedMessage;
+    private final AtomicReference<Http2StreamScheduler> acquiredStream = new AtomicReference<>();
 
     public DataContext(Strand strand, HttpClientConnector clientConnector, BalFuture future,
                        BObject requestObj, HttpCarbonMessage outboundRequestMsg) {
@@ -59,6 +63,7 @@ public class DataContext {
     }
 
     public void notifyInboundResponseStatus(BObject inboundResponse, BError httpConnectorError) {
+        releaseStream();
         //Make the request associate with this response consumable again so that it can be reused.
         if (inboundResponse != null) {
             getFuture().complete(inboundResponse);
@@ -72,9 +77,37 @@ public class DataContext {
     }
 
     public void notifyOutboundResponseStatus(BError httpConnectorError) {
+        releaseStream();
         getFuture().complete(httpConnectorError);
     }
 
+    /**
+     * Set the scheduler of the HTTP/2 stream acquired for the request, so that the stream is released once the
+     * response status is notified.
+     *
+     * @param streamScheduler the scheduler which the stream was acquired from
+     */
+    public void setAcquiredStream(Http2StreamScheduler streamScheduler) {
+        acquiredStream.set(streamScheduler);
+    }
+
+    /**
+     * Take over the HTTP/2 stream acquired for the request, so that it is not released once the response status is
+     * notified.
+     *
+     * @return the scheduler which the stream was acquired from, or null if no stream is held
+     */
+    public Http2StreamScheduler takeAcquiredStream() {
+        return acquiredStream.getAndSet(null);
+    }
+
+    private void releaseStream() {
+        Http2StreamScheduler streamScheduler = takeAcquiredStream();
+        if (streamScheduler != null) {
+            streamScheduler.release();
+        }
+    }
+
     public HttpCarbonMessage getOutboundRequest() {
         return correlatedMessage;
     }
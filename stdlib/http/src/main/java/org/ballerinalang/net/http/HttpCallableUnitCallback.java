@@ -34,13 +34,25 @@ public class HttpCallableUnitCallback implements CallableUnitCallback {
 
     @Override
     public void notifySuccess() {
+        abandonCoalescingFlight();
         requestMessage.waitAndReleaseAllEntities();
     }
 
     @Override
     public void notifyFailure(BError error) {
+        abandonCoalescingFlight();
         HttpUtil.handleFailure(requestMessage, error);
         requestMessage.waitAndReleaseAllEntities();
     }
 
+    @SuppressWarnings("unchecked")
+    private void abandonCoalescingFlight() {
+        // The requests coalesced with this one execute the resource on their own if it did not share a response.
+        RequestCoalescer.Flight<CoalescedResponse> flight = (RequestCoalescer.Flight<CoalescedResponse>)
+                requestMessage.getProperty(HttpConstants.COALESCING_FLIGHT);
+        if (flight != null) {
+            flight.abandon();
+        }
+    }
+
 }
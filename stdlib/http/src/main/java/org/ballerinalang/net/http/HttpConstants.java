@@ -94,6 +94,9 @@ public class HttpConstants {
     public static final String ANN_RESOURCE_ATTR_BODY = "body";
     public static final String ANN_RESOURCE_ATTR_CONSUMES = "consumes";
     public static final String ANN_RESOURCE_ATTR_PRODUCES = "produces";
+    public static final String ANN_RESOURCE_ATTR_COALESCING = "coalescing";
+    public static final String ANN_COALESCING_ATTR_MAX_WAIT_TIME = "maxWaitTimeInMillis";
+    public static final String ANN_COALESCING_ATTR_MAX_WAITERS = "maxWaitersPerKey";
     public static final String ANN_NAME_CONFIG = "configuration";
     public static final String ANN_NAME_HTTP_SERVICE_CONFIG = "ServiceConfig";
     public static final String ANN_CONFIG_ATTR_HOST = "host";
@@ -117,6 +120,7 @@ public class HttpConstants {
     public static final BString ANN_CONFIG_ATTR_COMPRESSION = BStringUtils.fromString("compression");
     public static final BString ANN_CONFIG_ATTR_COMPRESSION_ENABLE = BStringUtils.fromString("enable");
     public static final BString ANN_CONFIG_ATTR_COMPRESSION_CONTENT_TYPES = BStringUtils.fromString("contentTypes");
+    public static final BString ANN_CONFIG_ATTR_COMPRESSION_MINIMUM_SIZE = BStringUtils.fromString("minimumSize");
     public static final String ANN_CONFIG_ATTR_CACHE_SIZE = "cacheSize";
     public static final String ANN_CONFIG_ATTR_CACHE_VALIDITY_PERIOD = "cacheValidityPeriod";
     public static final String ANN_CONFIG_ATTR_WEBSOCKET = "webSocket";
@@ -159,11 +163,13 @@ public class HttpConstants {
     public static final String EXPOSE_HEADERS = "exposeHeaders";
     public static final String PREFLIGHT_RESOURCES = "PREFLIGHT_RESOURCES";
     public static final String RESOURCES_CORS = "RESOURCES_CORS";
+    public static final String COALESCING_FLIGHT = "COALESCING_FLIGHT";
     public static final String LISTENER_INTERFACE_ID = "listener.interface.id";
     public static final String PACKAGE_BALLERINA_BUILTIN = BALLERINA_BUILTIN_PKG;
 
     public static final String CLIENT = "Client";
     public static final String HTTP_CLIENT = "HttpClient";
+    public static final String CLIENT_STREAM_SCHEDULER = "ClientStreamScheduler";
 
     public static final String SRC_HANDLER = "SRC_HANDLER";
     public static final String REMOTE_ADDRESS = "REMOTE_ADDRESS";
@@ -197,6 +203,7 @@ public class HttpConstants {
     public static final String TRANSPORT_MESSAGE = "transport_message";
     public static final String QUERY_PARAM_MAP = "queryParamMap";
     public static final String TRANSPORT_HANDLE = "transport_handle";
+    public static final String SUBMITTED_RESPONSE_LISTENER = "submitted_response_listener";
     public static final String TRANSPORT_PUSH_PROMISE = "transport_push_promise";
     public static final String MESSAGE_OUTPUT_STREAM = "message_output_stream";
     public static final String HTTP_SESSION = "http_session";
@@ -393,8 +400,11 @@ public class HttpConstants {
     public static final BString CONNECTION_POOLING_WAIT_TIME = BStringUtils.fromString("waitTimeInMillis");
     public static final BString CONNECTION_POOLING_MAX_ACTIVE_STREAMS_PER_CONNECTION = BStringUtils.fromString(
             "maxActiveStreamsPerConnection");
+    public static final BString CONNECTION_POOLING_MAX_HTTP2_CONNECTIONS_PER_HOST = BStringUtils.fromString(
+            "maxHttp2ConnectionsPerHost");
     public static final String HTTP_CLIENT_CONNECTION_POOL = "PoolConfiguration";
     public static final String CONNECTION_MANAGER = "ConnectionManager";
+    public static final String HTTP2_STREAM_SCHEDULERS = "Http2StreamSchedulers";
     public static final int POOL_CONFIG_INDEX = 1;
     public static final BString USER_DEFINED_POOL_CONFIG = BStringUtils.fromString("poolConfig");
 
@@ -17,7 +17,6 @@
 */
 package org.ballerinalang.net.http;
 
-import io.ballerina.runtime.api.BStringUtils;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Type;
@@ -31,15 +30,15 @@ import io.ballerina.runtime.internal.util.exceptions.BallerinaConnectorException
 import io.netty.handler.codec.http.HttpHeaderNames;
 import org.ballerinalang.langlib.value.CloneWithType;
 import org.ballerinalang.mime.util.EntityBodyHandler;
+import org.ballerinalang.net.uri.BasePathTrie;
 import org.ballerinalang.net.uri.URIUtil;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import static org.ballerinalang.net.http.HttpConstants.DEFAULT_HOST;
@@ -55,15 +54,15 @@ public class HttpDispatcher {
     public static HttpService findService(HTTPServicesRegistry servicesRegistry, HttpCarbonMessage inboundReqMsg) {
         try {
             Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
+            BasePathTrie basePathTrie;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
 
             if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(hostName);
             } else if (servicesRegistry.getServicesMapHolder(DEFAULT_HOST) != null) {
                 servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(DEFAULT_HOST);
             } else {
                 inboundReqMsg.setHttpStatusCode(404);
                 String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
@@ -72,38 +71,52 @@ public class HttpDispatcher {
 
             String rawUri = (String) inboundReqMsg.getProperty(HttpConstants.TO);
             inboundReqMsg.setProperty(HttpConstants.RAW_URI, rawUri);
-            Map<String, Map<String, String>> matrixParams = new HashMap<>();
-            String uriWithoutMatrixParams = URIUtil.extractMatrixParams(rawUri, matrixParams);
+            String rawPath;
+            String rawQuery;
+            String query;
+            int pathEnd = URIUtil.getDispatchablePathEnd(rawUri);
+            if (pathEnd >= 0) {
+                // Common case of a URI without matrix parameters, which needs neither normalizing nor parsing.
+                rawPath = pathEnd == rawUri.length() ? rawUri : rawUri.substring(0, pathEnd);
+                rawQuery = URIUtil.getRawQuery(rawUri, pathEnd);
+                query = rawQuery == null || rawQuery.indexOf('%') < 0 ? rawQuery : getValidatedURI(rawUri).getQuery();
+            } else {
+                Map<String, Map<String, String>> matrixParams = new HashMap<>();
+                String uriWithoutMatrixParams = URIUtil.extractMatrixParams(rawUri, matrixParams);
 
-            inboundReqMsg.setProperty(HttpConstants.TO, uriWithoutMatrixParams);
-            inboundReqMsg.setProperty(HttpConstants.MATRIX_PARAMS, matrixParams);
+                inboundReqMsg.setProperty(HttpConstants.TO, uriWithoutMatrixParams);
+                inboundReqMsg.setProperty(HttpConstants.MATRIX_PARAMS, matrixParams);
 
-            URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
+                URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
+                rawPath = validatedUri.getRawPath();
+                rawQuery = validatedUri.getRawQuery();
+                query = validatedUri.getQuery();
+            }
 
-            String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getRawPath(),
-                    servicesOnInterface, sortedServiceURIs);
+            String basePath = servicesRegistry.findTheMostSpecificBasePath(rawPath, servicesOnInterface,
+                                                                           basePathTrie);
 
             if (basePath == null) {
                 inboundReqMsg.setHttpStatusCode(404);
-                throw new BallerinaConnectorException("no matching service found for path : " +
-                        validatedUri.getRawPath());
+                throw new BallerinaConnectorException("no matching service found for path : " + rawPath);
             }
 
             HttpService service = servicesOnInterface.get(basePath);
-            setInboundReqProperties(inboundReqMsg, validatedUri, basePath);
+            setInboundReqProperties(inboundReqMsg, rawPath, rawQuery, query, basePath);
             return service;
         } catch (Exception e) {
             throw new BallerinaConnectorException(e.getMessage());
         }
     }
 
-    private static void setInboundReqProperties(HttpCarbonMessage inboundReqMsg, URI requestUri, String basePath) {
-        String subPath = URIUtil.getSubPath(requestUri.getRawPath(), basePath);
+    private static void setInboundReqProperties(HttpCarbonMessage inboundReqMsg, String rawPath, String rawQuery,
+                                                String query, String basePath) {
+        String subPath = URIUtil.getSubPath(rawPath, basePath);
         inboundReqMsg.setProperty(HttpConstants.BASE_PATH, basePath);
         inboundReqMsg.setProperty(HttpConstants.SUB_PATH, subPath);
-        inboundReqMsg.setProperty(HttpConstants.QUERY_STR, requestUri.getQuery());
+        inboundReqMsg.setProperty(HttpConstants.QUERY_STR, query);
         //store query params comes with request as it is
-        inboundReqMsg.setProperty(HttpConstants.RAW_QUERY_STR, requestUri.getRawQuery());
+        inboundReqMsg.setProperty(HttpConstants.RAW_QUERY_STR, rawQuery);
     }
 
     public static URI getValidatedURI(String uriStr) {
@@ -166,36 +179,14 @@ public class HttpDispatcher {
             return paramValues;
         }
 
-        HttpResourceArguments resourceArgumentValues =
-                (HttpResourceArguments) httpCarbonMessage.getProperty(HttpConstants.RESOURCE_ARGS);
-        BMap pathParamOrder = HttpResource.getPathParamOrderMap(httpResource.getBalResource());
-
-        for (Object paramName : pathParamOrder.getKeys()) {
-            String argumentValue = resourceArgumentValues.getMap().get(paramName.toString());
-            try {
-                argumentValue = URLDecoder.decode(argumentValue, "UTF-8");
-            } catch (UnsupportedEncodingException e) {
-                // we can simply ignore and send the value to application and let the
-                // application deal with the value.
-            }
-            int actualSignatureParamIndex = ((Long) pathParamOrder.get(paramName)).intValue();
-            paramIndex = actualSignatureParamIndex * 2;
-            Type signatureParamType = signatureParams.getPathParamTypes().get(
-                    actualSignatureParamIndex - COMPULSORY_PARAM_COUNT);
+        Map<String, String> resourceArgumentValues =
+                ((HttpResourceArguments) httpCarbonMessage.getProperty(HttpConstants.RESOURCE_ARGS)).getMap();
+        for (SignatureParams.PathParamBinder binder : signatureParams.getPathParamBinders()) {
+            String argumentValue = URLDecoder.decode(resourceArgumentValues.get(binder.getName()),
+                                                     StandardCharsets.UTF_8);
+            paramIndex = binder.getArgIndex();
             try {
-                switch (signatureParamType.getTag()) {
-                    case TypeTags.INT_TAG:
-                        paramValues[paramIndex++] = Long.parseLong(argumentValue);
-                        break;
-                    case TypeTags.FLOAT_TAG:
-                        paramValues[paramIndex++] = Double.parseDouble(argumentValue);
-                        break;
-                    case TypeTags.BOOLEAN_TAG:
-                        paramValues[paramIndex++] = Boolean.parseBoolean(argumentValue);
-                        break;
-                    default:
-                        paramValues[paramIndex++] = BStringUtils.fromString(argumentValue);
-                }
+                paramValues[paramIndex++] = binder.convert(argumentValue);
                 paramValues[paramIndex] = true;
             } catch (Exception ex) {
                 throw new BallerinaConnectorException("Error in casting path param : " + ex.getMessage());
@@ -207,7 +198,7 @@ public class HttpDispatcher {
         }
         try {
             paramValues[paramValues.length - 2] = populateAndGetEntityBody(inRequest, inRequestEntity,
-                                                                   signatureParams.getEntityBody());
+                                                                   signatureParams.getEntityBodyReader());
             paramValues[paramValues.length - 1] = true;
         } catch (Exception ex) {
             httpCarbonMessage.setHttpStatusCode(Integer.parseInt(HttpConstants.HTTP_BAD_REQUEST));
@@ -217,43 +208,56 @@ public class HttpDispatcher {
     }
 
     private static Object populateAndGetEntityBody(BObject inRequest, BObject inRequestEntity,
-                                                   Type entityBodyType)
+                                                   SignatureParams.EntityBodyReader entityBodyReader)
             throws IOException {
         HttpUtil.populateEntityBody(inRequest, inRequestEntity, true, true);
         try {
-            switch (entityBodyType.getTag()) {
-                case TypeTags.STRING_TAG:
+            return entityBodyReader.read(inRequestEntity);
+        } catch (BError ex) {
+            throw new BallerinaConnectorException(ex.toString());
+        }
+    }
+
+    /**
+     * Get the reader of the inbound request entity for the given entity body param type.
+     *
+     * @param entityBodyType Represents entity body type
+     * @return the entity body reader
+     */
+    static SignatureParams.EntityBodyReader getEntityBodyReader(Type entityBodyType) {
+        switch (entityBodyType.getTag()) {
+            case TypeTags.STRING_TAG:
+                return inRequestEntity -> {
                     BString stringDataSource = EntityBodyHandler.constructStringDataSource(inRequestEntity);
                     EntityBodyHandler.addMessageDataSource(inRequestEntity, stringDataSource);
                     return stringDataSource;
-                case TypeTags.JSON_TAG:
-                    Object bjson = EntityBodyHandler.constructJsonDataSource(inRequestEntity);
-                    EntityBodyHandler.addJsonMessageDataSource(inRequestEntity, bjson);
-                    return bjson;
-                case TypeTags.XML_TAG:
+                };
+            case TypeTags.JSON_TAG:
+                return HttpDispatcher::getBJsonValue;
+            case TypeTags.XML_TAG:
+                return inRequestEntity -> {
                     BXML bxml = EntityBodyHandler.constructXmlDataSource(inRequestEntity);
                     EntityBodyHandler.addMessageDataSource(inRequestEntity, bxml);
                     return bxml;
-                case TypeTags.ARRAY_TAG:
-                    if (((ArrayType) entityBodyType).getElementType().getTag() == TypeTags.BYTE_TAG) {
+                };
+            case TypeTags.ARRAY_TAG:
+                if (((ArrayType) entityBodyType).getElementType().getTag() == TypeTags.BYTE_TAG) {
+                    return inRequestEntity -> {
                         BArray blobDataSource = EntityBodyHandler.constructBlobDataSource(inRequestEntity);
                         EntityBodyHandler.addMessageDataSource(inRequestEntity, blobDataSource);
                         return blobDataSource;
-                    } else if (((ArrayType) entityBodyType).getElementType().getTag() == TypeTags.RECORD_TYPE_TAG) {
-                        return getRecordEntity(inRequestEntity, entityBodyType);
-                    } else {
-                        throw new BallerinaConnectorException("Incompatible Element type found inside an array " +
-                                ((ArrayType) entityBodyType).getElementType().getName());
-                    }
-                case TypeTags.RECORD_TYPE_TAG:
-                    return getRecordEntity(inRequestEntity, entityBodyType);
-                default:
-                        //Do nothing
-            }
-        } catch (BError ex) {
-            throw new BallerinaConnectorException(ex.toString());
+                    };
+                } else if (((ArrayType) entityBodyType).getElementType().getTag() == TypeTags.RECORD_TYPE_TAG) {
+                    return inRequestEntity -> getRecordEntity(inRequestEntity, entityBodyType);
+                } else {
+                    throw new BallerinaConnectorException("Incompatible Element type found inside an array " +
+                            ((ArrayType) entityBodyType).getElementType().getName());
+                }
+            case TypeTags.RECORD_TYPE_TAG:
+                return inRequestEntity -> getRecordEntity(inRequestEntity, entityBodyType);
+            default:
+                return inRequestEntity -> null;
         }
-        return null;
     }
 
     private static Object getRecordEntity(BObject inRequestEntity, Type entityBodyType) {
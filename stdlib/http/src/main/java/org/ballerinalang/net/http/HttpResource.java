@@ -57,6 +57,11 @@ public class HttpResource {
     private static final BString PRODUCES_FIELD = BStringUtils.fromString("produces");
     private static final BString CORS_FIELD = BStringUtils.fromString("cors");
     private static final BString TRANSACTION_INFECTABLE_FIELD = BStringUtils.fromString("transactionInfectable");
+    private static final BString COALESCING_FIELD = BStringUtils.fromString(HttpConstants.ANN_RESOURCE_ATTR_COALESCING);
+    private static final BString COALESCING_MAX_WAIT_TIME_FIELD =
+            BStringUtils.fromString(HttpConstants.ANN_COALESCING_ATTR_MAX_WAIT_TIME);
+    private static final BString COALESCING_MAX_WAITERS_FIELD =
+            BStringUtils.fromString(HttpConstants.ANN_COALESCING_ATTR_MAX_WAITERS);
 
     private AttachedFunctionType balResource;
     private List<String> methods;
@@ -70,6 +75,7 @@ public class HttpResource {
     private HttpService parentService;
     private boolean transactionInfectable = true; //default behavior
     private boolean interruptible;
+    private RequestCoalescer<CoalescedResponse> requestCoalescer;
 
     private boolean transactionAnnotated = false;
 
@@ -180,6 +186,14 @@ public class HttpResource {
         this.interruptible = interruptible;
     }
 
+    public RequestCoalescer<CoalescedResponse> getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
+    public void setRequestCoalescer(RequestCoalescer<CoalescedResponse> requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+    }
+
     public String getEntityBodyAttributeValue() {
         return entityBodyAttribute;
     }
@@ -207,6 +221,12 @@ public class HttpResource {
             httpResource.setCorsHeaders(CorsHeaders.buildCorsHeaders(resourceConfigAnnotation.getMapValue(CORS_FIELD)));
             httpResource
                     .setTransactionInfectable(resourceConfigAnnotation.getBooleanValue(TRANSACTION_INFECTABLE_FIELD));
+            BMap coalescingConfig = resourceConfigAnnotation.getMapValue(COALESCING_FIELD);
+            if (coalescingConfig != null) {
+                httpResource.setRequestCoalescer(new RequestCoalescer<>(
+                        coalescingConfig.getIntValue(COALESCING_MAX_WAIT_TIME_FIELD),
+                        (int) coalescingConfig.getIntValue(COALESCING_MAX_WAITERS_FIELD)));
+            }
 
             processResourceCors(httpResource, httpService);
             httpResource.prepareAndValidateSignatureParams();
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timer which the HTTP module schedules the timeouts of waiting requests on.
+ * <p>
+ * A timeout is cancelled once the wait completes, which is the common case, so cancelled timeouts are removed from the
+ * queue of the timer rather than left there until they are due.
+ *
+ * @since 2.0.0
+ */
+public class HttpTimer {
+
+    private static final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "ballerina-http-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    private HttpTimer() {
+    }
+
+    /**
+     * Schedule a timeout.
+     *
+     * @param timeout       runs once the delay elapses, unless it is cancelled before
+     * @param delayInMillis   delay of the timeout
+     * @return the scheduled timeout, which is cancelled once the wait completes
+     */
+    public static ScheduledFuture<?> schedule(Runnable timeout, long delayInMillis) {
+        return timer.schedule(timeout, delayInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get the number of timeouts which are neither due nor cancelled yet.
+     *
+     * @return the number of pending timeouts
+     */
+    public static int getPendingTimeoutCount() {
+        return timer.getQueue().size();
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.BErrorCreator;
 import io.ballerina.runtime.api.BStringUtils;
 import io.ballerina.runtime.api.runtime.Module;
 import io.ballerina.runtime.api.types.AttachedFunctionType;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
@@ -59,6 +60,7 @@ import org.ballerinalang.mime.util.MultipartDataSource;
 import org.ballerinalang.mime.util.MultipartDecoder;
 import org.ballerinalang.net.http.caching.RequestCacheControlObj;
 import org.ballerinalang.net.http.caching.ResponseCacheControlObj;
+import org.ballerinalang.net.http.clientendpoint.Http2StreamScheduler;
 import org.ballerinalang.net.http.websocket.WebSocketConstants;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.slf4j.Logger;
@@ -89,6 +91,7 @@ import org.wso2.transport.http.netty.message.HttpMessageDataStreamer;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
+import java.net.URL;
 import java.net.UnknownHostException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -99,6 +102,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_HTTP_HOST;
@@ -123,10 +128,12 @@ import static org.ballerinalang.mime.util.MimeConstants.RESPONSE_ENTITY_FIELD;
 import static org.ballerinalang.net.http.HttpConstants.ALWAYS;
 import static org.ballerinalang.net.http.HttpConstants.ANN_CONFIG_ATTR_COMPRESSION_CONTENT_TYPES;
 import static org.ballerinalang.net.http.HttpConstants.ANN_CONFIG_ATTR_COMPRESSION_ENABLE;
+import static org.ballerinalang.net.http.HttpConstants.ANN_CONFIG_ATTR_COMPRESSION_MINIMUM_SIZE;
 import static org.ballerinalang.net.http.HttpConstants.ANN_CONFIG_ATTR_SSL_ENABLED_PROTOCOLS;
 import static org.ballerinalang.net.http.HttpConstants.AUTO;
 import static org.ballerinalang.net.http.HttpConstants.CONNECTION_MANAGER;
 import static org.ballerinalang.net.http.HttpConstants.CONNECTION_POOLING_MAX_ACTIVE_STREAMS_PER_CONNECTION;
+import static org.ballerinalang.net.http.HttpConstants.CONNECTION_POOLING_MAX_HTTP2_CONNECTIONS_PER_HOST;
 import static org.ballerinalang.net.http.HttpConstants.ENABLED_PROTOCOLS;
 import static org.ballerinalang.net.http.HttpConstants.ENDPOINT_CONFIG_CERTIFICATE;
 import static org.ballerinalang.net.http.HttpConstants.ENDPOINT_CONFIG_DISABLE_SSL;
@@ -141,6 +148,7 @@ import static org.ballerinalang.net.http.HttpConstants.ENDPOINT_CONFIG_TRUST_CER
 import static org.ballerinalang.net.http.HttpConstants.ENDPOINT_CONFIG_TRUST_STORE;
 import static org.ballerinalang.net.http.HttpConstants.ENDPOINT_CONFIG_VALIDATE_CERT;
 import static org.ballerinalang.net.http.HttpConstants.FILE_PATH;
+import static org.ballerinalang.net.http.HttpConstants.HTTP2_STREAM_SCHEDULERS;
 import static org.ballerinalang.net.http.HttpConstants.HTTP_ERROR_MESSAGE;
 import static org.ballerinalang.net.http.HttpConstants.HTTP_HEADERS;
 import static org.ballerinalang.net.http.HttpConstants.HTTP_TRAILER_HEADERS;
@@ -383,7 +391,8 @@ public class HttpUtil {
         HttpUtil.addCorsHeaders(inboundRequestMsg, outboundResponseMsg);
         HttpUtil.enrichOutboundMessage(outboundResponseMsg, outboundResponseObj);
         HttpService httpService = (HttpService) connectionObj.getNativeData(HttpConstants.HTTP_SERVICE);
-        HttpUtil.setCompressionHeaders(httpService.getCompressionConfig(), inboundRequestMsg, outboundResponseMsg);
+        HttpUtil.setCompressionHeaders(httpService.getCompressionConfig(), inboundRequestMsg, outboundResponseMsg,
+                                       outboundResponseObj);
         HttpUtil.setChunkingHeader(httpService.getChunkingConfig(), outboundResponseMsg);
     }
 
@@ -966,7 +975,7 @@ public class HttpUtil {
     }
 
     private static void setCompressionHeaders(BMap<BString, Object> compressionConfig, HttpCarbonMessage requestMsg,
-                                              HttpCarbonMessage outboundResponseMsg) {
+                                              HttpCarbonMessage outboundResponseMsg, BObject outboundResponseObj) {
         if (!checkConfigAnnotationAvailability(compressionConfig)) {
             return;
         }
@@ -980,6 +989,10 @@ public class HttpUtil {
             outboundResponseMsg.getHeaders().set(HttpHeaderNames.CONTENT_ENCODING, HTTP_TRANSFER_ENCODING_IDENTITY);
             return;
         }
+        if (isBelowCompressionThreshold(compressionConfig, outboundResponseMsg, outboundResponseObj)) {
+            outboundResponseMsg.getHeaders().set(HttpHeaderNames.CONTENT_ENCODING, HTTP_TRANSFER_ENCODING_IDENTITY);
+            return;
+        }
 
         String acceptEncodingValue = requestMsg.getHeaders().get(HttpHeaderNames.ACCEPT_ENCODING);
         List<String> contentTypesAnnotationValues = getAsStringList(
@@ -996,6 +1009,48 @@ public class HttpUtil {
         }
     }
 
+    /**
+     * Check whether a response payload is smaller than the minimum size of a payload which is compressed. Compressing
+     * a small payload costs more CPU than it saves in bytes sent. The size of a payload which is not built in memory
+     * is not known, and a streaming JSON payload can only be serialized once, so such a payload is not below the
+     * threshold.
+     *
+     * @param compressionConfig   compression configuration of the service
+     * @param outboundResponseMsg outbound response message
+     * @param outboundResponseObj outbound response object
+     * @return true if the payload should not be compressed as it is small
+     */
+    private static boolean isBelowCompressionThreshold(BMap<BString, Object> compressionConfig,
+                                                       HttpCarbonMessage outboundResponseMsg,
+                                                       BObject outboundResponseObj) {
+        long minimumSize = compressionConfig.getIntValue(ANN_CONFIG_ATTR_COMPRESSION_MINIMUM_SIZE);
+        if (minimumSize <= 0) {
+            return false;
+        }
+        String contentLength = outboundResponseMsg.getHeader(HttpHeaderNames.CONTENT_LENGTH.toString());
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength) < minimumSize;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        BObject entityObj = extractEntity(outboundResponseObj);
+        Object dataSource = entityObj != null ? EntityBodyHandler.getMessageDataSource(entityObj) : null;
+        if (dataSource == null || dataSource instanceof StreamingJsonValue) {
+            return false;
+        }
+        // The payload is serialized only up to the threshold, to find whether it is smaller.
+        BoundedCountingOutputStream countingStream = new BoundedCountingOutputStream(minimumSize);
+        try {
+            serializeDataSource(dataSource, entityObj, countingStream);
+        } catch (IOException | RuntimeException e) {
+            // Either the threshold is reached, or the payload cannot be serialized, which is reported when it is sent.
+            return false;
+        }
+        return true;
+    }
+
     public static CompressionConfigState getCompressionState(String compressionState) {
         switch (compressionState) {
             case AUTO:
@@ -1280,6 +1335,41 @@ public class HttpUtil {
         return poolManager;
     }
 
+    /**
+     * Get the HTTP/2 stream scheduler of a host for a connection pool. The scheduler limits the streams of the host
+     * so that the transport opens at most the configured number of HTTP/2 connections to it.
+     *
+     * @param poolStruct connection pool configuration
+     * @param url        URL of the host
+     * @return the stream scheduler, or null if the connections to a host are not limited
+     */
+    @SuppressWarnings("unchecked")
+    public static Http2StreamScheduler getHttp2StreamScheduler(BMap<BString, Long> poolStruct, URL url) {
+        long maxConnectionsPerHost = poolStruct.get(CONNECTION_POOLING_MAX_HTTP2_CONNECTIONS_PER_HOST);
+        long maxActiveStreamsPerConnection = poolStruct.get(CONNECTION_POOLING_MAX_ACTIVE_STREAMS_PER_CONNECTION);
+        if (maxConnectionsPerHost <= 0 || maxActiveStreamsPerConnection <= 0) {
+            return null;
+        }
+        ConcurrentMap<String, Http2StreamScheduler> schedulers =
+                (ConcurrentMap<String, Http2StreamScheduler>) poolStruct.getNativeData(HTTP2_STREAM_SCHEDULERS);
+        if (schedulers == null) {
+            synchronized (poolStruct) {
+                schedulers = (ConcurrentMap<String, Http2StreamScheduler>) poolStruct.getNativeData(
+                        HTTP2_STREAM_SCHEDULERS);
+                if (schedulers == null) {
+                    schedulers = new ConcurrentHashMap<>();
+                    poolStruct.addNativeData(HTTP2_STREAM_SCHEDULERS, schedulers);
+                }
+            }
+        }
+        int port = url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+        String route = url.getProtocol() + "://" + url.getHost() + ":" + port;
+        long waitTime = poolStruct.get(HttpConstants.CONNECTION_POOLING_WAIT_TIME);
+        return schedulers.computeIfAbsent(route, key -> new Http2StreamScheduler(
+                validateConfig(maxConnectionsPerHost * maxActiveStreamsPerConnection,
+                               CONNECTION_POOLING_MAX_HTTP2_CONNECTIONS_PER_HOST.getValue()), waitTime));
+    }
+
     public static void populatePoolingConfig(BMap<BString, Long> poolRecord, PoolConfiguration poolConfiguration) {
         long maxActiveConnections = poolRecord.get(HttpConstants.CONNECTION_POOLING_MAX_ACTIVE_CONNECTIONS);
         poolConfiguration.setMaxActivePerPool(
@@ -1490,7 +1580,7 @@ public class HttpUtil {
                 value instanceof Double || value instanceof Integer || value instanceof Boolean) {
             outputStream.write(value.toString().getBytes(Charset.defaultCharset()));
         } else if (value instanceof BString) {
-            outputStream.write(((BString) value).getValue().getBytes(Charset.defaultCharset()));
+            StringUtils.writeString((BString) value, outputStream, Charset.defaultCharset());
         } else {
             ((RefValue) value).serialize(outputStream);
         }
@@ -1762,4 +1852,30 @@ public class HttpUtil {
 
     private HttpUtil() {
     }
+
+    /**
+     * Counts the bytes written to it, and fails a write once the count reaches a limit.
+     */
+    private static class BoundedCountingOutputStream extends OutputStream {
+
+        private final long limit;
+        private long count;
+
+        BoundedCountingOutputStream(long limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(null, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            count += len;
+            if (count >= limit) {
+                throw new IOException("size limit reached");
+            }
+        }
+    }
 }
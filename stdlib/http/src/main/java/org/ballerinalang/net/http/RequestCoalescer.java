@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces the identical requests which arrive while one of them is being executed, such as the requests of a
+ * resource or the requests which the caching client sends to the origin server on a cache miss.
+ * <p>
+ * The first request of a key leads a flight and is executed. The requests of the same key which arrive while the
+ * flight is in progress wait for it and are sent the response of the leader instead of being executed. A waiting
+ * request is executed on its own if the leader does not respond within the wait time, if the response of the leader
+ * cannot be shared, or if the flight already has the maximum number of waiting requests.
+ *
+ * @param <R> type of the response shared by a flight
+ * @since 2.0.0
+ */
+public class RequestCoalescer<R> {
+
+    private final long maxWaitTimeInMillis;
+    private final int maxWaitersPerKey;
+    private final ConcurrentMap<String, Flight<R>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a request coalescer.
+     *
+     * @param maxWaitTimeInMillis maximum time a request waits for the response of the leader
+     * @param maxWaitersPerKey    maximum number of requests which wait for the leader of a key
+     */
+    public RequestCoalescer(long maxWaitTimeInMillis, int maxWaitersPerKey) {
+        this.maxWaitTimeInMillis = maxWaitTimeInMillis;
+        this.maxWaitersPerKey = maxWaitersPerKey;
+    }
+
+    /**
+     * Dispatch a request. The request either leads a new flight, waits for the flight in progress, or is executed on
+     * its own.
+     *
+     * @param key     key of the request
+     * @param execute executes the resource for the request, with the flight led by the request or with null if the
+     *                request does not lead a flight
+     * @param respond sends the response of the leader to a waiting request
+     */
+    public void dispatch(String key, Consumer<Flight<R>> execute, Consumer<R> respond) {
+        Flight<R> flight = join(key, respond, () -> execute.accept(null));
+        if (flight != null) {
+            execute.accept(flight);
+        }
+    }
+
+    /**
+     * Join the flight of a key. The request either leads a new flight, which the caller executes and then completes,
+     * or waits for the flight in progress. A waiting request is either sent the response of the leader, or released
+     * to be executed on its own.
+     *
+     * @param key       key of the request
+     * @param respond   sends the response of the leader to the request, if it waits
+     * @param onRelease releases the request to be executed on its own, if it does not lead a flight and is not sent
+     *                  the response of the leader
+     * @return the flight led by the request, or null if the request does not lead a flight
+     */
+    public Flight<R> join(String key, Consumer<R> respond, Runnable onRelease) {
+        while (true) {
+            Flight<R> flight = flights.get(key);
+            if (flight == null) {
+                Flight<R> newFlight = new Flight<>(this, key);
+                if (flights.putIfAbsent(key, newFlight) == null) {
+                    return newFlight;
+                }
+                continue;
+            }
+            Waiter<R> waiter = new Waiter<>(respond, onRelease);
+            if (!flight.addWaiter(waiter, maxWaitersPerKey)) {
+                if (flight.isCompleted()) {
+                    // The flight completed after it was looked up, so the next one is looked up.
+                    continue;
+                }
+                onRelease.run();
+                return null;
+            }
+            waiter.setTimeout(HttpTimer.schedule(() -> {
+                if (waiter.claim()) {
+                    waiter.onRelease.run();
+                }
+            }, maxWaitTimeInMillis));
+            return null;
+        }
+    }
+
+    /**
+     * Complete the flight of a key which is in progress, sending the response of the leader to the waiting requests.
+     *
+     * @param key      key of the flight
+     * @param response the response
+     */
+    public void complete(String key, R response) {
+        Flight<R> flight = flights.get(key);
+        if (flight != null) {
+            flight.complete(response);
+        }
+    }
+
+    public int getFlightCount() {
+        return flights.size();
+    }
+
+    /**
+     * The execution of the resource for a key, and the requests waiting for its response.
+     *
+     * @param <R> type of the shared response
+     */
+    public static class Flight<R> {
+
+        private final RequestCoalescer<R> coalescer;
+        private final String key;
+        private final List<Waiter<R>> waiters = new ArrayList<>();
+        private boolean completed;
+
+        private Flight(RequestCoalescer<R> coalescer, String key) {
+            this.coalescer = coalescer;
+            this.key = key;
+        }
+
+        /**
+         * Send the response of the leader to the waiting requests.
+         *
+         * @param response the response
+         */
+        public void complete(R response) {
+            for (Waiter<R> waiter : close()) {
+                waiter.respond.accept(response);
+            }
+        }
+
+        /**
+         * Let the waiting requests execute the resource on their own, as the leader has no response to share.
+         */
+        public void abandon() {
+            for (Waiter<R> waiter : close()) {
+                waiter.onRelease.run();
+            }
+        }
+
+        private synchronized boolean addWaiter(Waiter<R> waiter, int maxWaiters) {
+            if (completed || waiters.size() >= maxWaiters) {
+                return false;
+            }
+            waiters.add(waiter);
+            return true;
+        }
+
+        private synchronized boolean isCompleted() {
+            return completed;
+        }
+
+        private List<Waiter<R>> close() {
+            List<Waiter<R>> claimedWaiters = new ArrayList<>();
+            synchronized (this) {
+                if (completed) {
+                    return claimedWaiters;
+                }
+                completed = true;
+            }
+            coalescer.flights.remove(key, this);
+            // The waiters which timed out are already executing on their own.
+            for (Waiter<R> waiter : waiters) {
+                if (waiter.claim()) {
+                    waiter.cancelTimeout();
+                    claimedWaiters.add(waiter);
+                }
+            }
+            return claimedWaiters;
+        }
+    }
+
+    /**
+     * A request waiting for a flight. It is claimed either by the flight or by its timeout, whichever comes first.
+     */
+    private static class Waiter<R> {
+
+        private final Consumer<R> respond;
+        private final Runnable onRelease;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile ScheduledFuture<?> timeout;
+
+        Waiter(Consumer<R> respond, Runnable onRelease) {
+            this.respond = respond;
+            this.onRelease = onRelease;
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        void setTimeout(ScheduledFuture<?> timeout) {
+            this.timeout = timeout;
+            if (claimed.get()) {
+                // The flight completed before the timeout was set.
+                timeout.cancel(false);
+            }
+        }
+
+        void cancelTimeout() {
+            ScheduledFuture<?> pendingTimeout = timeout;
+            if (pendingTimeout != null) {
+                pendingTimeout.cancel(false);
+            }
+        }
+    }
+}
@@ -18,16 +18,22 @@
 
 package org.ballerinalang.net.http;
 
+import io.ballerina.runtime.api.BStringUtils;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.function.Function;
 
 import static org.ballerinalang.net.http.compiler.ResourceSignatureValidator.COMPULSORY_PARAM_COUNT;
 
 /**
- * This class holds the resource signature parameters.
+ * This class holds the resource signature parameters, along with how each of them is bound from a request, which is
+ * worked out once when the resource is registered.
  *
  * @since 0.963.0
  */
@@ -38,6 +44,8 @@ public class SignatureParams {
     private Type entityBody;
     private List<Type> pathParamTypes;
     private int paramCount = COMPULSORY_PARAM_COUNT;
+    private PathParamBinder[] pathParamBinders;
+    private EntityBodyReader entityBodyReader;
 
     SignatureParams(HttpResource resource) {
         this.resource = resource;
@@ -53,6 +61,32 @@ public class SignatureParams {
             validatePathParam(paramTypes.subList(COMPULSORY_PARAM_COUNT, lastParamIndex));
             validateEntityBodyParam(paramTypes.get(lastParamIndex));
         }
+        preparePathParamBinders();
+    }
+
+    private void preparePathParamBinders() {
+        BMap pathParamOrder = HttpResource.getPathParamOrderMap(resource.getBalResource());
+        Object[] paramNames = pathParamOrder.getKeys();
+        pathParamBinders = new PathParamBinder[paramNames.length];
+        for (int i = 0; i < paramNames.length; i++) {
+            int actualSignatureParamIndex = ((Long) pathParamOrder.get(paramNames[i])).intValue();
+            Type paramType = pathParamTypes.get(actualSignatureParamIndex - COMPULSORY_PARAM_COUNT);
+            pathParamBinders[i] = new PathParamBinder(paramNames[i].toString(), actualSignatureParamIndex * 2,
+                                                      getPathParamConverter(paramType));
+        }
+    }
+
+    private static Function<String, Object> getPathParamConverter(Type paramType) {
+        switch (paramType.getTag()) {
+            case TypeTags.INT_TAG:
+                return Long::parseLong;
+            case TypeTags.FLOAT_TAG:
+                return Double::parseDouble;
+            case TypeTags.BOOLEAN_TAG:
+                return Boolean::parseBoolean;
+            default:
+                return BStringUtils::fromString;
+        }
     }
 
     private void validatePathParam(List<Type> paramDetails) {
@@ -73,6 +107,7 @@ public class SignatureParams {
         if (type == TypeTags.RECORD_TYPE_TAG || type == TypeTags.JSON_TAG || type == TypeTags.XML_TAG ||
                 type == TypeTags.STRING_TAG || (type == TypeTags.ARRAY_TAG && validArrayType(entityBodyParamType))) {
             this.entityBody = entityBodyParamType;
+            this.entityBodyReader = HttpDispatcher.getEntityBodyReader(entityBodyParamType);
             paramCount++;
         } else {
             throw HttpUtil.createHttpError("incompatible entity-body type : " + entityBodyParamType.getName(),
@@ -102,4 +137,52 @@ public class SignatureParams {
     int getParamCount() {
         return paramCount;
     }
+
+    PathParamBinder[] getPathParamBinders() {
+        return pathParamBinders;
+    }
+
+    EntityBodyReader getEntityBodyReader() {
+        return entityBodyReader;
+    }
+
+    /**
+     * Binds the value of a path param to its position in the resource arguments.
+     */
+    static class PathParamBinder {
+
+        private final String name;
+        private final int argIndex;
+        private final Function<String, Object> converter;
+
+        PathParamBinder(String name, int argIndex, Function<String, Object> converter) {
+            this.name = name;
+            this.argIndex = argIndex;
+            this.converter = converter;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the index of the value in the resource arguments, which is followed by its `isDefined` flag.
+         */
+        int getArgIndex() {
+            return argIndex;
+        }
+
+        Object convert(String value) {
+            return converter.apply(value);
+        }
+    }
+
+    /**
+     * Reads the inbound request entity as the type of the entity body param.
+     */
+    @FunctionalInterface
+    interface EntityBodyReader {
+
+        Object read(BObject inRequestEntity) throws IOException;
+    }
 }
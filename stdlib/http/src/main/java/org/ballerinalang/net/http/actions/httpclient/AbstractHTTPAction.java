@@ -43,6 +43,7 @@ import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.net.http.HttpErrorType;
 import org.ballerinalang.net.http.HttpUtil;
 import org.ballerinalang.net.http.ValueCreatorUtils;
+import org.ballerinalang.net.http.clientendpoint.Http2StreamScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.transport.http.netty.contract.Constants;
@@ -220,6 +221,18 @@ public abstract class AbstractHTTPAction {
     }
 
     protected static void executeNonBlockingAction(DataContext dataContext, boolean async) {
+        executeNonBlockingAction(dataContext, null, async);
+    }
+
+    /**
+     * Send the request once an HTTP/2 stream is acquired from the stream scheduler of the client, if it has one.
+     *
+     * @param dataContext     holds the ballerina context and callback
+     * @param streamScheduler stream scheduler of the client, or null if the streams of the client are not limited
+     * @param async           whether a handle should be return
+     */
+    protected static void executeNonBlockingAction(DataContext dataContext, Http2StreamScheduler streamScheduler,
+                                                   boolean async) {
         HttpCarbonMessage outboundRequestMsg = dataContext.getOutboundRequest();
 
         //Make the request associate with this response consumable again so that it can be reused.
@@ -243,7 +256,20 @@ public abstract class AbstractHTTPAction {
         }
         outboundRequestMsg.setProperty(HttpConstants.ORIGIN_HOST,
                 dataContext.getStrand().getProperty(HttpConstants.ORIGIN_HOST));
-        sendOutboundRequest(dataContext, outboundRequestMsg, async);
+        if (streamScheduler == null) {
+            sendOutboundRequest(dataContext, outboundRequestMsg, async);
+            return;
+        }
+        streamScheduler.acquire(() -> {
+            dataContext.setAcquiredStream(streamScheduler);
+            sendOutboundRequest(dataContext, outboundRequestMsg, async);
+        }, () -> dataContext.notifyInboundResponseStatus(null, HttpUtil.createHttpError(
+                "maximum wait time exceeded while waiting for an HTTP/2 stream",
+                HttpErrorType.MAXIMUM_WAIT_TIME_EXCEEDED)));
+    }
+
+    protected static Http2StreamScheduler getStreamScheduler(BObject httpClient) {
+        return (Http2StreamScheduler) httpClient.getNativeData(HttpConstants.CLIENT_STREAM_SCHEDULER);
     }
 
     private static void checkDirtiness(DataContext dataContext, HttpCarbonMessage outboundRequestMsg) {
@@ -413,13 +439,32 @@ public abstract class AbstractHTTPAction {
         if (messageDataSource != null) {
             HttpUtil.serializeDataSource(messageDataSource, entityObj, messageOutputStream);
             HttpUtil.closeMessageOutputStream(messageOutputStream);
-        } else if (EntityBodyHandler.getByteChannel(entityObj) != null) {
+        } else if (!serializeByteStream(entityObj, messageOutputStream)
+                && EntityBodyHandler.getByteChannel(entityObj) != null) {
             //When the entity body is a byte channel and when it is not null
             EntityBodyHandler.writeByteChannelToOutputStream(entityObj, messageOutputStream);
             HttpUtil.closeMessageOutputStream(messageOutputStream);
         }
     }
 
+    /**
+     * Serialize the entity body if it is fed from a byte stream. The body is written as the stream is pulled, so that
+     * the current thread does not wait for the strand which pulls it. The message is ended even if the stream fails,
+     * so that the peer does not wait for the rest of the body.
+     *
+     * @param entityObj           Represent ballerina entity struct
+     * @param messageOutputStream Output stream to which the payload is written
+     * @return true if the entity body is fed from a byte stream
+     */
+    private static boolean serializeByteStream(BObject entityObj, OutputStream messageOutputStream) {
+        return EntityBodyHandler.transferByteStreamToOutputStream(entityObj, messageOutputStream, error -> {
+            if (error != null) {
+                logger.warn("couldn't serialize the byte stream", error);
+            }
+            HttpUtil.closeMessageOutputStream(messageOutputStream);
+        });
+    }
+
     private static class HTTPClientConnectorListener implements HttpClientConnectorListener {
 
         private DataContext dataContext;
@@ -439,6 +484,15 @@ public abstract class AbstractHTTPAction {
             BObject httpFuture = BValueCreator.createObjectValue(HttpConstants.PROTOCOL_HTTP_PKG_ID,
                                                                  HttpConstants.HTTP_FUTURE);
             httpFuture.addNativeData(HttpConstants.TRANSPORT_HANDLE, responseHandle);
+            Http2StreamScheduler streamScheduler = this.dataContext.takeAcquiredStream();
+            if (streamScheduler != null) {
+                // The stream is in use until the response headers or an error arrive, not just until the request
+                // is sent, so the response is received here and held for getResponse.
+                SubmittedResponseListener responseListener = new SubmittedResponseListener(streamScheduler);
+                this.dataContext.getClientConnector().getResponse(responseHandle)
+                        .setHttpConnectorListener(responseListener);
+                httpFuture.addNativeData(HttpConstants.SUBMITTED_RESPONSE_LISTENER, responseListener);
+            }
             this.dataContext.notifyInboundResponseStatus(httpFuture, null);
         }
 
@@ -47,7 +47,7 @@ public class Execute extends AbstractHTTPAction {
                                                                         path.getValue(), requestObj);
         DataContext dataContext = new DataContext(strand, clientConnector, env.markAsync(), requestObj,
                                                   outboundRequestMsg);
-        executeNonBlockingAction(dataContext, false);
+        executeNonBlockingAction(dataContext, getStreamScheduler(httpClient), false);
         return null;
     }
 
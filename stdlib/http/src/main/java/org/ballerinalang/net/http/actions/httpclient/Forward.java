@@ -47,7 +47,7 @@ public class Forward extends AbstractHTTPAction {
         HttpClientConnector clientConnector = (HttpClientConnector) httpClient.getNativeData(HttpConstants.CLIENT);
         DataContext dataContext = new DataContext(strand, clientConnector, env.markAsync(), requestObj,
                                                   outboundRequestMsg);
-        executeNonBlockingAction(dataContext, false);
+        executeNonBlockingAction(dataContext, getStreamScheduler(httpClient), false);
         return null;
     }
 
@@ -44,8 +44,14 @@ public class GetResponse extends AbstractHTTPAction {
         if (responseHandle == null) {
             throw new BallerinaException("invalid http handle");
         }
-        clientConnector.getResponse(responseHandle).
-                setHttpConnectorListener(new ResponseListener(dataContext));
+        ResponseListener responseListener = new ResponseListener(dataContext);
+        SubmittedResponseListener submittedResponseListener = (SubmittedResponseListener) handleObj.getNativeData(
+                HttpConstants.SUBMITTED_RESPONSE_LISTENER);
+        if (submittedResponseListener != null) {
+            submittedResponseListener.setResponseListener(responseListener);
+        } else {
+            clientConnector.getResponse(responseHandle).setHttpConnectorListener(responseListener);
+        }
         return null;
     }
 
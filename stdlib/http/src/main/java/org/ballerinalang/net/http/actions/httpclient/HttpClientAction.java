@@ -53,7 +53,7 @@ public class HttpClientAction extends AbstractHTTPAction {
         outboundRequestMsg.setHttpMethod(httpMethod.getValue());
         DataContext dataContext = new DataContext(strand, clientConnector, env.markAsync(),
                                                   requestObj, outboundRequestMsg);
-        executeNonBlockingAction(dataContext, false);
+        executeNonBlockingAction(dataContext, getStreamScheduler(httpClient), false);
         return null;
     }
 
@@ -45,7 +45,7 @@ public class Submit extends Execute {
         outboundRequestMsg.setHttpMethod(httpVerb.getValue());
         DataContext dataContext = new DataContext(strand, clientConnector, env.markAsync(), requestObj,
                                                   outboundRequestMsg);
-        executeNonBlockingAction(dataContext, true);
+        executeNonBlockingAction(dataContext, getStreamScheduler(httpClient), true);
         return null;
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.net.http.actions.httpclient;
+
+import org.ballerinalang.net.http.clientendpoint.Http2StreamScheduler;
+import org.wso2.transport.http.netty.contract.HttpConnectorListener;
+import org.wso2.transport.http.netty.message.HttpCarbonMessage;
+
+/**
+ * Receives the response of a submitted request which was sent on a stream acquired from an
+ * {@link Http2StreamScheduler}.
+ * <p>
+ * The response is received as soon as its headers or an error arrive, so that the stream is released then rather than
+ * when the request is sent, and it is held until {@code getResponse} sets the listener it is handed over to.
+ *
+ * @since 2.0.0
+ */
+class SubmittedResponseListener implements HttpConnectorListener {
+
+    private Http2StreamScheduler streamScheduler;
+    private HttpCarbonMessage response;
+    private Throwable error;
+    private HttpConnectorListener responseListener;
+
+    SubmittedResponseListener(Http2StreamScheduler streamScheduler) {
+        this.streamScheduler = streamScheduler;
+    }
+
+    @Override
+    public void onMessage(HttpCarbonMessage httpCarbonMessage) {
+        HttpConnectorListener listener;
+        synchronized (this) {
+            listener = responseListener;
+            if (listener == null) {
+                response = httpCarbonMessage;
+            }
+        }
+        releaseStream();
+        if (listener != null) {
+            listener.onMessage(httpCarbonMessage);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        HttpConnectorListener listener;
+        synchronized (this) {
+            listener = responseListener;
+            if (listener == null) {
+                error = throwable;
+            }
+        }
+        releaseStream();
+        if (listener != null) {
+            listener.onError(throwable);
+        }
+    }
+
+    /**
+     * Set the listener which the response is handed over to, notifying it right away if the response or an error has
+     * already been received.
+     *
+     * @param listener the listener of the response
+     */
+    void setResponseListener(HttpConnectorListener listener) {
+        HttpCarbonMessage receivedResponse;
+        Throwable receivedError;
+        synchronized (this) {
+            receivedResponse = response;
+            receivedError = error;
+            if (receivedResponse == null && receivedError == null) {
+                responseListener = listener;
+                return;
+            }
+            response = null;
+            error = null;
+        }
+        if (receivedResponse != null) {
+            listener.onMessage(receivedResponse);
+        } else {
+            listener.onError(receivedError);
+        }
+    }
+
+    private void releaseStream() {
+        Http2StreamScheduler scheduler;
+        synchronized (this) {
+            scheduler = streamScheduler;
+            streamScheduler = null;
+        }
+        if (scheduler != null) {
+            scheduler.release();
+        }
+    }
+}
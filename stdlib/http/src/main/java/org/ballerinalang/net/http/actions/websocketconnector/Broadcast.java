@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.actions.websocketconnector;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.net.http.websocket.WebSocketConstants;
+import org.ballerinalang.net.http.websocket.WebSocketUtil;
+import org.ballerinalang.net.http.websocket.server.WebSocketConnectionInfo;
+import org.ballerinalang.net.http.websocket.server.WebSocketGroup;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Extern functions of the WebSocket group, which broadcasts messages to a group of WebSocket connections.
+ */
+public class Broadcast {
+
+    public static void initGroup(BObject wsGroup, long maxPendingMessages, BString slowConsumerPolicy) {
+        wsGroup.addNativeData(WebSocketConstants.NATIVE_DATA_WEBSOCKET_GROUP,
+                              new WebSocketGroup((int) Math.min(maxPendingMessages, Integer.MAX_VALUE),
+                                                 WebSocketGroup.SlowConsumerPolicy.valueOf(
+                                                         slowConsumerPolicy.getValue())));
+    }
+
+    public static Object addToGroup(BObject wsGroup, BObject wsCaller) {
+        try {
+            return getGroup(wsGroup).add(getConnectionInfo(wsCaller));
+        } catch (IllegalAccessException e) {
+            return WebSocketUtil.createErrorByType(e);
+        }
+    }
+
+    public static Object removeFromGroup(BObject wsGroup, BObject wsCaller) {
+        try {
+            return getGroup(wsGroup).remove(getConnectionInfo(wsCaller));
+        } catch (IllegalAccessException e) {
+            return WebSocketUtil.createErrorByType(e);
+        }
+    }
+
+    public static long getGroupSize(BObject wsGroup) {
+        return getGroup(wsGroup).size();
+    }
+
+    public static long broadcastText(BObject wsGroup, BString text) {
+        return getGroup(wsGroup).broadcastText(text.getValue());
+    }
+
+    public static long broadcastBinary(BObject wsGroup, BArray binaryData) {
+        return getGroup(wsGroup).broadcastBinary(ByteBuffer.wrap(binaryData.getBytes()));
+    }
+
+    private static WebSocketGroup getGroup(BObject wsGroup) {
+        return (WebSocketGroup) wsGroup.getNativeData(WebSocketConstants.NATIVE_DATA_WEBSOCKET_GROUP);
+    }
+
+    private static WebSocketConnectionInfo getConnectionInfo(BObject wsCaller) {
+        BObject wsConnector = wsCaller.getObjectValue(WebSocketConstants.LISTENER_CONNECTOR_FIELD);
+        return (WebSocketConnectionInfo) wsConnector.getNativeData(
+                WebSocketConstants.NATIVE_DATA_WEBSOCKET_CONNECTION_INFO);
+    }
+
+    private Broadcast() {
+    }
+}
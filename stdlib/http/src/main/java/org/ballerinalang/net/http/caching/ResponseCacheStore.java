@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.caching;
+
+import org.ballerinalang.net.http.RequestCoalescer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded store of cached HTTP responses. Each key maps to the responses received for it, in the order they were
+ * added.
+ * <p>
+ * A lookup only reads a concurrent map and records the access in a lossy ring buffer, so a cache hit neither locks
+ * nor waits for writers. Entries are evicted in segmented LRU order: a new entry starts in the probation segment and
+ * is promoted to the protected segment when it is looked up again, so a burst of responses which are requested once
+ * cannot flush the ones which are requested repeatedly. The recorded accesses are applied under a lock, by writers or
+ * by the reader which fills up the buffer. Entries older than the maximum age are dropped lazily, when they are
+ * looked up or reach the eviction end of a segment. Concurrent misses for a key are coalesced by a
+ * {@link RequestCoalescer}, so that a single request is sent to the origin server.
+ *
+ * @param <V> type of the cached responses
+ * @since 2.0.0
+ */
+public class ResponseCacheStore<V> {
+
+    // Must be a power of two.
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int PROTECTED_PERCENTAGE = 80;
+    // Bounds the wait for a fetch by another caller, in case it never completes.
+    private static final long FETCH_WAIT_TIMEOUT_MILLIS = 60000;
+
+    private final ConcurrentHashMap<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final RequestCoalescer<Void> fetches = new RequestCoalescer<>(FETCH_WAIT_TIMEOUT_MILLIS, Integer.MAX_VALUE);
+    private final long capacity;
+    private final long maxProtectedEntries;
+    private final long maxSizeInBytes;
+    private final long maxAgeNanos;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicReferenceArray<Entry<V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readCount = new AtomicLong();
+    // Segments are circular lists from the least to the most recently used entry, guarded by the eviction lock.
+    private final Entry<V> probation = new Entry<>();
+    private final Entry<V> protectedSegment = new Entry<>();
+    private long protectedEntries;
+    private volatile long size;
+    private volatile long sizeInBytes;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * Creates a response cache store.
+     *
+     * @param capacity       maximum number of keys
+     * @param maxSizeInBytes maximum total size of the responses, or a non-positive value for no bound
+     * @param maxAgeMillis   time for which an entry is kept after it is created, or a negative value to keep it until
+     *                       it is evicted
+     */
+    public ResponseCacheStore(long capacity, long maxSizeInBytes, long maxAgeMillis) {
+        this.capacity = capacity;
+        this.maxProtectedEntries = Math.max(1, capacity * PROTECTED_PERCENTAGE / 100);
+        this.maxSizeInBytes = maxSizeInBytes > 0 ? maxSizeInBytes : Long.MAX_VALUE;
+        this.maxAgeNanos = maxAgeMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(maxAgeMillis);
+    }
+
+    /**
+     * Get the responses cached for the given key.
+     *
+     * @param key cache key
+     * @return the responses in the order they were added, or null if there is none
+     */
+    public List<V> get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        if (isExpired(entry, System.nanoTime())) {
+            missCount.increment();
+            if (evictionLock.tryLock()) {
+                try {
+                    removeEntry(entry);
+                } finally {
+                    evictionLock.unlock();
+                }
+            }
+            return null;
+        }
+        hitCount.increment();
+        recordAccess(entry);
+        return entry.responses;
+    }
+
+    /**
+     * Add a response to the ones cached for the given key.
+     *
+     * @param key          cache key
+     * @param response     response to add
+     * @param responseSize size of the response in bytes
+     */
+    public void put(String key, V response, long responseSize) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            long now = System.nanoTime();
+            Entry<V> existing = entries.get(key);
+            Entry<V> entry;
+            if (existing == null || isExpired(existing, now)) {
+                entry = new Entry<>(key, Collections.singletonList(response), responseSize, now);
+            } else {
+                List<V> responses = new ArrayList<>(existing.responses.size() + 1);
+                responses.addAll(existing.responses);
+                responses.add(response);
+                entry = new Entry<>(key, Collections.unmodifiableList(responses), existing.sizeInBytes + responseSize,
+                                    existing.createdTime);
+                entry.isProtected = existing.isProtected;
+            }
+            if (existing != null) {
+                removeEntry(existing);
+            }
+            if (entry.sizeInBytes > maxSizeInBytes) {
+                // Would not fit even in an empty store.
+                return;
+            }
+            entries.put(key, entry);
+            link(entry, entry.isProtected ? protectedSegment : probation);
+            demoteProtectedOverflow();
+            evict(now);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Remove the responses cached for the given key.
+     *
+     * @param key cache key
+     */
+    public void remove(String key) {
+        evictionLock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null) {
+                removeEntry(entry);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Start fetching the response for the given key, unless another caller is already fetching it. In that case the
+     * given callback is run once the fetch in progress completes, or once the wait times out, so that concurrent misses
+     * for the same key result in a single request to the origin server.
+     *
+     * @param key       cache key
+     * @param onFetched callback to run once the response has been fetched by another caller
+     * @return true if the caller should fetch the response and then call {@link #completeFetch(String)}
+     */
+    public boolean startFetch(String key, Runnable onFetched) {
+        if (fetches.join(key, fetched -> onFetched.run(), onFetched) != null) {
+            return true;
+        }
+        coalescedCount.increment();
+        return false;
+    }
+
+    /**
+     * Complete fetching the response for the given key, whether or not it was cached, and run the callbacks of the
+     * callers which waited for it.
+     *
+     * @param key cache key
+     */
+    public void completeFetch(String key) {
+        fetches.complete(key, null);
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    private boolean isExpired(Entry<V> entry, long now) {
+        return maxAgeNanos >= 0 && now - entry.createdTime >= maxAgeNanos;
+    }
+
+    private void recordAccess(Entry<V> entry) {
+        long count = readCount.getAndIncrement();
+        int index = (int) count & READ_BUFFER_MASK;
+        readBuffer.lazySet(index, entry);
+        if (index == READ_BUFFER_MASK && evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            Entry<V> entry = readBuffer.getAndSet(i, null);
+            if (entry != null && entry.prev != null) {
+                onAccess(entry);
+            }
+        }
+    }
+
+    private void onAccess(Entry<V> entry) {
+        unlink(entry);
+        if (entry.isProtected) {
+            link(entry, protectedSegment);
+            return;
+        }
+        entry.isProtected = true;
+        link(entry, protectedSegment);
+        demoteProtectedOverflow();
+    }
+
+    private void demoteProtectedOverflow() {
+        while (protectedEntries > maxProtectedEntries) {
+            Entry<V> demoted = protectedSegment.next;
+            unlink(demoted);
+            demoted.isProtected = false;
+            link(demoted, probation);
+        }
+    }
+
+    private void evict(long now) {
+        expireLeastRecentlyUsed(probation, now);
+        expireLeastRecentlyUsed(protectedSegment, now);
+        while (size > capacity || sizeInBytes > maxSizeInBytes) {
+            Entry<V> victim = probation.next != probation ? probation.next : protectedSegment.next;
+            if (victim == protectedSegment) {
+                return;
+            }
+            removeEntry(victim);
+            evictionCount.increment();
+        }
+    }
+
+    private void expireLeastRecentlyUsed(Entry<V> segment, long now) {
+        while (segment.next != segment && isExpired(segment.next, now)) {
+            removeEntry(segment.next);
+        }
+    }
+
+    private void removeEntry(Entry<V> entry) {
+        entries.remove(entry.key, entry);
+        if (entry.prev != null) {
+            unlink(entry);
+        }
+    }
+
+    private void link(Entry<V> entry, Entry<V> segment) {
+        entry.prev = segment.prev;
+        entry.next = segment;
+        segment.prev.next = entry;
+        segment.prev = entry;
+        size++;
+        sizeInBytes += entry.sizeInBytes;
+        if (entry.isProtected) {
+            protectedEntries++;
+        }
+    }
+
+    private void unlink(Entry<V> entry) {
+        entry.prev.next = entry.next;
+        entry.next.prev = entry.prev;
+        entry.prev = null;
+        entry.next = null;
+        size--;
+        sizeInBytes -= entry.sizeInBytes;
+        if (entry.isProtected) {
+            protectedEntries--;
+        }
+    }
+
+    /**
+     * The responses of a key. Immutable apart from its position in the segments, which is guarded by the eviction
+     * lock. A linked entry has a non-null {@code prev}.
+     */
+    private static class Entry<V> {
+
+        private final String key;
+        private final List<V> responses;
+        private final long sizeInBytes;
+        private final long createdTime;
+        private boolean isProtected;
+        private Entry<V> prev;
+        private Entry<V> next;
+
+        // Creates the sentinel of a segment.
+        Entry() {
+            this(null, null, 0, 0);
+            prev = this;
+            next = this;
+        }
+
+        Entry(String key, List<V> responses, long sizeInBytes, long createdTime) {
+            this.key = key;
+            this.responses = responses;
+            this.sizeInBytes = sizeInBytes;
+            this.createdTime = createdTime;
+        }
+    }
+}
@@ -39,6 +39,7 @@ import static org.ballerinalang.net.http.HttpConstants.CLIENT_ENDPOINT_CONFIG;
 import static org.ballerinalang.net.http.HttpConstants.CLIENT_ENDPOINT_SERVICE_URI;
 import static org.ballerinalang.net.http.HttpConstants.HTTP2_PRIOR_KNOWLEDGE;
 import static org.ballerinalang.net.http.HttpUtil.getConnectionManager;
+import static org.ballerinalang.net.http.HttpUtil.getHttp2StreamScheduler;
 import static org.ballerinalang.net.http.HttpUtil.populateSenderConfigurations;
 import static org.wso2.transport.http.netty.contract.Constants.HTTP_2_0_VERSION;
 
@@ -94,18 +95,19 @@ public class CreateSimpleHttpClient {
         } catch (RuntimeException e) {
             throw HttpUtil.createHttpError(e.getMessage(), HttpErrorType.GENERIC_CLIENT_ERROR);
         }
-        ConnectionManager poolManager;
         BMap<BString, Long> userDefinedPoolConfig = (BMap<BString, Long>) clientEndpointConfig.get(
                 HttpConstants.USER_DEFINED_POOL_CONFIG);
-
-        if (userDefinedPoolConfig == null) {
-            poolManager = getConnectionManager(globalPoolConfig);
-        } else {
-            poolManager = getConnectionManager(userDefinedPoolConfig);
-        }
+        BMap<BString, Long> poolConfig = userDefinedPoolConfig == null ? globalPoolConfig : userDefinedPoolConfig;
+        ConnectionManager poolManager = getConnectionManager(poolConfig);
 
         HttpClientConnector httpClientConnector = HttpUtil.createHttpWsConnectionFactory()
                 .createHttpClientConnector(properties, senderConfiguration, poolManager);
         httpClient.addNativeData(HttpConstants.CLIENT, httpClientConnector);
+        if (HTTP_2_0_VERSION.equals(httpVersion)) {
+            Http2StreamScheduler streamScheduler = getHttp2StreamScheduler(poolConfig, url);
+            if (streamScheduler != null) {
+                httpClient.addNativeData(HttpConstants.CLIENT_STREAM_SCHEDULER, streamScheduler);
+            }
+        }
     }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.clientendpoint;
+
+import org.ballerinalang.net.http.HttpTimer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the HTTP/2 streams which the clients of a connection pool open to a host at the same time.
+ * <p>
+ * The transport multiplexes the streams of a host over its connections and opens a new connection once the streams
+ * of the existing ones reach the stream limit of a connection. Capping the streams of a host at the number of
+ * connections times the stream limit of a connection therefore also caps the connections of the host. A request sent
+ * while all the streams are in use waits in a queue, and fails if no stream is released within the wait time of the
+ * pool. A stream is released once the response headers or an error is received, and the first request in the queue
+ * is then sent on a dispatch thread rather than on the I/O thread which released the stream.
+ * <p>
+ * The cap therefore counts the streams which wait for response headers. A response body which is still being
+ * streamed once its headers are received holds its transport stream without being counted, and is limited only by
+ * the stream limit of its connection.
+ *
+ * @since 2.0.0
+ */
+public class Http2StreamScheduler {
+
+    // Upper bounds, in milliseconds, of the buckets of the acquisition latency histogram. The last bucket is unbounded.
+    private static final long[] LATENCY_BUCKET_BOUNDS = {1, 10, 100, 1000};
+
+    private static final ExecutorService dispatcher = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "ballerina-http2-stream-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int maxConcurrentStreams;
+    private final long waitTimeInMillis;
+    private final AtomicInteger activeStreams = new AtomicInteger();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Queue<PendingAcquisition> pendingAcquisitions = new ConcurrentLinkedQueue<>();
+    private final LongAdder acquisitionCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder[] latencyBuckets = new LongAdder[LATENCY_BUCKET_BOUNDS.length + 1];
+
+    /**
+     * Creates the stream scheduler of a host.
+     *
+     * @param maxConcurrentStreams maximum number of streams in use at the same time
+     * @param waitTimeInMillis     maximum time a request waits for a stream, or a non-positive value to wait forever
+     */
+    public Http2StreamScheduler(int maxConcurrentStreams, long waitTimeInMillis) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+        this.waitTimeInMillis = waitTimeInMillis;
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            latencyBuckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Acquire a stream. If a stream is available, the request is sent by the calling thread. Otherwise the request
+     * waits for a stream to be released.
+     *
+     * @param sendRequest sends the request once the stream is acquired
+     * @param onTimeout   fails the request if the wait time elapses before a stream is acquired
+     */
+    public void acquire(Runnable sendRequest, Runnable onTimeout) {
+        if (tryReserve()) {
+            recordAcquisition(0);
+            sendRequest.run();
+            return;
+        }
+        PendingAcquisition pending = new PendingAcquisition(sendRequest);
+        pendingCount.incrementAndGet();
+        pendingAcquisitions.add(pending);
+        if (waitTimeInMillis > 0) {
+            pending.setTimeout(HttpTimer.schedule(() -> {
+                if (pending.claim()) {
+                    pendingAcquisitions.remove(pending);
+                    pendingCount.decrementAndGet();
+                    timeoutCount.increment();
+                    onTimeout.run();
+                }
+            }, waitTimeInMillis));
+        }
+        // A stream may have been released after the reservation failed and before the request was queued.
+        dispatchPending();
+    }
+
+    /**
+     * Release an acquired stream, handing it over to the first request waiting for a stream.
+     */
+    public void release() {
+        activeStreams.decrementAndGet();
+        dispatchPending();
+    }
+
+    public int getActiveStreams() {
+        return activeStreams.get();
+    }
+
+    public int getPendingAcquisitions() {
+        return pendingCount.get();
+    }
+
+    public int getMaxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    public long getAcquisitionCount() {
+        return acquisitionCount.sum();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    /**
+     * Get the number of acquisitions in each bucket of the acquisition latency histogram. The buckets hold the
+     * acquisitions which took less than 1, 10, 100 and 1000 milliseconds, and the remaining ones.
+     *
+     * @return the counts of the buckets
+     */
+    public long[] getLatencyHistogram() {
+        long[] histogram = new long[latencyBuckets.length];
+        for (int i = 0; i < latencyBuckets.length; i++) {
+            histogram[i] = latencyBuckets[i].sum();
+        }
+        return histogram;
+    }
+
+    private boolean tryReserve() {
+        int streams = activeStreams.get();
+        while (streams < maxConcurrentStreams) {
+            if (activeStreams.compareAndSet(streams, streams + 1)) {
+                return true;
+            }
+            streams = activeStreams.get();
+        }
+        return false;
+    }
+
+    private void dispatchPending() {
+        while (!pendingAcquisitions.isEmpty() && tryReserve()) {
+            PendingAcquisition pending = pendingAcquisitions.poll();
+            if (pending == null) {
+                activeStreams.decrementAndGet();
+                // Another thread took the request which this one saw in the queue.
+                continue;
+            }
+            if (!pending.claim()) {
+                // The request timed out while it was in the queue.
+                activeStreams.decrementAndGet();
+                continue;
+            }
+            pending.cancelTimeout();
+            pendingCount.decrementAndGet();
+            recordAcquisition(System.nanoTime() - pending.startTime);
+            dispatcher.execute(pending.sendRequest);
+        }
+    }
+
+    private void recordAcquisition(long latencyNanos) {
+        acquisitionCount.increment();
+        long latencyMillis = TimeUnit.NANOSECONDS.toMillis(latencyNanos);
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKET_BOUNDS.length && latencyMillis >= LATENCY_BUCKET_BOUNDS[bucket]) {
+            bucket++;
+        }
+        latencyBuckets[bucket].increment();
+    }
+
+    /**
+     * A request waiting for a stream. It is claimed either by the thread which hands a stream over to it or by its
+     * timeout, whichever comes first.
+     */
+    private static class PendingAcquisition {
+
+        private final long startTime = System.nanoTime();
+        private final Runnable sendRequest;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile ScheduledFuture<?> timeout;
+
+        PendingAcquisition(Runnable sendRequest) {
+            this.sendRequest = sendRequest;
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        void setTimeout(ScheduledFuture<?> timeout) {
+            this.timeout = timeout;
+            if (claimed.get()) {
+                // The request acquired a stream before its timeout was set.
+                timeout.cancel(false);
+            }
+        }
+
+        void cancelTimeout() {
+            ScheduledFuture<?> scheduledTimeout = timeout;
+            if (scheduledTimeout != null) {
+                scheduledTimeout.cancel(false);
+            }
+        }
+    }
+}
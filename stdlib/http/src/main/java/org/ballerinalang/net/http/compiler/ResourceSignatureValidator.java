@@ -2,14 +2,17 @@ package org.ballerinalang.net.http.compiler;
 
 import org.ballerinalang.model.tree.AnnotationAttachmentNode;
 import org.ballerinalang.model.tree.FunctionNode;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.SimpleVariableNode;
 import org.ballerinalang.model.tree.expressions.LiteralNode;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
+import org.ballerinalang.model.tree.expressions.UnaryExpressionNode;
 import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.util.diagnostic.Diagnostic;
 import org.ballerinalang.util.diagnostic.DiagnosticLog;
 import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangListConstructorExpr;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangRecordLiteral;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangSimpleVarRef;
 import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
@@ -20,10 +23,13 @@ import java.util.List;
 
 import static org.ballerinalang.net.http.HttpConstants.ANN_NAME_RESOURCE_CONFIG;
 import static org.ballerinalang.net.http.HttpConstants.ANN_RESOURCE_ATTR_BODY;
+import static org.ballerinalang.net.http.HttpConstants.ANN_RESOURCE_ATTR_COALESCING;
+import static org.ballerinalang.net.http.HttpConstants.ANN_RESOURCE_ATTR_METHODS;
 import static org.ballerinalang.net.http.HttpConstants.ANN_RESOURCE_ATTR_PATH;
 import static org.ballerinalang.net.http.HttpConstants.ANN_WEBSOCKET_ATTR_UPGRADE_PATH;
 import static org.ballerinalang.net.http.HttpConstants.CALLER;
 import static org.ballerinalang.net.http.HttpConstants.HTTP_LISTENER_ENDPOINT;
+import static org.ballerinalang.net.http.HttpConstants.HTTP_METHOD_GET;
 import static org.ballerinalang.net.http.HttpConstants.PROTOCOL_PACKAGE_HTTP;
 import static org.ballerinalang.net.http.HttpConstants.REQUEST;
 
@@ -95,6 +101,9 @@ public class ResourceSignatureValidator {
                 case ANN_RESOURCE_ATTR_PATH:
                     validateResourcePath(dlog, paramSegments, keyValue);
                     break;
+                case ANN_RESOURCE_ATTR_COALESCING:
+                    validateCoalescing(dlog, annVals, keyValue);
+                    break;
                 case ANN_RESOURCE_ATTR_BODY:
                     List<? extends SimpleVariableNode> parameters = resourceNode.getParameters();
                     String bodyFieldValue = "";
@@ -158,6 +167,41 @@ public class ResourceSignatureValidator {
         }
     }
 
+    private static void validateCoalescing(DiagnosticLog dlog,
+                                           List<BLangRecordLiteral.BLangRecordKeyValueField> annVals,
+                                           BLangRecordLiteral.BLangRecordKeyValueField keyValue) {
+        if (!(keyValue.valueExpr instanceof BLangRecordLiteral)) {
+            return;
+        }
+        // Only GET requests are coalesced, so the resource should accept them.
+        for (BLangRecordLiteral.BLangRecordKeyValueField annVal : annVals) {
+            if (getAnnotationFieldKey(annVal).equals(ANN_RESOURCE_ATTR_METHODS) &&
+                    annVal.valueExpr instanceof BLangListConstructorExpr) {
+                List<BLangExpression> methods = ((BLangListConstructorExpr) annVal.valueExpr).exprs;
+                if (!methods.isEmpty() && methods.stream().noneMatch(
+                        method -> method instanceof LiteralNode &&
+                                HTTP_METHOD_GET.equals(((LiteralNode) method).getValue().toString()))) {
+                    dlog.logDiagnostic(Diagnostic.Kind.ERROR, keyValue.getValue().getPosition(),
+                                       "Request coalescing is only supported for resources which accept GET requests");
+                }
+            }
+        }
+        for (RecordLiteralNode.RecordField field : ((BLangRecordLiteral) keyValue.valueExpr).fields) {
+            BLangRecordLiteral.BLangRecordKeyValueField coalescingField =
+                    (BLangRecordLiteral.BLangRecordKeyValueField) field;
+            BLangExpression valueExpr = coalescingField.getValue();
+            boolean negative = valueExpr instanceof UnaryExpressionNode &&
+                    ((UnaryExpressionNode) valueExpr).getOperatorKind() == OperatorKind.SUB;
+            boolean zero = valueExpr instanceof LiteralNode &&
+                    Long.valueOf(0).equals(((LiteralNode) valueExpr).getValue());
+            if (negative || zero) {
+                dlog.logDiagnostic(Diagnostic.Kind.ERROR, valueExpr.getPosition(),
+                                   "Invalid request coalescing config: '" + getAnnotationFieldKey(coalescingField) +
+                                           "' should be positive");
+            }
+        }
+    }
+
     private static void validateResourcePath(DiagnosticLog dlog, List<String> paramSegments,
                                              BLangRecordLiteral.BLangRecordKeyValueField keyValue) {
         DiagnosticPos position = keyValue.getValue().getPosition();
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import io.ballerina.runtime.api.values.BObject;
+import org.ballerinalang.net.http.resiliency.CircuitHealth;
+
+/**
+ * Extern functions of the circuit breaker health, which is kept in a {@link CircuitHealth}.
+ *
+ * @since 2.0.0
+ */
+public class ExternCircuitHealth {
+
+    private static final String CIRCUIT_HEALTH = "CIRCUIT_HEALTH";
+
+    public static void init(BObject circuitHealth, long bucketSizeInMillis, long noOfBuckets) {
+        circuitHealth.addNativeData(CIRCUIT_HEALTH, new CircuitHealth(bucketSizeInMillis, (int) noOfBuckets));
+    }
+
+    public static void recordRequest(BObject circuitHealth) {
+        getCircuitHealth(circuitHealth).recordRequest();
+    }
+
+    public static void recordSuccess(BObject circuitHealth) {
+        getCircuitHealth(circuitHealth).recordSuccess();
+    }
+
+    public static void recordFailure(BObject circuitHealth) {
+        getCircuitHealth(circuitHealth).recordFailure();
+    }
+
+    public static void recordRejection(BObject circuitHealth) {
+        getCircuitHealth(circuitHealth).recordRejection();
+    }
+
+    public static void recordForcedOpen(BObject circuitHealth) {
+        getCircuitHealth(circuitHealth).recordForcedOpen();
+    }
+
+    public static boolean isLastRequestSuccess(BObject circuitHealth) {
+        return getCircuitHealth(circuitHealth).isLastRequestSuccess();
+    }
+
+    public static long getTotalRequestCount(BObject circuitHealth) {
+        return getCircuitHealth(circuitHealth).getTotalRequestCount();
+    }
+
+    public static double getFailureRatio(BObject circuitHealth) {
+        return getCircuitHealth(circuitHealth).getFailureRatio();
+    }
+
+    public static long getMillisSinceLastError(BObject circuitHealth) {
+        return getCircuitHealth(circuitHealth).getMillisSinceLastError();
+    }
+
+    private static CircuitHealth getCircuitHealth(BObject circuitHealth) {
+        return (CircuitHealth) circuitHealth.getNativeData(CIRCUIT_HEALTH);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import io.ballerina.runtime.api.BStringUtils;
+import io.ballerina.runtime.api.BValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.net.http.HttpErrorType;
+import org.ballerinalang.net.http.HttpUtil;
+import org.ballerinalang.net.http.ValueCreatorUtils;
+import org.ballerinalang.net.http.clientendpoint.Http2StreamScheduler;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+/**
+ * Extern functions which report the HTTP/2 streams of a client connection pool.
+ *
+ * @since 2.0.0
+ */
+public class ExternConnectionPool {
+
+    private static final String CONNECTION_POOL_STATS = "ConnectionPoolStats";
+
+    /**
+     * Get the stream statistics of a host in a connection pool.
+     *
+     * @param poolConfig connection pool configuration
+     * @param url        URL of the host
+     * @return the statistics, or nil if the streams of the host are not limited by the pool
+     */
+    public static Object getStats(BMap<BString, Long> poolConfig, BString url) {
+        Http2StreamScheduler streamScheduler;
+        try {
+            streamScheduler = HttpUtil.getHttp2StreamScheduler(poolConfig, new URL(url.getValue()));
+        } catch (MalformedURLException e) {
+            return HttpUtil.createHttpError("malformed URL: " + url.getValue(), HttpErrorType.GENERIC_CLIENT_ERROR);
+        }
+        if (streamScheduler == null) {
+            return null;
+        }
+        BMap<BString, Object> stats = ValueCreatorUtils.createHTTPRecordValue(CONNECTION_POOL_STATS);
+        stats.put(BStringUtils.fromString("activeStreams"), (long) streamScheduler.getActiveStreams());
+        stats.put(BStringUtils.fromString("pendingAcquisitions"), (long) streamScheduler.getPendingAcquisitions());
+        stats.put(BStringUtils.fromString("maxConcurrentStreams"), (long) streamScheduler.getMaxConcurrentStreams());
+        stats.put(BStringUtils.fromString("acquisitions"), streamScheduler.getAcquisitionCount());
+        stats.put(BStringUtils.fromString("acquisitionTimeouts"), streamScheduler.getTimeoutCount());
+        stats.put(BStringUtils.fromString("acquisitionLatencyHistogram"),
+                  BValueCreator.createArrayValue(streamScheduler.getLatencyHistogram()));
+        return stats;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import io.ballerina.runtime.api.BStringUtils;
+import io.ballerina.runtime.api.BalEnv;
+import io.ballerina.runtime.api.BalFuture;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.net.http.ValueCreatorUtils;
+import org.ballerinalang.net.http.caching.ResponseCacheStore;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extern functions of the HTTP cache, which keeps the cached responses in a {@link ResponseCacheStore}.
+ *
+ * @since 2.0.0
+ */
+public class ExternHttpCache {
+
+    private static final String RESPONSE_CACHE_STORE = "RESPONSE_CACHE_STORE";
+    private static final String CACHE_STATS = "CacheStats";
+
+    public static void init(BObject httpCache, long capacity, long maxSizeInBytes, long maxEntryAge) {
+        long maxAgeMillis = maxEntryAge < 0 ? -1 : TimeUnit.SECONDS.toMillis(maxEntryAge);
+        httpCache.addNativeData(RESPONSE_CACHE_STORE,
+                                new ResponseCacheStore<BObject>(capacity, maxSizeInBytes, maxAgeMillis));
+    }
+
+    public static Object get(BObject httpCache, BString key) {
+        List<BObject> responses = getStore(httpCache).get(key.getValue());
+        return responses == null ? null : responses.get(responses.size() - 1);
+    }
+
+    public static boolean getAll(BObject httpCache, BString key, BArray responses) {
+        List<BObject> cachedResponses = getStore(httpCache).get(key.getValue());
+        if (cachedResponses == null) {
+            return false;
+        }
+        for (BObject response : cachedResponses) {
+            responses.append(response);
+        }
+        return true;
+    }
+
+    public static void put(BObject httpCache, BString key, BObject response, long size) {
+        getStore(httpCache).put(key.getValue(), response, size);
+    }
+
+    public static void remove(BObject httpCache, BString key) {
+        getStore(httpCache).remove(key.getValue());
+    }
+
+    public static boolean startFetch(BalEnv env, BObject httpCache, BString key) {
+        // The strand is resumed with false once the fetch by another strand completes, which could happen before the
+        // store returns, so the strand is marked async first.
+        BalFuture future = env.markAsync();
+        if (getStore(httpCache).startFetch(key.getValue(), () -> future.complete(false))) {
+            future.complete(true);
+        }
+        // Ignored, as the strand is resumed with the result of the future.
+        return false;
+    }
+
+    public static void completeFetch(BObject httpCache, BString key) {
+        getStore(httpCache).completeFetch(key.getValue());
+    }
+
+    public static BMap<BString, Object> getStats(BObject httpCache) {
+        ResponseCacheStore<BObject> store = getStore(httpCache);
+        BMap<BString, Object> stats = ValueCreatorUtils.createHTTPRecordValue(CACHE_STATS);
+        stats.put(BStringUtils.fromString("hits"), store.getHitCount());
+        stats.put(BStringUtils.fromString("misses"), store.getMissCount());
+        stats.put(BStringUtils.fromString("evictions"), store.getEvictionCount());
+        stats.put(BStringUtils.fromString("coalescedRequests"), store.getCoalescedCount());
+        stats.put(BStringUtils.fromString("size"), store.getSize());
+        stats.put(BStringUtils.fromString("sizeInBytes"), store.getSizeInBytes());
+        return stats;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ResponseCacheStore<BObject> getStore(BObject httpCache) {
+        return (ResponseCacheStore<BObject>) httpCache.getNativeData(RESPONSE_CACHE_STORE);
+    }
+}
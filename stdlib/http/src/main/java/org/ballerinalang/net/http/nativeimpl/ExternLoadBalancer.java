@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import org.ballerinalang.net.http.resiliency.LeastOutstandingLoadBalancer;
+import org.ballerinalang.net.http.resiliency.LoadBalancer;
+import org.ballerinalang.net.http.resiliency.PeakEwmaLoadBalancer;
+import org.ballerinalang.net.http.resiliency.RoundRobinLoadBalancer;
+
+/**
+ * Extern functions of the load balancer rules, which keep their state in a {@link LoadBalancer}.
+ *
+ * @since 2.0.0
+ */
+public class ExternLoadBalancer {
+
+    private static final String LOAD_BALANCER = "LOAD_BALANCER";
+
+    public static void initRoundRobin(BObject lbRule) {
+        lbRule.addNativeData(LOAD_BALANCER, new RoundRobinLoadBalancer());
+    }
+
+    public static void initLeastOutstanding(BObject lbRule) {
+        lbRule.addNativeData(LOAD_BALANCER, new LeastOutstandingLoadBalancer());
+    }
+
+    public static void initPeakEwma(BObject lbRule, long decayTimeInMillis) {
+        lbRule.addNativeData(LOAD_BALANCER, new PeakEwmaLoadBalancer(decayTimeInMillis));
+    }
+
+    public static long select(BObject lbRule, long noOfTargets) {
+        return getLoadBalancer(lbRule).select((int) noOfTargets);
+    }
+
+    public static void complete(BObject lbRule, BArray targets, BObject target, long latencyInNanos,
+                                boolean success) {
+        int noOfTargets = targets.size();
+        for (int i = 0; i < noOfTargets; i++) {
+            if (targets.getRefValue(i) == target) {
+                getLoadBalancer(lbRule).complete(i, latencyInNanos, success);
+                return;
+            }
+        }
+    }
+
+    private static LoadBalancer getLoadBalancer(BObject lbRule) {
+        return (LoadBalancer) lbRule.getNativeData(LOAD_BALANCER);
+    }
+}
@@ -28,10 +28,12 @@ import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.ObserverContext;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import org.ballerinalang.net.http.CoalescedResponse;
 import org.ballerinalang.net.http.DataContext;
 import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.net.http.HttpErrorType;
 import org.ballerinalang.net.http.HttpUtil;
+import org.ballerinalang.net.http.RequestCoalescer;
 import org.ballerinalang.net.http.caching.ResponseCacheControlObj;
 import org.ballerinalang.net.http.nativeimpl.pipelining.PipelinedResponse;
 import org.ballerinalang.net.http.util.CacheUtils;
@@ -80,6 +82,7 @@ public class Respond extends ConnectionAction {
         setCacheControlHeader(outboundResponseObj, outboundResponseMsg);
         HttpUtil.prepareOutboundResponse(connectionObj, inboundRequestMsg, outboundResponseMsg, outboundResponseObj);
         HttpUtil.checkFunctionValidity(connectionObj, inboundRequestMsg, outboundResponseMsg);
+        shareCoalescedResponse(inboundRequestMsg, outboundResponseMsg, outboundResponseObj);
 
         // Based on https://tools.ietf.org/html/rfc7232#section-4.1
         if (CacheUtils.isValidCachedResponse(outboundResponseMsg, inboundRequestMsg)) {
@@ -129,6 +132,27 @@ public class Respond extends ConnectionAction {
         strand.blockedOnExtern = false;
     }
 
+    /**
+     * Send the response to the requests which were coalesced with the inbound request while it was being executed.
+     * The response is shared before it is turned into a not modified response, which is specific to the conditional
+     * headers of the inbound request.
+     */
+    @SuppressWarnings("unchecked")
+    private static void shareCoalescedResponse(HttpCarbonMessage inboundRequestMsg,
+                                               HttpCarbonMessage outboundResponseMsg, BObject outboundResponseObj) {
+        RequestCoalescer.Flight<CoalescedResponse> flight = (RequestCoalescer.Flight<CoalescedResponse>)
+                inboundRequestMsg.getProperty(HttpConstants.COALESCING_FLIGHT);
+        if (flight == null) {
+            return;
+        }
+        CoalescedResponse response = CoalescedResponse.copyOf(outboundResponseMsg, outboundResponseObj);
+        if (response != null) {
+            flight.complete(response);
+        } else {
+            flight.abandon();
+        }
+    }
+
     private static void setCacheControlHeader(BObject outboundRespObj, HttpCarbonMessage outboundResponse) {
         BObject cacheControl = (BObject) outboundRespObj.get(RESPONSE_CACHE_CONTROL_FIELD);
         if (cacheControl != null &&
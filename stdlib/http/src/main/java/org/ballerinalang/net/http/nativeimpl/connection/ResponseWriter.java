@@ -30,6 +30,8 @@ import org.ballerinalang.net.http.DataContext;
 import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.net.http.HttpErrorType;
 import org.ballerinalang.net.http.HttpUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.wso2.transport.http.netty.contract.HttpConnectorListener;
 import org.wso2.transport.http.netty.contract.HttpResponseFuture;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
@@ -49,6 +51,8 @@ import static org.ballerinalang.net.http.HttpUtil.extractEntity;
  */
 public class ResponseWriter {
 
+    private static final Logger log = LoggerFactory.getLogger(ResponseWriter.class);
+
     /**
      * Send outbound response to destination.
      *
@@ -79,11 +83,33 @@ public class ResponseWriter {
                 serializeMultiparts(boundaryString, entityObj, messageOutputStream);
             } else {
                 Object outboundMessageSource = EntityBodyHandler.getMessageDataSource(entityObj);
-                serializeDataSource(outboundMessageSource, entityObj, messageOutputStream);
+                if (outboundMessageSource != null) {
+                    serializeDataSource(outboundMessageSource, entityObj, messageOutputStream);
+                } else if (!serializeByteStream(entityObj, messageOutputStream)) {
+                    serializeDataSource(null, entityObj, messageOutputStream);
+                }
             }
         }
     }
 
+    /**
+     * Serialize the entity body if it is fed from a byte stream. The body is written as the stream is pulled, so that
+     * the current thread does not wait for the strand which pulls it. The message is ended even if the stream fails,
+     * so that the peer does not wait for the rest of the body.
+     *
+     * @param entity              Represents the entity that holds the actual body
+     * @param messageOutputStream Represents the output stream
+     * @return true if the entity body is fed from a byte stream
+     */
+    private static boolean serializeByteStream(BObject entity, OutputStream messageOutputStream) {
+        return EntityBodyHandler.transferByteStreamToOutputStream(entity, messageOutputStream, error -> {
+            if (error != null) {
+                log.error("error occurred while serializing byte stream content : " + error.getMessage(), error);
+            }
+            HttpUtil.closeMessageOutputStream(messageOutputStream);
+        });
+    }
+
     /**
      * Serialize multipart entity body. If an array of body parts exist, encode body parts else serialize body content
      * if it exist as a byte channel.
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The health of a circuit breaker, counted over a rolling window of time buckets.
+ * <p>
+ * Each slot of the window holds the bucket of a time interval. A bucket is replaced with a new one once its interval
+ * is a whole window in the past, by the first caller which finds it stale, so the window slides without locking and
+ * without resetting buckets eagerly. Buckets whose interval is outside the window are not counted, which also discards
+ * the counts of a window in which there were no requests.
+ *
+ * @since 2.0.0
+ */
+public class CircuitHealth {
+
+    private final long startTime = System.nanoTime();
+    private final long bucketSizeNanos;
+    private final int noOfBuckets;
+    private final AtomicReferenceArray<Bucket> buckets;
+    private volatile boolean lastRequestSuccess;
+    private volatile long lastErrorTime;
+    private volatile long lastForcedOpenTime;
+
+    /**
+     * Creates the health of a circuit breaker.
+     *
+     * @param bucketSizeInMillis time interval of a bucket
+     * @param noOfBuckets        number of buckets in the window
+     */
+    public CircuitHealth(long bucketSizeInMillis, int noOfBuckets) {
+        this.bucketSizeNanos = TimeUnit.MILLISECONDS.toNanos(bucketSizeInMillis);
+        this.noOfBuckets = noOfBuckets;
+        this.buckets = new AtomicReferenceArray<>(noOfBuckets);
+    }
+
+    /**
+     * Count a request, whether it is sent to the upstream service or rejected.
+     */
+    public void recordRequest() {
+        getCurrentBucket().totalCount.increment();
+    }
+
+    public void recordSuccess() {
+        lastRequestSuccess = true;
+    }
+
+    public void recordFailure() {
+        lastRequestSuccess = false;
+        lastErrorTime = now();
+        getCurrentBucket().failureCount.increment();
+    }
+
+    public void recordRejection() {
+        getCurrentBucket().rejectedCount.increment();
+    }
+
+    public void recordForcedOpen() {
+        lastForcedOpenTime = now();
+    }
+
+    public boolean isLastRequestSuccess() {
+        return lastRequestSuccess;
+    }
+
+    /**
+     * Get the number of requests in the window, including the rejected ones.
+     *
+     * @return the number of requests
+     */
+    public long getTotalRequestCount() {
+        long currentIndex = getCurrentIndex();
+        long totalCount = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            Bucket bucket = buckets.get(i);
+            if (isInWindow(bucket, currentIndex)) {
+                totalCount += bucket.totalCount.sum();
+            }
+        }
+        return totalCount;
+    }
+
+    /**
+     * Get the ratio of the failed requests to the requests which were sent to the upstream service in the window.
+     *
+     * @return the failure ratio, or 0 if no request was sent
+     */
+    public double getFailureRatio() {
+        long currentIndex = getCurrentIndex();
+        long sentCount = 0;
+        long failureCount = 0;
+        for (int i = 0; i < noOfBuckets; i++) {
+            Bucket bucket = buckets.get(i);
+            if (isInWindow(bucket, currentIndex)) {
+                sentCount += bucket.totalCount.sum() - bucket.rejectedCount.sum();
+                failureCount += bucket.failureCount.sum();
+            }
+        }
+        return sentCount > 0 ? (double) failureCount / sentCount : 0;
+    }
+
+    /**
+     * Get the time elapsed since the last failure, or since the circuit was last forced open if that is later.
+     *
+     * @return the elapsed time in milliseconds
+     */
+    public long getMillisSinceLastError() {
+        return TimeUnit.NANOSECONDS.toMillis(now() - Math.max(lastErrorTime, lastForcedOpenTime));
+    }
+
+    private long now() {
+        return System.nanoTime() - startTime;
+    }
+
+    private long getCurrentIndex() {
+        return now() / bucketSizeNanos;
+    }
+
+    private boolean isInWindow(Bucket bucket, long currentIndex) {
+        return bucket != null && bucket.index > currentIndex - noOfBuckets;
+    }
+
+    private Bucket getCurrentBucket() {
+        long index = getCurrentIndex();
+        int slot = (int) (index % noOfBuckets);
+        Bucket bucket = buckets.get(slot);
+        while (bucket == null || bucket.index < index) {
+            Bucket newBucket = new Bucket(index);
+            if (buckets.compareAndSet(slot, bucket, newBucket)) {
+                return newBucket;
+            }
+            bucket = buckets.get(slot);
+        }
+        return bucket;
+    }
+
+    /**
+     * The counts of a time interval.
+     */
+    private static class Bucket {
+
+        private final long index;
+        private final LongAdder totalCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder rejectedCount = new LongAdder();
+
+        Bucket(long index) {
+            this.index = index;
+        }
+    }
+}
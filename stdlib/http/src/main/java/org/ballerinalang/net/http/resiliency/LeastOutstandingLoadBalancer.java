@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Chooses the target with the fewest requests in progress. The scan for it starts at each target in turn, so that
+ * targets with as many requests in progress share the load.
+ *
+ * @since 2.0.0
+ */
+public class LeastOutstandingLoadBalancer implements LoadBalancer {
+
+    private final AtomicInteger counter = new AtomicInteger();
+    private volatile AtomicLongArray outstandingCounts = new AtomicLongArray(0);
+
+    @Override
+    public int select(int noOfTargets) {
+        AtomicLongArray counts = getOutstandingCounts(noOfTargets);
+        int start = Math.floorMod(counter.getAndIncrement(), noOfTargets);
+        int chosen = start;
+        long fewest = counts.get(start);
+        for (int i = 1; i < noOfTargets && fewest > 0; i++) {
+            int index = (start + i) % noOfTargets;
+            long count = counts.get(index);
+            if (count < fewest) {
+                chosen = index;
+                fewest = count;
+            }
+        }
+        counts.incrementAndGet(chosen);
+        return chosen;
+    }
+
+    @Override
+    public void complete(int index, long latencyNanos, boolean success) {
+        AtomicLongArray counts = outstandingCounts;
+        if (index < counts.length()) {
+            counts.getAndUpdate(index, count -> count > 0 ? count - 1 : 0);
+        }
+    }
+
+    // The counts start afresh if the rule is used with a different number of targets.
+    private AtomicLongArray getOutstandingCounts(int noOfTargets) {
+        AtomicLongArray counts = outstandingCounts;
+        if (counts.length() != noOfTargets) {
+            counts = new AtomicLongArray(noOfTargets);
+            outstandingCounts = counts;
+        }
+        return counts;
+    }
+}
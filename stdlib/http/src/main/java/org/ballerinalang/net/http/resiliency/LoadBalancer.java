@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+/**
+ * Chooses the target of each request sent by a load balance client. Implementations are thread safe and do not lock.
+ *
+ * @since 2.0.0
+ */
+public interface LoadBalancer {
+
+    /**
+     * Choose the target of a request.
+     *
+     * @param noOfTargets number of targets
+     * @return the index of the chosen target
+     */
+    int select(int noOfTargets);
+
+    /**
+     * Notify that a request sent to a chosen target has completed.
+     *
+     * @param index        index of the target
+     * @param latencyNanos time taken by the request
+     * @param success      whether the request succeeded
+     */
+    default void complete(int index, long latencyNanos, boolean success) {
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Chooses targets by their latency, with the peak EWMA algorithm.
+ * <p>
+ * The latency of a target is an exponentially weighted moving average of the latencies of its requests, which decays
+ * with time rather than with the number of requests. A latency above the average replaces it at once, so a target
+ * which slows down is avoided quickly, and recovers gradually. The cost of a target is its latency multiplied by the
+ * number of its requests in progress plus one. Of two targets picked at random, the one with the lower cost is chosen,
+ * which spreads the load without herding all requests to the single fastest target. A failed request counts as at
+ * least as slow as the failure penalty, so that a target which fails fast is not preferred.
+ *
+ * @since 2.0.0
+ */
+public class PeakEwmaLoadBalancer implements LoadBalancer {
+
+    private static final long FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    // The cost of a target which has requests in progress but no latency yet.
+    private static final double UNKNOWN_LATENCY_PENALTY = Long.MAX_VALUE >> 1;
+
+    private final long startTime = System.nanoTime();
+    private final double decayTimeNanos;
+    private volatile Target[] targets = new Target[0];
+
+    /**
+     * Creates a peak EWMA load balancer.
+     *
+     * @param decayTimeInMillis time in which the weight of a latency decays to 1/e. If it is not positive, only the
+     *                          requests in progress are taken into account
+     */
+    public PeakEwmaLoadBalancer(long decayTimeInMillis) {
+        this.decayTimeNanos = TimeUnit.MILLISECONDS.toNanos(decayTimeInMillis);
+    }
+
+    @Override
+    public int select(int noOfTargets) {
+        Target[] currentTargets = getTargets(noOfTargets);
+        int chosen = 0;
+        if (noOfTargets > 1) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(noOfTargets);
+            int second = random.nextInt(noOfTargets - 1);
+            if (second >= first) {
+                second++;
+            }
+            long now = now();
+            chosen = currentTargets[first].getCost(now) <= currentTargets[second].getCost(now) ? first : second;
+        }
+        currentTargets[chosen].outstandingCount.incrementAndGet();
+        return chosen;
+    }
+
+    @Override
+    public void complete(int index, long latencyNanos, boolean success) {
+        Target[] currentTargets = targets;
+        if (index < currentTargets.length) {
+            Target target = currentTargets[index];
+            target.outstandingCount.getAndUpdate(count -> count > 0 ? count - 1 : 0);
+            target.observe(success ? latencyNanos : Math.max(latencyNanos, FAILURE_PENALTY_NANOS), now());
+        }
+    }
+
+    // The weight of a latency observed the given time ago. A latency is forgotten at once if there is no decay time,
+    // which would otherwise make the weight NaN.
+    private double getWeight(long elapsedNanos) {
+        return decayTimeNanos > 0 ? Math.exp(-Math.max(elapsedNanos, 0) / decayTimeNanos) : 0;
+    }
+
+    private long now() {
+        return System.nanoTime() - startTime;
+    }
+
+    // The targets start afresh if the rule is used with a different number of targets.
+    private Target[] getTargets(int noOfTargets) {
+        Target[] currentTargets = targets;
+        if (currentTargets.length != noOfTargets) {
+            currentTargets = new Target[noOfTargets];
+            for (int i = 0; i < noOfTargets; i++) {
+                currentTargets[i] = new Target();
+            }
+            targets = currentTargets;
+        }
+        return currentTargets;
+    }
+
+    /**
+     * The latency and the requests in progress of a target.
+     */
+    private class Target {
+
+        private final AtomicLong outstandingCount = new AtomicLong();
+        private final AtomicReference<Latency> latency = new AtomicReference<>(new Latency(0, 0));
+
+        double getCost(long now) {
+            Latency current = latency.get();
+            double average = current.average * getWeight(now - current.time);
+            long outstanding = outstandingCount.get();
+            if (average == 0 && outstanding > 0) {
+                return UNKNOWN_LATENCY_PENALTY + outstanding;
+            }
+            return average * (outstanding + 1);
+        }
+
+        void observe(long latencyNanos, long now) {
+            while (true) {
+                Latency current = latency.get();
+                double updated;
+                if (latencyNanos > current.average) {
+                    updated = latencyNanos;
+                } else {
+                    double weight = getWeight(now - current.time);
+                    updated = current.average * weight + latencyNanos * (1 - weight);
+                }
+                if (latency.compareAndSet(current, new Latency(updated, Math.max(now, current.time)))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * The average latency of a target at a point in time.
+     */
+    private static class Latency {
+
+        private final double average;
+        private final long time;
+
+        Latency(double average, long time) {
+            this.average = average;
+            this.time = time;
+        }
+    }
+}
@@ -74,6 +74,7 @@ public class WebSocketConstants {
 
     public static final String NATIVE_DATA_WEBSOCKET_CONNECTION_INFO = "NATIVE_DATA_WEBSOCKET_CONNECTION_INFO";
     public static final String NATIVE_DATA_BASE_PATH = "BASE_PATH";
+    public static final String NATIVE_DATA_WEBSOCKET_GROUP = "NATIVE_DATA_WEBSOCKET_GROUP";
 
     public static final BString CLIENT_URL_CONFIG = BStringUtils.fromString("url");
     public static final BString CLIENT_SERVICE_CONFIG = BStringUtils.fromString("callbackService");
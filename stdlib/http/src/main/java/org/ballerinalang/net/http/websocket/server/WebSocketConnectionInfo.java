@@ -23,6 +23,9 @@ import org.ballerinalang.net.http.websocket.WebSocketConstants;
 import org.ballerinalang.net.http.websocket.WebSocketService;
 import org.wso2.transport.http.netty.contract.websocket.WebSocketConnection;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * This class has WebSocket connection info for both the client and the server. Includes details
  * needed to dispatch a resource after a successful handshake.
@@ -33,6 +36,7 @@ public class WebSocketConnectionInfo {
     private final BObject webSocketEndpoint;
     private final WebSocketConnection webSocketConnection;
     private StringAggregator stringAggregator = null;
+    private final Set<WebSocketGroup> groups = ConcurrentHashMap.newKeySet();
 
     /**
      * @param webSocketService    can be the WebSocketServerService or WebSocketService
@@ -62,6 +66,34 @@ public class WebSocketConnectionInfo {
         }
     }
 
+    /**
+     * Specifies whether the connection is a member of a group.
+     *
+     * @param group the group
+     * @return true if the connection is a member of the group
+     */
+    public boolean isMemberOf(WebSocketGroup group) {
+        return groups.contains(group);
+    }
+
+    void joinGroup(WebSocketGroup group) {
+        groups.add(group);
+    }
+
+    void leaveGroup(WebSocketGroup group) {
+        groups.remove(group);
+    }
+
+    /**
+     * Removes the connection from all the groups it is a member of, once it is closed.
+     */
+    void leaveGroups() {
+        for (WebSocketGroup group : groups) {
+            group.removeClosed(this);
+        }
+        groups.clear();
+    }
+
     public StringAggregator createIfNullAndGetStringAggregator() {
         if (stringAggregator == null) {
             stringAggregator = new StringAggregator();
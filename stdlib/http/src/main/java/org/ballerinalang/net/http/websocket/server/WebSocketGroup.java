@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http.websocket.server;
+
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.netty.channel.ChannelFuture;
+import org.ballerinalang.net.http.websocket.observability.WebSocketObservabilityConstants;
+import org.ballerinalang.net.http.websocket.observability.WebSocketObservabilityUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.wso2.transport.http.netty.contract.websocket.WebSocketConnection;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A group of WebSocket connections which a message could be broadcast to at once.
+ * <p>
+ * A message is prepared once for all the members. Binary data is wrapped in a single buffer which the frames of all
+ * the members share, instead of being copied for each member. The number of messages which have been pushed to a
+ * member but are yet to be written to its channel is tracked, so that a slow member does not make messages pile up
+ * in memory: once the limit is reached, the member either misses the messages broadcast until it catches up, or is
+ * dropped from the group, as per the slow consumer policy. A connection is removed from the group once it is closed.
+ */
+public class WebSocketGroup {
+
+    private static final Logger log = LoggerFactory.getLogger(WebSocketGroup.class);
+
+    /**
+     * The action taken on a member whose pending messages have reached the limit.
+     */
+    public enum SlowConsumerPolicy {
+        SKIP, DROP
+    }
+
+    private final Map<String, Member> members = new ConcurrentHashMap<>();
+    private final int maxPendingMessages;
+    private final SlowConsumerPolicy slowConsumerPolicy;
+
+    public WebSocketGroup(int maxPendingMessages, SlowConsumerPolicy slowConsumerPolicy) {
+        this.maxPendingMessages = maxPendingMessages;
+        this.slowConsumerPolicy = slowConsumerPolicy;
+    }
+
+    /**
+     * Adds a connection to the group.
+     *
+     * @param connectionInfo the connection
+     * @return true if the connection was added, false if it is already a member
+     * @throws IllegalAccessException if the connection has not been made
+     */
+    public boolean add(WebSocketConnectionInfo connectionInfo) throws IllegalAccessException {
+        WebSocketConnection connection = connectionInfo.getWebSocketConnection();
+        if (members.putIfAbsent(connection.getChannelId(), new Member(connectionInfo, connection)) != null) {
+            return false;
+        }
+        connectionInfo.joinGroup(this);
+        return true;
+    }
+
+    /**
+     * Removes a connection from the group.
+     *
+     * @param connectionInfo the connection
+     * @return true if the connection was removed, false if it is not a member
+     * @throws IllegalAccessException if the connection has not been made
+     */
+    public boolean remove(WebSocketConnectionInfo connectionInfo) throws IllegalAccessException {
+        connectionInfo.leaveGroup(this);
+        return members.remove(connectionInfo.getWebSocketConnection().getChannelId()) != null;
+    }
+
+    /**
+     * Removes a connection which has been closed from the group.
+     *
+     * @param connectionInfo the connection
+     */
+    void removeClosed(WebSocketConnectionInfo connectionInfo) {
+        members.values().removeIf(member -> member.connectionInfo == connectionInfo);
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * Pushes a text message to all the members of the group.
+     *
+     * @param text the text
+     * @return the number of members the message was pushed to
+     */
+    public int broadcastText(String text) {
+        return broadcast(connection -> connection.pushText(text), WebSocketObservabilityConstants.MESSAGE_TYPE_TEXT);
+    }
+
+    /**
+     * Pushes a binary message to all the members of the group. The frames of all the members share the given data.
+     *
+     * @param data the data, which must not be changed afterwards
+     * @return the number of members the message was pushed to
+     */
+    public int broadcastBinary(ByteBuffer data) {
+        return broadcast(connection -> connection.pushBinary(data.duplicate()),
+                         WebSocketObservabilityConstants.MESSAGE_TYPE_BINARY);
+    }
+
+    private int broadcast(Function<WebSocketConnection, ChannelFuture> push, String messageType) {
+        boolean metricsEnabled = ObserveUtils.isMetricsEnabled();
+        int pushedCount = 0;
+        for (Map.Entry<String, Member> entry : members.entrySet()) {
+            Member member = entry.getValue();
+            // A connection which is closed but has not been removed yet.
+            if (!member.connection.isOpen()) {
+                evict(entry.getKey(), member);
+                continue;
+            }
+            if (!member.acquire()) {
+                if (slowConsumerPolicy == SlowConsumerPolicy.DROP && evict(entry.getKey(), member)) {
+                    log.debug("WebSocket connection {} was dropped from the group as it could not keep up with "
+                                      + "the messages broadcast", entry.getKey());
+                }
+                continue;
+            }
+            try {
+                push.apply(member.connection).addListener(future -> member.release());
+                pushedCount++;
+                if (metricsEnabled) {
+                    WebSocketObservabilityUtil.observeSend(messageType, member.connectionInfo);
+                }
+            } catch (Exception e) {
+                member.release();
+                log.error("Error occurred when broadcasting to connection " + entry.getKey(), e);
+                WebSocketObservabilityUtil.observeError(member.connectionInfo,
+                                                        WebSocketObservabilityConstants.ERROR_TYPE_MESSAGE_SENT,
+                                                        messageType, e.getMessage());
+            }
+        }
+        return pushedCount;
+    }
+
+    // Removes a member while broadcasting, so that the connection no longer refers to the group either.
+    private boolean evict(String channelId, Member member) {
+        if (!members.remove(channelId, member)) {
+            return false;
+        }
+        member.connectionInfo.leaveGroup(this);
+        return true;
+    }
+
+    /**
+     * A member of the group, along with the number of its messages which are yet to be written.
+     */
+    private class Member {
+
+        private final WebSocketConnectionInfo connectionInfo;
+        private final WebSocketConnection connection;
+        private final AtomicInteger pendingMessages = new AtomicInteger();
+
+        Member(WebSocketConnectionInfo connectionInfo, WebSocketConnection connection) {
+            this.connectionInfo = connectionInfo;
+            this.connection = connection;
+        }
+
+        boolean acquire() {
+            int pending;
+            do {
+                pending = pendingMessages.get();
+                if (pending >= maxPendingMessages) {
+                    return false;
+                }
+            } while (!pendingMessages.compareAndSet(pending, pending + 1));
+            return true;
+        }
+
+        void release() {
+            pendingMessages.decrementAndGet();
+        }
+    }
+}
@@ -125,8 +125,10 @@ public class WebSocketServerListener implements WebSocketConnectorListener {
     public void onClose(WebSocketConnection webSocketConnection) {
         WebSocketObservabilityUtil.observeClose(getConnectionInfo(webSocketConnection));
         try {
-            WebSocketUtil.setListenerOpenField(
-                    connectionManager.removeConnectionInfo(webSocketConnection.getChannelId()));
+            WebSocketConnectionInfo connectionInfo =
+                    connectionManager.removeConnectionInfo(webSocketConnection.getChannelId());
+            connectionInfo.leaveGroups();
+            WebSocketUtil.setListenerOpenField(connectionInfo);
         } catch (IllegalAccessException e) {
             // Ignore as it is not possible have an Illegal access
         }
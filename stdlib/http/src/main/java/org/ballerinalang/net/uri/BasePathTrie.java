@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.uri;
+
+import org.ballerinalang.net.http.HttpConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Segment trie of the service base paths of a host, used to find the most specific base path of a request path.
+ * <p>
+ * A base path matches a request path which is equal to it ignoring case, or which starts with it followed by a
+ * {@code /}. The longest matching base path is the most specific one. The trie is rebuilt when services are
+ * registered or unregistered, and is only read while dispatching, so a lookup neither locks nor allocates.
+ *
+ * @since 2.0.0
+ */
+public class BasePathTrie {
+
+    private final Set<String> basePaths = new LinkedHashSet<>();
+    private volatile TrieNode root = new TrieNode();
+
+    /**
+     * Add a base path. The default base path is not added, since it matches any request path.
+     *
+     * @param basePath sanitized base path of a service
+     */
+    public synchronized void add(String basePath) {
+        if (basePaths.add(basePath)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Remove a base path.
+     *
+     * @param basePath sanitized base path of a service
+     */
+    public synchronized void remove(String basePath) {
+        if (basePaths.remove(basePath)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Find the most specific base path of the given raw request path.
+     *
+     * @param path raw request path
+     * @return the matching base path, or null if there is none other than the default base path
+     */
+    public String findMostSpecific(String path) {
+        TrieNode node = root;
+        String match = null;
+        int length = path.length();
+        int pos = 0;
+        while (pos < length && path.charAt(pos) == '/') {
+            int segmentStart = pos + 1;
+            int segmentEnd = path.indexOf('/', segmentStart);
+            if (segmentEnd < 0) {
+                segmentEnd = length;
+            }
+            node = node.getChild(path, segmentStart, segmentEnd);
+            if (node == null) {
+                break;
+            }
+            if (node.basePaths.length > 0) {
+                if (segmentEnd == length) {
+                    // Equal ignoring case, which is the longest possible match.
+                    return node.basePaths[0];
+                }
+                for (String basePath : node.basePaths) {
+                    if (path.startsWith(basePath)) {
+                        match = basePath;
+                        break;
+                    }
+                }
+            }
+            pos = segmentEnd;
+        }
+        return match;
+    }
+
+    private void rebuild() {
+        TrieNode newRoot = new TrieNode();
+        for (String basePath : basePaths) {
+            if (HttpConstants.DEFAULT_BASE_PATH.equals(basePath) || !basePath.startsWith("/")) {
+                continue;
+            }
+            TrieNode node = newRoot;
+            int pos = 0;
+            while (pos < basePath.length()) {
+                int segmentStart = pos + 1;
+                int segmentEnd = basePath.indexOf('/', segmentStart);
+                if (segmentEnd < 0) {
+                    segmentEnd = basePath.length();
+                }
+                node = node.getOrAddChild(basePath.substring(segmentStart, segmentEnd));
+                pos = segmentEnd;
+            }
+            node.addBasePath(basePath);
+        }
+        root = newRoot;
+    }
+
+    /**
+     * A path segment, matched ignoring case. Holds the base paths that end at this segment, which differ only in case,
+     * in the order they were added.
+     */
+    private static class TrieNode {
+
+        private String[] segments = new String[0];
+        private int[] segmentHashes = new int[0];
+        private TrieNode[] children = new TrieNode[0];
+        private String[] basePaths = new String[0];
+
+        TrieNode getChild(String path, int start, int end) {
+            int hash = hashIgnoreCase(path, start, end);
+            int length = end - start;
+            for (int i = 0; i < segmentHashes.length; i++) {
+                String segment = segments[i];
+                if (segmentHashes[i] == hash && segment.length() == length &&
+                        path.regionMatches(true, start, segment, 0, length)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        TrieNode getOrAddChild(String segment) {
+            TrieNode child = getChild(segment, 0, segment.length());
+            if (child != null) {
+                return child;
+            }
+            int count = children.length;
+            segments = Arrays.copyOf(segments, count + 1);
+            segmentHashes = Arrays.copyOf(segmentHashes, count + 1);
+            children = Arrays.copyOf(children, count + 1);
+            segments[count] = segment;
+            segmentHashes[count] = hashIgnoreCase(segment, 0, segment.length());
+            children[count] = new TrieNode();
+            return children[count];
+        }
+
+        void addBasePath(String basePath) {
+            List<String> paths = new ArrayList<>(Arrays.asList(basePaths));
+            paths.add(basePath);
+            basePaths = paths.toArray(new String[0]);
+        }
+
+        private static int hashIgnoreCase(String str, int start, int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(str.charAt(i)));
+            }
+            return hash;
+        }
+    }
+}
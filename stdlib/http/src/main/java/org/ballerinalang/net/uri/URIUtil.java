@@ -43,6 +43,8 @@ public class URIUtil {
     public static final String URI_PATH_DELIMITER = "/";
     public static final char DOT_SEGMENT = '.';
     private static final BString[] EMPTY_STRING_ARRAY = new BString[0];
+    private static final boolean[] PATH_CHARS = asciiSet("-_.!~*'():@&=+$,;/");
+    private static final boolean[] QUERY_CHARS = asciiSet("-_.!~*'();/?:@&=+$,[]");
 
     public static String[] getPathSegments(String path) {
         if (path.startsWith(URI_PATH_DELIMITER)) {
@@ -99,6 +101,10 @@ public class URIUtil {
         BMap<BString, Object> matrixParamsBMap = BValueCreator.createMapValue();
         Map<String, Map<String, String>> pathToMatrixParamMap =
                 (Map<String, Map<String, String>>) carbonMessage.getProperty(HttpConstants.MATRIX_PARAMS);
+        if (pathToMatrixParamMap == null) {
+            // Not set when the request URI has no matrix parameters.
+            return matrixParamsBMap;
+        }
         Map<String, String> matrixParamsMap = pathToMatrixParamMap.get(path);
         if (matrixParamsMap != null) {
             for (Map.Entry<String, String> matrixParamEntry : matrixParamsMap.entrySet()) {
@@ -138,4 +144,85 @@ public class URIUtil {
         }
         return pathToMatrixParam;
     }
+
+    /**
+     * Returns the end index of the path of a request URI which can be dispatched as is, or -1 if the URI has to be
+     * normalized with {@link #extractMatrixParams(String, Map)} and validated as a {@link java.net.URI} first.
+     * <p>
+     * A URI can be dispatched as is when it starts with a single {@code /}, has no matrix parameters, does not end
+     * with a {@code /} or {@code ?} which normalizing drops, and has only ASCII characters which are valid unquoted in
+     * their component.
+     *
+     * @param rawUri raw request URI
+     * @return index of the first {@code ?} or {@code #}, the length of the URI if there is none, or -1
+     */
+    public static int getDispatchablePathEnd(String rawUri) {
+        int length = rawUri.length();
+        if (length == 0 || rawUri.charAt(0) != '/' || (length > 1 && rawUri.charAt(1) == '/') ||
+                rawUri.charAt(length - 1) == '?') {
+            return -1;
+        }
+        int pathEnd = -1;
+        int queryStart = -1;
+        boolean fragment = false;
+        for (int i = 0; i < length; i++) {
+            char c = rawUri.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= length || Character.digit(rawUri.charAt(i + 1), 16) < 0 ||
+                        Character.digit(rawUri.charAt(i + 2), 16) < 0) {
+                    return -1;
+                }
+                i += 2;
+            } else if (c == '#') {
+                if (fragment) {
+                    return -1;
+                }
+                fragment = true;
+                pathEnd = pathEnd < 0 ? i : pathEnd;
+            } else if (c == '?' && queryStart < 0) {
+                // Matrix parameters are split up to the first '?', even if it is in the fragment.
+                if (rawUri.charAt(i - 1) == '/' && i > 1) {
+                    return -1;
+                }
+                queryStart = i;
+                pathEnd = pathEnd < 0 ? i : pathEnd;
+            } else if (c == ';' && queryStart < 0) {
+                return -1;
+            } else if (!isAllowed(pathEnd < 0 ? PATH_CHARS : QUERY_CHARS, c)) {
+                return -1;
+            }
+        }
+        if (queryStart < 0 && length > 1 && rawUri.charAt(length - 1) == '/') {
+            return -1;
+        }
+        return pathEnd < 0 ? length : pathEnd;
+    }
+
+    /**
+     * Returns the raw query of a request URI, given the end of its path found by
+     * {@link #getDispatchablePathEnd(String)}.
+     *
+     * @param rawUri  raw request URI
+     * @param pathEnd end index of the path
+     * @return raw query, or null if there is none
+     */
+    public static String getRawQuery(String rawUri, int pathEnd) {
+        if (pathEnd == rawUri.length() || rawUri.charAt(pathEnd) != '?') {
+            return null;
+        }
+        int queryEnd = rawUri.indexOf('#', pathEnd + 1);
+        return rawUri.substring(pathEnd + 1, queryEnd < 0 ? rawUri.length() : queryEnd);
+    }
+
+    private static boolean isAllowed(boolean[] allowedChars, char c) {
+        return c < 128 && (allowedChars[c] || Character.isLetterOrDigit(c));
+    }
+
+    private static boolean[] asciiSet(String chars) {
+        boolean[] set = new boolean[128];
+        for (int i = 0; i < chars.length(); i++) {
+            set[chars.charAt(i)] = true;
+        }
+        return set;
+    }
 }
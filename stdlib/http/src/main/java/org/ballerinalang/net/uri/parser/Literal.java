@@ -33,6 +33,7 @@ import java.util.Map;
 public class Literal<DataType, InboundMsgType> extends Node<DataType, InboundMsgType> {
 
     private int tokenLength;
+    private boolean wildcard;
 
     public Literal(DataElement<DataType, InboundMsgType> dataElement, String token) throws URITemplateException {
         super(dataElement, token);
@@ -40,6 +41,11 @@ public class Literal<DataType, InboundMsgType> extends Node<DataType, InboundMsg
         if (tokenLength == 0) {
             throw new URITemplateException("Invalid literal token with zero length");
         }
+        wildcard = token.equals("*");
+    }
+
+    boolean isWildcard() {
+        return wildcard;
     }
 
     @Override
@@ -75,17 +75,11 @@ public abstract class Node<DataType, InboundMsgType> {
             return false;
         }
         String subUriFragment = nextURIFragment(uriFragment, matchLength);
-        String subPath = nextSubPath(subUriFragment);
 
         boolean isFound;
         for (Node<DataType, InboundMsgType> childNode : childNodesList) {
             if (childNode instanceof Literal) {
-                String regex = childNode.getToken();
-                if (regex.equals("*")) {
-                    regex = "." + regex;
-                    if (!subPath.matches(regex)) {
-                        continue;
-                    }
+                if (((Literal<DataType, InboundMsgType>) childNode).isWildcard()) {
                     isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
                                                  dataReturnAgent);
                     if (isFound) {
@@ -94,7 +88,7 @@ public abstract class Node<DataType, InboundMsgType> {
                     }
                     continue;
                 }
-                if (!subPath.contains(regex)) {
+                if (!isInFirstSegment(subUriFragment, childNode.getToken())) {
                     continue;
                 }
                 isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
@@ -193,13 +187,16 @@ public abstract class Node<DataType, InboundMsgType> {
         return uriFragment;
     }
 
-    private String nextSubPath(String uriFragment) {
-        String subPath;
-        if (uriFragment.contains("/")) {
-            subPath = uriFragment.substring(0, uriFragment.indexOf("/"));
-        } else {
-            subPath = uriFragment;
+    /**
+     * Checks whether the first path segment of the URI fragment contains the literal token, without extracting the
+     * segment. Literal tokens never contain a '/', so the first occurrence decides.
+     */
+    private boolean isInFirstSegment(String uriFragment, String token) {
+        int index = uriFragment.indexOf(token);
+        if (index < 0) {
+            return false;
         }
-        return subPath;
+        int segmentEnd = uriFragment.indexOf('/');
+        return segmentEnd < 0 || index < segmentEnd;
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cachingclient;
+
+import org.ballerinalang.net.http.caching.ResponseCacheStore;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for the store of the HTTP caching client.
+ */
+public class ResponseCacheStoreTest {
+
+    @Test(description = "Test that responses added for a key are returned in order")
+    public void testResponsesOfKey() {
+        ResponseCacheStore<String> store = new ResponseCacheStore<>(10, -1, -1);
+        store.put("GET /a", "first", 5);
+        store.put("GET /a", "second", 6);
+
+        Assert.assertEquals(store.get("GET /a"), Arrays.asList("first", "second"));
+        Assert.assertNull(store.get("GET /b"));
+        Assert.assertEquals(store.getSize(), 1);
+        Assert.assertEquals(store.getSizeInBytes(), 11);
+        Assert.assertEquals(store.getHitCount(), 1);
+        Assert.assertEquals(store.getMissCount(), 1);
+
+        store.remove("GET /a");
+        Assert.assertNull(store.get("GET /a"));
+        Assert.assertEquals(store.getSizeInBytes(), 0);
+    }
+
+    @Test(description = "Test that entries which were looked up are evicted after the ones which were not")
+    public void testSegmentedEviction() {
+        ResponseCacheStore<String> store = new ResponseCacheStore<>(3, -1, -1);
+        store.put("GET /a", "a", 1);
+        store.put("GET /b", "b", 1);
+        store.get("GET /a");
+        store.put("GET /c", "c", 1);
+        store.put("GET /d", "d", 1);
+        store.put("GET /e", "e", 1);
+
+        Assert.assertNotNull(store.get("GET /a"));
+        Assert.assertNull(store.get("GET /b"));
+        Assert.assertNull(store.get("GET /c"));
+        Assert.assertEquals(store.getEvictionCount(), 2);
+    }
+
+    @Test(description = "Test that the total size of the responses is bounded")
+    public void testSizeBound() {
+        ResponseCacheStore<String> store = new ResponseCacheStore<>(100, 10, -1);
+        store.put("GET /a", "a", 6);
+        store.put("GET /b", "b", 6);
+        store.put("GET /c", "c", 11);
+
+        Assert.assertNull(store.get("GET /a"));
+        Assert.assertNotNull(store.get("GET /b"));
+        Assert.assertNull(store.get("GET /c"));
+        Assert.assertEquals(store.getSizeInBytes(), 6);
+    }
+
+    @Test(description = "Test that entries older than the maximum age are not returned")
+    public void testMaxAge() {
+        ResponseCacheStore<String> store = new ResponseCacheStore<>(10, -1, 0);
+        store.put("GET /a", "a", 1);
+
+        Assert.assertNull(store.get("GET /a"));
+    }
+
+    @Test(description = "Test that concurrent misses for a key wait for a single fetch")
+    public void testCoalescedFetch() {
+        ResponseCacheStore<String> store = new ResponseCacheStore<>(10, -1, -1);
+        AtomicInteger fetched = new AtomicInteger();
+
+        Assert.assertTrue(store.startFetch("GET /a", fetched::incrementAndGet));
+        Assert.assertFalse(store.startFetch("GET /a", fetched::incrementAndGet));
+        Assert.assertFalse(store.startFetch("GET /a", fetched::incrementAndGet));
+        Assert.assertEquals(fetched.get(), 0);
+
+        store.completeFetch("GET /a");
+        Assert.assertEquals(fetched.get(), 2);
+        Assert.assertEquals(store.getCoalescedCount(), 2);
+        Assert.assertTrue(store.startFetch("GET /a", fetched::incrementAndGet));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.stdlib.connectionpool;
+
+import org.ballerinalang.net.http.clientendpoint.Http2StreamScheduler;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the scheduler which limits the HTTP/2 streams of a host.
+ *
+ * @since 2.0.0
+ */
+public class Http2StreamSchedulerTest {
+
+    private static final Runnable NO_OP = () -> { };
+
+    @Test(description = "Test that the requests over the stream limit wait until a stream is released")
+    public void testStreamLimit() throws InterruptedException {
+        Http2StreamScheduler scheduler = new Http2StreamScheduler(2, -1);
+        AtomicInteger sentRequests = new AtomicInteger();
+        CountDownLatch queuedRequestSent = new CountDownLatch(1);
+        scheduler.acquire(sentRequests::incrementAndGet, NO_OP);
+        scheduler.acquire(sentRequests::incrementAndGet, NO_OP);
+        scheduler.acquire(queuedRequestSent::countDown, NO_OP);
+
+        Assert.assertEquals(sentRequests.get(), 2);
+        Assert.assertEquals(scheduler.getActiveStreams(), 2);
+        Assert.assertEquals(scheduler.getPendingAcquisitions(), 1);
+
+        scheduler.release();
+        Assert.assertTrue(queuedRequestSent.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(scheduler.getActiveStreams(), 2);
+        Assert.assertEquals(scheduler.getPendingAcquisitions(), 0);
+        Assert.assertEquals(scheduler.getAcquisitionCount(), 3);
+    }
+
+    @Test(description = "Test that a request fails if no stream is released within the wait time")
+    public void testAcquisitionTimeout() throws InterruptedException {
+        Http2StreamScheduler scheduler = new Http2StreamScheduler(1, 100);
+        AtomicInteger sentRequests = new AtomicInteger();
+        CountDownLatch timedOut = new CountDownLatch(1);
+        scheduler.acquire(NO_OP, NO_OP);
+        scheduler.acquire(sentRequests::incrementAndGet, timedOut::countDown);
+
+        Assert.assertTrue(timedOut.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(scheduler.getTimeoutCount(), 1);
+        Assert.assertEquals(scheduler.getPendingAcquisitions(), 0);
+        // The stream of the timed out request is not handed over to it once released.
+        scheduler.release();
+        Assert.assertEquals(scheduler.getActiveStreams(), 0);
+        Assert.assertEquals(sentRequests.get(), 0);
+    }
+
+    @Test(description = "Test that a request which acquires a stream within the wait time does not time out")
+    public void testAcquisitionBeforeTimeout() throws InterruptedException {
+        Http2StreamScheduler scheduler = new Http2StreamScheduler(1, 100);
+        CountDownLatch queuedRequestSent = new CountDownLatch(1);
+        AtomicInteger timeouts = new AtomicInteger();
+        scheduler.acquire(NO_OP, NO_OP);
+        scheduler.acquire(queuedRequestSent::countDown, timeouts::incrementAndGet);
+        scheduler.release();
+
+        Assert.assertTrue(queuedRequestSent.await(5, TimeUnit.SECONDS));
+        Thread.sleep(200);
+        Assert.assertEquals(timeouts.get(), 0);
+        Assert.assertEquals(scheduler.getTimeoutCount(), 0);
+        Assert.assertEquals(scheduler.getActiveStreams(), 1);
+    }
+
+    @Test(description = "Test that the acquisitions are counted in the latency histogram")
+    public void testLatencyHistogram() throws InterruptedException {
+        Http2StreamScheduler scheduler = new Http2StreamScheduler(1, -1);
+        CountDownLatch queuedRequestSent = new CountDownLatch(1);
+        scheduler.acquire(NO_OP, NO_OP);
+        scheduler.acquire(queuedRequestSent::countDown, NO_OP);
+        Thread.sleep(20);
+        scheduler.release();
+
+        Assert.assertTrue(queuedRequestSent.await(5, TimeUnit.SECONDS));
+        long[] histogram = scheduler.getLatencyHistogram();
+        Assert.assertEquals(histogram[0], 1);
+        Assert.assertEquals(histogram[2], 1);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.resiliency;
+
+import org.ballerinalang.net.http.resiliency.CircuitHealth;
+import org.ballerinalang.net.http.resiliency.LeastOutstandingLoadBalancer;
+import org.ballerinalang.net.http.resiliency.LoadBalancer;
+import org.ballerinalang.net.http.resiliency.PeakEwmaLoadBalancer;
+import org.ballerinalang.net.http.resiliency.RoundRobinLoadBalancer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the native load balancers and the circuit breaker health.
+ */
+public class LoadBalancerTest {
+
+    @Test(description = "Test that the round robin load balancer chooses the targets in turn")
+    public void testRoundRobin() {
+        LoadBalancer loadBalancer = new RoundRobinLoadBalancer();
+        for (int i = 0; i < 7; i++) {
+            Assert.assertEquals(loadBalancer.select(3), i % 3);
+        }
+    }
+
+    @Test(description = "Test that the target with the fewest requests in progress is chosen")
+    public void testLeastOutstanding() {
+        LoadBalancer loadBalancer = new LeastOutstandingLoadBalancer();
+        Assert.assertEquals(loadBalancer.select(3), 0);
+        Assert.assertEquals(loadBalancer.select(3), 1);
+        Assert.assertEquals(loadBalancer.select(3), 2);
+        loadBalancer.complete(1, 0, true);
+        Assert.assertEquals(loadBalancer.select(3), 1);
+        loadBalancer.complete(2, 0, true);
+        Assert.assertEquals(loadBalancer.select(3), 2);
+    }
+
+    @Test(description = "Test that the peak EWMA load balancer prefers the target with the lower latency")
+    public void testPeakEwma() {
+        LoadBalancer loadBalancer = new PeakEwmaLoadBalancer(10000);
+        loadBalancer.select(2);
+        loadBalancer.select(2);
+        loadBalancer.complete(0, TimeUnit.MILLISECONDS.toNanos(5), true);
+        loadBalancer.complete(1, TimeUnit.MILLISECONDS.toNanos(500), true);
+
+        int fastTargetCount = 0;
+        for (int i = 0; i < 100; i++) {
+            int index = loadBalancer.select(2);
+            if (index == 0) {
+                fastTargetCount++;
+            }
+            loadBalancer.complete(index, TimeUnit.MILLISECONDS.toNanos(index == 0 ? 5 : 500), true);
+        }
+        Assert.assertEquals(fastTargetCount, 100);
+    }
+
+    @Test(description = "Test that a failed request counts as a slow one in the peak EWMA load balancer")
+    public void testPeakEwmaFailure() {
+        LoadBalancer loadBalancer = new PeakEwmaLoadBalancer(10000);
+        loadBalancer.select(2);
+        loadBalancer.select(2);
+        loadBalancer.complete(0, TimeUnit.MILLISECONDS.toNanos(1), false);
+        loadBalancer.complete(1, TimeUnit.MILLISECONDS.toNanos(50), true);
+
+        Assert.assertEquals(loadBalancer.select(2), 1);
+    }
+
+    @Test(description = "Test that the peak EWMA load balancer without a decay time balances the requests in progress")
+    public void testPeakEwmaWithoutDecay() {
+        LoadBalancer loadBalancer = new PeakEwmaLoadBalancer(0);
+        for (int i = 0; i < 20; i++) {
+            int first = loadBalancer.select(2);
+            int second = loadBalancer.select(2);
+            Assert.assertNotEquals(first, second);
+            loadBalancer.complete(first, TimeUnit.MILLISECONDS.toNanos(5), true);
+            loadBalancer.complete(second, TimeUnit.MILLISECONDS.toNanos(500), true);
+        }
+    }
+
+    @Test(description = "Test the counts of the circuit breaker health")
+    public void testCircuitHealth() {
+        CircuitHealth circuitHealth = new CircuitHealth(10000, 6);
+        for (int i = 0; i < 4; i++) {
+            circuitHealth.recordRequest();
+        }
+        circuitHealth.recordSuccess();
+        circuitHealth.recordFailure();
+        circuitHealth.recordRejection();
+
+        Assert.assertEquals(circuitHealth.getTotalRequestCount(), 4);
+        Assert.assertEquals(circuitHealth.getFailureRatio(), 1.0 / 3);
+        Assert.assertFalse(circuitHealth.isLastRequestSuccess());
+        Assert.assertTrue(circuitHealth.getMillisSinceLastError() < 10000);
+    }
+
+    @Test(description = "Test that the counts of the buckets outside the rolling window are discarded")
+    public void testCircuitHealthWindow() throws InterruptedException {
+        CircuitHealth circuitHealth = new CircuitHealth(50, 2);
+        circuitHealth.recordRequest();
+        circuitHealth.recordFailure();
+        Thread.sleep(150);
+
+        Assert.assertEquals(circuitHealth.getTotalRequestCount(), 0);
+        Assert.assertEquals(circuitHealth.getFailureRatio(), 0.0);
+        circuitHealth.recordRequest();
+        Assert.assertEquals(circuitHealth.getTotalRequestCount(), 1);
+    }
+}
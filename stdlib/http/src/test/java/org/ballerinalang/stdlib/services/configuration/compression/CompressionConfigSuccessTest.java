@@ -183,4 +183,27 @@ public class CompressionConfigSuccessTest {
         Assert.assertEquals(response.getHeader(HttpHeaderNames.CONTENT_ENCODING.toString()), ENCODING_GZIP,
                             "The content-encoding header should be gzip.");
     }
+
+    @Test(description = "Test Compression.ALWAYS, with a payload smaller than the minimum size. The response here " +
+            "means the one that should be sent to transport, not to end user.")
+    public void testAlwaysCompressBelowMinimumSize() {
+        HTTPTestRequest inRequestMsg = MessageUtils.generateHTTPMessage("/alwaysCompressAboveMinimumSize/small",
+                                                                        HttpConstants.HTTP_METHOD_GET);
+        HttpCarbonMessage response = Services.invoke(MOCK_ENDPOINT_PORT, inRequestMsg);
+        Assert.assertNotNull(response, "Response message not found");
+        Assert.assertEquals(response.getHeader(HttpHeaderNames.CONTENT_ENCODING.toString()),
+                            HTTP_TRANSFER_ENCODING_IDENTITY, "The content-encoding header of the response " +
+                                    "that was sent to transport should be set to identity.");
+    }
+
+    @Test(description = "Test Compression.ALWAYS, with a payload larger than the minimum size. The response here " +
+            "means the one that should be sent to transport, not to end user.")
+    public void testAlwaysCompressAboveMinimumSize() {
+        HTTPTestRequest inRequestMsg = MessageUtils.generateHTTPMessage("/alwaysCompressAboveMinimumSize/large",
+                                                                        HttpConstants.HTTP_METHOD_GET);
+        HttpCarbonMessage response = Services.invoke(MOCK_ENDPOINT_PORT, inRequestMsg);
+        Assert.assertNotNull(response, "Response message not found");
+        Assert.assertEquals(response.getHeader(HttpHeaderNames.CONTENT_ENCODING.toString()), ENCODING_GZIP,
+                            "The content-encoding header should be gzip.");
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.uri.BasePathTrie;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for finding the most specific service base path.
+ */
+public class BasePathTrieTest {
+
+    @Test(description = "Test that the longest base path ending at a segment boundary is selected")
+    public void testMostSpecificBasePath() {
+        BasePathTrie trie = new BasePathTrie();
+        trie.add("/");
+        trie.add("/hello");
+        trie.add("/hello/world");
+        trie.add("/echo");
+
+        Assert.assertEquals(trie.findMostSpecific("/hello/world/foo"), "/hello/world");
+        Assert.assertEquals(trie.findMostSpecific("/hello/worlds"), "/hello");
+        Assert.assertEquals(trie.findMostSpecific("/hello"), "/hello");
+        Assert.assertEquals(trie.findMostSpecific("/echo/"), "/echo");
+        Assert.assertNull(trie.findMostSpecific("/echoes"));
+        Assert.assertNull(trie.findMostSpecific("/"));
+    }
+
+    @Test(description = "Test that only a whole request path is matched ignoring case")
+    public void testBasePathCase() {
+        BasePathTrie trie = new BasePathTrie();
+        trie.add("/Hello");
+
+        Assert.assertEquals(trie.findMostSpecific("/hELLO"), "/Hello");
+        Assert.assertEquals(trie.findMostSpecific("/Hello/world"), "/Hello");
+        Assert.assertNull(trie.findMostSpecific("/hello/world"));
+    }
+
+    @Test(description = "Test that removed base paths are no longer matched")
+    public void testRemoveBasePath() {
+        BasePathTrie trie = new BasePathTrie();
+        trie.add("/hello");
+        trie.add("/hello/world");
+        trie.remove("/hello/world");
+
+        Assert.assertEquals(trie.findMostSpecific("/hello/world/foo"), "/hello");
+    }
+}
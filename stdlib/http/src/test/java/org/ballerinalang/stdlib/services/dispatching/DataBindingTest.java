@@ -155,6 +155,26 @@ public class DataBindingTest {
                 "{\"name\":\"ballerina\", \"age\":3}]");
     }
 
+    @Test(description = "Test data binding of path params of each type, in a different order from the path, along " +
+            "with a query param and a record payload")
+    public void testDataBindingWithPathQueryAndBodyParams() {
+        HTTPTestRequest requestMsg = MessageUtils.generateHTTPMessage("/echo/body9/12/9.5/true/wso2?currency=USD",
+                                                                      "POST", "{'id':7,'price':3.25}");
+        requestMsg.setHeader(HttpHeaderNames.CONTENT_TYPE.toString(), APPLICATION_JSON);
+        HttpCarbonMessage responseMsg = Services.invoke(TEST_EP_PORT, requestMsg);
+
+        Assert.assertNotNull(responseMsg, "responseMsg message not found");
+        BMap<String, BValue> bJson = (BMap<String, BValue>) JsonParser.parse(
+                new HttpMessageDataStreamer(responseMsg).getInputStream());
+        Assert.assertEquals(bJson.get("Name").stringValue(), "wso2", "Name variable not set properly.");
+        Assert.assertEquals(bJson.get("Id").stringValue(), "12", "Id variable not set properly.");
+        Assert.assertEquals(bJson.get("Price").stringValue(), "9.5", "Price variable not set properly.");
+        Assert.assertEquals(bJson.get("Enabled").stringValue(), "true", "Enabled variable not set properly.");
+        Assert.assertEquals(bJson.get("Currency").stringValue(), "USD", "Currency variable not set properly.");
+        Assert.assertEquals(bJson.get("StockId").stringValue(), "7", "StockId variable not set properly.");
+        Assert.assertEquals(bJson.get("StockPrice").stringValue(), "3.25", "StockPrice variable not set properly.");
+    }
+
     @Test(description = "Test data binding without content-type header")
     public void testDataBindingWithoutContentType() {
         HTTPTestRequest requestMsg = MessageUtils
@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.stdlib.services.dispatching;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.ballerinalang.net.http.CoalescedResponse;
+import org.ballerinalang.net.http.HttpTimer;
+import org.ballerinalang.net.http.RequestCoalescer;
+import org.ballerinalang.stdlib.utils.MessageUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test the coalescing of identical requests of a resource.
+ *
+ * @since 2.0.0
+ */
+public class RequestCoalescerTest {
+
+    @Test(description = "Test that the requests which arrive while the leader is executed are sent its response")
+    public void testSharedResponse() {
+        RequestCoalescer<String> coalescer = new RequestCoalescer<>(60000, 10);
+        List<RequestCoalescer.Flight<String>> leaders = new ArrayList<>();
+        List<String> responses = new ArrayList<>();
+        AtomicInteger executions = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            coalescer.dispatch("/hello?name=world", flight -> {
+                executions.incrementAndGet();
+                leaders.add(flight);
+            }, responses::add);
+        }
+        Assert.assertEquals(executions.get(), 1);
+        Assert.assertEquals(coalescer.getFlightCount(), 1);
+
+        leaders.get(0).complete("hello world");
+        Assert.assertEquals(responses.size(), 2);
+        Assert.assertEquals(responses.get(0), "hello world");
+        Assert.assertEquals(coalescer.getFlightCount(), 0);
+
+        // A request which arrives after the flight completed leads a new one.
+        coalescer.dispatch("/hello?name=world", flight -> leaders.add(flight), responses::add);
+        Assert.assertEquals(leaders.size(), 2);
+        Assert.assertNotNull(leaders.get(1));
+    }
+
+    @Test(description = "Test that the requests over the waiter limit and the requests of other keys are executed")
+    public void testWaiterLimit() {
+        RequestCoalescer<String> coalescer = new RequestCoalescer<>(60000, 1);
+        List<RequestCoalescer.Flight<String>> executions = new ArrayList<>();
+        List<String> responses = new ArrayList<>();
+        coalescer.dispatch("/hello", executions::add, responses::add);
+        coalescer.dispatch("/hello", executions::add, responses::add);
+        coalescer.dispatch("/hello", executions::add, responses::add);
+        coalescer.dispatch("/hello?name=world", executions::add, responses::add);
+
+        Assert.assertEquals(executions.size(), 3);
+        Assert.assertNotNull(executions.get(0));
+        // The request over the limit is executed on its own, without leading a flight.
+        Assert.assertNull(executions.get(1));
+        Assert.assertNotNull(executions.get(2));
+
+        executions.get(0).complete("hello");
+        Assert.assertEquals(responses.size(), 1);
+    }
+
+    @Test(description = "Test that a waiting request is executed on its own once the wait time elapses")
+    public void testWaitTimeout() throws InterruptedException {
+        RequestCoalescer<String> coalescer = new RequestCoalescer<>(100, 10);
+        List<RequestCoalescer.Flight<String>> leaders = new ArrayList<>();
+        List<String> responses = new ArrayList<>();
+        CountDownLatch timedOut = new CountDownLatch(1);
+        coalescer.dispatch("/hello", leaders::add, responses::add);
+        coalescer.dispatch("/hello", flight -> timedOut.countDown(), responses::add);
+
+        Assert.assertTrue(timedOut.await(5, TimeUnit.SECONDS));
+        leaders.get(0).complete("hello");
+        Assert.assertTrue(responses.isEmpty());
+    }
+
+    @Test(description = "Test that the waiting requests are executed on their own if the leader has no response")
+    public void testAbandonedFlight() {
+        RequestCoalescer<String> coalescer = new RequestCoalescer<>(60000, 10);
+        List<RequestCoalescer.Flight<String>> executions = new ArrayList<>();
+        List<String> responses = new ArrayList<>();
+        coalescer.dispatch("/hello", executions::add, responses::add);
+        coalescer.dispatch("/hello", executions::add, responses::add);
+        coalescer.dispatch("/hello", executions::add, responses::add);
+
+        executions.get(0).abandon();
+        Assert.assertEquals(executions.size(), 3);
+        Assert.assertNull(executions.get(1));
+        Assert.assertNull(executions.get(2));
+        // Completing the flight after it was abandoned does not respond to the requests.
+        executions.get(0).complete("hello");
+        Assert.assertTrue(responses.isEmpty());
+        Assert.assertEquals(coalescer.getFlightCount(), 0);
+    }
+
+    @Test(description = "Test that the timeouts of the waiting requests are cancelled once the flight completes")
+    public void testTimeoutsCancelledOnCompletion() {
+        RequestCoalescer<String> coalescer = new RequestCoalescer<>(60000, 10);
+        int pendingTimeouts = HttpTimer.getPendingTimeoutCount();
+        List<RequestCoalescer.Flight<String>> leaders = new ArrayList<>();
+        coalescer.dispatch("/hello", leaders::add, response -> { });
+        coalescer.dispatch("/hello", leaders::add, response -> { });
+        coalescer.dispatch("/hello", leaders::add, response -> { });
+        Assert.assertEquals(HttpTimer.getPendingTimeoutCount(), pendingTimeouts + 2);
+
+        leaders.get(0).complete("hello");
+        Assert.assertEquals(HttpTimer.getPendingTimeoutCount(), pendingTimeouts);
+    }
+
+    @Test(description = "Test that requests with different credentials do not share a response")
+    public void testRequestsWithCredentialsNotCoalesced() {
+        HttpHeaders alice = new DefaultHttpHeaders().set("Authorization", "Basic YWxpY2U6MTIz");
+        HttpHeaders bob = new DefaultHttpHeaders().set("Authorization", "Basic Ym9iOjQ1Ng==");
+        String aliceKey = CoalescedResponse.getRequestKey(MessageUtils.generateHTTPMessage("/hello", "GET", alice,
+                                                                                            null));
+        String bobKey = CoalescedResponse.getRequestKey(MessageUtils.generateHTTPMessage("/hello", "GET", bob, null));
+        Assert.assertNull(aliceKey);
+        Assert.assertNull(bobKey);
+
+        HttpHeaders cookie = new DefaultHttpHeaders().set("Cookie", "SID=31d4d96e407aad42");
+        Assert.assertNull(CoalescedResponse.getRequestKey(MessageUtils.generateHTTPMessage("/hello", "GET", cookie,
+                                                                                            null)));
+
+        // Requests without credentials are still coalesced, unless they negotiate different representations.
+        HttpHeaders json = new DefaultHttpHeaders().set("Accept", "application/json");
+        HttpHeaders xml = new DefaultHttpHeaders().set("Accept", "application/xml");
+        String jsonKey = CoalescedResponse.getRequestKey(MessageUtils.generateHTTPMessage("/hello", "GET", json, null));
+        Assert.assertNotNull(jsonKey);
+        Assert.assertEquals(CoalescedResponse.getRequestKey(MessageUtils.generateHTTPMessage("/hello", "GET", json,
+                                                                                              null)), jsonKey);
+        Assert.assertNotEquals(CoalescedResponse.getRequestKey(MessageUtils.generateHTTPMessage("/hello", "GET", xml,
+                                                                                                 null)), jsonKey);
+        HttpHeaders gzip = new DefaultHttpHeaders().set("Accept", "application/json").set("Accept-Encoding", "gzip");
+        Assert.assertNotEquals(CoalescedResponse.getRequestKey(MessageUtils.generateHTTPMessage("/hello", "GET", gzip,
+                                                                                                 null)), jsonKey);
+    }
+}
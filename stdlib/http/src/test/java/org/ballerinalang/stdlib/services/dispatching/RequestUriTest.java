@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.uri.URIUtil;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for dispatching request URIs without normalizing them.
+ */
+public class RequestUriTest {
+
+    @Test(description = "Test finding the path and query of URIs which can be dispatched as is")
+    public void testDispatchableUri() {
+        Assert.assertEquals(URIUtil.getDispatchablePathEnd("/"), 1);
+        Assert.assertEquals(URIUtil.getDispatchablePathEnd("/hello/world"), 12);
+        Assert.assertEquals(URIUtil.getDispatchablePathEnd("/hello?a=1&b=%20;c"), 6);
+        Assert.assertEquals(URIUtil.getDispatchablePathEnd("/hello#top"), 6);
+
+        Assert.assertEquals(URIUtil.getRawQuery("/hello?a=1&b=%20;c", 6), "a=1&b=%20;c");
+        Assert.assertEquals(URIUtil.getRawQuery("/hello?a=1#top", 6), "a=1");
+        Assert.assertNull(URIUtil.getRawQuery("/hello#top", 6));
+        Assert.assertNull(URIUtil.getRawQuery("/hello", 6));
+    }
+
+    @Test(description = "Test that URIs which have to be normalized or validated are not dispatched as is")
+    public void testNonDispatchableUri() {
+        Assert.assertEquals(URIUtil.getDispatchablePathEnd("/hello;a=1/world"), -1);
+        Assert.assertEquals(URIUtil.getDispatchablePathEnd("/hello/"), -1);
+        Assert.assertEquals(URIUtil.getDispatchablePathEnd("/hello/?a=1"), -1);
+        Assert.assertEquals(URIUtil.getDispatchablePathEnd("/hello?"), -1);
+        Assert.assertEquals(URIUtil.getDispatchablePathEnd("hello"), -1);
+        Assert.assertEquals(URIUtil.getDispatchablePathEnd("//host/hello"), -1);
+        Assert.assertEquals(URIUtil.getDispatchablePathEnd("/hello world"), -1);
+        Assert.assertEquals(URIUtil.getDispatchablePathEnd("/hello%2"), -1);
+        Assert.assertEquals(URIUtil.getDispatchablePathEnd("/hello#a#b"), -1);
+    }
+}
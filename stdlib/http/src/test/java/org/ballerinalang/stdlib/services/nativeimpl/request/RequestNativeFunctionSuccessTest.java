@@ -431,6 +431,30 @@ public class RequestNativeFunctionSuccessTest {
         Assert.assertEquals(((BMap) bJson).get(key).stringValue(), value);
     }
 
+    @Test(description = "Test GetByteStream function within a service. Send a payload as a request, and then get " +
+            "a byte stream from the Request and set that stream as the response content")
+    public void testServiceGetByteStream() {
+        String path = "/hello/GetByteStream";
+        String payload = "ballerina streams the payload in arrays of four bytes";
+        HttpHeaders headers = new DefaultHttpHeaders();
+        headers.add("Content-Type", TEXT_PLAIN);
+        HTTPTestRequest inRequestMsg =
+                MessageUtils.generateHTTPMessage(path, HttpConstants.HTTP_METHOD_POST, headers, payload);
+        HttpCarbonMessage response = Services.invoke(TEST_PORT, inRequestMsg);
+        Assert.assertNotNull(response, "Response message not found");
+        Assert.assertEquals(response.getHeader(HttpHeaderNames.CONTENT_TYPE.toString()), TEXT_PLAIN);
+        Assert.assertEquals(StringUtils.getStringFromInputStream(new HttpMessageDataStreamer(response)
+                                                                         .getInputStream()), payload);
+    }
+
+    @Test(description = "Test setByteStream function of the request with more arrays than the pipe holds")
+    public void testSetByteStreamAndGetText() {
+        BValue[] returnVals = BRunUtil.invoke(compileResult, "testSetByteStreamAndGetText");
+        Assert.assertFalse(returnVals == null || returnVals.length == 0 || returnVals[0] == null,
+                           "Invalid Return Values.");
+        Assert.assertEquals(returnVals[0].stringValue(), "abbcccddddeeeeeffffff");
+    }
+
     @Test(description = "Test RemoveAllHeaders function within a service")
     public void testServiceRemoveAllHeaders() {
         String path = "/hello/RemoveAllHeaders";
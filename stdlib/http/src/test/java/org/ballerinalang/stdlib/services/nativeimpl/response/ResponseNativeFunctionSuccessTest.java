@@ -48,6 +48,12 @@ import org.testng.annotations.Test;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
 import org.wso2.transport.http.netty.message.HttpMessageDataStreamer;
 
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import static org.ballerinalang.mime.util.MimeConstants.APPLICATION_FORM;
 import static org.ballerinalang.mime.util.MimeConstants.APPLICATION_JSON;
 import static org.ballerinalang.mime.util.MimeConstants.APPLICATION_XML;
@@ -302,6 +308,48 @@ public class ResponseNativeFunctionSuccessTest {
                         .getStringFromInputStream(new HttpMessageDataStreamer(response).getInputStream()), value);
     }
 
+    @Test(description = "Test setFileAsPayload function within a service, with a file of several chunks")
+    public void testServiceSetFileAsPayload() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; content.length() < 200000; i++) {
+            content.append("line ").append(i).append('\n');
+        }
+        Path file = Files.createTempFile("file-payload", ".txt");
+        try {
+            Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+            String path = "/hello/filePayload?path=" + URLEncoder.encode(file.toString(), "UTF-8");
+            HTTPTestRequest inRequestMsg = MessageUtils.generateHTTPMessage(path, HttpConstants.HTTP_METHOD_GET);
+            HttpCarbonMessage response = Services.invoke(MOCK_ENDPOINT_PORT, inRequestMsg);
+
+            Assert.assertNotNull(response, "Response message not found");
+            Assert.assertEquals(response.getHeader(HttpHeaderNames.CONTENT_TYPE.toString()), OCTET_STREAM);
+            Assert.assertEquals(
+                    org.ballerinalang.model.util.StringUtils
+                            .getStringFromInputStream(new HttpMessageDataStreamer(response).getInputStream()),
+                    content.toString());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(description = "Test setByteStream function within a service, with more arrays than the pipe holds")
+    public void testServiceSetByteStream() {
+        String path = "/hello/byteStream";
+        HTTPTestRequest inRequestMsg = MessageUtils.generateHTTPMessage(path, HttpConstants.HTTP_METHOD_GET);
+        HttpCarbonMessage response = Services.invoke(MOCK_ENDPOINT_PORT, inRequestMsg);
+
+        Assert.assertNotNull(response, "Response message not found");
+        Assert.assertEquals(response.getHeader(HttpHeaderNames.CONTENT_TYPE.toString()), OCTET_STREAM);
+        StringBuilder expectedPayload = new StringBuilder();
+        for (int i = 1; i <= 10; i++) {
+            expectedPayload.append("chunk").append(i).append(";");
+        }
+        Assert.assertEquals(
+                org.ballerinalang.model.util.StringUtils
+                        .getStringFromInputStream(new HttpMessageDataStreamer(response).getInputStream()),
+                expectedPayload.toString());
+    }
+
     @Test
     public void testGetXmlPayload() {
         BObject inResponse = createResponseObject();
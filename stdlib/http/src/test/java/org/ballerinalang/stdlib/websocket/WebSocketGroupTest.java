@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.websocket;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.util.concurrent.GenericFutureListener;
+import org.ballerinalang.net.http.websocket.server.WebSocketConnectionInfo;
+import org.ballerinalang.net.http.websocket.server.WebSocketGroup;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.transport.http.netty.contract.websocket.WebSocketConnection;
+
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for broadcasting to the members of a WebSocket group, with connections whose writes complete only when
+ * the test completes them.
+ */
+public class WebSocketGroupTest {
+
+    @Test(description = "Test that a member misses broadcasts while it has the maximum pending messages")
+    public void testSkipSlowConsumer() throws IllegalAccessException {
+        WebSocketGroup group = new WebSocketGroup(2, WebSocketGroup.SlowConsumerPolicy.SKIP);
+        TestConnection fast = new TestConnection("fast");
+        TestConnection slow = new TestConnection("slow");
+        Assert.assertTrue(group.add(fast.connectionInfo));
+        Assert.assertTrue(group.add(slow.connectionInfo));
+        Assert.assertFalse(group.add(slow.connectionInfo));
+
+        Assert.assertEquals(group.broadcastText("1"), 2);
+        fast.completeWrites();
+        Assert.assertEquals(group.broadcastBinary(ByteBuffer.wrap(new byte[]{2})), 2);
+        fast.completeWrites();
+        Assert.assertEquals(group.broadcastText("3"), 1);
+        fast.completeWrites();
+        Assert.assertEquals(group.size(), 2);
+
+        slow.completeWrites();
+        Assert.assertEquals(group.broadcastText("4"), 2);
+        Assert.assertEquals(fast.pushedMessages, 4);
+        Assert.assertEquals(slow.pushedMessages, 3);
+    }
+
+    @Test(description = "Test that a member is removed once it has the maximum pending messages")
+    public void testDropSlowConsumer() throws IllegalAccessException {
+        WebSocketGroup group = new WebSocketGroup(2, WebSocketGroup.SlowConsumerPolicy.DROP);
+        TestConnection fast = new TestConnection("fast");
+        TestConnection slow = new TestConnection("slow");
+        group.add(fast.connectionInfo);
+        group.add(slow.connectionInfo);
+
+        Assert.assertEquals(group.broadcastText("1"), 2);
+        Assert.assertEquals(group.broadcastText("2"), 2);
+        fast.completeWrites();
+        Assert.assertEquals(group.broadcastText("3"), 1);
+        Assert.assertEquals(group.size(), 1);
+        Assert.assertFalse(slow.connectionInfo.isMemberOf(group));
+        Assert.assertTrue(fast.connectionInfo.isMemberOf(group));
+
+        slow.completeWrites();
+        Assert.assertEquals(group.broadcastText("4"), 1);
+        Assert.assertEquals(slow.pushedMessages, 2);
+        Assert.assertFalse(group.remove(slow.connectionInfo));
+    }
+
+    @Test(description = "Test that a closed member is not broadcast to")
+    public void testClosedMember() throws IllegalAccessException {
+        WebSocketGroup group = new WebSocketGroup(2, WebSocketGroup.SlowConsumerPolicy.SKIP);
+        TestConnection open = new TestConnection("open");
+        TestConnection closed = new TestConnection("closed");
+        group.add(open.connectionInfo);
+        group.add(closed.connectionInfo);
+
+        closed.open = false;
+        Assert.assertEquals(group.broadcastText("1"), 1);
+        Assert.assertEquals(group.size(), 1);
+        Assert.assertEquals(closed.pushedMessages, 0);
+        Assert.assertFalse(closed.connectionInfo.isMemberOf(group));
+    }
+
+    /**
+     * A connection which holds the listeners of its writes until they are completed.
+     */
+    private static class TestConnection {
+
+        private final WebSocketConnectionInfo connectionInfo;
+        private final List<GenericFutureListener> pendingListeners = new ArrayList<>();
+        private int pushedMessages;
+        private boolean open = true;
+
+        TestConnection(String channelId) {
+            ChannelFuture future = (ChannelFuture) Proxy.newProxyInstance(
+                    getClass().getClassLoader(), new Class[]{ChannelFuture.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("addListener")) {
+                            pendingListeners.add((GenericFutureListener) args[0]);
+                            return proxy;
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+            WebSocketConnection connection = (WebSocketConnection) Proxy.newProxyInstance(
+                    getClass().getClassLoader(), new Class[]{WebSocketConnection.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getChannelId":
+                                return channelId;
+                            case "isOpen":
+                                return open;
+                            case "pushText":
+                            case "pushBinary":
+                                pushedMessages++;
+                                return future;
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+            connectionInfo = new WebSocketConnectionInfo(null, connection, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        void completeWrites() {
+            for (GenericFutureListener listener : pendingListeners) {
+                try {
+                    listener.operationComplete(null);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            pendingListeners.clear();
+        }
+    }
+}
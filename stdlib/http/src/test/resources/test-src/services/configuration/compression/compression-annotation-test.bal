@@ -119,3 +119,17 @@ service alwaysCompressWithEmptyContentType on mockEP {
         checkpanic caller->respond(res);
     }
 }
+
+@http:ServiceConfig {basePath : "/alwaysCompressAboveMinimumSize",
+                     compression: {enable: http:COMPRESSION_ALWAYS, minimumSize: 20}}
+service alwaysCompressAboveMinimumSize on mockEP {
+    @http:ResourceConfig {
+        methods:["GET"],
+        path:"/{size}"
+    }
+    resource function test1 (http:Caller caller, http:Request req, string size) {
+        http:Response res = new;
+        res.setTextPayload(size == "small" ? "Hello World!!!" : "Hello World!!! Hello World!!!");
+        checkpanic caller->respond(res);
+    }
+}
@@ -103,4 +103,17 @@ service echo on testEP {
             checkpanic caller->respond(<@untainted string> jsonPayload.message());
         }
     }
+
+    @http:ResourceConfig {
+        methods: ["POST"],
+        path: "/body9/{id}/{price}/{enabled}/{name}",
+        body: "stock"
+    }
+    resource function body9(http:Caller caller, http:Request req, string name, int id, float price,
+                            boolean enabled, Stock stock) {
+        string? currency = req.getQueryParamValue("currency");
+        json responseJson = { Name: name, Id: id, Price: price, Enabled: enabled, Currency: currency,
+                              StockId: stock.id, StockPrice: stock.price };
+        checkpanic caller->respond(<@untainted json> responseJson);
+    }
 }
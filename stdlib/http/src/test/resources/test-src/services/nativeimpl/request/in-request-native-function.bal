@@ -62,6 +62,32 @@ function testSetPayloadAndGetText((string|xml|json|byte[]|io:ReadableByteChannel
     return req.getTextPayload();
 }
 
+function testSetByteStreamAndGetText() returns @tainted string|error {
+    http:Request req = new;
+    ChunkGenerator generator = new (["a", "bb", "ccc", "dddd", "eeeee", "ffffff"]);
+    req.setByteStream(new stream<byte[], io:Error>(generator));
+    return req.getTextPayload();
+}
+
+class ChunkGenerator {
+
+    private string[] chunks;
+    private int index = 0;
+
+    function init(string[] chunks) {
+        self.chunks = chunks;
+    }
+
+    public function next() returns record {| byte[] value; |}|io:Error? {
+        if (self.index == self.chunks.length()) {
+            return ();
+        }
+        string chunk = self.chunks[self.index];
+        self.index += 1;
+        return {value: chunk.toBytes()};
+    }
+}
+
 function testGetHeader(http:Request req, string key) returns @tainted string {
     return req.getHeader(key);
 }
@@ -269,6 +295,21 @@ service hello on mockEP {
         checkpanic caller->respond(res);
     }
 
+    @http:ResourceConfig {
+        path: "/GetByteStream"
+    }
+    resource function getByteStream(http:Caller caller, http:Request req) {
+        http:Response res = new;
+        var returnResult = req.getByteStream(4);
+        if (returnResult is error) {
+            res.setTextPayload("Error occurred");
+            res.statusCode = 500;
+        } else {
+            res.setByteStream(returnResult, "text/plain");
+        }
+        checkpanic caller->respond(res);
+    }
+
     @http:ResourceConfig {
         path: "/RemoveHeader"
     }
@@ -115,6 +115,24 @@ function testGetCookies(http:Response res) returns @tainted http:Cookie[] {
      return cookiesInResponse;
 }
 
+class ChunkGenerator {
+
+    private int count;
+    private int index = 0;
+
+    function init(int count) {
+        self.count = count;
+    }
+
+    public function next() returns record {| byte[] value; |}|io:Error? {
+        if (self.index == self.count) {
+            return ();
+        }
+        self.index += 1;
+        return {value: ("chunk" + self.index.toString() + ";").toBytes()};
+    }
+}
+
 listener http:MockListener mockEP = new(9090);
 
 @http:ServiceConfig {basePath : "/hello"}
@@ -281,6 +299,25 @@ service hello on mockEP {
         checkpanic caller->respond(res);
     }
 
+    @http:ResourceConfig {
+        path:"/byteStream"
+    }
+    resource function byteStream (http:Caller caller, http:Request req) {
+        http:Response res = new;
+        ChunkGenerator generator = new (10);
+        res.setByteStream(new stream<byte[], io:Error>(generator));
+        checkpanic caller->respond(res);
+    }
+
+    @http:ResourceConfig {
+        path:"/filePayload"
+    }
+    resource function filePayload (http:Caller caller, http:Request req) {
+        http:Response res = new;
+        res.setFileAsPayload(<@untainted string> req.getQueryParamValue("path"));
+        checkpanic caller->respond(res);
+    }
+
     @http:ResourceConfig {
         path:"/getCookies"
     }
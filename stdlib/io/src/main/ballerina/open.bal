@@ -28,6 +28,19 @@ public function openReadableFile(@untainted string path) returns ReadableByteCha
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+# Retrieves a `ReadableByteChannel` from a given file path, which reads the file through memory mapped regions of the
+# file. Reading a large file this way avoids a system call per read.
+#```ballerina
+# io:ReadableByteChannel readableFieldResult = check io:openReadableMappedFile("./files/sample.txt");
+#```
+#
+# + path - Relative/absolute path string to locate the file
+# + return - The `ByteChannel` representation of the file resource or else an `io:Error` if any error occurred
+public function openReadableMappedFile(@untainted string path) returns ReadableByteChannel|Error = @java:Method {
+    name: "openReadableMappedFile",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 # Retrieves a `WritableByteChannel` from a given file path.
 #```ballerina
 # io:WritableByteChannel writableFileResult = check io:openWritableFile("./files/sampleResponse.txt");
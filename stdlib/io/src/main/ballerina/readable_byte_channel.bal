@@ -55,6 +55,18 @@ public class ReadableByteChannel {
         return base64DecodeExtern(self);
     }
 
+# Transfers the remaining content of a given `ReadableByteChannel` to a `WritableByteChannel`. The content of a file
+# is copied by the operating system without being read into memory, wherever the destination allows it.
+# ```ballerina
+# int|io:Error result = readableByteChannel.transferTo(writableByteChannel);
+# ```
+#
+# + destination - The `WritableByteChannel` to which the content is transferred
+# + return - The number of bytes transferred or else an `io:Error`
+    public function transferTo(WritableByteChannel destination) returns int|Error {
+        return transferToExtern(self, destination);
+    }
+
 # Closes a given `ReadableByteChannel`.
 # ```ballerina
 # io:Error? err = readableByteChannel.close();
@@ -81,6 +93,12 @@ function base64DecodeExtern(ReadableByteChannel byteChannel) returns ReadableByt
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+function transferToExtern(ReadableByteChannel byteChannel, WritableByteChannel destination)
+    returns int|Error = @java:Method {
+    name: "transfer",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 function closeReadableByteChannelExtern(ReadableByteChannel byteChannel) returns Error? = @java:Method {
     name: "closeByteChannel",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
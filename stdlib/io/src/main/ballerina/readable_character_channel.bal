@@ -64,6 +64,20 @@ public class ReadableCharacterChannel {
         return readXmlExtern(self);
     }
 
+    # Reads the elements at the given path of an XML document from the channel as a stream. The elements are
+    # built one at a time as the stream is consumed, so the document does not need to fit in memory.
+    # ```ballerina
+    # stream<xml, io:Error> entries = readableCharChannel.readXmlElements("feed", "entry");
+    # ```
+    #
+    # + path - Local names of the elements starting from the root element, where `*` matches any element.
+    #          If no path is given, the children of the root element are read
+    # + return - A stream of the XML elements, which ends with an `io:Error` if the document is malformed
+    public function readXmlElements(string... path) returns @tainted stream<xml, Error> {
+        XmlElementStream elementStream = new (self, path);
+        return new stream<xml, Error>(elementStream);
+    }
+
     # Reads a property from a .properties file with a default value.
     # ```ballerina
     # string|io:Error result = readableCharChannel.readProperty(key, defaultValue);
@@ -118,6 +132,32 @@ function readXmlExtern(ReadableCharacterChannel characterChannel) returns @taint
     'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
 } external;
 
+class XmlElementStream {
+
+    function init(ReadableCharacterChannel characterChannel, string[] path) {
+        initXmlElementStream(self, characterChannel, path);
+    }
+
+    public function next() returns @tainted record {| xml value; |}|Error? {
+        xml|Error? element = nextXmlElementExtern(self);
+        if (element is xml) {
+            return {value: element};
+        }
+        return element;
+    }
+}
+
+function initXmlElementStream(XmlElementStream elementStream, ReadableCharacterChannel characterChannel,
+                              string[] path) = @java:Method {
+    name: "initXmlElementStream",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
+function nextXmlElementExtern(XmlElementStream elementStream) returns @tainted xml|Error? = @java:Method {
+    name: "nextXmlElement",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
 function readPropertyExtern(ReadableCharacterChannel characterChannel, string key, string defaultValue) returns
                             @tainted string|Error = @java:Method {
     name: "readProperty",
@@ -109,6 +109,34 @@ public class ReadableCSVChannel {
     returns @tainted table<record {}>|Error {
         return getTableExtern(self, structType, fieldNames);
     }
+
+# Returns a stream of the CSV records. Each record is read and converted to the given record type only as the
+# stream is consumed, so the CSV content does not need to fit in memory.
+# ```ballerina
+# stream<record {}, io:Error> employees = readableCSVChannel.getStream(Employee);
+# ```
+#
+# + recordType - The record type to which the CSV records should be converted
+# + return - A stream of the records, which ends with an `io:Error` if a record cannot be read or converted
+    public function getStream(typedesc<record {}> recordType) returns @tainted stream<record {}, Error> {
+        CSVRecordStream recordStream = new (self, recordType);
+        return new stream<record {}, Error>(recordStream);
+    }
+}
+
+class CSVRecordStream {
+
+    function init(ReadableCSVChannel csvChannel, typedesc<record {}> recordType) {
+        initCsvRecordStream(self, csvChannel, recordType);
+    }
+
+    public function next() returns @tainted record {| record {} value; |}|Error? {
+        record {}|Error? csvRecord = nextCsvRecordExtern(self);
+        if (csvRecord is record {}) {
+            return {value: csvRecord};
+        }
+        return csvRecord;
+    }
 }
 
 function getTableExtern(ReadableCSVChannel csvChannel, typedesc<record {}> structType, string[] fieldNames)
@@ -116,3 +144,14 @@ function getTableExtern(ReadableCSVChannel csvChannel, typedesc<record {}> struc
     name: "getTable",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.GetTable"
 } external;
+
+function initCsvRecordStream(CSVRecordStream recordStream, ReadableCSVChannel csvChannel,
+                             typedesc<record {}> recordType) = @java:Method {
+    name: "initRecordStream",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.GetTable"
+} external;
+
+function nextCsvRecordExtern(CSVRecordStream recordStream) returns @tainted record {}|Error? = @java:Method {
+    name: "nextRecord",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.GetTable"
+} external;
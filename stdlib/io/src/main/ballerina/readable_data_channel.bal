@@ -101,6 +101,18 @@ public class ReadableDataChannel {
         return readStringExtern(self, nBytes, encoding);
     }
 
+# Reads a value of the given type, which has been written with `io:WritableDataChannel.writeValue()` in the Concise
+# Binary Object Representation (CBOR). A record is read straight into a value of the record type.
+# ```ballerina
+# Person|io:Error result = <Person|io:Error> dataChannel.readValue(Person);
+# ```
+#
+# + targetType - The type of the value, which is `anydata` by default
+# + return - The value which is read or else `io:Error` if any error occurred
+    public function readValue(typedesc<anydata> targetType = anydata) returns anydata|Error {
+        return readValueExtern(self, targetType);
+    }
+
 # Reads a variable length integer.
 # ```ballerina
 # int|io:Error result = dataChannel.readVarInt();
@@ -163,6 +175,12 @@ function readStringExtern(ReadableDataChannel dataChannel, int nBytes, string en
     'class: "org.ballerinalang.stdlib.io.nativeimpl.DataChannelUtils"
 } external;
 
+function readValueExtern(ReadableDataChannel dataChannel, typedesc<anydata> targetType)
+                         returns anydata|Error = @java:Method {
+    name: "readValue",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
 function readVarIntExtern(ReadableDataChannel dataChannel) returns int|Error = @java:Method {
     name: "readVarInt",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.DataChannelUtils"
@@ -36,7 +36,46 @@ public class WritableByteChannel {
         return byteWriteExtern(self, content, offset);
     }
 
-# Closes a given byte channel.
+# Sinks the given blocks of bytes, in order.
+#
+# Unlike `write`, all the content is written before this returns. Where the resource allows it, the blocks are
+# written together in a single operation.
+# ```ballerina
+# int|io:Error result = writableByteChannel.writeAll([header, body, trailer]);
+# ```
+#
+# + contents - Blocks of bytes, which should be written
+# + return - Number of bytes written or else `io:Error`
+    public function writeAll(byte[][] contents) returns int|Error {
+        return byteWriteAllExtern(self, contents);
+    }
+
+# Buffers the bytes written to the channel, so that many small writes are combined into a few large writes to the
+# resource. The buffered bytes are written out when the buffer is full, when the channel is flushed or closed, and,
+# if a flush interval is given, at least once per interval. Bytes buffered before this call are written out first.
+# ```ballerina
+# io:Error? err = writableByteChannel.setWriteBuffer(65536, 1000);
+# ```
+#
+# + size - Size of the buffer in bytes, or `0` to write directly to the resource
+# + flushInterval - Interval in milliseconds at which the buffer is flushed, or `0` to flush it only when it is
+#                   full or on request
+# + return - `()` or else `io:Error` if any error occurred
+    public function setWriteBuffer(int size, int flushInterval = 0) returns Error? {
+        return setWriteBufferExtern(self, size, flushInterval);
+    }
+
+# Writes out the bytes buffered by the channel.
+# ```ballerina
+# io:Error? err = writableByteChannel.flush();
+# ```
+#
+# + return - `()` or else `io:Error` if any error occurred
+    public function flush() returns Error? {
+        return flushWritableByteChannelExtern(self);
+    }
+
+# Closes a given byte channel. The bytes buffered by the channel are written out first.
 # ```ballerina
 # io:Error err = writableByteChannel.close();
 # ```
@@ -52,6 +91,22 @@ function byteWriteExtern(WritableByteChannel byteChannel, byte[] content, int of
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
 
+function byteWriteAllExtern(WritableByteChannel byteChannel, byte[][] contents) returns int|Error = @java:Method {
+    name: "writeAll",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
+function setWriteBufferExtern(WritableByteChannel byteChannel, int size, int flushInterval)
+                              returns Error? = @java:Method {
+    name: "setWriteBuffer",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
+function flushWritableByteChannelExtern(WritableByteChannel byteChannel) returns Error? = @java:Method {
+    name: "flush",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
+} external;
+
 function closeWritableByteChannelExtern(WritableByteChannel byteChannel) returns Error? = @java:Method {
     name: "closeByteChannel",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
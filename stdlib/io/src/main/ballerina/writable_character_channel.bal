@@ -77,6 +77,16 @@ public class WritableCharacterChannel {
         return writePropertiesExtern(self, properties, comment);
     }
 
+    # Writes out the content buffered by the underlying byte channel.
+    # ```ballerina
+    # io:Error? err = writableCharChannel.flush();
+    # ```
+    #
+    # + return - `()` or else an `io:Error` if any error occurred
+    public function flush() returns Error? {
+        return flushWritableCharacterChannel(self);
+    }
+
     # Closes a given `WritableCharacterChannel` channel.
     # ```ballerina
     # io:Error err = writableCharChannel.close();
@@ -116,6 +126,11 @@ function writePropertiesExtern(WritableCharacterChannel characterChannel, map<st
     'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
 } external;
 
+function flushWritableCharacterChannel(WritableCharacterChannel characterChannel) returns Error? = @java:Method {
+    name: "flush",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
+} external;
+
 function closeWritableCharacterChannel(WritableCharacterChannel characterChannel) returns Error? = @java:Method {
     name: "close",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils"
@@ -120,6 +120,18 @@ public class WritableDataChannel {
         return writeStringExtern(self, value, encoding);
     }
 
+# Writes a value in the Concise Binary Object Representation (CBOR), which could be read back with
+# `io:ReadableDataChannel.readValue()`.
+# ```ballerina
+# io:Error? err = dataChannel.writeValue({ id: 1, tags: ["a", "b"] });
+# ```
+#
+# + value - The value, which will be written
+# + return - `()` if the content is written successfully or else `io:Error` if any error occurred
+    public function writeValue(anydata value) returns Error? {
+        return writeValueExtern(self, value);
+    }
+
 # Writes a variable-length integer.
 # ```ballerina
 # io:Error? err = dataChannel.writeVarInt(length);
@@ -131,6 +143,16 @@ public class WritableDataChannel {
         return writeVarIntExtern(self, value);
     }
 
+# Writes out the content buffered by the underlying byte channel.
+# ```ballerina
+# io:Error? err = dataChannel.flush();
+# ```
+#
+# + return - `()` if the content is written successfully or else `io:Error` if any error occurred
+    public function flush() returns Error? {
+        return flushWritableDataChannelExtern(self);
+    }
+
 # Closes the data channel.
 # ```ballerina
 # io:Error? err = dataChannel.close();
@@ -184,11 +206,21 @@ function writeStringExtern(WritableDataChannel dataChannel, string value, string
     'class: "org.ballerinalang.stdlib.io.nativeimpl.DataChannelUtils"
 } external;
 
+function writeValueExtern(WritableDataChannel dataChannel, anydata value) returns Error? = @java:Method {
+    name: "writeValue",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
 function writeVarIntExtern(WritableDataChannel dataChannel, int value) returns Error? = @java:Method {
     name: "writeVarInt",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.DataChannelUtils"
 } external;
 
+function flushWritableDataChannelExtern(WritableDataChannel dataChannel) returns Error? = @java:Method {
+    name: "flush",
+    'class: "org.ballerinalang.stdlib.io.nativeimpl.DataChannelUtils"
+} external;
+
 function closeWritableDataChannelExtern(WritableDataChannel dataChannel) returns Error? = @java:Method {
     name: "closeDataChannel",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.DataChannelUtils"
@@ -21,6 +21,7 @@ import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 
@@ -49,12 +50,66 @@ public class FileIOChannel extends Channel {
     @Override
     public void transfer(int position, int count, WritableByteChannel dstChannel) {
         try {
+            flush();
             channel.transferTo(position, count, dstChannel);
         } catch (IOException e) {
             throw IOUtils.createError("error occurred while transferring file: " + e.getMessage());
         }
     }
 
+    /**
+     * Transfer the content from the current position to the end of the file to the specified destination. The content
+     * handed back to the channel is written first, and the file content, including the content buffered by the writes
+     * to the channel, is then copied by the operating system where the destination allows it, without entering the
+     * heap.
+     *
+     * @param dstChannel destination channel to transfer.
+     * @return the number of bytes transferred.
+     * @throws IOException during I/O error.
+     */
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        flush();
+        long unreadBytes = 0;
+        ByteBuffer unreadContent = takeUnreadContent();
+        if (unreadContent != null) {
+            while (unreadContent.hasRemaining()) {
+                unreadBytes += dstChannel.write(unreadContent);
+            }
+        }
+        long position = getPosition();
+        long size = channel.size();
+        long transferred = 0;
+        while (position + transferred < size) {
+            long count = channel.transferTo(position + transferred, size - position - transferred, dstChannel);
+            if (count <= 0) {
+                break;
+            }
+            transferred += count;
+        }
+        setPosition(position + transferred);
+        return unreadBytes + transferred;
+    }
+
+    /**
+     * Gets the position from which the next byte of the file is read.
+     *
+     * @return the position.
+     * @throws IOException during I/O error.
+     */
+    public long getPosition() throws IOException {
+        return channel.position();
+    }
+
+    /**
+     * Sets the position from which the next byte of the file is read.
+     *
+     * @param position the position.
+     * @throws IOException during I/O error.
+     */
+    protected void setPosition(long position) throws IOException {
+        channel.position(position);
+    }
+
     @Override
     public Channel getChannel() {
         throw new UnsupportedOperationException();
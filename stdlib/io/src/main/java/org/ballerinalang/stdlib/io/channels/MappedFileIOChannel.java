@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * Represents a channel which reads a file through memory mapped regions of the file.
+ * </p>
+ * <p>
+ * Bytes are copied from the page cache of the operating system straight into the read buffer, without a read system
+ * call per read. The file is mapped one region at a time, so files larger than the address range of a single mapping
+ * could be read.
+ * </p>
+ */
+public class MappedFileIOChannel extends FileIOChannel {
+
+    /**
+     * The maximum size of a region of the file which is mapped at once.
+     */
+    private static final long MAX_REGION_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+
+    private final long size;
+
+    /**
+     * The mapped region of the file, which holds the next byte to be read.
+     */
+    private MappedByteBuffer region;
+
+    /**
+     * The position of the next byte to be read from the file.
+     */
+    private long position;
+
+    public MappedFileIOChannel(FileChannel channel) throws IOException {
+        super(channel);
+        this.channel = channel;
+        this.size = channel.size();
+        this.position = channel.position();
+    }
+
+    @Override
+    protected int readChannel(ByteBuffer buffer) throws IOException {
+        int readBytes = 0;
+        while (buffer.hasRemaining() && position < size) {
+            MappedByteBuffer currentRegion = getRegion();
+            int count = Math.min(buffer.remaining(), currentRegion.remaining());
+            ByteBuffer slice = currentRegion.slice();
+            slice.limit(count);
+            buffer.put(slice);
+            currentRegion.position(currentRegion.position() + count);
+            position += count;
+            readBytes += count;
+        }
+        return readBytes;
+    }
+
+    @Override
+    protected boolean hasReachedChannelEnd() {
+        return position >= size;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        // The stream reads through the file channel, which is positioned at the next byte to be read.
+        super.setPosition(position);
+        return super.getInputStream();
+    }
+
+    @Override
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    protected void setPosition(long position) throws IOException {
+        super.setPosition(position);
+        this.position = position;
+        this.region = null;
+    }
+
+    private MappedByteBuffer getRegion() throws IOException {
+        if (region == null || !region.hasRemaining()) {
+            region = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_REGION_SIZE, size - position));
+        }
+        return region;
+    }
+}
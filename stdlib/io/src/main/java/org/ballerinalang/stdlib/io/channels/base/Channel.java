@@ -20,8 +20,11 @@ package org.ballerinalang.stdlib.io.channels.base;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
 import java.nio.channels.Channels;
@@ -55,6 +58,17 @@ public abstract class Channel implements IOChannel {
      */
     private boolean readable;
 
+    /**
+     * Combines the writes to the channel, if the writes are buffered.
+     */
+    private WriteBuffer writeBuffer;
+
+    /**
+     * Content which a reader read ahead of what it consumed and handed back, which is read before the content of the
+     * byte channel.
+     */
+    private ByteBuffer unreadContent;
+
     private static final Logger log = LoggerFactory.getLogger(Channel.class);
 
     /**
@@ -92,12 +106,21 @@ public abstract class Channel implements IOChannel {
     }
 
     /**
-     * Specifies whether the channel has reached to it's end.
+     * Specifies whether the channel has reached to it's end, which it has not while there is content handed back to it.
      *
      * @return true if the channel has reached to it's end
      */
     @Override
-    public boolean hasReachedEnd() {
+    public final boolean hasReachedEnd() {
+        return unreadContent == null && hasReachedChannelEnd();
+    }
+
+    /**
+     * Specifies whether the content underneath the channel has reached to it's end.
+     *
+     * @return true if the content underneath the channel has reached to it's end
+     */
+    protected boolean hasReachedChannelEnd() {
         return hasReachedToEnd;
     }
 
@@ -114,12 +137,30 @@ public abstract class Channel implements IOChannel {
      * <p>
      * Async read bytes from the channel.
      * </p>
+     * <p>
+     * The content buffered by the writes to the channel is written out first, so that it can be read back.
+     * </p>
      *
      * @param buffer the buffer which will hold the content.
      * @return the number of bytes read.
      * @throws IOException errors occur during reading from channel.
      */
-    public int read(ByteBuffer buffer) throws IOException {
+    public final int read(ByteBuffer buffer) throws IOException {
+        if (unreadContent != null) {
+            return readUnreadContent(buffer);
+        }
+        flush();
+        return readChannel(buffer);
+    }
+
+    /**
+     * Reads bytes from the content underneath the channel, once the content handed back to the channel is read.
+     *
+     * @param buffer the buffer which will hold the content.
+     * @return the number of bytes read.
+     * @throws IOException errors occur during reading from channel.
+     */
+    protected int readChannel(ByteBuffer buffer) throws IOException {
         int readBytes = byteChannel.read(buffer);
         if (readBytes < 0) {
             //Since we're counting the bytes if a value < 0 is returned, this will be re-set
@@ -129,6 +170,49 @@ public abstract class Channel implements IOChannel {
         return readBytes;
     }
 
+    /**
+     * Hands back the content which was read ahead of what the reader consumed, so that it is returned again by the
+     * next reads of the channel, before the content of the byte channel.
+     *
+     * @param content the buffer which holds the content.
+     */
+    public void unread(ByteBuffer content) {
+        if (!content.hasRemaining()) {
+            return;
+        }
+        int unreadLength = unreadContent != null ? unreadContent.remaining() : 0;
+        ByteBuffer combinedContent = ByteBuffer.allocate(content.remaining() + unreadLength);
+        combinedContent.put(content);
+        if (unreadContent != null) {
+            combinedContent.put(unreadContent);
+        }
+        combinedContent.flip();
+        unreadContent = combinedContent;
+    }
+
+    /**
+     * Takes the content which was handed back to the channel, so that it is not read again through the channel.
+     *
+     * @return the content handed back to the channel, or null if there is none.
+     */
+    protected final ByteBuffer takeUnreadContent() {
+        ByteBuffer content = unreadContent;
+        unreadContent = null;
+        return content;
+    }
+
+    private int readUnreadContent(ByteBuffer buffer) {
+        int length = Math.min(buffer.remaining(), unreadContent.remaining());
+        ByteBuffer content = unreadContent.duplicate();
+        content.limit(content.position() + length);
+        buffer.put(content);
+        unreadContent.position(content.position());
+        if (!unreadContent.hasRemaining()) {
+            unreadContent = null;
+        }
+        return length;
+    }
+
     /**
      * <p>
      * Writes provided buffer content to the channel.
@@ -139,9 +223,73 @@ public abstract class Channel implements IOChannel {
      * @throws IOException errors occur during writing data to channel.
      */
     public int write(ByteBuffer content) throws IOException {
+        if (writeBuffer != null) {
+            return writeBuffer.write(content);
+        }
         return byteChannel.write(content);
     }
 
+    /**
+     * <p>
+     * Writes the content of the given buffers to the channel fully, in order.
+     * </p>
+     * <p>
+     * The buffers are written with gathering writes where the channel supports them, so that a set of blocks is
+     * written with a single system call.
+     * </p>
+     *
+     * @param contents the buffers which hold the content.
+     * @return the number of bytes written to the channel.
+     * @throws IOException errors occur during writing data to channel.
+     */
+    public long write(ByteBuffer[] contents) throws IOException {
+        if (writeBuffer != null) {
+            return writeBuffer.write(contents);
+        }
+        long length = 0;
+        for (ByteBuffer content : contents) {
+            length += content.remaining();
+        }
+        WriteBuffer.writeFully(byteChannel, contents);
+        return length;
+    }
+
+    /**
+     * <p>
+     * Buffers the writes to the channel, so that many small writes are combined into a few large writes.
+     * </p>
+     * <p>
+     * The buffered content is written out once the buffer is full, when the channel is flushed or closed, and, if a
+     * flush interval is given, at least once per interval. Content buffered before this call is flushed first.
+     * </p>
+     *
+     * @param size          size of the buffer in bytes, or 0 to write directly to the channel.
+     * @param flushInterval interval in milliseconds at which the buffer is flushed, or 0 to flush it only when it is
+     *                      full or on request.
+     * @throws IOException errors occur while flushing the content buffered before.
+     */
+    public void setWriteBuffer(int size, long flushInterval) throws IOException {
+        WriteBuffer previousBuffer = writeBuffer;
+        writeBuffer = null;
+        if (previousBuffer != null) {
+            previousBuffer.close();
+        }
+        if (size > 0) {
+            writeBuffer = new WriteBuffer(byteChannel, size, flushInterval);
+        }
+    }
+
+    /**
+     * Writes out the content buffered by the channel, if the writes are buffered.
+     *
+     * @throws IOException errors occur during writing data to channel.
+     */
+    public void flush() throws IOException {
+        if (writeBuffer != null) {
+            writeBuffer.flush();
+        }
+    }
+
     /**
      * This will return {@link InputStream} from underlying {@link ByteChannel}.
      *
@@ -153,7 +301,42 @@ public abstract class Channel implements IOChannel {
             String message = "Channel is already closed.";
             throw new IOException(message);
         }
-        return Channels.newInputStream(byteChannel);
+        flush();
+        InputStream inputStream = Channels.newInputStream(byteChannel);
+        ByteBuffer content = takeUnreadContent();
+        if (content != null) {
+            inputStream = new SequenceInputStream(new ByteArrayInputStream(content.array(), content.position(),
+                                                                           content.remaining()), inputStream);
+        }
+        return inputStream;
+    }
+
+    /**
+     * This will return an {@link OutputStream} which writes through the channel, so that the writes are buffered if
+     * the writes to the channel are buffered.
+     *
+     * @return An {@link OutputStream}
+     * @throws IOException error occur during obtaining output-stream.
+     */
+    public OutputStream getOutputStream() throws IOException {
+        if (!byteChannel.isOpen()) {
+            String message = "Channel is already closed.";
+            throw new IOException(message);
+        }
+        return new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                ByteBuffer content = ByteBuffer.wrap(b, off, len);
+                while (content.hasRemaining()) {
+                    Channel.this.write(content);
+                }
+            }
+        };
     }
 
     public void setReadable(boolean readable) {
@@ -172,7 +355,15 @@ public abstract class Channel implements IOChannel {
     @Override
     public void close() throws IOException {
         if (null != byteChannel) {
-            byteChannel.close();
+            WriteBuffer buffer = writeBuffer;
+            writeBuffer = null;
+            try {
+                if (buffer != null) {
+                    buffer.close();
+                }
+            } finally {
+                byteChannel.close();
+            }
         } else {
             log.error("The channel has already being closed");
         }
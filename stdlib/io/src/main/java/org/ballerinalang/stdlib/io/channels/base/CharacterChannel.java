@@ -28,6 +28,7 @@ import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
 
 
@@ -68,6 +69,11 @@ public class CharacterChannel implements IOChannel {
      */
     private Buffer contentBuffer;
 
+    /**
+     * Holds the encoded bytes of the characters being written, reused across writes.
+     */
+    private ByteBuffer encodedBuffer;
+
     /**
      * Defines character which will be included when malformed input is detected from the decoder.
      */
@@ -89,6 +95,11 @@ public class CharacterChannel implements IOChannel {
      */
     private static final int MINIMUM_BYTE_BUFFER_SIZE = 0;
 
+    /**
+     * Specifies the size of the buffer the characters are encoded into when writing.
+     */
+    private static final int ENCODED_BUFFER_SIZE = 8192;
+
     public CharacterChannel(Channel channel, String encoding) {
         this.channel = channel;
         bytesDecoder = Charset.forName(encoding).newDecoder();
@@ -349,10 +360,27 @@ public class CharacterChannel implements IOChannel {
                 char[] characters = content.toCharArray();
                 CharBuffer characterBuffer = CharBuffer.wrap(characters);
                 characterBuffer.position(offset);
-                ByteBuffer encodedBuffer = byteEncoder.encode(characterBuffer);
+                if (encodedBuffer == null) {
+                    encodedBuffer = ByteBuffer.allocate(ENCODED_BUFFER_SIZE);
+                }
+                encodedBuffer.clear();
+                //The characters are encoded into the same buffer chunk by chunk, which is written out each time it is
+                //filled, instead of encoding all the characters into a new buffer.
+                byteEncoder.reset();
+                CoderResult result;
                 do {
-                    numberOfBytesWritten = numberOfBytesWritten + channel.write(encodedBuffer);
-                } while (encodedBuffer.hasRemaining());
+                    result = byteEncoder.encode(characterBuffer, encodedBuffer, true);
+                    if (result.isError()) {
+                        result.throwException();
+                    }
+                    if (result.isOverflow()) {
+                        numberOfBytesWritten = numberOfBytesWritten + writeEncodedBytes();
+                    }
+                } while (result.isOverflow());
+                while (byteEncoder.flush(encodedBuffer).isOverflow()) {
+                    numberOfBytesWritten = numberOfBytesWritten + writeEncodedBytes();
+                }
+                numberOfBytesWritten = numberOfBytesWritten + writeEncodedBytes();
             } else {
                 log.warn("channel has already being closed");
             }
@@ -363,6 +391,19 @@ public class CharacterChannel implements IOChannel {
         }
     }
 
+    private int writeEncodedBytes() throws IOException {
+        int numberOfBytesWritten = 0;
+        encodedBuffer.flip();
+        try {
+            while (encodedBuffer.hasRemaining()) {
+                numberOfBytesWritten = numberOfBytesWritten + channel.write(encodedBuffer);
+            }
+        } finally {
+            encodedBuffer.clear();
+        }
+        return numberOfBytesWritten;
+    }
+
     /**
      * Provides the id of the channel.
      *
@@ -17,7 +17,9 @@
 
 package org.ballerinalang.stdlib.io.channels.base;
 
+import org.ballerinalang.stdlib.io.csv.CsvTokenizer;
 import org.ballerinalang.stdlib.io.csv.Format;
+import org.ballerinalang.stdlib.io.readers.CharacterChannelReader;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -92,7 +94,18 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private Format format;
 
-    private static final String DOUBLE_QUOTE_REGEX = "\"([^\"]*)\"";
+    /**
+     * Splits the records of the RFC4180 CSV format, which cannot be split correctly with regular expressions.
+     */
+    private CsvTokenizer csvTokenizer;
+
+    /**
+     * Compiled record and field separators for reading, as the separators could be regular expressions.
+     */
+    private Pattern recordSeparatorPattern;
+    private Pattern fieldSeparatorPattern;
+
+    private static final char CSV_FIELD_SEPARATOR = ',';
 
     private static final Logger log = LoggerFactory.getLogger(DelimitedRecordChannel.class);
 
@@ -183,8 +196,7 @@ public class DelimitedRecordChannel implements IOChannel {
                 log.trace(String.format("char[] remaining in memory %s", persistentCharSequence));
             }
             //We need to split the string into 2
-            String[] delimitedRecord = persistentCharSequence.toString().
-                    split(getRecordSeparatorForReading(), numberOfSplits);
+            String[] delimitedRecord = getRecordSeparatorPattern().split(persistentCharSequence, numberOfSplits);
             if (delimitedRecord.length > minimumRecordCount) {
                 record = processIdentifiedRecord(delimitedRecord);
                 int recordCharacterLength = record.length();
@@ -194,8 +206,7 @@ public class DelimitedRecordChannel implements IOChannel {
             } else {
                 readRecordFromChannel();
                 if (channel.hasReachedEnd()) {
-                    delimitedRecord = persistentCharSequence.toString().
-                            split(getRecordSeparatorForReading(), numberOfSplits);
+                    delimitedRecord = getRecordSeparatorPattern().split(persistentCharSequence, numberOfSplits);
                     record = (delimitedRecord.length == numberOfSplits) ?
                             processIdentifiedRecord(delimitedRecord) :
                             readFinalRecord();
@@ -290,31 +301,15 @@ public class DelimitedRecordChannel implements IOChannel {
     }
 
     /**
-     * <p>
-     * Split based on given regEx.
-     * </p>
-     * <p>
-     * This operation will produce null for blanks.
-     * </p>
+     * Retrieves the compiled record separator for reading.
      *
-     * @param record record which should be separated.
-     * @param regex  condition which should be used to split.
-     * @return the list of fields
+     * @return the record separator pattern.
      */
-    private String[] splitIgnoreBlanks(String record, String regex) {
-        Pattern reg = Pattern.compile(regex);
-        String[] split = reg.split(record);
-        for (int i = 0; i < split.length; i++) {
-            String field = split[i];
-            if (field.isEmpty()) {
-                split[i] = "";
-                continue;
-            }
-            if (field.matches(DOUBLE_QUOTE_REGEX)) {
-                split[i] = field.substring(field.indexOf('\"') + 1, field.lastIndexOf('\"'));
-            }
+    private Pattern getRecordSeparatorPattern() {
+        if (null == recordSeparatorPattern) {
+            recordSeparatorPattern = Pattern.compile(getRecordSeparatorForReading());
         }
-        return split;
+        return recordSeparatorPattern;
     }
 
     /**
@@ -324,11 +319,35 @@ public class DelimitedRecordChannel implements IOChannel {
      * @return fields which are separated as records.
      */
     private String[] getFields(String record) {
-        String fieldSeparatorForReading = getFieldSeparatorForReading();
-        if (null != format && format.shouldIgnoreBlanks()) {
-            return splitIgnoreBlanks(record, fieldSeparatorForReading);
-        } else {
-            return record.split(fieldSeparatorForReading);
+        if (null == fieldSeparatorPattern) {
+            fieldSeparatorPattern = Pattern.compile(getFieldSeparatorForReading());
+        }
+        return fieldSeparatorPattern.split(record);
+    }
+
+    private CsvTokenizer getCsvTokenizer() {
+        if (null == csvTokenizer) {
+            csvTokenizer = new CsvTokenizer(new CharacterChannelReader(channel), CSV_FIELD_SEPARATOR);
+        }
+        return csvTokenizer;
+    }
+
+    /**
+     * Read the next record of the RFC4180 CSV format.
+     *
+     * @return the list of fields.
+     * @throws BallerinaIOException during I/O errors
+     */
+    private String[] readCsvRecord() throws BallerinaIOException {
+        try {
+            String[] fields = getCsvTokenizer().next();
+            if (fields.length > 0) {
+                numberOfRecordsReadThroughChannel++;
+            }
+            remaining = getCsvTokenizer().hasNext();
+            return fields;
+        } catch (IOException e) {
+            throw new BallerinaIOException(e.getMessage(), e);
         }
     }
 
@@ -347,6 +366,9 @@ public class DelimitedRecordChannel implements IOChannel {
     public String[] read() throws BallerinaIOException {
         final int emptyArrayIndex = 0;
         String[] fields = new String[emptyArrayIndex];
+        if (remaining && Format.CSV == format) {
+            return readCsvRecord();
+        }
         if (remaining) {
             if (log.isDebugEnabled()) {
                 log.debug(String.format("Reading record %d from %d", numberOfRecordsReadThroughChannel,
@@ -470,6 +492,14 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException if encoding error or channel reading error happens
      */
     public boolean hasNext() throws BallerinaIOException {
+        if (remaining && Format.CSV == format) {
+            try {
+                remaining = getCsvTokenizer().hasNext();
+            } catch (IOException e) {
+                throw new BallerinaIOException(e.getMessage(), e);
+            }
+            return remaining;
+        }
         if (remaining && persistentCharSequence.length() == 0) {
             //If this is the case we need to further verify whether there will be more bytes left to be read
             //Remaining can become false in the next iteration
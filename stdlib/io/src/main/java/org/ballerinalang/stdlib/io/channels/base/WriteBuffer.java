@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels.base;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Combines the writes to a channel into large writes.
+ * </p>
+ * <p>
+ * The content of small writes is copied into a buffer of a fixed size. The buffer is written out once the next write
+ * does not fit in it, together with the content of that write in a single gathering write, when it is flushed, and,
+ * if a flush interval is given, periodically so that content is not held longer than the interval.
+ * </p>
+ * <p>
+ * The periodic flush refers to the buffer weakly, so that a channel which is dropped without being closed does not
+ * stay reachable from the shared flusher thread; the periodic flush is cancelled once the buffer is collected.
+ * </p>
+ */
+final class WriteBuffer {
+
+    private static final ScheduledThreadPoolExecutor flusher = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "ballerina-io-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        flusher.setRemoveOnCancelPolicy(true);
+    }
+
+    private final ByteChannel byteChannel;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Holds the buffered content and the content of a write, which are written out together.
+     */
+    private final ByteBuffer[] gatheredContent = new ByteBuffer[2];
+
+    /**
+     * Flushes the buffer periodically, if a flush interval is given.
+     */
+    private final PeriodicFlush periodicFlush;
+
+    /**
+     * The error of the last periodic flush, which is reported on the next operation on the buffer.
+     */
+    private IOException flushError;
+
+    WriteBuffer(ByteChannel byteChannel, int size, long flushInterval) {
+        this.byteChannel = byteChannel;
+        this.buffer = ByteBuffer.allocateDirect(size);
+        if (flushInterval > 0) {
+            periodicFlush = new PeriodicFlush(this);
+            periodicFlush.schedule(flushInterval);
+        } else {
+            periodicFlush = null;
+        }
+    }
+
+    /**
+     * Writes the content of the given buffer.
+     *
+     * @param content the buffer which holds the content.
+     * @return the number of bytes written, which is all the remaining content of the buffer.
+     * @throws IOException errors occur during writing data to channel.
+     */
+    synchronized int write(ByteBuffer content) throws IOException {
+        reportFlushError();
+        int length = content.remaining();
+        if (length < buffer.remaining()) {
+            buffer.put(content);
+            return length;
+        }
+        buffer.flip();
+        gatheredContent[0] = buffer;
+        gatheredContent[1] = content;
+        try {
+            writeFully(byteChannel, gatheredContent);
+        } finally {
+            gatheredContent[1] = null;
+            buffer.clear();
+        }
+        return length;
+    }
+
+    /**
+     * Writes the content of the given buffers, in order.
+     *
+     * @param contents the buffers which hold the content.
+     * @return the number of bytes written, which is all the remaining content of the buffers.
+     * @throws IOException errors occur during writing data to channel.
+     */
+    synchronized long write(ByteBuffer[] contents) throws IOException {
+        reportFlushError();
+        long length = 0;
+        for (ByteBuffer content : contents) {
+            length += content.remaining();
+        }
+        if (length < buffer.remaining()) {
+            for (ByteBuffer content : contents) {
+                buffer.put(content);
+            }
+            return length;
+        }
+        ByteBuffer[] allContents = new ByteBuffer[contents.length + 1];
+        buffer.flip();
+        allContents[0] = buffer;
+        System.arraycopy(contents, 0, allContents, 1, contents.length);
+        try {
+            writeFully(byteChannel, allContents);
+        } finally {
+            buffer.clear();
+        }
+        return length;
+    }
+
+    /**
+     * Writes out the buffered content.
+     *
+     * @throws IOException errors occur during writing data to channel.
+     */
+    synchronized void flush() throws IOException {
+        reportFlushError();
+        writeBuffer();
+    }
+
+    /**
+     * Writes out the buffered content, and stops flushing the buffer periodically.
+     *
+     * @throws IOException errors occur during writing data to channel.
+     */
+    synchronized void close() throws IOException {
+        if (periodicFlush != null) {
+            periodicFlush.cancel();
+        }
+        flush();
+    }
+
+    private synchronized void flushPeriodically() {
+        if (flushError != null) {
+            return;
+        }
+        try {
+            writeBuffer();
+        } catch (IOException e) {
+            flushError = e;
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        if (buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                byteChannel.write(buffer);
+            }
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    private void reportFlushError() throws IOException {
+        if (flushError != null) {
+            IOException error = flushError;
+            flushError = null;
+            throw new IOException("error occurred while flushing the channel: " + error.getMessage(), error);
+        }
+    }
+
+    /**
+     * Flushes a buffer at a fixed interval for as long as the buffer is in use.
+     */
+    private static class PeriodicFlush implements Runnable {
+
+        private final WeakReference<WriteBuffer> writeBuffer;
+        private volatile ScheduledFuture<?> future;
+
+        PeriodicFlush(WriteBuffer writeBuffer) {
+            this.writeBuffer = new WeakReference<>(writeBuffer);
+        }
+
+        void schedule(long flushInterval) {
+            future = flusher.scheduleWithFixedDelay(this, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+
+        void cancel() {
+            ScheduledFuture<?> scheduledFuture = future;
+            if (scheduledFuture != null) {
+                scheduledFuture.cancel(false);
+            }
+        }
+
+        @Override
+        public void run() {
+            WriteBuffer buffer = writeBuffer.get();
+            if (buffer == null) {
+                cancel();
+                return;
+            }
+            buffer.flushPeriodically();
+        }
+    }
+
+    /**
+     * Writes the content of the given buffers to a channel fully, with gathering writes if the channel supports them.
+     *
+     * @param byteChannel the channel.
+     * @param contents    the buffers which hold the content.
+     * @throws IOException errors occur during writing data to channel.
+     */
+    static void writeFully(ByteChannel byteChannel, ByteBuffer[] contents) throws IOException {
+        if (byteChannel instanceof GatheringByteChannel) {
+            GatheringByteChannel gatheringChannel = (GatheringByteChannel) byteChannel;
+            int offset = 0;
+            while (offset < contents.length) {
+                gatheringChannel.write(contents, offset, contents.length - offset);
+                while (offset < contents.length && !contents[offset].hasRemaining()) {
+                    offset++;
+                }
+            }
+            return;
+        }
+        for (ByteBuffer content : contents) {
+            while (content.hasRemaining()) {
+                byteChannel.write(content);
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Splits CSV content into records and fields in a single pass, as specified in https://tools.ietf.org/html/rfc4180.
+ * </p>
+ * <p>
+ * Records are separated by CRLF, LF or CR. A field enclosed in double quotes may contain field separators, line
+ * breaks and double quotes, where a double quote is escaped by another double quote. Characters are read into a
+ * buffer which is reused for the whole content, and runs of characters without any special meaning are copied into
+ * a field at once.
+ * </p>
+ * <p>
+ * <b>Note : </b> this tokenizer does not support concurrent operations.
+ * </p>
+ */
+public class CsvTokenizer {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final char QUOTE = '"';
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final String[] EMPTY_RECORD = new String[0];
+
+    private final Reader reader;
+    private final char fieldSeparator;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private final List<String> fields = new ArrayList<>();
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+
+    public CsvTokenizer(Reader reader, char fieldSeparator) {
+        this.reader = reader;
+        this.fieldSeparator = fieldSeparator;
+    }
+
+    /**
+     * Check whether there's another record.
+     *
+     * @return true if there's another record.
+     * @throws IOException during I/O error.
+     */
+    public boolean hasNext() throws IOException {
+        return fill();
+    }
+
+    /**
+     * Read the next record.
+     *
+     * @return the fields of the record, or an empty array if there are no more records.
+     * @throws IOException during I/O error.
+     */
+    public String[] next() throws IOException {
+        if (!fill()) {
+            return EMPTY_RECORD;
+        }
+        fields.clear();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean atFieldStart = true;
+        while (fill()) {
+            if (quoted) {
+                int start = position;
+                while (position < limit && buffer[position] != QUOTE) {
+                    position++;
+                }
+                field.append(buffer, start, position - start);
+                if (position == limit) {
+                    continue;
+                }
+                position++;
+                if (peek() == QUOTE) {
+                    field.append(QUOTE);
+                    position++;
+                } else {
+                    quoted = false;
+                }
+                continue;
+            }
+            int start = position;
+            while (position < limit && !isSpecial(buffer[position])) {
+                position++;
+            }
+            if (position > start) {
+                field.append(buffer, start, position - start);
+                atFieldStart = false;
+            }
+            if (position == limit) {
+                continue;
+            }
+            char character = buffer[position++];
+            if (character == fieldSeparator) {
+                endField();
+                atFieldStart = true;
+            } else if (character == LINE_FEED) {
+                return endRecord();
+            } else if (character == CARRIAGE_RETURN) {
+                if (peek() == LINE_FEED) {
+                    position++;
+                }
+                return endRecord();
+            } else if (atFieldStart) {
+                quoted = true;
+                atFieldStart = false;
+            } else {
+                // A double quote within a field which is not enclosed in double quotes is kept as it is.
+                field.append(character);
+            }
+        }
+        // The content ends without a line break after the final record.
+        return endRecord();
+    }
+
+    private boolean isSpecial(char character) {
+        return character == fieldSeparator || character == QUOTE || character == LINE_FEED ||
+                character == CARRIAGE_RETURN;
+    }
+
+    private void endField() {
+        fields.add(field.toString());
+        field.setLength(0);
+    }
+
+    private String[] endRecord() {
+        endField();
+        return fields.toArray(EMPTY_RECORD);
+    }
+
+    private int peek() throws IOException {
+        return fill() ? buffer[position] : -1;
+    }
+
+    private boolean fill() throws IOException {
+        if (position < limit) {
+            return true;
+        }
+        while (!endOfInput) {
+            int count = reader.read(buffer, 0, buffer.length);
+            if (count < 0) {
+                endOfInput = true;
+            } else if (count > 0) {
+                position = 0;
+                limit = count;
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.stdlib.io.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
@@ -27,8 +28,10 @@ import org.ballerinalang.stdlib.io.channels.AbstractNativeChannel;
 import org.ballerinalang.stdlib.io.channels.BlobChannel;
 import org.ballerinalang.stdlib.io.channels.BlobIOChannel;
 import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+import org.ballerinalang.stdlib.io.utils.FileIOExecutor;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
 import org.ballerinalang.stdlib.io.utils.Utils;
@@ -63,9 +66,13 @@ public class ByteChannelUtils extends AbstractNativeChannel {
     private ByteChannelUtils() {
     }
 
-    public static Object read(BObject channel, long nBytes) {
-        int arraySize = nBytes <= 0 ? IOConstants.CHANNEL_BUFFER_SIZE : (int) nBytes;
+    public static Object read(Environment env, BObject channel, long nBytes) {
         Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, byteChannel, () -> read(byteChannel, nBytes));
+    }
+
+    private static Object read(Channel byteChannel, long nBytes) {
+        int arraySize = nBytes <= 0 ? IOConstants.CHANNEL_BUFFER_SIZE : (int) nBytes;
         ByteBuffer content = ByteBuffer.wrap(new byte[arraySize]);
         if (byteChannel.hasReachedEnd()) {
             return IOUtils.createEoFError();
@@ -112,8 +119,12 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         return null;
     }
 
-    public static Object write(BObject channel, BArray content, long offset) {
+    public static Object write(Environment env, BObject channel, BArray content, long offset) {
         Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, byteChannel, () -> write(byteChannel, content, offset));
+    }
+
+    private static Object write(Channel byteChannel, BArray content, long offset) {
         ByteBuffer writeBuffer = ByteBuffer.wrap(content.getBytes());
         writeBuffer.position((int) offset);
         try {
@@ -124,6 +135,50 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
+    public static Object writeAll(Environment env, BObject channel, BArray contents) {
+        Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, byteChannel, () -> writeAll(byteChannel, contents));
+    }
+
+    private static Object writeAll(Channel byteChannel, BArray contents) {
+        ByteBuffer[] writeBuffers = new ByteBuffer[contents.size()];
+        for (int i = 0; i < writeBuffers.length; i++) {
+            writeBuffers[i] = ByteBuffer.wrap(((BArray) contents.get(i)).getBytes());
+        }
+        try {
+            return byteChannel.write(writeBuffers);
+        } catch (IOException e) {
+            log.error("Error occurred while writing to the channel.", e);
+            return IOUtils.createError(e);
+        }
+    }
+
+    public static Object flush(Environment env, BObject channel) {
+        Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, byteChannel, () -> IOUtils.flush(byteChannel));
+    }
+
+    public static Object setWriteBuffer(Environment env, BObject channel, long size, long flushInterval) {
+        if (size < 0 || size > Integer.MAX_VALUE) {
+            return IOUtils.createError("invalid write buffer size: " + size);
+        }
+        if (flushInterval < 0) {
+            return IOUtils.createError("invalid flush interval: " + flushInterval);
+        }
+        Channel byteChannel = (Channel) channel.getNativeData(BYTE_CHANNEL_NAME);
+        // Content buffered before is flushed, which may block on the disk.
+        return FileIOExecutor.execute(env, byteChannel, () -> setWriteBuffer(byteChannel, (int) size, flushInterval));
+    }
+
+    private static Object setWriteBuffer(Channel byteChannel, int size, long flushInterval) {
+        try {
+            byteChannel.setWriteBuffer(size, flushInterval);
+        } catch (IOException e) {
+            return IOUtils.createError(e);
+        }
+        return null;
+    }
+
     public static Object openReadableFile(BString pathUrl) {
         Object channel;
         try {
@@ -136,6 +191,48 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         return channel;
     }
 
+    public static Object openReadableMappedFile(BString pathUrl) {
+        try {
+            return createChannel(mappedInFlow(pathUrl.getValue()));
+        } catch (BallerinaIOException e) {
+            return IOUtils.createError(e);
+        } catch (BError e) {
+            return e;
+        }
+    }
+
+    public static Object transfer(Environment env, BObject srcChannel, BObject dstChannel) {
+        Channel source = (Channel) srcChannel.getNativeData(BYTE_CHANNEL_NAME);
+        Channel destination = (Channel) dstChannel.getNativeData(BYTE_CHANNEL_NAME);
+        Channel blockingChannel = FileIOExecutor.isBlocking(source) ? source : destination;
+        return FileIOExecutor.execute(env, blockingChannel, () -> transfer(source, destination));
+    }
+
+    private static Object transfer(Channel source, Channel destination) {
+        try {
+            if (source instanceof FileIOChannel) {
+                // The file content is copied by the operating system, without being read into the heap. The content
+                // buffered by the destination is written out first, as the copy bypasses its buffer.
+                destination.flush();
+                return ((FileIOChannel) source).transferTo(destination.getByteChannel());
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect(IOConstants.CHANNEL_BUFFER_SIZE);
+            long transferred = 0;
+            while (!source.hasReachedEnd()) {
+                source.read(buffer);
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    transferred += destination.write(buffer);
+                }
+                buffer.clear();
+            }
+            return transferred;
+        } catch (IOException e) {
+            log.error("Error occurred while transferring the content of the channel.", e);
+            return IOUtils.createError(e);
+        }
+    }
+
     public static Object openWritableFile(BString pathUrl, boolean accessMode) {
         try {
             return createChannel(inFlow(pathUrl.getValue(), accessMode));
@@ -163,6 +260,23 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         return channel;
     }
 
+    private static Channel mappedInFlow(String pathUrl) throws BallerinaIOException {
+        Path path = Paths.get(pathUrl);
+        FileChannel fileChannel = IOUtils.openFileChannelExtended(path, READ_ACCESS_MODE);
+        try {
+            Channel channel = new MappedFileIOChannel(fileChannel);
+            channel.setReadable(true);
+            return channel;
+        } catch (IOException e) {
+            try {
+                fileChannel.close();
+            } catch (IOException closeError) {
+                log.warn("Unable to close the file channel of " + pathUrl, closeError);
+            }
+            throw new BallerinaIOException("unable to map the file " + pathUrl + ": " + e.getMessage(), e);
+        }
+    }
+
     private static Channel inFlow(String pathUrl, boolean accessMode) throws BallerinaIOException {
         Path path = Paths.get(pathUrl);
         FileChannel fileChannel;
@@ -18,9 +18,11 @@
 
 package org.ballerinalang.stdlib.io.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
@@ -30,6 +32,7 @@ import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.readers.CharacterChannelReader;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+import org.ballerinalang.stdlib.io.utils.FileIOExecutor;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
 import org.ballerinalang.stdlib.io.utils.PropertyUtils;
@@ -38,8 +41,10 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
+import java.util.Iterator;
 
 import static org.ballerinalang.stdlib.io.utils.IOConstants.CHARACTER_CHANNEL_NAME;
+import static org.ballerinalang.stdlib.io.utils.IOConstants.XML_ELEMENT_ITERATOR_NAME;
 
 /**
  * This class hold Java inter-ops bridging functions for io# *CharacterChannels.
@@ -66,8 +71,13 @@ public class CharacterChannelUtils {
         }
     }
 
-    public static Object read(BObject channel, long numberOfCharacters) {
+    public static Object read(Environment env, BObject channel, long numberOfCharacters) {
         CharacterChannel characterChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, characterChannel.getChannel(),
+                                      () -> read(characterChannel, numberOfCharacters));
+    }
+
+    private static Object read(CharacterChannel characterChannel, long numberOfCharacters) {
         if (characterChannel.hasReachedEnd()) {
             return IOUtils.createEoFError();
         } else {
@@ -81,8 +91,12 @@ public class CharacterChannelUtils {
         }
     }
 
-    public static Object readJson(BObject channel) {
+    public static Object readJson(Environment env, BObject channel) {
         CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, charChannel.getChannel(), () -> readJson(charChannel));
+    }
+
+    private static Object readJson(CharacterChannel charChannel) {
         CharacterChannelReader reader = new CharacterChannelReader(charChannel);
         try {
             Object returnValue = JsonUtils.parse(reader, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
@@ -97,8 +111,12 @@ public class CharacterChannelUtils {
         }
     }
 
-    public static Object readXml(BObject channel) {
+    public static Object readXml(Environment env, BObject channel) {
         CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, charChannel.getChannel(), () -> readXml(charChannel));
+    }
+
+    private static Object readXml(CharacterChannel charChannel) {
         CharacterChannelReader reader = new CharacterChannelReader(charChannel);
         try {
             return XmlUtils.parse(reader);
@@ -107,8 +125,29 @@ public class CharacterChannelUtils {
         }
     }
 
-    public static Object readProperty(BObject channel, BString key, BString defaultValue) {
+    public static void initXmlElementStream(BObject elementStream, BObject channel, BArray path) {
         CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        CharacterChannelReader reader = new CharacterChannelReader(charChannel);
+        elementStream.addNativeData(XML_ELEMENT_ITERATOR_NAME, XmlUtils.parseElements(reader, path.getStringArray()));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object nextXmlElement(BObject elementStream) {
+        Iterator<BXml> elements = (Iterator<BXml>) elementStream.getNativeData(XML_ELEMENT_ITERATOR_NAME);
+        try {
+            return elements.hasNext() ? elements.next() : null;
+        } catch (BError e) {
+            return IOUtils.createError(e);
+        }
+    }
+
+    public static Object readProperty(Environment env, BObject channel, BString key, BString defaultValue) {
+        CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, charChannel.getChannel(),
+                                      () -> readProperty(charChannel, key, defaultValue));
+    }
+
+    private static Object readProperty(CharacterChannel charChannel, BString key, BString defaultValue) {
         CharacterChannelReader reader = new CharacterChannelReader(charChannel);
         try {
             return PropertyUtils.readProperty(reader, key, defaultValue, Integer.toString(charChannel.id()));
@@ -117,8 +156,12 @@ public class CharacterChannelUtils {
         }
     }
 
-    public static Object readAllProperties(BObject channel) {
+    public static Object readAllProperties(Environment env, BObject channel) {
         CharacterChannel charChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, charChannel.getChannel(), () -> readAllProperties(charChannel));
+    }
+
+    private static Object readAllProperties(CharacterChannel charChannel) {
         CharacterChannelReader reader = new CharacterChannelReader(charChannel);
         try {
             return PropertyUtils.readAllProperties(reader, Integer.toString(charChannel.id()));
@@ -139,8 +182,13 @@ public class CharacterChannelUtils {
         return null;
     }
 
-    public static Object write(BObject channel, BString content, long startOffset) {
+    public static Object write(Environment env, BObject channel, BString content, long startOffset) {
         CharacterChannel characterChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, characterChannel.getChannel(),
+                                      () -> write(characterChannel, content, startOffset));
+    }
+
+    private static Object write(CharacterChannel characterChannel, BString content, long startOffset) {
         try {
             return characterChannel.write(content.getValue(), (int) startOffset);
         } catch (IOException e) {
@@ -148,10 +196,20 @@ public class CharacterChannelUtils {
         }
     }
 
-    public static Object writeJson(BObject characterChannelObj, Object content) {
+    public static Object flush(Environment env, BObject channel) {
+        CharacterChannel characterChannel = (CharacterChannel) channel.getNativeData(CHARACTER_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, characterChannel.getChannel(),
+                                      () -> IOUtils.flush(characterChannel.getChannel()));
+    }
+
+    public static Object writeJson(Environment env, BObject characterChannelObj, Object content) {
+        CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
+                .getNativeData(CHARACTER_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, characterChannel.getChannel(), () -> writeJson(characterChannel, content));
+    }
+
+    private static Object writeJson(CharacterChannel characterChannel, Object content) {
         try {
-            CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
-                    .getNativeData(CHARACTER_CHANNEL_NAME);
             IOUtils.writeFull(characterChannel, StringUtils.getJsonString(content));
         } catch (BallerinaIOException e) {
             return IOUtils.createError(e);
@@ -159,10 +217,14 @@ public class CharacterChannelUtils {
         return null;
     }
 
-    public static Object writeXml(BObject characterChannelObj, BXml content) {
+    public static Object writeXml(Environment env, BObject characterChannelObj, BXml content) {
+        CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
+                .getNativeData(CHARACTER_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, characterChannel.getChannel(), () -> writeXml(characterChannel, content));
+    }
+
+    private static Object writeXml(CharacterChannel characterChannel, BXml content) {
         try {
-            CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
-                    .getNativeData(CHARACTER_CHANNEL_NAME);
             IOUtils.writeFull(characterChannel, content.toString());
         } catch (BallerinaIOException e) {
             return IOUtils.createError(e);
@@ -170,11 +232,17 @@ public class CharacterChannelUtils {
         return null;
     }
 
-    public static Object writeProperties(BObject characterChannelObj,
+    public static Object writeProperties(Environment env, BObject characterChannelObj,
                                          BMap<BString, BString> propertyMap, BString comment) {
+        CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
+                .getNativeData(CHARACTER_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, characterChannel.getChannel(),
+                                      () -> writeProperties(characterChannel, propertyMap, comment));
+    }
+
+    private static Object writeProperties(CharacterChannel characterChannel, BMap<BString, BString> propertyMap,
+                                          BString comment) {
         try {
-            CharacterChannel characterChannel = (CharacterChannel) characterChannelObj
-                    .getNativeData(CHARACTER_CHANNEL_NAME);
             PropertyUtils.writePropertyContent(characterChannel, propertyMap, comment);
         } catch (IOException e) {
             return IOUtils.createError(e);
@@ -18,18 +18,28 @@
 
 package org.ballerinalang.stdlib.io.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.CborUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.DataChannel;
 import org.ballerinalang.stdlib.io.channels.base.Representation;
+import org.ballerinalang.stdlib.io.utils.FileIOExecutor;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.ClosedChannelException;
 
@@ -43,6 +53,7 @@ import static org.ballerinalang.stdlib.io.utils.IOConstants.DATA_CHANNEL_NAME;
 public class DataChannelUtils {
 
     private static final Logger log = LoggerFactory.getLogger(DataChannelUtils.class);
+    private static final int VALUE_WRITE_BUFFER_SIZE = 8192;
 
     private DataChannelUtils() {
     }
@@ -77,8 +88,12 @@ public class DataChannelUtils {
         }
     }
 
-    public static Object readInt16(BObject dataChannelObj) {
+    public static Object readInt16(Environment env, BObject dataChannelObj) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> readInt16(channel));
+    }
+
+    private static Object readInt16(DataChannel channel) {
         try {
             return channel.readLong(Representation.BIT_16).getValue();
         } catch (IOException e) {
@@ -87,8 +102,12 @@ public class DataChannelUtils {
         }
     }
 
-    public static Object readInt32(BObject dataChannelObj) {
+    public static Object readInt32(Environment env, BObject dataChannelObj) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> readInt32(channel));
+    }
+
+    private static Object readInt32(DataChannel channel) {
         try {
             return channel.readLong(Representation.BIT_32).getValue();
         } catch (IOException e) {
@@ -97,8 +116,12 @@ public class DataChannelUtils {
         }
     }
 
-    public static Object readInt64(BObject dataChannelObj) {
+    public static Object readInt64(Environment env, BObject dataChannelObj) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> readInt64(channel));
+    }
+
+    private static Object readInt64(DataChannel channel) {
         try {
             return channel.readLong(Representation.BIT_64).getValue();
         } catch (IOException e) {
@@ -107,8 +130,12 @@ public class DataChannelUtils {
         }
     }
 
-    public static Object readFloat32(BObject dataChannelObj) {
+    public static Object readFloat32(Environment env, BObject dataChannelObj) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> readFloat32(channel));
+    }
+
+    private static Object readFloat32(DataChannel channel) {
         try {
             return channel.readDouble(Representation.BIT_32);
         } catch (IOException e) {
@@ -117,8 +144,12 @@ public class DataChannelUtils {
         }
     }
 
-    public static Object readFloat64(BObject dataChannelObj) {
+    public static Object readFloat64(Environment env, BObject dataChannelObj) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> readFloat64(channel));
+    }
+
+    private static Object readFloat64(DataChannel channel) {
         try {
             return channel.readDouble(Representation.BIT_64);
         } catch (IOException e) {
@@ -127,8 +158,12 @@ public class DataChannelUtils {
         }
     }
 
-    public static Object readBool(BObject dataChannelObj) {
+    public static Object readBool(Environment env, BObject dataChannelObj) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> readBool(channel));
+    }
+
+    private static Object readBool(DataChannel channel) {
         try {
             return channel.readBoolean();
         } catch (IOException e) {
@@ -137,8 +172,12 @@ public class DataChannelUtils {
         }
     }
 
-    public static Object readString(BObject dataChannelObj, long nBytes, BString encoding) {
+    public static Object readString(Environment env, BObject dataChannelObj, long nBytes, BString encoding) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> readString(channel, nBytes, encoding));
+    }
+
+    private static Object readString(DataChannel channel, long nBytes, BString encoding) {
         if (channel.hasReachedEnd()) {
             if (log.isDebugEnabled()) {
                 log.debug(String.format("Channel %d reached it's end", channel.hashCode()));
@@ -155,8 +194,36 @@ public class DataChannelUtils {
         }
     }
 
-    public static Object readVarInt(BObject dataChannelObj) {
+    public static Object readValue(Environment env, BObject dataChannelObj, BTypedesc targetType) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(),
+                                      () -> readValue(channel, targetType.getDescribingType()));
+    }
+
+    private static Object readValue(DataChannel channel, Type targetType) {
+        // The value is read through a buffer, and the content read ahead of the value is handed back to the channel,
+        // so that the channel could be read further after the value.
+        ChannelValueInputStream in = new ChannelValueInputStream(channel.getChannel());
+        try {
+            return CborUtils.parse(in, targetType);
+        } catch (BError e) {
+            if (in.count == 0 && in.reachedEnd) {
+                return IOUtils.createEoFError();
+            }
+            String msg = "Error occurred while reading value: " + e.getMessage();
+            log.error(msg);
+            return IOUtils.createError(msg);
+        } finally {
+            in.unreadRemaining();
+        }
+    }
+
+    public static Object readVarInt(Environment env, BObject dataChannelObj) {
+        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> readVarInt(channel));
+    }
+
+    private static Object readVarInt(DataChannel channel) {
         try {
             return channel.readLong(Representation.VARIABLE).getValue();
         } catch (IOException e) {
@@ -177,6 +244,11 @@ public class DataChannelUtils {
         return null;
     }
 
+    public static Object flush(Environment env, BObject dataChannel) {
+        DataChannel channel = (DataChannel) dataChannel.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> IOUtils.flush(channel.getChannel()));
+    }
+
     public static void initWritableDataChannel(BObject dataChannelObj, BObject byteChannelObj, BString order) {
         try {
             ByteOrder byteOrder = getByteOrder(order.getValue());
@@ -190,8 +262,12 @@ public class DataChannelUtils {
         }
     }
 
-    public static Object writeInt16(BObject dataChannelObj, long value) {
+    public static Object writeInt16(Environment env, BObject dataChannelObj, long value) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> writeInt16(channel, value));
+    }
+
+    private static Object writeInt16(DataChannel channel, long value) {
         try {
             channel.writeLong(value, Representation.BIT_16);
         } catch (IOException e) {
@@ -201,8 +277,12 @@ public class DataChannelUtils {
         return null;
     }
 
-    public static Object writeInt32(BObject dataChannelObj, long value) {
+    public static Object writeInt32(Environment env, BObject dataChannelObj, long value) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> writeInt32(channel, value));
+    }
+
+    private static Object writeInt32(DataChannel channel, long value) {
         try {
             channel.writeLong(value, Representation.BIT_32);
         } catch (IOException e) {
@@ -212,8 +292,12 @@ public class DataChannelUtils {
         return null;
     }
 
-    public static Object writeInt64(BObject dataChannelObj, long value) {
+    public static Object writeInt64(Environment env, BObject dataChannelObj, long value) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> writeInt64(channel, value));
+    }
+
+    private static Object writeInt64(DataChannel channel, long value) {
         try {
             channel.writeLong(value, Representation.BIT_64);
         } catch (IOException e) {
@@ -223,8 +307,12 @@ public class DataChannelUtils {
         return null;
     }
 
-    public static Object writeFloat32(BObject dataChannelObj, double value) {
+    public static Object writeFloat32(Environment env, BObject dataChannelObj, double value) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> writeFloat32(channel, value));
+    }
+
+    private static Object writeFloat32(DataChannel channel, double value) {
         try {
             channel.writeDouble(value, Representation.BIT_32);
         } catch (IOException e) {
@@ -234,8 +322,12 @@ public class DataChannelUtils {
         return null;
     }
 
-    public static Object writeFloat64(BObject dataChannelObj, double value) {
+    public static Object writeFloat64(Environment env, BObject dataChannelObj, double value) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> writeFloat64(channel, value));
+    }
+
+    private static Object writeFloat64(DataChannel channel, double value) {
         try {
             channel.writeDouble(value, Representation.BIT_64);
         } catch (IOException e) {
@@ -245,8 +337,12 @@ public class DataChannelUtils {
         return null;
     }
 
-    public static Object writeBool(BObject dataChannelObj, boolean value) {
+    public static Object writeBool(Environment env, BObject dataChannelObj, boolean value) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(IOConstants.DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> writeBool(channel, value));
+    }
+
+    private static Object writeBool(DataChannel channel, boolean value) {
         try {
             channel.writeBoolean(value);
         } catch (IOException e) {
@@ -256,8 +352,12 @@ public class DataChannelUtils {
         return null;
     }
 
-    public static Object writeString(BObject dataChannelObj, BString value, BString encoding) {
+    public static Object writeString(Environment env, BObject dataChannelObj, BString value, BString encoding) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> writeString(channel, value, encoding));
+    }
+
+    private static Object writeString(DataChannel channel, BString value, BString encoding) {
         try {
             channel.writeString(value.getValue(), encoding.getValue());
         } catch (IOException e) {
@@ -267,8 +367,31 @@ public class DataChannelUtils {
         return null;
     }
 
-    public static Object writeVarInt(BObject dataChannelObj, long value) {
+    public static Object writeValue(Environment env, BObject dataChannelObj, Object value) {
+        DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> writeValue(channel, value));
+    }
+
+    private static Object writeValue(DataChannel channel, Object value) {
+        try {
+            // The value is encoded into a buffer, which is written to the channel in large writes.
+            OutputStream out = new BufferedOutputStream(channel.getChannel().getOutputStream(),
+                                                        VALUE_WRITE_BUFFER_SIZE);
+            CborUtils.serialize(value, out);
+        } catch (IOException | BError e) {
+            String msg = "Error occurred while writing value: " + e.getMessage();
+            log.error(msg);
+            return IOUtils.createError(msg);
+        }
+        return null;
+    }
+
+    public static Object writeVarInt(Environment env, BObject dataChannelObj, long value) {
         DataChannel channel = (DataChannel) dataChannelObj.getNativeData(DATA_CHANNEL_NAME);
+        return FileIOExecutor.execute(env, channel.getChannel(), () -> writeVarInt(channel, value));
+    }
+
+    private static Object writeVarInt(DataChannel channel, long value) {
         try {
             channel.writeLong(value, Representation.VARIABLE);
         } catch (IOException e) {
@@ -277,4 +400,82 @@ public class DataChannelUtils {
         }
         return null;
     }
+
+    /**
+     * Reads a channel through a buffer, counting the bytes read to tell whether a value was not read as the channel had
+     * already ended.
+     */
+    private static class ChannelValueInputStream extends InputStream {
+
+        private static final int BUFFER_SIZE = 8192;
+
+        private final Channel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private long count;
+        private boolean reachedEnd;
+
+        ChannelValueInputStream(Channel channel) {
+            this.channel = channel;
+            buffer.flip();
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            count++;
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int readCount = Math.min(len, buffer.remaining());
+            buffer.get(b, off, readCount);
+            count += readCount;
+            return readCount;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        /**
+         * Hands the content which was read ahead of what was consumed back to the channel.
+         */
+        private void unreadRemaining() {
+            if (buffer.hasRemaining()) {
+                channel.unread(buffer);
+            }
+        }
+
+        private boolean fill() throws IOException {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+            if (reachedEnd) {
+                return false;
+            }
+            buffer.clear();
+            try {
+                while (buffer.position() == 0 && !channel.hasReachedEnd()) {
+                    channel.read(buffer);
+                }
+            } finally {
+                buffer.flip();
+            }
+            if (!buffer.hasRemaining()) {
+                reachedEnd = true;
+                return false;
+            }
+            return true;
+        }
+    }
 }
@@ -29,135 +29,165 @@ import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.api.values.BTypedesc;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 
 /**
- * Extern function ballerina/io#loadToTable.
+ * Extern functions ballerina/io#loadToTable and ballerina/io#CSVRecordStream.
  *
  * @since 0.970.0
  */
 public class GetTable {
 
-    private static final Logger log = LoggerFactory.getLogger(GetTable.class);
     private static final String CSV_CHANNEL_DELIMITED_STRUCT_FIELD = "dc";
+    private static final int UNSUPPORTED_UNION_TAG = -1;
 
     private GetTable() {
     }
 
     public static Object getTable(BObject csvChannel, BTypedesc bTypedesc, BArray key) {
         try {
-            final BObject delimitedObj =
-                    (BObject) csvChannel.get(StringUtils.fromString(CSV_CHANNEL_DELIMITED_STRUCT_FIELD));
-            DelimitedRecordChannel delimitedChannel = (DelimitedRecordChannel) delimitedObj
-                    .getNativeData(IOConstants.TXT_RECORD_CHANNEL_NAME);
+            DelimitedRecordChannel delimitedChannel = getDelimitedChannel(csvChannel);
             if (delimitedChannel.hasReachedEnd()) {
                 return IOUtils.createEoFError();
             }
-            List<String[]> records = new ArrayList<>();
+            Type describingType = bTypedesc.getDescribingType();
+            TableType newTableType;
+            if (key.size() == 0) {
+                newTableType = TypeCreator.createTableType(describingType, false);
+            } else {
+                newTableType = TypeCreator.createTableType(describingType, key.getStringArray(), false);
+            }
+            BTable table = ValueCreator.createTableValue(newTableType);
+            // Each record is added to the table as it is read, so the records are not held in memory as strings.
+            RecordMapper recordMapper = new RecordMapper(describingType);
             while (delimitedChannel.hasNext()) {
-                records.add(delimitedChannel.read());
+                BMap<BString, Object> record = recordMapper.map(delimitedChannel.read());
+                if (record != null) {
+                    table.add(record);
+                }
             }
-            return getTable(bTypedesc, key, records);
-        } catch (BallerinaIOException | BError e) {
+            return table;
+        } catch (BallerinaIOException | BError | NumberFormatException e) {
             String msg = "failed to process the delimited file: " + e.getMessage();
             return IOUtils.createError(msg);
         }
     }
 
-    private static BTable getTable(BTypedesc bTypedesc, BArray key, List<String[]> records) {
-        Type describingType = bTypedesc.getDescribingType();
-        TableType newTableType;
-        if (key.size() == 0) {
-            newTableType = TypeCreator.createTableType(describingType, false);
-        } else {
-            newTableType = TypeCreator.createTableType(describingType, key.getStringArray(), false);
-        }
-        BTable table = ValueCreator.createTableValue(newTableType);
-        StructureType structType = (StructureType) describingType;
-        for (String[] fields : records) {
-            final Map<String, Object> struct = getStruct(fields, structType);
-            if (struct != null) {
-                table.add(ValueCreator.createRecordValue(describingType.getPackage(), describingType.getName(),
-                                                         struct));
+    public static void initRecordStream(BObject recordStream, BObject csvChannel, BTypedesc bTypedesc) {
+        recordStream.addNativeData(IOConstants.TXT_RECORD_CHANNEL_NAME, getDelimitedChannel(csvChannel));
+        recordStream.addNativeData(IOConstants.CSV_RECORD_MAPPER_NAME,
+                                   new RecordMapper(bTypedesc.getDescribingType()));
+    }
+
+    public static Object nextRecord(BObject recordStream) {
+        DelimitedRecordChannel delimitedChannel =
+                (DelimitedRecordChannel) recordStream.getNativeData(IOConstants.TXT_RECORD_CHANNEL_NAME);
+        RecordMapper recordMapper = (RecordMapper) recordStream.getNativeData(IOConstants.CSV_RECORD_MAPPER_NAME);
+        try {
+            while (!delimitedChannel.hasReachedEnd() && delimitedChannel.hasNext()) {
+                BMap<BString, Object> record = recordMapper.map(delimitedChannel.read());
+                if (record != null) {
+                    return record;
+                }
             }
+            return null;
+        } catch (BallerinaIOException | BError | NumberFormatException e) {
+            String msg = "failed to process the delimited file: " + e.getMessage();
+            return IOUtils.createError(msg);
         }
-        return table;
     }
 
-    private static Map<String, Object> getStruct(String[] fields, final StructureType structType) {
-        Map<String, Field> internalStructFields = structType.getFields();
-        int fieldLength = internalStructFields.size();
-        Map<String, Object> struct = null;
-        if (fields.length > 0) {
-            Iterator<Map.Entry<String, Field>> itr = internalStructFields.entrySet().iterator();
-            struct = new HashMap();
-            for (int i = 0; i < fieldLength; i++) {
-                final Field internalStructField = itr.next().getValue();
-                final int type = internalStructField.getFieldType().getTag();
-                String fieldName = internalStructField.getFieldName();
-                if (fields.length > i) {
-                    String value = fields[i];
-                    switch (type) {
-                        case TypeTags.INT_TAG:
-                        case TypeTags.FLOAT_TAG:
-                        case TypeTags.STRING_TAG:
-                        case TypeTags.BOOLEAN_TAG:
-                            populateRecord(type, struct, fieldName, value);
-                            break;
-                        case TypeTags.UNION_TAG:
-                            List<Type> members = ((UnionType) internalStructField.getFieldType()).getMemberTypes();
-                            if (members.get(0).getTag() == TypeTags.NULL_TAG) {
-                                populateRecord(members.get(1).getTag(), struct, fieldName, value);
-                            } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
-                                populateRecord(members.get(0).getTag(), struct, fieldName, value);
-                            } else {
-                                throw IOUtils.createError("unsupported nillable field for value: " + value);
-                            }
-                            break;
-                        default:
-                            throw IOUtils.createError(
-                                    "type casting support only for int, float, boolean and string. "
-                                            + "Invalid value for the struct field: " + value);
-                    }
+    private static DelimitedRecordChannel getDelimitedChannel(BObject csvChannel) {
+        final BObject delimitedObj =
+                (BObject) csvChannel.get(StringUtils.fromString(CSV_CHANNEL_DELIMITED_STRUCT_FIELD));
+        return (DelimitedRecordChannel) delimitedObj.getNativeData(IOConstants.TXT_RECORD_CHANNEL_NAME);
+    }
+
+    /**
+     * Converts the fields of a record straight into the field types of a Ballerina record. The field types are
+     * resolved once for all the records.
+     */
+    private static class RecordMapper {
+
+        private final Type recordType;
+        private final BString[] fieldNames;
+        private final int[] fieldTags;
+        private final boolean[] nillable;
+
+        RecordMapper(Type recordType) {
+            this.recordType = recordType;
+            Field[] fields = ((StructureType) recordType).getFields().values().toArray(new Field[0]);
+            fieldNames = new BString[fields.length];
+            fieldTags = new int[fields.length];
+            nillable = new boolean[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                fieldNames[i] = StringUtils.fromString(fields[i].getFieldName());
+                Type fieldType = fields[i].getFieldType();
+                if (fieldType.getTag() != TypeTags.UNION_TAG) {
+                    fieldTags[i] = fieldType.getTag();
+                    continue;
+                }
+                nillable[i] = true;
+                List<Type> members = ((UnionType) fieldType).getMemberTypes();
+                if (members.get(0).getTag() == TypeTags.NULL_TAG) {
+                    fieldTags[i] = members.get(1).getTag();
+                } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
+                    fieldTags[i] = members.get(0).getTag();
                 } else {
-                    struct.put(fieldName, null);
+                    fieldTags[i] = UNSUPPORTED_UNION_TAG;
                 }
             }
         }
-        return struct;
-    }
 
-    private static void populateRecord(int type, Map<String, Object> struct, String fieldName, String value) {
-        switch (type) {
-            case TypeTags.INT_TAG:
-                struct.put(fieldName, (value == null || value.isEmpty()) ? null : Long.parseLong(value));
-                return;
-            case TypeTags.FLOAT_TAG:
-                struct.put(fieldName, (value == null || value.isEmpty()) ? null : Double.parseDouble(value));
-                break;
-            case TypeTags.STRING_TAG:
-                struct.put(fieldName, value);
-                break;
-            case TypeTags.BOOLEAN_TAG:
-                struct.put(fieldName, (value == null || value.isEmpty()) ? null : (Boolean.parseBoolean(value)));
-                break;
-            default:
-                throw IOUtils.createError("type casting support only for int, float, boolean and string. "
-                        + "Invalid value for the struct field: " + value);
+        BMap<BString, Object> map(String[] fields) {
+            if (fields.length == 0) {
+                return null;
+            }
+            BMap<BString, Object> record = ValueCreator.createRecordValue(recordType.getPackage(),
+                                                                          recordType.getName());
+            for (int i = 0; i < fieldNames.length; i++) {
+                if (fields.length <= i) {
+                    record.put(fieldNames[i], null);
+                    continue;
+                }
+                String value = fields[i];
+                if (fieldTags[i] == UNSUPPORTED_UNION_TAG) {
+                    throw IOUtils.createError("unsupported nillable field for value: " + value);
+                }
+                // An empty value of an optional field is nil.
+                if (nillable[i] && value.isEmpty()) {
+                    record.put(fieldNames[i], null);
+                    continue;
+                }
+                record.put(fieldNames[i], convert(fieldTags[i], value));
+            }
+            return record;
+        }
+
+        private static Object convert(int type, String value) {
+            switch (type) {
+                case TypeTags.INT_TAG:
+                    return value.isEmpty() ? null : Long.parseLong(value);
+                case TypeTags.FLOAT_TAG:
+                    return value.isEmpty() ? null : Double.parseDouble(value);
+                case TypeTags.STRING_TAG:
+                    return StringUtils.fromString(value);
+                case TypeTags.BOOLEAN_TAG:
+                    return value.isEmpty() ? null : Boolean.parseBoolean(value);
+                default:
+                    throw IOUtils.createError("type casting support only for int, float, boolean and string. "
+                            + "Invalid value for the struct field: " + value);
+            }
         }
     }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.utils;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.values.BError;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Executes the operations on file channels without blocking the scheduler thread which runs the strand.
+ * </p>
+ * <p>
+ * The strand is suspended while the operation blocks on the disk in a thread of a dedicated pool, and is resumed
+ * with the result of the operation once it completes. The operations on other channels, and on memory mapped files,
+ * do not block on a system call and are executed in the thread of the strand.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class FileIOExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(FileIOExecutor.class);
+
+    private static final int POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(POOL_SIZE, runnable -> {
+        Thread thread = new Thread(runnable, "ballerina-io-file-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private FileIOExecutor() {
+    }
+
+    /**
+     * Executes an operation on a channel.
+     *
+     * @param env       environment of the strand which requested the operation
+     * @param channel   channel the operation is performed on
+     * @param operation the operation, which returns the value to be returned to the strand
+     * @return the result of the operation if it was executed in the thread of the strand, or else null once the strand
+     * is suspended until the operation completes
+     */
+    public static Object execute(Environment env, Channel channel, Supplier<Object> operation) {
+        if (!isBlocking(channel)) {
+            return operation.get();
+        }
+        Future balFuture = env.markAsync();
+        executor.execute(() -> balFuture.complete(complete(operation)));
+        return null;
+    }
+
+    /**
+     * Specifies whether the operations on a channel block on the disk.
+     *
+     * @param channel the channel
+     * @return true if the operations on the channel block on the disk
+     */
+    public static boolean isBlocking(Channel channel) {
+        return channel instanceof FileIOChannel && !(channel instanceof MappedFileIOChannel);
+    }
+
+    private static Object complete(Supplier<Object> operation) {
+        try {
+            return operation.get();
+        } catch (BError e) {
+            return e;
+        } catch (RuntimeException e) {
+            log.error("error occurred while performing the file operation.", e);
+            return IOUtils.createError(e);
+        }
+    }
+}
@@ -43,11 +43,21 @@ public class IOConstants {
      */
     public static final String CHARACTER_CHANNEL_NAME = "char_channel";
 
+    /**
+     * The name of the XML element iterator which will be represented through the native struct.
+     */
+    public static final String XML_ELEMENT_ITERATOR_NAME = "xml_element_iterator";
+
     /**
      * The name of the text record channel which will be represented through the native struct.
      */
     public static final String TXT_RECORD_CHANNEL_NAME = "txt_record";
 
+    /**
+     * The name of the CSV record mapper which will be represented through the native struct.
+     */
+    public static final String CSV_RECORD_MAPPER_NAME = "csv_record_mapper";
+
     /**
      * The size of the buffer allocated for reading bytes from the channel (15~ KB).
      */
@@ -134,6 +134,21 @@ public class IOUtils {
         return offset;
     }
 
+    /**
+     * Writes out the content buffered by a channel.
+     *
+     * @param channel the channel which should be flushed.
+     * @return null, or else an error if the content could not be written.
+     */
+    public static Object flush(Channel channel) {
+        try {
+            channel.flush();
+        } catch (IOException e) {
+            return createError(e);
+        }
+        return null;
+    }
+
     /**
      * <p>
      * Writes the whole payload to the channel.
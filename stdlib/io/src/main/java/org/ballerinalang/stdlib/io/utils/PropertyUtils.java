@@ -32,7 +32,6 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.nio.channels.Channels;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
@@ -101,7 +100,7 @@ public class PropertyUtils {
             writableProperties.setProperty(entry.getKey().getValue(), entry.getValue().getValue());
         }
         writableProperties.store(
-                Channels.newOutputStream(characterChannel.getChannel().getByteChannel()),
+                characterChannel.getChannel().getOutputStream(),
                 comment.getValue()
         );
     }
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
+import org.ballerinalang.stdlib.io.channels.base.DataChannel;
+import org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils;
+import org.ballerinalang.stdlib.io.nativeimpl.CharacterChannelUtils;
+import org.ballerinalang.stdlib.io.nativeimpl.DataChannelUtils;
+import org.ballerinalang.stdlib.io.utils.FileIOExecutor;
+import org.ballerinalang.stdlib.io.utils.IOConstants;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test cases for the file channel operations which suspend the strand while they block on the disk.
+ */
+public class FileIOExecutorTest {
+
+    private static final String POOL_THREAD_PREFIX = "ballerina-io-file-";
+
+    @Test(description = "Test that reading bytes from a file suspends the strand until a pool thread reads them")
+    public void testReadBytes() throws Exception {
+        Channel channel = openFileChannel(getResourcePath("datafiles/io/text/6charfile.txt"));
+        BObject channelObj = createChannelObject(IOConstants.BYTE_CHANNEL_NAME, channel);
+        SuspendedStrand strand = new SuspendedStrand();
+
+        Assert.assertNull(ByteChannelUtils.read(strand.env, channelObj, 3));
+        Assert.assertTrue(strand.isBlockedOnExtern());
+        Object result = strand.awaitResult();
+
+        Assert.assertTrue(strand.completingThread.startsWith(POOL_THREAD_PREFIX), strand.completingThread);
+        Assert.assertEquals(new String(((BArray) result).getBytes()), "123");
+        channel.close();
+    }
+
+    @Test(description = "Test that reading characters from a file suspends the strand until a pool thread reads " +
+            "them")
+    public void testReadCharacters() throws Exception {
+        Channel channel = openFileChannel(getResourcePath("datafiles/io/text/6charfile.txt"));
+        BObject channelObj = createChannelObject(IOConstants.CHARACTER_CHANNEL_NAME,
+                                                 new CharacterChannel(channel, "UTF-8"));
+        SuspendedStrand strand = new SuspendedStrand();
+
+        Assert.assertNull(CharacterChannelUtils.read(strand.env, channelObj, 4));
+        Assert.assertTrue(strand.isBlockedOnExtern());
+        Object result = strand.awaitResult();
+
+        Assert.assertTrue(strand.completingThread.startsWith(POOL_THREAD_PREFIX), strand.completingThread);
+        Assert.assertEquals(result.toString(), "1234");
+        channel.close();
+    }
+
+    @Test(description = "Test that reading data from a file suspends the strand until a pool thread reads it")
+    public void testReadData() throws Exception {
+        Path file = Files.createTempFile("data", ".bin");
+        Files.write(file, ByteBuffer.allocate(Long.BYTES).putLong(123456789L).array());
+        Channel channel = openFileChannel(file);
+        BObject channelObj = createChannelObject(IOConstants.DATA_CHANNEL_NAME,
+                                                 new DataChannel(channel, ByteOrder.BIG_ENDIAN));
+        SuspendedStrand strand = new SuspendedStrand();
+
+        Assert.assertNull(DataChannelUtils.readInt64(strand.env, channelObj));
+        Assert.assertTrue(strand.isBlockedOnExtern());
+        Object result = strand.awaitResult();
+
+        Assert.assertTrue(strand.completingThread.startsWith(POOL_THREAD_PREFIX), strand.completingThread);
+        Assert.assertEquals(result, 123456789L);
+        channel.close();
+        Files.delete(file);
+    }
+
+    @Test(description = "Test that an error of an operation on a pool thread is returned to the strand")
+    public void testOperationError() throws Exception {
+        Channel channel = openFileChannel(getResourcePath("datafiles/io/text/6charfile.txt"));
+        channel.close();
+        BObject channelObj = createChannelObject(IOConstants.BYTE_CHANNEL_NAME, channel);
+        SuspendedStrand strand = new SuspendedStrand();
+
+        Assert.assertNull(ByteChannelUtils.read(strand.env, channelObj, 3));
+        Object result = strand.awaitResult();
+
+        Assert.assertTrue(strand.completingThread.startsWith(POOL_THREAD_PREFIX), strand.completingThread);
+        Assert.assertTrue(result instanceof BError);
+        Assert.assertTrue(((BError) result).getMessage().startsWith("error occurred while reading bytes"),
+                          ((BError) result).getMessage());
+    }
+
+    @Test(description = "Test that an unexpected exception of an operation on a pool thread is returned to the " +
+            "strand as an error")
+    public void testOperationException() throws Exception {
+        Channel channel = openFileChannel(getResourcePath("datafiles/io/text/6charfile.txt"));
+        SuspendedStrand strand = new SuspendedStrand();
+
+        Assert.assertNull(FileIOExecutor.execute(strand.env, channel, () -> {
+            throw new IllegalStateException("operation failed");
+        }));
+        Object result = strand.awaitResult();
+
+        Assert.assertTrue(result instanceof BError);
+        Assert.assertEquals(((BError) result).getMessage(), "operation failed");
+        channel.close();
+    }
+
+    @Test(description = "Test that reading from a memory mapped file is done in the thread of the strand")
+    public void testReadMappedFile() throws Exception {
+        FileChannel fileChannel = FileChannel.open(getResourcePath("datafiles/io/text/6charfile.txt"),
+                                                   StandardOpenOption.READ);
+        Channel channel = new MappedFileIOChannel(fileChannel);
+        BObject channelObj = createChannelObject(IOConstants.BYTE_CHANNEL_NAME, channel);
+        SuspendedStrand strand = new SuspendedStrand();
+
+        Object result = ByteChannelUtils.read(strand.env, channelObj, 3);
+
+        Assert.assertFalse(strand.isBlockedOnExtern());
+        Assert.assertEquals(new String(((BArray) result).getBytes()), "123");
+        channel.close();
+    }
+
+    private static Path getResourcePath(String resource) throws URISyntaxException {
+        return Paths.get(FileIOExecutorTest.class.getClassLoader().getResource(resource).toURI());
+    }
+
+    private static Channel openFileChannel(Path path) throws IOException {
+        return new FileIOChannel(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    /**
+     * Creates a channel object which only holds the given native channel.
+     */
+    private static BObject createChannelObject(String key, Object nativeChannel) {
+        return (BObject) Proxy.newProxyInstance(
+                FileIOExecutorTest.class.getClassLoader(), new Class[]{BObject.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getNativeData") && key.equals(args[0])) {
+                        return nativeChannel;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * A strand whose scheduler records the result it is resumed with, instead of running it again.
+     */
+    private static class SuspendedStrand {
+
+        private final CountDownLatch resumed = new CountDownLatch(1);
+        private final Strand strand;
+        private final Environment env;
+        private volatile String completingThread;
+
+        SuspendedStrand() {
+            Scheduler scheduler = new Scheduler(1, false) {
+                @Override
+                public void unblockStrand(Strand strand) {
+                    completingThread = Thread.currentThread().getName();
+                    resumed.countDown();
+                }
+            };
+            strand = new Strand("test", null, scheduler, null, null);
+            env = new Environment(strand);
+        }
+
+        boolean isBlockedOnExtern() {
+            return strand.isBlockedOnExtern();
+        }
+
+        Object awaitResult() throws InterruptedException {
+            Assert.assertTrue(resumed.await(10, TimeUnit.SECONDS), "The strand is not resumed");
+            return strand.returnValue;
+        }
+    }
+}
@@ -228,6 +228,17 @@ public class IOTest {
         BRunUtil.invoke(bytesInputOutputProgramFile, "closeWritableChannel");
     }
 
+    @Test(description = "Test buffered and vectored writes to a byte channel in ballerina/io package")
+    public void testBufferedWrites() throws IOException {
+        String sourceToWrite = currentDirectoryPath + "/bufferedBytesFile.txt";
+
+        BValue[] args = { new BString(sourceToWrite) };
+        BValue[] returns = BRunUtil.invoke(bytesInputOutputProgramFile, "testBufferedWrites", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 25);
+        Assert.assertEquals(Files.readAllBytes(Paths.get(sourceToWrite)),
+                            "ABABABABABABABABABABCDEFG".getBytes(StandardCharsets.US_ASCII));
+    }
+
     @Test(description = "Test 'writeCharacters' function in ballerina/io package")
     public void testWriteCharacters() {
         String content = "The quick brown fox jumps over the lazy dog";
@@ -386,6 +397,34 @@ public class IOTest {
         BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
     }
 
+    @Test(description = "Test 'readXmlElements' function in ballerina/io package")
+    public void testXmlElementStream() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/cd_catalog.xml";
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8") };
+
+        BRunUtil.invoke(characterInputOutputProgramFile, "initReadableChannel", args);
+        BValue[] returns = BRunUtil.invoke(characterInputOutputProgramFile, "readXmlElements",
+                                           new BValue[] { new BString("CATALOG"), new BString("CD"),
+                                                   new BString("TITLE") });
+        BValueArray titles = (BValueArray) returns[0];
+        Assert.assertEquals(titles.size(), 26);
+        Assert.assertEquals(titles.getString(0), "<TITLE>Empire Burlesque</TITLE>");
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
+
+        BRunUtil.invoke(characterInputOutputProgramFile, "initReadableChannel", args);
+        returns = BRunUtil.invoke(characterInputOutputProgramFile, "readXmlElements");
+        BValueArray cds = (BValueArray) returns[0];
+        Assert.assertEquals(cds.size(), 26);
+        Assert.assertTrue(cds.getString(0).startsWith("<CD><TITLE>Empire Burlesque</TITLE>"));
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
+
+        BRunUtil.invoke(characterInputOutputProgramFile, "initReadableChannel", args);
+        returns = BRunUtil.invoke(characterInputOutputProgramFile, "readXmlElements",
+                                  new BValue[] { new BString("*"), new BString("DVD") });
+        Assert.assertEquals(((BValueArray) returns[0]).size(), 0);
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
+    }
+
     @Test(description = "Test function to convert string to json")
     public void convertStringToJsonTest() throws URISyntaxException {
         String content = "{\n" + "  \"test\": { \"name\": \"Foo\" }\n" + "}";
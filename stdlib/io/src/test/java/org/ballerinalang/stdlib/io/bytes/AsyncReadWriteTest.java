@@ -19,6 +19,8 @@
 package org.ballerinalang.stdlib.io.bytes;
 
 import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.MappedFileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.util.TestUtil;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
@@ -26,9 +28,18 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Tests operations through the async io framework.
@@ -105,4 +116,160 @@ public class AsyncReadWriteTest {
         Assert.assertEquals(numberOfBytesWritten, bytes.length);
     }
 
+    @Test(description = "Combine small writes into large writes to a channel")
+    public void writeBufferedBytes() throws IOException {
+        Path path = Paths.get(currentDirectoryPath, "bufferedWrite.txt");
+        Files.deleteIfExists(path);
+        Channel channel = new MockByteChannel(TestUtil.openForReadingAndWriting(path.toString()));
+        channel.setWriteBuffer(8, 0);
+
+        IOUtils.writeFull(channel, "abc".getBytes(), 0);
+        IOUtils.writeFull(channel, "def".getBytes(), 0);
+        Assert.assertEquals(Files.size(path), 0);
+
+        // The buffered bytes are written out together with the bytes which do not fit in the buffer.
+        IOUtils.writeFull(channel, "ghi".getBytes(), 0);
+        Assert.assertEquals(Files.readAllBytes(path), "abcdefghi".getBytes());
+
+        IOUtils.writeFull(channel, "jk".getBytes(), 0);
+        channel.flush();
+        Assert.assertEquals(Files.readAllBytes(path), "abcdefghijk".getBytes());
+
+        IOUtils.writeFull(channel, "l".getBytes(), 0);
+        channel.close();
+        Assert.assertEquals(Files.readAllBytes(path), "abcdefghijkl".getBytes());
+    }
+
+    @Test(description = "Flush the bytes buffered by a channel periodically")
+    public void flushBufferedBytesPeriodically() throws IOException, InterruptedException {
+        Path path = Paths.get(currentDirectoryPath, "periodicFlush.txt");
+        Files.deleteIfExists(path);
+        Channel channel = new MockByteChannel(TestUtil.openForReadingAndWriting(path.toString()));
+        channel.setWriteBuffer(1024, 10);
+
+        IOUtils.writeFull(channel, "hello".getBytes(), 0);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (Files.size(path) == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(Files.readAllBytes(path), "hello".getBytes());
+        channel.close();
+    }
+
+    @Test(description = "Write out the bytes buffered by a channel before reading from it")
+    public void readAfterBufferedWrite() throws IOException {
+        Path path = Paths.get(currentDirectoryPath, "readAfterBufferedWrite.txt");
+        Files.deleteIfExists(path);
+        FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                   StandardOpenOption.WRITE);
+        Channel channel = new FileIOChannel(fileChannel);
+        IOUtils.writeFull(channel, "hello world".getBytes(), 0);
+        fileChannel.position(0);
+        channel.setWriteBuffer(1024, 0);
+        IOUtils.writeFull(channel, "HELLO".getBytes(), 0);
+
+        byte[] content = new byte[6];
+        IOUtils.readFull(channel, content);
+        Assert.assertEquals(content, " world".getBytes());
+        Assert.assertEquals(Files.readAllBytes(path), "HELLO world".getBytes());
+        channel.close();
+    }
+
+    @Test(description = "Release a channel whose writes are flushed periodically once it is no longer used")
+    public void releaseUnusedBufferedChannel() throws IOException, InterruptedException {
+        Path path = Paths.get(currentDirectoryPath, "unusedBufferedChannel.txt");
+        WeakReference<ByteChannel> byteChannel = createBufferedChannel(path);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (byteChannel.get() != null && System.currentTimeMillis() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull(byteChannel.get(), "The channel is held by the periodic flush");
+    }
+
+    private static WeakReference<ByteChannel> createBufferedChannel(Path path) throws IOException {
+        ByteChannel byteChannel = TestUtil.openForReadingAndWriting(path.toString());
+        Channel channel = new MockByteChannel(byteChannel);
+        channel.setWriteBuffer(1024, 10);
+        return new WeakReference<>(byteChannel);
+    }
+
+    @Test(description = "Write a set of blocks of bytes to a channel in order")
+    public void writeBlocks() throws IOException {
+        Path path = Paths.get(currentDirectoryPath, "blocksWrite.txt");
+        Files.deleteIfExists(path);
+        Channel channel = new MockByteChannel(TestUtil.openForReadingAndWriting(path.toString()));
+
+        ByteBuffer[] blocks = {ByteBuffer.wrap("ab".getBytes()), ByteBuffer.wrap(new byte[0]),
+                ByteBuffer.wrap("cde".getBytes())};
+        Assert.assertEquals(channel.write(blocks), 5);
+        Assert.assertEquals(Files.readAllBytes(path), "abcde".getBytes());
+
+        channel.setWriteBuffer(4, 0);
+        blocks = new ByteBuffer[]{ByteBuffer.wrap("f".getBytes()), ByteBuffer.wrap("g".getBytes())};
+        Assert.assertEquals(channel.write(blocks), 2);
+        Assert.assertEquals(Files.size(path), 5);
+
+        blocks = new ByteBuffer[]{ByteBuffer.wrap("hi".getBytes())};
+        Assert.assertEquals(channel.write(blocks), 2);
+        Assert.assertEquals(Files.readAllBytes(path), "abcdefghi".getBytes());
+        channel.close();
+    }
+
+    @Test(description = "Read bytes through the memory mapped regions of a file")
+    public void readMappedBytes() throws IOException, URISyntaxException {
+        byte[] content = new byte[4];
+        //Number of characters in this file would be 6
+        FileChannel fileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/text/6charfile.txt");
+        Channel channel = new MappedFileIOChannel(fileChannel);
+
+        IOUtils.readFull(channel, content);
+        Assert.assertEquals(content, "1234".getBytes());
+        Assert.assertFalse(channel.hasReachedEnd());
+
+        content = new byte[4];
+        int numberOfBytesRead = IOUtils.readFull(channel, content);
+        Assert.assertEquals(numberOfBytesRead, 2);
+        Assert.assertEquals(content, new byte[]{53, 54, 0, 0});
+        Assert.assertTrue(channel.hasReachedEnd());
+        channel.close();
+    }
+
+    @Test(description = "Transfer the remaining content of a file to another channel")
+    public void transferFileContent() throws IOException, URISyntaxException {
+        FileChannel fileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/text/6charfile.txt");
+        FileIOChannel channel = new MappedFileIOChannel(fileChannel);
+        byte[] content = new byte[2];
+        IOUtils.readFull(channel, content);
+
+        ByteArrayOutputStream destination = new ByteArrayOutputStream();
+        long transferredBytes = channel.transferTo(Channels.newChannel(destination));
+        Assert.assertEquals(transferredBytes, 4);
+        Assert.assertEquals(destination.toByteArray(), "3456".getBytes());
+        Assert.assertEquals(channel.getPosition(), 6);
+        channel.close();
+    }
+
+    @Test(description = "Read and transfer the content handed back to a memory mapped channel before the file")
+    public void readUnreadMappedContent() throws IOException, URISyntaxException {
+        FileChannel fileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/text/6charfile.txt");
+        FileIOChannel channel = new MappedFileIOChannel(fileChannel);
+        byte[] content = new byte[6];
+        IOUtils.readFull(channel, content);
+        Assert.assertTrue(channel.hasReachedEnd());
+
+        channel.unread(ByteBuffer.wrap(content, 2, 4));
+        Assert.assertFalse(channel.hasReachedEnd());
+        content = new byte[2];
+        IOUtils.readFull(channel, content);
+        Assert.assertEquals(content, "34".getBytes());
+
+        ByteArrayOutputStream destination = new ByteArrayOutputStream();
+        long transferredBytes = channel.transferTo(Channels.newChannel(destination));
+        Assert.assertEquals(transferredBytes, 2);
+        Assert.assertEquals(destination.toByteArray(), "56".getBytes());
+        Assert.assertTrue(channel.hasReachedEnd());
+        channel.close();
+    }
+
 }
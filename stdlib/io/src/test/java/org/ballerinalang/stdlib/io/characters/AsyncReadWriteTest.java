@@ -29,6 +29,9 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.channels.ByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * Represents the framework for reading writing characters using async io framework.
@@ -75,4 +78,24 @@ public class AsyncReadWriteTest {
         Assert.assertEquals(characterChannel.write(text, 0), numberOfBytes);
         characterChannel.close();
     }
+
+    @Test(description = "Test writing characters which are encoded into more bytes than the encoding buffer holds")
+    public void writeLongCharacterContent() throws IOException {
+        Path path = Paths.get(currentDirectoryPath, "longWrite.txt");
+        Files.deleteIfExists(path);
+        Channel channel = new MockByteChannel(TestUtil.openForReadingAndWriting(path.toString()));
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            content.append("a\u01CA\u20AC\uD83D\uDE00");
+        }
+        String text = content.toString();
+        int numberOfBytes = text.getBytes(StandardCharsets.UTF_8).length;
+
+        Assert.assertEquals(characterChannel.write(text, 0), numberOfBytes);
+        Assert.assertEquals(characterChannel.write(text, 1), numberOfBytes - 1);
+        characterChannel.close();
+        Assert.assertEquals(new String(Files.readAllBytes(path), StandardCharsets.UTF_8), text + text.substring(1));
+    }
 }
@@ -119,6 +119,28 @@ public class DataChannelTest {
         Assert.assertEquals(content, result[0].stringValue());
     }
 
+    @Test(description = "read and write a record value", dataProvider = "Endianness")
+    public void processValue(ByteOrder order) {
+        String sourceToWrite = currentDirectoryPath + "/value.bin";
+        BValue[] args = {new BString(sourceToWrite), new BString(order.toString())};
+        BRunUtil.invoke(dataChannel, "testWriteValue", args);
+
+        BValue[] result = BRunUtil.invoke(dataChannel, "testReadValue", args);
+
+        Assert.assertEquals(result[0].stringValue(), "s1|23.5|0.125|[3,1,2]|s2|42");
+    }
+
+    @Test(description = "read a record value from a memory mapped file", dataProvider = "Endianness")
+    public void processMappedValue(ByteOrder order) {
+        String sourceToWrite = currentDirectoryPath + "/mappedValue.bin";
+        BValue[] args = {new BString(sourceToWrite), new BString(order.toString())};
+        BRunUtil.invoke(dataChannel, "testWriteValue", args);
+
+        BValue[] result = BRunUtil.invoke(dataChannel, "testReadMappedValue", args);
+
+        Assert.assertEquals(result[0].stringValue(), "s1|23.5|0.125|[3,1,2]|s2|42");
+    }
+
     @DataProvider(name = "Endianness")
     public Object[][] endianness() {
         return new Object[][]{{ByteOrder.BIG_ENDIAN}, {ByteOrder.LITTLE_ENDIAN}};
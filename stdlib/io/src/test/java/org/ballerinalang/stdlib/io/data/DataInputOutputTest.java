@@ -34,6 +34,7 @@ import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.ByteChannel;
 
@@ -151,6 +152,30 @@ public class DataInputOutputTest {
         Assert.assertEquals(false, booleanValue);
     }
 
+    @Test(description = "Test that content handed back to a channel is read before the rest of the channel")
+    public void testUnread() throws IOException {
+        String filePath = currentDirectoryPath + "/sample.bin";
+        ByteChannel byteChannel = TestUtil.openForReadingAndWriting(filePath);
+        Channel channel = new MockByteChannel(byteChannel);
+        DataChannel dataChannel = new DataChannel(channel, ByteOrder.BIG_ENDIAN);
+        dataChannel.writeLong(1, Representation.BIT_16);
+        dataChannel.writeLong(2, Representation.BIT_16);
+        dataChannel.writeLong(3, Representation.BIT_16);
+        channel.close();
+        byteChannel = TestUtil.openForReadingAndWriting(filePath);
+        channel = new MockByteChannel(byteChannel);
+        dataChannel = new DataChannel(channel, ByteOrder.BIG_ENDIAN);
+        ByteBuffer readAhead = ByteBuffer.allocate(6);
+        while (readAhead.hasRemaining() && !channel.hasReachedEnd()) {
+            channel.read(readAhead);
+        }
+        readAhead.flip();
+        readAhead.position(2);
+        channel.unread(readAhead);
+        Assert.assertEquals(dataChannel.readLong(Representation.BIT_16).getValue(), 2);
+        Assert.assertEquals(dataChannel.readLong(Representation.BIT_16).getValue(), 3);
+    }
+
     @DataProvider(name = "StringValues")
     public static Object[][] stringValues() {
         return new Object[][]{
@@ -409,6 +409,17 @@ public class CsvChannelTest {
         Assert.assertEquals(totalSalary.floatValue(), 60001.00d);
     }
 
+    @Test(description = "Test reading records as a stream")
+    public void getStream() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/records/sample5.csv";
+        BValue[] args = {
+                new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8"), new BString(",")
+        };
+        final BValue[] result = BRunUtil.invoke(csvInputOutputProgramFile, "getStream", args);
+        final BFloat totalSalary = (BFloat) result[0];
+        Assert.assertEquals(totalSalary.floatValue(), 60001.00d);
+    }
+
     @Test(description = "Test successful data load will nill values")
     public void getTableWithNull() throws URISyntaxException {
         String resourceToRead = "datafiles/io/records/sample6.csv";
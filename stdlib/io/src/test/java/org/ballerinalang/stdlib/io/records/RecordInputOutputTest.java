@@ -21,6 +21,7 @@ import org.ballerinalang.stdlib.io.MockByteChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.csv.Format;
 import org.ballerinalang.stdlib.io.util.TestUtil;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.testng.Assert;
@@ -144,6 +145,27 @@ public class RecordInputOutputTest {
         recordChannel.close();
     }
 
+    @Test(description = "Read RFC4180 records with line breaks and escaped double quotes in fields")
+    public void readRfcMultilineRecords() throws IOException, URISyntaxException, BallerinaIOException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/records/sampleRfcMultiline.csv");
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+
+        Assert.assertTrue(recordChannel.hasNext());
+        String[] readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"Line1\r\nLine2", "WSO2", "He said \"hi\""});
+        Assert.assertTrue(recordChannel.hasNext(), "Expecting more records but received as EOL.");
+
+        readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"User2", "", "07xxxxxxx"});
+        Assert.assertFalse(recordChannel.hasNext(),
+                "Last record received, but indicate as more records available.");
+        Assert.assertTrue(recordChannel.hasReachedEnd());
+
+        recordChannel.close();
+    }
+
     @Test(description = "Writes records to channel")
     public void writeRecords() throws IOException {
         //Number of characters in this file would be 6
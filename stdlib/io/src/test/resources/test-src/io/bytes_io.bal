@@ -79,3 +79,17 @@ function testBase64EncodeByteChannel(io:ReadableByteChannel contentToBeEncoded)
 function testBase64DecodeByteChannel(io:ReadableByteChannel contentToBeDecoded) returns io:ReadableByteChannel|io:Error {
     return contentToBeDecoded.base64Decode();
 }
+
+function testBufferedWrites(string filePath) returns int|io:Error {
+    io:WritableByteChannel wChannel = check io:openWritableFile(filePath);
+    check wChannel.setWriteBuffer(16);
+    int total = 0;
+    foreach int i in 0 ..< 10 {
+        total += check wChannel.write([65, 66], 0);
+    }
+    total += check wChannel.writeAll([[67], [], [68, 69, 70]]);
+    check wChannel.flush();
+    total += check wChannel.write([71], 0);
+    check wChannel.close();
+    return total;
+}
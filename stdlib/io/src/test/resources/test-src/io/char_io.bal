@@ -116,6 +116,25 @@ function readJson() returns @tainted json|error {
     return ();
 }
 
+function readXmlElements(string... path) returns @tainted string[]|error {
+    var rCha = rch;
+    if(rCha is io:ReadableCharacterChannel){
+        stream<xml, io:Error> elements = rCha.readXmlElements(...path);
+        string[] result = [];
+        record {| xml value; |}|io:Error? element = elements.next();
+        while (element is record {| xml value; |}) {
+            result.push(element.value.toString());
+            element = elements.next();
+        }
+        if (element is io:Error) {
+            return element;
+        }
+        return result;
+    }
+    io:GenericError e = io:GenericError("Character channel not initialized properly");
+    return e;
+}
+
 function readXml() returns @tainted xml|error {
     var rCha = rch;
     if(rCha is io:ReadableCharacterChannel){
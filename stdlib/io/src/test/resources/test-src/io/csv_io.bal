@@ -142,6 +142,20 @@ function getTable(string filePath, string encoding, io:Separator fieldSeparator)
     }
 }
 
+function getStream(string filePath, string encoding, io:Separator fieldSeparator) returns @tainted float | error {
+    io:ReadableCSVChannel csv = check io:openReadableCsvFile(filePath, fieldSeparator, encoding);
+    float total = 0.0;
+    stream<record {}, io:Error> employees = csv.getStream(Employee);
+    error? result = employees.forEach(function (record {} employee) {
+        total = total + <float> employee["salary"];
+    });
+    error? closeResult = csv.close();
+    if (result is error) {
+        return result;
+    }
+    return total;
+}
+
 function getTableWithNill(string filePath) returns @tainted [string, string] | error {
     string name = "";
     string dep = "";
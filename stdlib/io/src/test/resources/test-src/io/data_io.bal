@@ -111,3 +111,54 @@ function testReadString(string path, int nBytes, string encoding, io:ByteOrder b
         return ch;
     }
 }
+
+type Reading record {|
+    string sensor;
+    float value;
+    decimal calibration;
+    int[] samples;
+|};
+
+function testWriteValue(string path, io:ByteOrder byteOrder) returns io:Error? {
+    io:WritableByteChannel ch = check io:openWritableFile(path);
+    io:WritableDataChannel dataChannel = new(ch, byteOrder);
+    Reading reading = {sensor: "s1", value: 23.5, calibration: 0.125, samples: [3, 1, 2]};
+    check dataChannel.writeValue(reading);
+    check dataChannel.writeValue("s2");
+    check dataChannel.writeVarInt(42);
+    var closeResult = dataChannel.close();
+}
+
+function testReadValue(string path, io:ByteOrder byteOrder) returns string|io:Error {
+    var ch = io:openReadableFile(path);
+    if (ch is io:ReadableByteChannel) {
+        io:ReadableDataChannel dataChannel = new(ch, byteOrder);
+        anydata result = check dataChannel.readValue(Reading);
+        // The values are followed by an integer, which should be read as it is.
+        anydata next = check dataChannel.readValue(string);
+        int trailer = check dataChannel.readVarInt();
+        var closeResult = dataChannel.close();
+        if (result is Reading) {
+            return result.sensor + "|" + result.value.toString() + "|" + result.calibration.toString() + "|" +
+                result.samples.toString() + "|" + next.toString() + "|" + trailer.toString();
+        }
+        return "not a Reading";
+    } else {
+        return ch;
+    }
+}
+
+function testReadMappedValue(string path, io:ByteOrder byteOrder) returns string|io:Error {
+    io:ReadableByteChannel ch = check io:openReadableMappedFile(path);
+    io:ReadableDataChannel dataChannel = new(ch, byteOrder);
+    anydata result = check dataChannel.readValue(Reading);
+    // The content read ahead of the values is read through the memory mapped regions of the file after them.
+    anydata next = check dataChannel.readValue(string);
+    int trailer = check dataChannel.readVarInt();
+    var closeResult = dataChannel.close();
+    if (result is Reading) {
+        return result.sensor + "|" + result.value.toString() + "|" + result.calibration.toString() + "|" +
+            result.samples.toString() + "|" + next.toString() + "|" + trailer.toString();
+    }
+    return "not a Reading";
+}
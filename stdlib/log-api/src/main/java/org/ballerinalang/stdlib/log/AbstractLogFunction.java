@@ -26,8 +26,8 @@ import org.ballerinalang.logging.util.BLogLevel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.function.BiConsumer;
-import java.util.function.Supplier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.LogManager;
 
 /**
@@ -41,53 +41,106 @@ public abstract class AbstractLogFunction {
 
     private static final Logger ballerinaRootLogger = LoggerFactory.getLogger(BLogManager.BALLERINA_ROOT_LOGGER_NAME);
 
+    private static final Map<String, Logger> packageLoggers = new ConcurrentHashMap<>();
+
+    private static final StackWalker stackWalker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    /**
+     * The module of the classes which called the log functions. The module of a class is resolved once, from its
+     * name, instead of from the whole stack trace of every log call.
+     */
+    private static final ClassValue<String> packagePaths = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            String[] pkgData = type.getName().split("\\.");
+            if (pkgData.length > 1) {
+                return pkgData[0] + "/" + pkgData[1];
+            }
+            return ".";
+        }
+    };
+
     protected static Logger getLogger(String pkg) {
         if (".".equals(pkg) || pkg == null) {
             return ballerinaRootLogger;
         } else {
-            // TODO: Refactor this later
-            return LoggerFactory.getLogger(ballerinaRootLogger.getName() + "." + pkg);
+            return packageLoggers.computeIfAbsent(pkg, module -> LoggerFactory.getLogger(
+                    ballerinaRootLogger.getName() + "." + module));
         }
     }
 
+    /**
+     * Checks whether a log level is enabled for a package.
+     *
+     * @param logLevel log level
+     * @param pckg     package
+     * @return true if the log level is enabled
+     */
+    static boolean isLogLevelEnabled(BLogLevel logLevel, String pckg) {
+        String levelPackage = LOG_MANAGER.isModuleLogLevelEnabled() ? pckg : ".";
+        return LOG_MANAGER.getPackageLogLevel(levelPackage).value() <= logLevel.value();
+    }
+
+    /**
+     * Checks whether a log level could be enabled for the caller, before its package is resolved. Unless log levels
+     * are set for modules, the level of the root logger decides it, so the stack is walked to resolve the package
+     * only when the record is logged or when the level of its module decides it.
+     *
+     * @param logLevel log level
+     * @return false if the log level is not enabled for any package
+     */
+    static boolean isLogLevelPossiblyEnabled(BLogLevel logLevel) {
+        return LOG_MANAGER.isModuleLogLevelEnabled() || isLogLevelEnabled(logLevel, ".");
+    }
+
     /**
      * Execute logging provided message.
      *
-     * @param strand strand
+     * @param strand   strand
      * @param message  log message
+     * @param err      error logged along with the message, if any
      * @param logLevel log level
-     * @param pckg package
-     * @param consumer log message consumer
+     * @param pckg     package
      */
-    static void logMessage(Strand strand, Object message, BLogLevel logLevel, String pckg,
-                           BiConsumer<String, String> consumer) {
-        // Create a new log message supplier
-        Supplier<String> logMessage = new Supplier<String>() {
-            private String msg = null;
-
-            @Override
-            public String get() {
-                // We should invoke the lambda only once, thus caching return value
-                if (msg == null) {
-                    Object arg = message;
-                    // If it is a lambda; invoke it to get the log message
-                    arg = (arg instanceof BFunctionPointer) ?
-                            ((BFunctionPointer) arg).getFunction().apply(new Object[]{strand}) : arg;
-                    msg = arg.toString();
-                }
-                return msg;
-            }
-        };
-        consumer.accept(pckg, logMessage.get());
-        ObserveUtils.logMessageToActiveSpan(logLevel.name(), logMessage, logLevel == BLogLevel.ERROR);
+    static void logMessage(Strand strand, Object message, Object err, BLogLevel logLevel, String pckg) {
+        // If it is a lambda; invoke it to get the log message
+        Object arg = (message instanceof BFunctionPointer) ?
+                ((BFunctionPointer) message).getFunction().apply(new Object[]{strand}) : message;
+        String msg = arg.toString();
+        Logger logger = getLogger(pckg);
+        switch (logLevel) {
+            case DEBUG:
+                logger.debug(msg);
+                break;
+            case ERROR:
+                logger.error(err == null ? msg : msg + " : " + err.toString());
+                break;
+            case INFO:
+                logger.info(msg);
+                break;
+            case TRACE:
+                logger.trace(msg);
+                break;
+            case WARN:
+                logger.warn(msg);
+                break;
+            default:
+                break;
+        }
+        if (ObserveUtils.isObservabilityEnabled()) {
+            ObserveUtils.logMessageToActiveSpan(logLevel.name(), () -> msg, logLevel == BLogLevel.ERROR);
+        }
     }
 
+    /**
+     * Gets the module which called the log function, which is the caller of its Ballerina function.
+     *
+     * @return the module path
+     */
     static String getPackagePath() {
-        String className = Thread.currentThread().getStackTrace()[4].getClassName();
-        String[] pkgData = className.split("\\.");
-        if (pkgData.length > 1) {
-            return pkgData[0] + "/" + pkgData[1];
-        }
-        return ".";
+        // Skips this method, the native log function and its Ballerina function.
+        return stackWalker.walk(frames -> frames.skip(3).findFirst())
+                .map(frame -> packagePaths.get(frame.getDeclaringClass()))
+                .orElse(".");
     }
 }
@@ -30,78 +30,52 @@ import org.ballerinalang.logging.util.BLogLevel;
 public class Utils extends AbstractLogFunction {
 
     public static void printDebug(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.DEBUG.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.DEBUG.value();
+        if (!isLogLevelPossiblyEnabled(BLogLevel.DEBUG)) {
+            return;
         }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.DEBUG, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).debug(message);
-                    });
+        String pckg = getPackagePath();
+        if (isLogLevelEnabled(BLogLevel.DEBUG, pckg)) {
+            logMessage(Scheduler.getStrand(), msg, null, BLogLevel.DEBUG, pckg);
         }
     }
 
     public static void printError(Object msg, Object err) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.ERROR.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.ERROR.value();
+        if (!isLogLevelPossiblyEnabled(BLogLevel.ERROR)) {
+            return;
         }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.ERROR, getPackagePath(),
-                    (pkg, message) -> {
-                        String errorMsg = (err == null) ? "" : " : " + err.toString();
-                        getLogger(pkg).error(message + errorMsg);
-                    });
+        String pckg = getPackagePath();
+        if (isLogLevelEnabled(BLogLevel.ERROR, pckg)) {
+            logMessage(Scheduler.getStrand(), msg, err, BLogLevel.ERROR, pckg);
         }
     }
 
     public static void printInfo(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.INFO.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.INFO.value();
+        if (!isLogLevelPossiblyEnabled(BLogLevel.INFO)) {
+            return;
         }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.INFO, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).info(message);
-                    });
+        String pckg = getPackagePath();
+        if (isLogLevelEnabled(BLogLevel.INFO, pckg)) {
+            logMessage(Scheduler.getStrand(), msg, null, BLogLevel.INFO, pckg);
         }
     }
 
     public static void printTrace(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.TRACE.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.TRACE.value();
+        if (!isLogLevelPossiblyEnabled(BLogLevel.TRACE)) {
+            return;
         }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.TRACE, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).trace(message);
-                    });
+        String pckg = getPackagePath();
+        if (isLogLevelEnabled(BLogLevel.TRACE, pckg)) {
+            logMessage(Scheduler.getStrand(), msg, null, BLogLevel.TRACE, pckg);
         }
     }
 
     public static void printWarn(Object msg) {
-        boolean logLevelEnabled;
-        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(getPackagePath()).value() <= BLogLevel.WARN.value();
-        } else {
-            logLevelEnabled = LOG_MANAGER.getPackageLogLevel(".").value() <= BLogLevel.WARN.value();
+        if (!isLogLevelPossiblyEnabled(BLogLevel.WARN)) {
+            return;
         }
-        if (logLevelEnabled) {
-            logMessage(Scheduler.getStrand(), msg, BLogLevel.WARN, getPackagePath(),
-                    (pkg, message) -> {
-                        getLogger(pkg).warn(message);
-                    });
+        String pckg = getPackagePath();
+        if (isLogLevelEnabled(BLogLevel.WARN, pckg)) {
+            logMessage(Scheduler.getStrand(), msg, null, BLogLevel.WARN, pckg);
         }
     }
 
@@ -20,6 +20,9 @@ public const string APPLICATION_OCTET_STREAM = "application/octet-stream";
 # Represents the `application/json` media type.
 public const string APPLICATION_JSON = "application/json";
 
+# Represents the `application/cbor` media type.
+public const string APPLICATION_CBOR = "application/cbor";
+
 # Represents the `application/xml` media type.
 public const string APPLICATION_XML = "application/xml";
 
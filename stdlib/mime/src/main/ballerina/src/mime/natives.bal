@@ -311,6 +311,33 @@ public class Entity {
         return externGetJson(self);
     }
 
+    # Sets the entity body with the given `anydata` value, encoded in the Concise Binary Object Representation
+    # (CBOR). This method overrides any existing `content-type` headers with the default content-type, which is
+    # `application/cbor`. This default value can be overridden by passing the content type as an optional parameter.
+    # ```ballerina
+    # mimeEntity.setCbor({ id: 1, tags: ["a", "b"] });
+    # ```
+    #
+    # + value - The value, which needs to be set to the entity
+    # + contentType - Content type to be used with the payload. This is an optional parameter.
+    #                The default value is `application/cbor`
+    public function setCbor(@untainted anydata value, @untainted string contentType = "application/cbor") {
+        return externSetCbor(self, value, contentType);
+    }
+
+    # Extracts a value of the given type from the CBOR body of the entity. A record is read straight into a value
+    # of the record type, without building a `map` first.
+    # ```ballerina
+    # Person|mime:ParserError person = <Person|mime:ParserError> mimeEntity.getCbor(Person);
+    # ```
+    #
+    # + targetType - The type of the value, which is `anydata` by default
+    # + return - The value extracted from the entity body or else a `mime:ParserError` if the entity body is not a
+    #            CBOR data item of the given type
+    public function getCbor(typedesc<anydata> targetType = anydata) returns @tainted anydata|ParserError {
+        return externGetCbor(self, targetType);
+    }
+
     # Sets the entity body with the given XML content. This method overrides any existing content-type headers
     # with the default content-type, which is `application/xml`. This default value can be overridden
     # by passing the content-type as an optional parameter.
@@ -332,6 +359,22 @@ public class Entity {
         return externGetXml(self);
     }
 
+    # Extracts the elements at the given path of the `xml` body as a stream. The elements are built one at a time as
+    # the stream is consumed, so the body does not need to fit in memory. The body is consumed by the stream and
+    # cannot be extracted again.
+    # ```ballerina
+    # stream<xml, mime:ParserError>|mime:ParserError entries = mimeEntity.getXmlElements("feed", "entry");
+    # ```
+    #
+    # + path - Local names of the elements starting from the root element, where `*` matches any element.
+    #          If no path is given, the children of the root element are extracted
+    # + return - A stream of the XML elements, which ends with a `mime:ParserError` if the body is not an XML,
+    #            or else a `mime:ParserError` if the body cannot be read
+    public function getXmlElements(string... path) returns @tainted stream<xml, ParserError>|ParserError {
+        XmlElementStream elementStream = check new (self, path);
+        return new stream<xml, ParserError>(elementStream);
+    }
+
     # Sets the entity body with the given text content. This method overrides any existing content-type headers
     # with the default content-type, which is `text/plain`. This default value can be overridden
     # by passing the content type as an optional parameter.
@@ -394,6 +437,40 @@ public class Entity {
         return externGetByteChannel(self);
     }
 
+    # Sets the entity body with the given stream of byte arrays. The arrays are taken from the stream as the body is
+    # written, so that only a few of them are held in memory at a time and a body of any size can be sent in constant
+    # memory. This method overrides any existing `content-type` headers with the default content-type, which is
+    # `application/octet-stream`. This default value can be overridden by passing the content-type as an optional
+    # parameter.
+    # ```ballerina
+    # mimeEntity.setByteStream(inboundEntity.getByteStream());
+    # ```
+    #
+    # + byteStream - Byte stream, which needs to be set to the entity
+    # + contentType - Content-type to be used with the payload. This is an optional parameter.
+    #                 The `application/octet-stream` is the default value
+    public function setByteStream(stream<byte[], io:Error> byteStream,
+                                  @untainted string contentType = "application/octet-stream") {
+        BytePipe bytePipe = new;
+        externSetByteStream(self, bytePipe, contentType);
+        _ = start bytePipe.pump(byteStream);
+    }
+
+    # Gets the entity body as a stream of byte arrays. The body is read as the stream is consumed, so that a body of
+    # any size can be processed in constant memory.
+    # ```ballerina
+    # stream<byte[], io:Error>|mime:ParserError byteStream = mimeEntity.getByteStream();
+    # ```
+    #
+    # + arraySize - Maximum number of bytes in an array of the stream
+    # + return - A stream of byte arrays, which ends with an `io:Error` if the body cannot be read, or else a
+    #            `mime:ParserError` if the body is not available as a byte channel
+    public function getByteStream(int arraySize = 8192) returns @tainted stream<byte[], io:Error>|ParserError {
+        io:ReadableByteChannel byteChannel = check self.getByteChannel();
+        ByteStream byteStream = new (byteChannel, arraySize);
+        return new stream<byte[], io:Error>(byteStream);
+    }
+
     # Gets the body parts from a given entity.
     #
     # + return - An array of body parts(`Entity[]`) extracted from the entity body or else a `mime:ParserError` if the
@@ -402,6 +479,22 @@ public class Entity {
         return externGetBodyParts(self);
     }
 
+    # Gets the body parts from a given entity as a stream. The body parts are decoded one at a time as the stream is
+    # consumed, and the body of each part is read from the entity body only as it is extracted, so that a multipart
+    # body of any size can be processed in constant memory. The body of a part can be extracted only until the next
+    # part is taken from the stream, after which the rest of it is skipped. The entity body is consumed by the stream,
+    # so the body parts cannot be extracted again.
+    # ```ballerina
+    # stream<mime:Entity, mime:ParserError>|mime:ParserError bodyParts = mimeEntity.getBodyPartsAsStream();
+    # ```
+    #
+    # + return - A stream of body parts, which ends with a `mime:ParserError` if a body part cannot be decoded, or
+    #            else a `mime:ParserError` if the entity body is not a set of body parts
+    public function getBodyPartsAsStream() returns @tainted stream<Entity, ParserError>|ParserError {
+        BodyPartStream bodyPartStream = check new (self);
+        return new stream<Entity, ParserError>(bodyPartStream);
+    }
+
     # Gets the body parts as a byte channel from a given entity.
     #
     # + return - Body parts as a byte channel
@@ -540,6 +633,17 @@ function externGetJson(Entity entity) returns @tainted json|ParserError = @java:
     name: "getJson"
 } external;
 
+function externSetCbor(Entity entity, anydata value, string contentType) = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
+    name: "setCbor"
+} external;
+
+function externGetCbor(Entity entity, typedesc<anydata> targetType) returns @tainted anydata|ParserError =
+@java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeDataSourceBuilder",
+    name: "getCbor"
+} external;
+
 function externSetXml(Entity entity, xml xmlContent, string contentType) = @java:Method {
     'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
     name: "setXml"
@@ -550,6 +654,125 @@ function externGetXml(Entity entity) returns @tainted xml|ParserError = @java:Me
     name: "getXml"
 } external;
 
+class XmlElementStream {
+
+    function init(Entity entity, string[] path) returns ParserError? {
+        return externInitXmlElementStream(self, entity, path);
+    }
+
+    public function next() returns @tainted record {| xml value; |}|ParserError? {
+        xml|ParserError? element = externNextXmlElement(self);
+        if (element is xml) {
+            return {value: element};
+        }
+        return element;
+    }
+}
+
+function externInitXmlElementStream(XmlElementStream elementStream, Entity entity, string[] path)
+                                    returns ParserError? = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeDataSourceBuilder",
+    name: "initXmlElementStream"
+} external;
+
+function externNextXmlElement(XmlElementStream elementStream) returns @tainted xml|ParserError? = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeDataSourceBuilder",
+    name: "nextXmlElement"
+} external;
+
+class BodyPartStream {
+
+    function init(Entity entity) returns ParserError? {
+        return externInitBodyPartStream(self, entity);
+    }
+
+    public function next() returns @tainted record {| Entity value; |}|ParserError? {
+        Entity|ParserError? bodyPart = externNextBodyPart(self);
+        if (bodyPart is Entity) {
+            return {value: bodyPart};
+        }
+        return bodyPart;
+    }
+
+    public function close() returns ParserError? {
+        return externCloseBodyPartStream(self);
+    }
+}
+
+function externInitBodyPartStream(BodyPartStream bodyPartStream, Entity entity) returns ParserError? = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
+    name: "initBodyPartStream"
+} external;
+
+function externNextBodyPart(BodyPartStream bodyPartStream) returns @tainted Entity|ParserError? = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
+    name: "nextBodyPart"
+} external;
+
+function externCloseBodyPartStream(BodyPartStream bodyPartStream) returns ParserError? = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
+    name: "closeBodyPartStream"
+} external;
+
+class ByteStream {
+
+    private io:ReadableByteChannel byteChannel;
+    private int arraySize;
+
+    function init(io:ReadableByteChannel byteChannel, int arraySize) {
+        self.byteChannel = byteChannel;
+        self.arraySize = arraySize;
+    }
+
+    public function next() returns @tainted record {| byte[] value; |}|io:Error? {
+        while (true) {
+            byte[]|io:Error block = self.byteChannel.read(self.arraySize);
+            if (block is io:EofError) {
+                return self.byteChannel.close();
+            } else if (block is io:Error) {
+                return block;
+            } else if (block.length() > 0) {
+                return {value: block};
+            }
+        }
+    }
+}
+
+// Carries the arrays of a byte stream to the reader of an entity body, taking the next array from the stream only
+// once the pipe has room for it.
+class BytePipe {
+
+    function pump(stream<byte[], io:Error> byteStream) {
+        while (true) {
+            record {| byte[] value; |}|io:Error? block = byteStream.next();
+            if (block is io:Error?) {
+                externClosePipe(self, block);
+                return;
+            }
+            io:Error? result = externWriteToPipe(self, block.value);
+            if (result is io:Error) {
+                // The entity body is closed, so the rest of the stream is not read.
+                return;
+            }
+        }
+    }
+}
+
+function externSetByteStream(Entity entity, BytePipe bytePipe, string contentType) = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
+    name: "setByteStream"
+} external;
+
+function externWriteToPipe(BytePipe bytePipe, byte[] block) returns io:Error? = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
+    name: "writeToPipe"
+} external;
+
+function externClosePipe(BytePipe bytePipe, io:Error? err) = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
+    name: "closePipe"
+} external;
+
 function externSetText(Entity entity, string textContent, string contentType) = @java:Method {
     'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
     name: "setText"
@@ -20,6 +20,7 @@ package org.ballerinalang.mime.nativeimpl;
 
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.CborUtils;
 import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
@@ -29,6 +30,7 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.api.values.BXml;
 import org.ballerinalang.mime.util.EntityBodyHandler;
 import org.ballerinalang.mime.util.EntityHeaderHandler;
@@ -36,12 +38,15 @@ import org.ballerinalang.mime.util.MimeConstants;
 import org.ballerinalang.mime.util.MimeUtil;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 
+import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
+import java.util.Iterator;
 
 import static org.ballerinalang.mime.util.MimeConstants.CHARSET;
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.PARSER_ERROR;
+import static org.ballerinalang.mime.util.MimeConstants.XML_ELEMENT_ITERATOR;
 import static org.ballerinalang.mime.util.MimeUtil.isNotNullAndEmpty;
 
 /**
@@ -118,6 +123,25 @@ public abstract class MimeDataSourceBuilder {
         return objectType.getTag() != TypeTags.STRING && MimeUtil.isJSONCompatible(objectType);
     }
 
+    public static Object getCbor(BObject entityObj, BTypedesc targetType) {
+        try {
+            Object dataSource = EntityBodyHandler.getMessageDataSource(entityObj);
+            BArray cborContent;
+            if (dataSource == null) {
+                cborContent = EntityBodyHandler.constructBlobDataSource(entityObj);
+                updateDataSource(entityObj, cborContent);
+            } else if (dataSource instanceof BArray) {
+                cborContent = (BArray) dataSource;
+            } else {
+                // The body has already been built as some other type, such as json or text.
+                return createError(new IllegalStateException("entity body is not binary"), "cbor");
+            }
+            return CborUtils.parse(cborContent.getBytes(), targetType.getDescribingType());
+        } catch (Exception ex) {
+            return createError(ex, "cbor");
+        }
+    }
+
     public static Object getText(BObject entityObj) {
         BString result;
         try {
@@ -149,6 +173,35 @@ public abstract class MimeDataSourceBuilder {
         }
     }
 
+    public static Object initXmlElementStream(BObject elementStream, BObject entityObj, BArray path) {
+        try {
+            Iterator<BXml> elements;
+            Object dataSource = EntityBodyHandler.getMessageDataSource(entityObj);
+            if (dataSource != null) {
+                String payload = MimeUtil.getMessageAsString(dataSource);
+                elements = XmlUtils.parseElements(new StringReader(payload), path.getStringArray());
+            } else {
+                elements = EntityBodyHandler.constructXmlElementIterator(entityObj, path.getStringArray());
+                // The body is consumed by the stream, so it is not built as a data source.
+                removeByteChannel(entityObj);
+            }
+            elementStream.addNativeData(XML_ELEMENT_ITERATOR, elements);
+            return null;
+        } catch (Exception ex) {
+            return createError(ex, "xml");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object nextXmlElement(BObject elementStream) {
+        Iterator<BXml> elements = (Iterator<BXml>) elementStream.getNativeData(XML_ELEMENT_ITERATOR);
+        try {
+            return elements.hasNext() ? elements.next() : null;
+        } catch (Exception ex) {
+            return createError(ex, "xml");
+        }
+    }
+
     protected static Object getAlreadyBuiltXml(Object dataSource) {
         if (dataSource instanceof BXml) {
             return dataSource;
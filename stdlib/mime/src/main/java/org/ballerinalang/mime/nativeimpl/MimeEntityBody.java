@@ -18,31 +18,43 @@
 
 package org.ballerinalang.mime.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.CborUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
+import org.ballerinalang.mime.util.ByteStreamPipe;
 import org.ballerinalang.mime.util.EntityBodyChannel;
 import org.ballerinalang.mime.util.EntityBodyHandler;
 import org.ballerinalang.mime.util.EntityWrapper;
 import org.ballerinalang.mime.util.HeaderUtil;
 import org.ballerinalang.mime.util.MimeUtil;
 import org.ballerinalang.mime.util.MultipartDataSource;
+import org.ballerinalang.mime.util.MultipartDecoder;
+import org.ballerinalang.mime.util.MultipartStreamReader;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Locale;
 
 import static org.ballerinalang.mime.nativeimpl.MimeDataSourceBuilder.getErrorMsg;
 import static org.ballerinalang.mime.util.HeaderUtil.isMultipart;
+import static org.ballerinalang.mime.util.MimeConstants.APPLICATION_CBOR;
 import static org.ballerinalang.mime.util.MimeConstants.APPLICATION_JSON;
 import static org.ballerinalang.mime.util.MimeConstants.APPLICATION_XML;
 import static org.ballerinalang.mime.util.MimeConstants.BODY_PARTS;
+import static org.ballerinalang.mime.util.MimeConstants.BODY_PART_INDEX;
+import static org.ballerinalang.mime.util.MimeConstants.BODY_PART_READER;
+import static org.ballerinalang.mime.util.MimeConstants.BYTE_STREAM_PIPE;
+import static org.ballerinalang.mime.util.MimeConstants.BYTE_STREAM_PIPE_CAPACITY;
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.INVALID_CONTENT_TYPE_ERROR;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
@@ -98,18 +110,83 @@ public class MimeEntityBody {
         }
     }
 
+    public static Object initBodyPartStream(BObject partStream, BObject entityObj) {
+        try {
+            String baseType = HeaderUtil.getBaseType(entityObj);
+            if (baseType == null || !(baseType.toLowerCase(Locale.getDefault()).startsWith(MULTIPART_AS_PRIMARY_TYPE) ||
+                    baseType.toLowerCase(Locale.getDefault()).startsWith(MESSAGE_AS_PRIMARY_TYPE))) {
+                return MimeUtil.createError(PARSER_ERROR, "Entity body is not a type of " +
+                        "composite media type. Received content-type : " + baseType);
+            }
+            BArray partsArray = EntityBodyHandler.getBodyPartArray(entityObj);
+            Channel byteChannel = EntityBodyHandler.getByteChannel(entityObj);
+            String contentType = getContentTypeWithParameters(entityObj);
+            if (partsArray.size() > 0 || byteChannel == null || !isMultipart(contentType)) {
+                // The parts have already been decoded or set to the entity, so they are streamed as they are.
+                partStream.addNativeData(BODY_PARTS, partsArray);
+                partStream.addNativeData(BODY_PART_INDEX, 0);
+                return null;
+            }
+            partStream.addNativeData(BODY_PART_READER,
+                                     MultipartDecoder.getBodyPartReader(contentType, byteChannel.getInputStream()));
+            partStream.addNativeData(ENTITY_BYTE_CHANNEL, byteChannel);
+            //Set byte channel that belongs to parent entity to null, since the body parts are decoded from it by
+            // the stream and cannot be decoded again
+            entityObj.addNativeData(ENTITY_BYTE_CHANNEL, null);
+            return null;
+        } catch (Throwable err) {
+            return MimeUtil.createError(PARSER_ERROR,
+                                        "Error occurred while extracting body parts from entity: " + getErrorMsg(err));
+        }
+    }
+
+    public static Object nextBodyPart(BObject partStream) {
+        try {
+            MultipartStreamReader partReader = (MultipartStreamReader) partStream.getNativeData(BODY_PART_READER);
+            if (partReader != null) {
+                BObject bodyPart = MultipartDecoder.decodeNextBodyPart(partReader);
+                if (bodyPart == null) {
+                    return closeBodyPartStream(partStream);
+                }
+                return bodyPart;
+            }
+            BArray partsArray = (BArray) partStream.getNativeData(BODY_PARTS);
+            int index = (Integer) partStream.getNativeData(BODY_PART_INDEX);
+            if (index >= partsArray.size()) {
+                return null;
+            }
+            partStream.addNativeData(BODY_PART_INDEX, index + 1);
+            return partsArray.getRefValue(index);
+        } catch (Throwable err) {
+            return MimeUtil.createError(PARSER_ERROR,
+                                        "Error occurred while extracting body parts from entity: " + getErrorMsg(err));
+        }
+    }
+
+    public static Object closeBodyPartStream(BObject partStream) {
+        Channel byteChannel = (Channel) partStream.getNativeData(ENTITY_BYTE_CHANNEL);
+        if (byteChannel == null) {
+            return null;
+        }
+        partStream.addNativeData(ENTITY_BYTE_CHANNEL, null);
+        try {
+            byteChannel.close();
+            return null;
+        } catch (IOException err) {
+            return MimeUtil.createError(PARSER_ERROR, "Error occurred while closing the entity body: " +
+                    getErrorMsg(err));
+        }
+    }
+
     public static Object getBodyPartsAsChannel(BObject entityObj) {
         try {
             String contentType = getContentTypeWithParameters(entityObj);
             if (isMultipart(contentType)) {
                 String boundaryValue = HeaderUtil.extractBoundaryParameter(contentType);
                 String multipartDataBoundary = boundaryValue != null ? boundaryValue : getNewMultipartDelimiter();
-                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
                 MultipartDataSource multipartDataSource = new MultipartDataSource(entityObj, multipartDataBoundary);
-                multipartDataSource.serialize(outputStream);
-                EntityBodyChannel entityBodyChannel = new EntityBodyChannel(new ByteArrayInputStream(
-                        outputStream.toByteArray()));
-                MimeUtil.closeOutputStream(outputStream);
+                // The body parts are serialized as the channel is read, instead of all at once.
+                EntityBodyChannel entityBodyChannel = new EntityBodyChannel(multipartDataSource.getInputStream());
                 BObject byteChannelObj = ValueCreator.createObjectValue(IOConstants.IO_PACKAGE_ID,
                                                                         READABLE_BYTE_CHANNEL_STRUCT);
                 byteChannelObj.addNativeData(IOConstants.BYTE_CHANNEL_NAME, new EntityWrapper(entityBodyChannel));
@@ -182,11 +259,39 @@ public class MimeEntityBody {
         MimeUtil.setMediaTypeToEntity(entityObj, contentType != null ? contentType.getValue() : OCTET_STREAM);
     }
 
+    public static void setByteStream(BObject entityObj, BObject bytePipe, BString contentType) {
+        ByteStreamPipe pipe = new ByteStreamPipe(BYTE_STREAM_PIPE_CAPACITY);
+        bytePipe.addNativeData(BYTE_STREAM_PIPE, pipe);
+        entityObj.addNativeData(ENTITY_BYTE_CHANNEL, new EntityWrapper(new EntityBodyChannel(pipe)));
+        Object dataSource = EntityBodyHandler.getMessageDataSource(entityObj);
+        if (dataSource != null) { //Clear message data source when the user set a byte stream to entity
+            entityObj.addNativeData(MESSAGE_DATA_SOURCE, null);
+        }
+        MimeUtil.setMediaTypeToEntity(entityObj, contentType != null ? contentType.getValue() : OCTET_STREAM);
+    }
+
+    public static Object writeToPipe(Environment env, BObject bytePipe, BArray block) {
+        ByteStreamPipe pipe = (ByteStreamPipe) bytePipe.getNativeData(BYTE_STREAM_PIPE);
+        Future future = env.markAsync();
+        pipe.write(block.getBytes(), error -> future.complete(error == null ? null : IOUtils.createError(error)));
+        return null;
+    }
+
+    public static void closePipe(BObject bytePipe, Object error) {
+        ByteStreamPipe pipe = (ByteStreamPipe) bytePipe.getNativeData(BYTE_STREAM_PIPE);
+        pipe.closeWriter(error == null ? null : new IOException(((BError) error).getMessage()));
+    }
+
     public static void setJson(BObject entityObj, Object jsonContent, BString contentType) {
         EntityBodyHandler.addJsonMessageDataSource(entityObj, jsonContent);
         MimeUtil.setMediaTypeToEntity(entityObj, contentType != null ? contentType.getValue() : APPLICATION_JSON);
     }
 
+    public static void setCbor(BObject entityObj, Object value, BString contentType) {
+        EntityBodyHandler.addMessageDataSource(entityObj, ValueCreator.createArrayValue(CborUtils.serialize(value)));
+        MimeUtil.setMediaTypeToEntity(entityObj, contentType != null ? contentType.getValue() : APPLICATION_CBOR);
+    }
+
     public static void setText(BObject entityObj, BString textContent, BString contentType) {
         EntityBodyHandler.addMessageDataSource(entityObj, textContent.getValue());
         MimeUtil.setMediaTypeToEntity(entityObj, contentType != null ? contentType.getValue() : TEXT_PLAIN);
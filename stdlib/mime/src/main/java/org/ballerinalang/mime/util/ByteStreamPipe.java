@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.mime.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * A bounded pipe which carries the byte arrays of a stream to the reader of an entity body.
+ * <p>
+ * The writer does not block. A write completes at once while the pipe has room for the array, and otherwise once the
+ * reader takes an array out of the pipe, so the stream is consumed only as fast as the body is read and at most
+ * {@code capacity + 1} arrays are held in memory. The reader blocks until an array is available, the same as it does
+ * when reading the body from any other byte channel.
+ * <p>
+ * A body which is serialized to the transport must not be read that way by the thread of the serializer, since it
+ * would then wait for the strand which writes the stream, and that strand may need the same thread to run. The pipe
+ * is instead transferred to the output stream of the message with {@link #transferTo}, which reads it from a thread
+ * of its own. An array is taken out of the pipe only once the output stream has accepted the previous one, so the
+ * writes of the stream are paced by the transport and a slow peer does not block a scheduler thread.
+ *
+ * @since 2.0.0
+ */
+public class ByteStreamPipe extends InputStream {
+
+    private static final AtomicInteger transferThreadCount = new AtomicInteger();
+
+    private static final ExecutorService transferExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "ballerina-mime-transfer-" + transferThreadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int capacity;
+    private final Queue<byte[]> blocks = new ArrayDeque<>();
+    private byte[] currentBlock;
+    private int position;
+    private Consumer<IOException> waitingWrite;
+    private boolean writerClosed;
+    private IOException writerError;
+    private boolean readerClosed;
+
+    public ByteStreamPipe(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Write an array to the pipe.
+     *
+     * @param block       the array
+     * @param onCompleted notified with null once the pipe has room for the next array, or with an error if the reader
+     *                    is closed
+     */
+    public void write(byte[] block, Consumer<IOException> onCompleted) {
+        IOException error = null;
+        synchronized (this) {
+            if (readerClosed) {
+                error = new IOException("the entity body is closed");
+            } else {
+                if (block.length > 0) {
+                    blocks.add(block);
+                    notifyAll();
+                }
+                if (blocks.size() > capacity) {
+                    waitingWrite = onCompleted;
+                    return;
+                }
+            }
+        }
+        onCompleted.accept(error);
+    }
+
+    /**
+     * Close the writing end of the pipe, once the stream ends.
+     *
+     * @param error the error which ended the stream, or null if it ended normally
+     */
+    public synchronized void closeWriter(IOException error) {
+        writerClosed = true;
+        writerError = error;
+        notifyAll();
+    }
+
+    /**
+     * Transfer the content of the pipe to the given output stream, instead of reading it. The content is written from
+     * a thread other than the calling one, so this does not block.
+     *
+     * @param outputStream the output stream
+     * @param onCompleted  notified with null once the stream ends and all of its arrays are written, or with the
+     *                     error which ended the stream or failed a write to the output stream
+     */
+    public void transferTo(OutputStream outputStream, Consumer<IOException> onCompleted) {
+        transferExecutor.execute(() -> onCompleted.accept(copyTo(outputStream)));
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] singleByte = new byte[1];
+        int count = read(singleByte, 0, 1);
+        return count == -1 ? -1 : singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        Consumer<IOException> releasedWrite = null;
+        int count;
+        synchronized (this) {
+            if (currentBlock == null) {
+                if (!awaitBlock()) {
+                    return -1;
+                }
+                currentBlock = blocks.poll();
+                position = 0;
+                releasedWrite = takeReleasedWrite();
+            }
+            count = Math.min(length, currentBlock.length - position);
+            System.arraycopy(currentBlock, position, buffer, offset, count);
+            position += count;
+            if (position == currentBlock.length) {
+                currentBlock = null;
+            }
+        }
+        if (releasedWrite != null) {
+            releasedWrite.accept(null);
+        }
+        return count;
+    }
+
+    @Override
+    public void close() {
+        Consumer<IOException> releasedWrite;
+        synchronized (this) {
+            readerClosed = true;
+            blocks.clear();
+            currentBlock = null;
+            releasedWrite = waitingWrite;
+            waitingWrite = null;
+            notifyAll();
+        }
+        if (releasedWrite != null) {
+            releasedWrite.accept(new IOException("the entity body is closed"));
+        }
+    }
+
+    private IOException copyTo(OutputStream outputStream) {
+        try {
+            byte[] block;
+            while ((block = takeBlock()) != null) {
+                outputStream.write(block);
+            }
+            return null;
+        } catch (IOException e) {
+            close();
+            return e;
+        }
+    }
+
+    /**
+     * Take the next array out of the pipe as a whole, waiting until one is available.
+     *
+     * @return the rest of the array which is being read, the next array, or null once the stream has ended
+     * @throws IOException if the reader is closed, or the error which ended the stream
+     */
+    private byte[] takeBlock() throws IOException {
+        Consumer<IOException> releasedWrite;
+        byte[] block;
+        synchronized (this) {
+            if (currentBlock != null) {
+                block = Arrays.copyOfRange(currentBlock, position, currentBlock.length);
+                currentBlock = null;
+                return block;
+            }
+            if (!awaitBlock()) {
+                return null;
+            }
+            block = blocks.poll();
+            releasedWrite = takeReleasedWrite();
+        }
+        if (releasedWrite != null) {
+            releasedWrite.accept(null);
+        }
+        return block;
+    }
+
+    // Waits until the pipe has an array, and returns false if the stream has ended instead.
+    private boolean awaitBlock() throws IOException {
+        while (blocks.isEmpty()) {
+            if (readerClosed) {
+                throw new IOException("the entity body is closed");
+            }
+            if (writerClosed) {
+                if (writerError != null) {
+                    throw writerError;
+                }
+                return false;
+            }
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted while reading the entity body", e);
+            }
+        }
+        return true;
+    }
+
+    // Takes the write which waits for room in the pipe, if there is room for it now.
+    private Consumer<IOException> takeReleasedWrite() {
+        if (waitingWrite == null || blocks.size() > capacity) {
+            return null;
+        }
+        Consumer<IOException> releasedWrite = waitingWrite;
+        waitingWrite = null;
+        return releasedWrite;
+    }
+}
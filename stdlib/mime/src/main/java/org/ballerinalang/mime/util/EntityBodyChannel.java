@@ -39,6 +39,10 @@ public class EntityBodyChannel implements ByteChannel {
         this.byteChannel = Channels.newChannel(inputStream);
     }
 
+    public InputStream getInputStream() {
+        return inputStream;
+    }
+
     @Override
     public int read(ByteBuffer dst) throws IOException {
         return byteChannel.read(dst);
@@ -44,6 +44,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
@@ -52,7 +53,10 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import static org.ballerinalang.mime.util.MimeConstants.BODY_PARTS;
 import static org.ballerinalang.mime.util.MimeConstants.CHARSET;
@@ -253,19 +257,51 @@ public class EntityBodyHandler {
      * @return BXML data source which is kept in memory
      */
     public static BXml constructXmlDataSource(BObject entityObj, InputStream inputStream) {
-        BXml xmlContent;
+        String charsetValue = getContentTypeCharset(entityObj);
+        if (isNotNullAndEmpty(charsetValue)) {
+            return XmlUtils.parse(inputStream, charsetValue);
+        }
+        return XmlUtils.parse(inputStream);
+    }
+
+    /**
+     * Construct an iterator over the XML elements at the given path from the underneath byte channel which is
+     * associated with the entity object. Unlike {@link #constructXmlDataSource(BObject)}, the body is not kept in
+     * memory; only the selected elements are built, one at a time as the iterator advances. The byte channel is
+     * closed once the iterator reaches the end of the body or fails.
+     *
+     * @param entityObj Represent an entity object
+     * @param path      Local names of the elements from the root element, where "*" matches any element
+     * @return iterator over the selected XML elements
+     */
+    public static Iterator<BXml> constructXmlElementIterator(BObject entityObj, String[] path) {
+        Channel byteChannel = getByteChannel(entityObj);
+        if (byteChannel == null) {
+            throw ErrorCreator.createError(StringUtils.fromString(("Empty xml payload")));
+        }
+        try {
+            String charsetValue = getContentTypeCharset(entityObj);
+            if (!isNotNullAndEmpty(charsetValue)) {
+                charsetValue = Charset.defaultCharset().name();
+            }
+            return new ChannelXmlElementIterator(byteChannel, XmlUtils.parseElements(byteChannel.getInputStream(),
+                                                                                       charsetValue, path));
+        } catch (IOException e) {
+            closeByteChannel(byteChannel);
+            throw ErrorCreator.createError(StringUtils.fromString((e.getMessage())));
+        } catch (RuntimeException e) {
+            // For instance an illegal charset name, which would otherwise leave the channel open.
+            closeByteChannel(byteChannel);
+            throw e;
+        }
+    }
+
+    private static String getContentTypeCharset(BObject entityObj) {
         String contentTypeValue = EntityHeaderHandler.getHeaderValue(entityObj, CONTENT_TYPE);
         if (isNotNullAndEmpty(contentTypeValue)) {
-            String charsetValue = MimeUtil.getContentTypeParamValue(contentTypeValue, CHARSET);
-            if (isNotNullAndEmpty(charsetValue)) {
-                xmlContent = XmlUtils.parse(inputStream, charsetValue);
-            } else {
-                xmlContent = XmlUtils.parse(inputStream);
-            }
-        } else {
-            xmlContent = XmlUtils.parse(inputStream);
+            return MimeUtil.getContentTypeParamValue(contentTypeValue, CHARSET);
         }
-        return xmlContent;
+        return null;
     }
 
     /**
@@ -381,6 +417,31 @@ public class EntityBodyHandler {
         }
     }
 
+    /**
+     * Transfer the entity body to a given output stream, if it is fed from a byte stream. The body is written as the
+     * stream is pulled, without blocking the calling thread on the strand which pulls it.
+     *
+     * @param entityObj           Represent a ballerina entity
+     * @param messageOutputStream Represent the output stream
+     * @param onCompleted         Notified with null once the whole body is written, or else with the error
+     * @return true if the entity body is fed from a byte stream and its transfer has started
+     */
+    public static boolean transferByteStreamToOutputStream(BObject entityObj, OutputStream messageOutputStream,
+                                                           Consumer<IOException> onCompleted) {
+        Channel byteChannel = getByteChannel(entityObj);
+        if (byteChannel == null || !(byteChannel.getByteChannel() instanceof EntityBodyChannel)) {
+            return false;
+        }
+        InputStream inputStream = ((EntityBodyChannel) byteChannel.getByteChannel()).getInputStream();
+        if (!(inputStream instanceof ByteStreamPipe)) {
+            return false;
+        }
+        //Set the byte channel to null, as it is consumed by the transfer
+        entityObj.addNativeData(ENTITY_BYTE_CHANNEL, null);
+        ((ByteStreamPipe) inputStream).transferTo(messageOutputStream, onCompleted);
+        return true;
+    }
+
     /**
      * Decode a given entity body to get a set of child parts and set them to parent entity's multipart data field.
      *
@@ -423,4 +484,44 @@ public class EntityBodyHandler {
             log.error("Error occurred while closing byte channel", e);
         }
     }
+
+    /**
+     * Iterates over XML elements read from an entity byte channel, closing the channel once done.
+     */
+    private static class ChannelXmlElementIterator implements Iterator<BXml> {
+
+        private final Channel byteChannel;
+        private final Iterator<BXml> elements;
+        private boolean closed;
+
+        ChannelXmlElementIterator(Channel byteChannel, Iterator<BXml> elements) {
+            this.byteChannel = byteChannel;
+            this.elements = elements;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            boolean hasNext = false;
+            try {
+                hasNext = elements.hasNext();
+            } finally {
+                if (!hasNext) {
+                    closed = true;
+                    closeByteChannel(byteChannel);
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public BXml next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return elements.next();
+        }
+    }
 }
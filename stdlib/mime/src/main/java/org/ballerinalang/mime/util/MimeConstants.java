@@ -75,6 +75,11 @@ public class MimeConstants {
      */
     public static final String APPLICATION_XML = "application/xml";
 
+    /**
+     * Content-type application/cbor.
+     */
+    public static final String APPLICATION_CBOR = "application/cbor";
+
     /**
      * Content-type text/plain.
      */
@@ -122,6 +127,12 @@ public class MimeConstants {
     public static final String MESSAGE_DATA_SOURCE = "message_datasource";
     public static final String IS_BODY_BYTE_CHANNEL_ALREADY_SET = "is_byte_channel_set";
     public static final String ENTITY_BYTE_CHANNEL = "entity_byte_channel";
+    public static final String XML_ELEMENT_ITERATOR = "xml_element_iterator";
+    public static final String BYTE_STREAM_PIPE = "byte_stream_pipe";
+    // Number of arrays of a byte stream which are buffered ahead of the reader of the entity body.
+    public static final int BYTE_STREAM_PIPE_CAPACITY = 4;
+    public static final String BODY_PART_READER = "body_part_reader";
+    public static final String BODY_PART_INDEX = "body_part_index";
     public static final String MULTIPART_ENCODER = "MultipartEncoder";
     public static final String BODY_PARTS = "body_parts";
     public static final String TRANSPORT_MESSAGE = "transport_message";
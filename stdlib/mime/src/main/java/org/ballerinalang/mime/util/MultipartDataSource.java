@@ -29,21 +29,33 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
 
 import static org.ballerinalang.mime.util.MimeConstants.BODY_PARTS;
 import static org.ballerinalang.mime.util.MimeConstants.BOUNDARY;
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_ID_FIELD;
+import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.PARAMETER_MAP_FIELD;
 
@@ -121,22 +133,8 @@ public class MultipartDataSource implements BRefValue {
      * @param childPart Represent a child part
      * @throws IOException When an error occurs while writing child part headers
      */
-    @SuppressWarnings("unchecked")
     private void checkForNestedParts(Writer writer, BObject childPart) throws IOException {
-        String childBoundaryString = null;
-        if (MimeUtil.isNestedPartsAvailable(childPart)) {
-            childBoundaryString = MimeUtil.getNewMultipartDelimiter();
-            BObject mediaType = (BObject) childPart.get(MEDIA_TYPE_FIELD);
-            BMap<BString, Object> paramMap;
-            if (mediaType.get(PARAMETER_MAP_FIELD) != null) {
-                paramMap = (BMap<BString, Object>) mediaType.get(PARAMETER_MAP_FIELD);
-            } else {
-                paramMap = ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_STRING));
-            }
-
-            paramMap.put(StringUtils.fromString(BOUNDARY), StringUtils.fromString(childBoundaryString));
-            mediaType.set(PARAMETER_MAP_FIELD, paramMap);
-        }
+        String childBoundaryString = setNestedPartsBoundary(childPart);
         writeBodyPartHeaders(writer, childPart);
         //Serialize nested parts
         if (childBoundaryString != null) {
@@ -147,6 +145,31 @@ public class MultipartDataSource implements BRefValue {
         }
     }
 
+    /**
+     * If child part has nested parts, get a new boundary string and set it to Content-Type.
+     *
+     * @param childPart Represent a child part
+     * @return the boundary string of the nested parts, or null if the child part does not have nested parts
+     */
+    @SuppressWarnings("unchecked")
+    private String setNestedPartsBoundary(BObject childPart) {
+        if (!MimeUtil.isNestedPartsAvailable(childPart)) {
+            return null;
+        }
+        String childBoundaryString = MimeUtil.getNewMultipartDelimiter();
+        BObject mediaType = (BObject) childPart.get(MEDIA_TYPE_FIELD);
+        BMap<BString, Object> paramMap;
+        if (mediaType.get(PARAMETER_MAP_FIELD) != null) {
+            paramMap = (BMap<BString, Object>) mediaType.get(PARAMETER_MAP_FIELD);
+        } else {
+            paramMap = ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_STRING));
+        }
+
+        paramMap.put(StringUtils.fromString(BOUNDARY), StringUtils.fromString(childBoundaryString));
+        mediaType.set(PARAMETER_MAP_FIELD, paramMap);
+        return childBoundaryString;
+    }
+
     /**
      * Write body part headers to output stream.
      *
@@ -212,6 +235,8 @@ public class MultipartDataSource implements BRefValue {
                     messageDataSource instanceof Double || messageDataSource instanceof Integer ||
                     messageDataSource instanceof Boolean) {
                 outputStream.write(messageDataSource.toString().getBytes(Charset.defaultCharset()));
+            } else if (messageDataSource instanceof BString) {
+                StringUtils.writeString((BString) messageDataSource, outputStream, Charset.defaultCharset());
             } else {
                 ((BRefValue) messageDataSource).serialize(outputStream);
             }
@@ -220,6 +245,103 @@ public class MultipartDataSource implements BRefValue {
         }
     }
 
+    /**
+     * Get the body parts as an inputstream, which serializes them one at a time as it is read. The content of the
+     * body parts which are byte channels is read from the channels as it is needed, so that it is not held in memory.
+     *
+     * @return an inputstream of the serialized body parts
+     */
+    public InputStream getInputStream() {
+        return new SequenceInputStream(new BodyPartEnumeration(boundaryString, parentEntity));
+    }
+
+    /**
+     * Enumerates the inputstreams which make up the serialized body parts of a parent body part, preparing the
+     * inputstreams of a body part only once the ones of the previous body part have been read.
+     */
+    private class BodyPartEnumeration implements Enumeration<InputStream> {
+
+        private final String parentBoundaryString;
+        private final BArray childParts;
+        private final Queue<InputStream> pending = new ArrayDeque<>();
+        private int index;
+        private boolean finished;
+
+        BodyPartEnumeration(String parentBoundaryString, BObject parentBodyPart) {
+            this.parentBoundaryString = parentBoundaryString;
+            this.childParts = (BArray) parentBodyPart.getNativeData(BODY_PARTS);
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            if (pending.isEmpty() && !finished) {
+                try {
+                    prepareNext();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Error occurred while serializing body parts", e);
+                }
+            }
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public InputStream nextElement() {
+            if (!hasMoreElements()) {
+                throw new NoSuchElementException();
+            }
+            return pending.poll();
+        }
+
+        private void prepareNext() throws IOException {
+            if (childParts == null) {
+                finished = true;
+                return;
+            }
+            ByteArrayOutputStream headers = new ByteArrayOutputStream();
+            Writer writer = new OutputStreamWriter(headers, Charset.defaultCharset());
+            if (index >= childParts.size()) {
+                writeFinalBoundaryString(writer, parentBoundaryString);
+                pending.add(new ByteArrayInputStream(headers.toByteArray()));
+                finished = true;
+                return;
+            }
+            BObject childPart = (BObject) childParts.getRefValue(index);
+            // Write leading boundary string
+            writer.write(index == 0 ? DASH_BOUNDARY : CRLF_POST_DASH);
+            writer.write(parentBoundaryString);
+            writer.write(CRLF);
+            String childBoundaryString = setNestedPartsBoundary(childPart);
+            writeBodyPartHeaders(writer, childPart);
+            pending.add(new ByteArrayInputStream(headers.toByteArray()));
+            if (childBoundaryString != null) {
+                BArray nestedParts = (BArray) childPart.getNativeData(BODY_PARTS);
+                if (nestedParts != null && nestedParts.size() > 0) {
+                    pending.add(new SequenceInputStream(new BodyPartEnumeration(childBoundaryString, childPart)));
+                }
+            }
+            pending.add(getBodyContent(childPart));
+            index++;
+        }
+
+        private InputStream getBodyContent(BObject bodyPart) throws IOException {
+            Channel byteChannel = EntityBodyHandler.getByteChannel(bodyPart);
+            if (EntityBodyHandler.getMessageDataSource(bodyPart) == null && byteChannel != null) {
+                //Set the byte channel to null, since it is consumed by the inputstream
+                bodyPart.addNativeData(ENTITY_BYTE_CHANNEL, null);
+                return new FilterInputStream(byteChannel.getInputStream()) {
+                    @Override
+                    public void close() throws IOException {
+                        byteChannel.close();
+                    }
+                };
+            }
+            // The content of a data source is already in memory.
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            writeBodyContent(content, bodyPart);
+            return new ByteArrayInputStream(content.toByteArray());
+        }
+    }
+
     public String stringValue(BLink parent) {
         return null;
     }
@@ -25,6 +25,7 @@ import org.jvnet.mimepull.MIMEConfig;
 import org.jvnet.mimepull.MIMEMessage;
 import org.jvnet.mimepull.MIMEPart;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,6 +37,7 @@ import static org.ballerinalang.mime.util.MimeConstants.BOUNDARY;
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_STRUCT;
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_ID_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY;
+import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.FIRST_ELEMENT;
 import static org.ballerinalang.mime.util.MimeConstants.MAX_THRESHOLD_PERCENTAGE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
@@ -133,35 +135,72 @@ public class MultipartDecoder {
     private static void populateBodyPart(MIMEPart mimePart, BObject partStruct,
                                          BObject mediaType) {
         EntityHeaderHandler.populateBodyPartHeaders(partStruct, mimePart.getAllHeaders());
-        populateContentLength(mimePart, partStruct);
-        populateContentId(mimePart, partStruct);
-        populateContentType(mimePart, partStruct, mediaType);
-        List<String> contentDispositionHeaders = mimePart.getHeader(MimeConstants.CONTENT_DISPOSITION);
+        populateContentLength(mimePart.getHeader(MimeConstants.CONTENT_LENGTH), partStruct);
+        populateContentId(mimePart.getContentId(), partStruct);
+        populateContentType(mimePart.getContentType(), partStruct, mediaType);
+        populateContentDisposition(partStruct, mimePart.getHeader(MimeConstants.CONTENT_DISPOSITION));
+        EntityBodyHandler.populateBodyContent(partStruct, mimePart);
+    }
+
+    /**
+     * Get a reader which decodes the body parts of an inputstream one at a time, as they are requested.
+     *
+     * @param contentType Content-Type of the top level message
+     * @param inputStream Represent input stream coming from the request/response
+     * @return A reader of the body parts
+     * @throws MimeTypeParseException When the Content-Type does not have a boundary
+     */
+    public static MultipartStreamReader getBodyPartReader(String contentType, InputStream inputStream)
+            throws MimeTypeParseException {
+        String boundary = new MimeType(contentType).getParameter(BOUNDARY);
+        if (boundary == null) {
+            throw new MimeTypeParseException("Boundary parameter is not found in the content-type: " + contentType);
+        }
+        return new MultipartStreamReader(inputStream, boundary);
+    }
+
+    /**
+     * Decode the next body part from a reader. The body of the part is not read here, but is set as a byte channel
+     * which reads it from the inputstream of the top level message.
+     *
+     * @param partReader Represent the reader of the body parts
+     * @return A ballerina body part, or null if there are no more parts
+     * @throws IOException When the body part cannot be decoded
+     */
+    public static BObject decodeNextBodyPart(MultipartStreamReader partReader) throws IOException {
+        MultipartStreamReader.Part part = partReader.nextPart();
+        if (part == null) {
+            return null;
+        }
+        BObject partStruct = ValueCreator.createObjectValue(PROTOCOL_MIME_PKG_ID, ENTITY);
+        BObject mediaType = ValueCreator.createObjectValue(PROTOCOL_MIME_PKG_ID, MEDIA_TYPE);
+        EntityHeaderHandler.populateBodyPartHeaders(partStruct, part.getAllHeaders());
+        populateContentLength(part.getHeader(MimeConstants.CONTENT_LENGTH), partStruct);
+        populateContentId(part.getContentId(), partStruct);
+        populateContentType(part.getContentType(), partStruct, mediaType);
+        populateContentDisposition(partStruct, part.getHeader(MimeConstants.CONTENT_DISPOSITION));
+        partStruct.addNativeData(ENTITY_BYTE_CHANNEL, new EntityWrapper(new EntityBodyChannel(part.getBody())));
+        return partStruct;
+    }
+
+    private static void populateContentDisposition(BObject partStruct, List<String> contentDispositionHeaders) {
         if (HeaderUtil.isHeaderExist(contentDispositionHeaders)) {
             BObject contentDisposition = ValueCreator.createObjectValue(PROTOCOL_MIME_PKG_ID,
                                                                         CONTENT_DISPOSITION_STRUCT);
-            populateContentDisposition(partStruct, contentDispositionHeaders, contentDisposition);
+            MimeUtil.setContentDisposition(contentDisposition, partStruct, contentDispositionHeaders
+                    .get(FIRST_ELEMENT));
         }
-        EntityBodyHandler.populateBodyContent(partStruct, mimePart);
-    }
-
-    private static void populateContentDisposition(BObject partStruct,
-                                                   List<String> contentDispositionHeaders,
-                                                   BObject contentDisposition) {
-        MimeUtil.setContentDisposition(contentDisposition, partStruct, contentDispositionHeaders
-                .get(FIRST_ELEMENT));
     }
 
-    private static void populateContentType(MIMEPart mimePart, BObject partStruct, BObject mediaType) {
-        MimeUtil.setContentType(mediaType, partStruct, mimePart.getContentType());
+    private static void populateContentType(String contentType, BObject partStruct, BObject mediaType) {
+        MimeUtil.setContentType(mediaType, partStruct, contentType);
     }
 
-    private static void populateContentId(MIMEPart mimePart, BObject partStruct) {
-        partStruct.set(CONTENT_ID_FIELD, StringUtils.fromString(mimePart.getContentId()));
+    private static void populateContentId(String contentId, BObject partStruct) {
+        partStruct.set(CONTENT_ID_FIELD, StringUtils.fromString(contentId));
     }
 
-    private static void populateContentLength(MIMEPart mimePart, BObject partStruct) {
-        List<String> lengthHeaders = mimePart.getHeader(MimeConstants.CONTENT_LENGTH);
+    private static void populateContentLength(List<String> lengthHeaders, BObject partStruct) {
         if (HeaderUtil.isHeaderExist(lengthHeaders)) {
             MimeUtil.setContentLength(partStruct, Integer.parseInt(lengthHeaders.get(FIRST_ELEMENT)));
         } else {
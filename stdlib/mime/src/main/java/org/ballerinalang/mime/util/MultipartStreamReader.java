@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.mime.util;
+
+import org.jvnet.mimepull.Header;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the body parts of a multipart message one at a time, as they arrive in the input stream.
+ * <p>
+ * Unlike {@link MultipartDecoder#decodeBodyParts(String, java.io.InputStream)}, which parses the whole message and
+ * keeps each part in memory or in a temporary file, the body of a part is read straight from the input stream of the
+ * message. Only a buffer of a fixed size is held, so a message of any size can be read in constant memory. As the
+ * input stream is read only once, the body of a part can be read only until the next part is requested, and the rest
+ * of it is skipped at that point.
+ *
+ * @since 2.0.0
+ */
+public class MultipartStreamReader {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_HEADER_LINE_LENGTH = BUFFER_SIZE;
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte DASH = '-';
+
+    private final InputStream inputStream;
+    // The delimiter which precedes each boundary, as in "CRLF--boundary".
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    private int start;
+    private int end;
+    private boolean endOfInput;
+    private boolean endOfMessage;
+    private Part currentPart;
+    private boolean currentPartEnded;
+
+    public MultipartStreamReader(InputStream inputStream, String boundary) {
+        this.inputStream = inputStream;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.US_ASCII);
+        this.buffer = new byte[Math.max(BUFFER_SIZE, delimiter.length * 2)];
+        // The first boundary need not be preceded by a line break, so the message is read as if it starts with one.
+        buffer[end++] = CR;
+        buffer[end++] = LF;
+    }
+
+    /**
+     * Reads the headers of the next body part. The unread body of the previous part is skipped.
+     *
+     * @return the next body part, or null if there are no more parts
+     * @throws IOException if the message cannot be read or is not a valid multipart message
+     */
+    public Part nextPart() throws IOException {
+        if (endOfMessage) {
+            return null;
+        }
+        // Skip the preamble, or the rest of the previous part.
+        byte[] skipBuffer = new byte[BUFFER_SIZE];
+        int skipped;
+        do {
+            skipped = readBody(skipBuffer, 0, skipBuffer.length);
+        } while (skipped != -1);
+        if (!ensureAvailable(2)) {
+            throw new IOException("Unexpected end of the multipart message after a boundary");
+        }
+        if (buffer[start] == DASH && buffer[start + 1] == DASH) {
+            // The close delimiter. The epilogue is not read.
+            endOfMessage = true;
+            currentPart = null;
+            return null;
+        }
+        // The rest of the boundary line holds only transport padding.
+        readLine();
+        List<Header> headers = new ArrayList<>();
+        String line;
+        while (!(line = readLine()).isEmpty()) {
+            if ((line.charAt(0) == ' ' || line.charAt(0) == '\t') && !headers.isEmpty()) {
+                PartHeader previous = (PartHeader) headers.get(headers.size() - 1);
+                previous.value = previous.value + " " + line.trim();
+                continue;
+            }
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                throw new IOException("Invalid header in a body part: " + line);
+            }
+            headers.add(new PartHeader(line.substring(0, colon).trim(), line.substring(colon + 1).trim()));
+        }
+        currentPart = new Part(headers);
+        currentPartEnded = false;
+        return currentPart;
+    }
+
+    private int readBody(byte[] destination, int offset, int length) throws IOException {
+        while (!currentPartEnded) {
+            int delimiterIndex = indexOfDelimiter();
+            if (delimiterIndex == start) {
+                start += delimiter.length;
+                currentPartEnded = true;
+                break;
+            }
+            // Bytes which could be the start of a delimiter are held back till the rest of it arrives.
+            int available = delimiterIndex != -1 ? delimiterIndex - start : end - start - (delimiter.length - 1);
+            if (available > 0) {
+                int count = Math.min(length, available);
+                System.arraycopy(buffer, start, destination, offset, count);
+                start += count;
+                return count;
+            }
+            if (!fill()) {
+                throw new IOException("Unexpected end of the multipart message before a boundary");
+            }
+        }
+        return -1;
+    }
+
+    private int indexOfDelimiter() {
+        int last = end - delimiter.length;
+        outer:
+        for (int i = start; i <= last; i++) {
+            for (int j = 0; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private String readLine() throws IOException {
+        int searchFrom = start;
+        while (true) {
+            for (int i = searchFrom; i < end - 1; i++) {
+                if (buffer[i] == CR && buffer[i + 1] == LF) {
+                    String line = new String(buffer, start, i - start, StandardCharsets.UTF_8);
+                    start = i + 2;
+                    return line;
+                }
+            }
+            if (end - start >= MAX_HEADER_LINE_LENGTH) {
+                throw new IOException("A header line of a body part is longer than " + MAX_HEADER_LINE_LENGTH
+                                              + " bytes");
+            }
+            searchFrom = Math.max(end - 1 - start, 0);
+            if (!fill()) {
+                throw new IOException("Unexpected end of the multipart message within the headers of a body part");
+            }
+            searchFrom += start;
+        }
+    }
+
+    private boolean ensureAvailable(int count) throws IOException {
+        while (end - start < count) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Moves the unread bytes to the front of the buffer and reads more bytes after them.
+     *
+     * @return false if the input stream has ended
+     */
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, end - start);
+            end -= start;
+            start = 0;
+        }
+        int count = inputStream.read(buffer, end, buffer.length - end);
+        if (count == -1) {
+            endOfInput = true;
+            return false;
+        }
+        end += count;
+        return true;
+    }
+
+    /**
+     * A body part of the message.
+     */
+    public class Part {
+
+        private final List<Header> headers;
+        private final InputStream body = new PartInputStream();
+
+        private Part(List<Header> headers) {
+            this.headers = headers;
+        }
+
+        public List<Header> getAllHeaders() {
+            return headers;
+        }
+
+        /**
+         * Gets the values of a header, regardless of the case of its name.
+         *
+         * @param name the header name
+         * @return the values of the header, or null if the part does not have it
+         */
+        public List<String> getHeader(String name) {
+            List<String> values = null;
+            for (Header header : headers) {
+                if (header.getName().equalsIgnoreCase(name)) {
+                    if (values == null) {
+                        values = new ArrayList<>();
+                    }
+                    values.add(header.getValue());
+                }
+            }
+            return values;
+        }
+
+        public String getContentType() {
+            List<String> values = getHeader(MimeConstants.CONTENT_TYPE);
+            return values != null ? values.get(0) : null;
+        }
+
+        public String getContentId() {
+            List<String> values = getHeader(MimeConstants.CONTENT_ID);
+            if (values == null) {
+                return "";
+            }
+            String contentId = values.get(0);
+            if (contentId.length() > 1 && contentId.startsWith("<") && contentId.endsWith(">")) {
+                contentId = contentId.substring(1, contentId.length() - 1);
+            }
+            return contentId;
+        }
+
+        /**
+         * Gets the body of the part, which is read from the input stream of the message as it is consumed.
+         *
+         * @return the body
+         */
+        public InputStream getBody() {
+            return body;
+        }
+
+        private class PartInputStream extends InputStream {
+
+            @Override
+            public int read() throws IOException {
+                byte[] singleByte = new byte[1];
+                int count = read(singleByte, 0, 1);
+                return count == -1 ? -1 : singleByte[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] destination, int offset, int length) throws IOException {
+                if (currentPart != Part.this) {
+                    throw new IOException("The body part has been skipped, since the next part has been read");
+                }
+                if (length == 0) {
+                    return 0;
+                }
+                return readBody(destination, offset, length);
+            }
+        }
+    }
+
+    private static class PartHeader implements Header {
+
+        private final String name;
+        private String value;
+
+        PartHeader(String name, String value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.mime;
+
+import org.ballerinalang.mime.util.ByteStreamPipe;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the pipe which carries a byte stream to the reader of an entity body.
+ *
+ * @since 2.0.0
+ */
+public class ByteStreamPipeTest {
+
+    @Test(description = "Test that a write waits until the reader takes an array out of a full pipe")
+    public void testWriteWaitsForReader() throws IOException {
+        ByteStreamPipe pipe = new ByteStreamPipe(1);
+        List<IOException> completedWrites = new ArrayList<>();
+        pipe.write(new byte[]{1, 2}, completedWrites::add);
+        pipe.write(new byte[]{3}, completedWrites::add);
+        Assert.assertEquals(completedWrites.size(), 1);
+
+        byte[] buffer = new byte[4];
+        Assert.assertEquals(pipe.read(buffer, 0, 4), 2);
+        Assert.assertEquals(completedWrites.size(), 2);
+        Assert.assertNull(completedWrites.get(1));
+        pipe.closeWriter(null);
+        Assert.assertEquals(pipe.read(buffer, 0, 4), 1);
+        Assert.assertEquals(buffer[0], 3);
+        Assert.assertEquals(pipe.read(buffer, 0, 4), -1);
+    }
+
+    @Test(description = "Test that closing the reader fails a waiting write")
+    public void testCloseReader() {
+        ByteStreamPipe pipe = new ByteStreamPipe(1);
+        List<IOException> completedWrites = new ArrayList<>();
+        pipe.write(new byte[]{1}, completedWrites::add);
+        pipe.write(new byte[]{2}, completedWrites::add);
+        pipe.close();
+
+        Assert.assertEquals(completedWrites.size(), 2);
+        Assert.assertNotNull(completedWrites.get(1));
+    }
+
+    @Test(description = "Test that the error which ended the stream is returned to the reader",
+          expectedExceptions = IOException.class, expectedExceptionsMessageRegExp = "stream failed")
+    public void testWriterError() throws IOException {
+        ByteStreamPipe pipe = new ByteStreamPipe(1);
+        pipe.closeWriter(new IOException("stream failed"));
+        pipe.read();
+    }
+
+    @Test(description = "Test that a transfer takes an array out of the pipe only once the output stream has " +
+            "accepted the previous one")
+    public void testTransfer() throws InterruptedException {
+        ByteStreamPipe pipe = new ByteStreamPipe(1);
+        List<IOException> completedWrites = new CopyOnWriteArrayList<>();
+        pipe.write(new byte[]{1, 2}, completedWrites::add);
+        pipe.write(new byte[]{3}, completedWrites::add);
+        Assert.assertEquals(completedWrites.size(), 1);
+
+        BlockingOutputStream outputStream = new BlockingOutputStream();
+        CompletableFuture<IOException> transfer = new CompletableFuture<>();
+        pipe.transferTo(outputStream, transfer::complete);
+        // The first array is taken out of the pipe, which makes room for the second, but the output stream does not
+        // accept it yet, so the next write waits.
+        Assert.assertTrue(outputStream.writeStarted.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(completedWrites.size(), 2);
+        pipe.write(new byte[]{4}, completedWrites::add);
+        Thread.sleep(100);
+        Assert.assertEquals(completedWrites.size(), 2);
+
+        outputStream.release.countDown();
+        pipe.closeWriter(null);
+        Assert.assertNull(transfer.join());
+        Assert.assertEquals(completedWrites.size(), 3);
+        Assert.assertEquals(outputStream.content.toByteArray(), new byte[]{1, 2, 3, 4});
+    }
+
+    @Test(description = "Test that a transfer ends with the error which ended the stream")
+    public void testTransferWriterError() {
+        ByteStreamPipe pipe = new ByteStreamPipe(1);
+        CompletableFuture<IOException> transfer = new CompletableFuture<>();
+        pipe.transferTo(new ByteArrayOutputStream(), transfer::complete);
+        pipe.closeWriter(new IOException("stream failed"));
+
+        Assert.assertEquals(transfer.join().getMessage(), "stream failed");
+    }
+
+    @Test(description = "Test that a failed write to the output stream ends the transfer and fails the next write")
+    public void testTransferOutputError() {
+        ByteStreamPipe pipe = new ByteStreamPipe(1);
+        CompletableFuture<IOException> transfer = new CompletableFuture<>();
+        pipe.transferTo(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("connection closed");
+            }
+        }, transfer::complete);
+        pipe.write(new byte[]{1}, error -> { });
+
+        Assert.assertEquals(transfer.join().getMessage(), "connection closed");
+        List<IOException> completedWrites = new ArrayList<>();
+        pipe.write(new byte[]{2}, completedWrites::add);
+        Assert.assertNotNull(completedWrites.get(0));
+    }
+
+    /**
+     * An output stream which blocks the first write until it is released.
+     */
+    private static class BlockingOutputStream extends OutputStream {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+            writeStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            content.write(bytes, offset, length);
+        }
+    }
+}
@@ -682,6 +682,21 @@ public class MimeUtilityFunctionTest {
         }
     }
 
+    @Test(description = "Test whether the body parts of a multipart body can be retrieved one at a time as a stream")
+    public void testGetBodyPartsAsStream() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testGetBodyPartsAsStream");
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertEquals(returns[0].stringValue(),
+                            "Ballerina text body part|{\"bodyPart\":\"jsonPart\"}|Ballerina binary file part|");
+    }
+
+    @Test(description = "Test whether a record set as a CBOR body can be extracted as a value of the record type")
+    public void testSetCborAndGetCbor() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testSetCborAndGetCbor");
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertEquals(returns[0].stringValue(), "application/cbor|7|[\"tea\",\"milk\"]|12.50");
+    }
+
     @Test(description = "Test whether an error is returned when trying to extract body parts from an " +
             "entity that has discrete media type content")
     public void getBodyPartsFromDiscreteTypeEntity() {
@@ -743,6 +758,42 @@ public class MimeUtilityFunctionTest {
         }
     }
 
+    @Test(description = "Test whether the elements at a path of the xml content can be extracted with the " +
+            "namespaces declared by their enclosing elements")
+    public void testGetXmlElements() throws IOException {
+        File file = getTemporaryFile("testFile", ".tmp", "<feed xmlns=\"http://www.w3.org/2005/Atom\" " +
+                "xmlns:m=\"urn:meta\"><title>Feed</title><entry><title>One</title><m:id>1</m:id></entry>" +
+                "<entry><title>Two</title></entry></feed>");
+        BObject byteChannel = ValueCreator.createObjectValue(PROTOCOL_IO_PKG_ID, READABLE_BYTE_CHANNEL_STRUCT);
+        byteChannel.addNativeData(IOConstants.BYTE_CHANNEL_NAME,
+                                  EntityBodyHandler.getByteChannelForTempFile(file.getAbsolutePath()));
+        Object[] args = {byteChannel, StringUtils.fromString("application/xml; charset=utf8"),
+                StringUtils.fromString("feed"), StringUtils.fromString("entry")};
+        BValue[] returns = BRunUtil.invoke(compileResult, "testGetXmlElements", args);
+        Assert.assertEquals(returns.length, 1);
+        BValueArray entries = (BValueArray) returns[0];
+        Assert.assertEquals(entries.size(), 2);
+        Assert.assertEquals(entries.getString(0), "<entry xmlns=\"http://www.w3.org/2005/Atom\" " +
+                "xmlns:m=\"urn:meta\"><title>One</title><m:id>1</m:id></entry>");
+        Assert.assertEquals(entries.getString(1), "<entry xmlns=\"http://www.w3.org/2005/Atom\" " +
+                "xmlns:m=\"urn:meta\"><title>Two</title></entry>");
+        Assert.assertFalse(file.exists(), "The byte channel is not closed once the elements are read");
+    }
+
+    @Test(description = "Test whether an error is returned and the byte channel is closed when the xml content " +
+            "is malformed")
+    public void testGetXmlElementsFromMalformedContent() throws IOException {
+        File file = getTemporaryFile("testFile", ".tmp", "<feed><entry>One</entry><entry>");
+        BObject byteChannel = ValueCreator.createObjectValue(PROTOCOL_IO_PKG_ID, READABLE_BYTE_CHANNEL_STRUCT);
+        byteChannel.addNativeData(IOConstants.BYTE_CHANNEL_NAME,
+                                  EntityBodyHandler.getByteChannelForTempFile(file.getAbsolutePath()));
+        Object[] args = {byteChannel, StringUtils.fromString("application/xml")};
+        BValue[] returns = BRunUtil.invoke(compileResult, "testGetXmlElements", args);
+        Assert.assertEquals(returns.length, 1);
+        verifyMimeError(returns[0], "Error occurred while extracting xml data from entity");
+        Assert.assertFalse(file.exists(), "The byte channel is not closed once the content fails to parse");
+    }
+
     @Test(description = "Test whether an error is returned when trying to construct body parts from an invalid " +
             "channel")
     public void getPartsFromInvalidChannel() {
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.mime;
+
+import org.ballerinalang.mime.util.MimeUtil;
+import org.ballerinalang.mime.util.MultipartStreamReader;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Random;
+
+/**
+ * Test the reader which decodes the body parts of a multipart message as they are requested.
+ *
+ * @since 2.0.0
+ */
+public class MultipartStreamReaderTest {
+
+    @Test(description = "Test that the headers and the body of each part are read, regardless of the preamble, " +
+            "the transport padding and the epilogue")
+    public void testReadParts() throws IOException {
+        String message = "preamble\r\n--e3a0b9ad7b4e7cdt\r\n" +
+                "Content-Disposition: form-data; name=\"text\"\r\n" +
+                "Content-Type: text/plain\r\n\r\n" +
+                "Ballerina text\r\n--not a boundary\r\n" +
+                "--e3a0b9ad7b4e7cdt  \r\n" +
+                "Content-ID: <part2>\r\n" +
+                "X-Folded: first\r\n second\r\n\r\n" +
+                "\r\n--e3a0b9ad7b4e7cdt--\r\nepilogue";
+        MultipartStreamReader reader = new MultipartStreamReader(new TrickleInputStream(message.getBytes(
+                StandardCharsets.UTF_8)), "e3a0b9ad7b4e7cdt");
+
+        MultipartStreamReader.Part part = reader.nextPart();
+        Assert.assertEquals(part.getContentType(), "text/plain");
+        Assert.assertEquals(part.getHeader("content-disposition"),
+                            Collections.singletonList("form-data; name=\"text\""));
+        Assert.assertEquals(readAll(part.getBody()), "Ballerina text\r\n--not a boundary".getBytes(
+                StandardCharsets.UTF_8));
+
+        part = reader.nextPart();
+        Assert.assertEquals(part.getContentId(), "part2");
+        Assert.assertNull(part.getContentType());
+        Assert.assertEquals(part.getHeader("X-FOLDED"), Collections.singletonList("first second"));
+        Assert.assertEquals(readAll(part.getBody()).length, 0);
+
+        Assert.assertNull(reader.nextPart());
+    }
+
+    @Test(description = "Test that a large part is read in full, and that the unread body of a part is skipped")
+    public void testSkipPart() throws IOException {
+        byte[] content = new byte[1024 * 1024];
+        new Random(1).nextBytes(content);
+        ByteArrayOutputStream message = new ByteArrayOutputStream();
+        message.write("--boundary\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+        message.write(content);
+        message.write("\r\n--boundary\r\nContent-Type: application/octet-stream\r\n\r\n".getBytes(
+                StandardCharsets.UTF_8));
+        message.write(content);
+        message.write("\r\n--boundary--".getBytes(StandardCharsets.UTF_8));
+        MultipartStreamReader reader = new MultipartStreamReader(new TrickleInputStream(message.toByteArray()),
+                                                                 "boundary");
+
+        MultipartStreamReader.Part firstPart = reader.nextPart();
+        Assert.assertEquals(firstPart.getBody().read(), content[0] & 0xFF);
+        MultipartStreamReader.Part secondPart = reader.nextPart();
+        Assert.assertEquals(readAll(secondPart.getBody()), content);
+        Assert.assertNull(reader.nextPart());
+        try {
+            firstPart.getBody().read();
+            Assert.fail("The body of a skipped part was read");
+        } catch (IOException e) {
+            Assert.assertEquals(e.getMessage(), "The body part has been skipped, since the next part has been read");
+        }
+    }
+
+    @Test(description = "Test that a message which ends before the close delimiter fails",
+          expectedExceptions = IOException.class,
+          expectedExceptionsMessageRegExp = "Unexpected end of the multipart message before a boundary")
+    public void testTruncatedMessage() throws IOException {
+        MultipartStreamReader reader = new MultipartStreamReader(new ByteArrayInputStream(
+                "--boundary\r\n\r\nBallerina".getBytes(StandardCharsets.UTF_8)), "boundary");
+        readAll(reader.nextPart().getBody());
+    }
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        MimeUtil.writeInputToOutputStream(inputStream, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Returns a few bytes at a time, so that the delimiters are split across reads.
+     */
+    private static class TrickleInputStream extends ByteArrayInputStream {
+
+        private final Random random = new Random(7);
+
+        TrickleInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] bytes, int offset, int length) {
+            return super.read(bytes, offset, Math.min(length, 1 + random.nextInt(7)));
+        }
+    }
+}
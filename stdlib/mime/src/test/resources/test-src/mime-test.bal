@@ -496,8 +496,72 @@ function testXmlWithByteArrayContent(io:ReadableByteChannel byteChannel, string
     return entity.getXml();
 }
 
+function testGetXmlElements(io:ReadableByteChannel byteChannel, string contentTypeValue, string... path)
+        returns @tainted string[]|error {
+    mime:Entity entity = new;
+    entity.setByteChannel(byteChannel, contentTypeValue);
+    stream<xml, mime:ParserError> elements = check entity.getXmlElements(...path);
+    string[] result = [];
+    record {| xml value; |}|mime:ParserError? element = elements.next();
+    while (element is record {| xml value; |}) {
+        result.push(element.value.toString());
+        element = elements.next();
+    }
+    if (element is mime:ParserError) {
+        return element;
+    }
+    return result;
+}
+
 function getPartsFromInvalidChannel(io:ReadableByteChannel byteChannel, string contentType) returns mime:Entity[]|error {
     mime:Entity entity = new;
     entity.setByteChannel(byteChannel, contentType);
     return entity.getBodyParts();
 }
+
+function testGetBodyPartsAsStream() returns @tainted string|error {
+    mime:Entity bodyPart1 = new;
+    bodyPart1.setText("Ballerina text body part");
+    mime:Entity bodyPart2 = new;
+    bodyPart2.setJson({ "bodyPart": "jsonPart" });
+    mime:Entity bodyPart3 = new;
+    bodyPart3.setFileAsEntityBody("src/test/resources/datafiles/test.tmp");
+    mime:Entity multipartEntity = new;
+    string contentType = mime:MULTIPART_MIXED + "; boundary=e3a0b9ad7b4e7cdt";
+    multipartEntity.setBodyParts([bodyPart1, bodyPart2, bodyPart3], contentType);
+
+    mime:Entity entity = new;
+    entity.setByteChannel(check multipartEntity.getBodyPartsAsChannel(), contentType);
+    stream<mime:Entity, mime:ParserError> bodyParts = check entity.getBodyPartsAsStream();
+    string content = "";
+    record {| mime:Entity value; |}|mime:ParserError? bodyPart = bodyParts.next();
+    while (bodyPart is record {| mime:Entity value; |}) {
+        content = content + check bodyPart.value.getText() + "|";
+        bodyPart = bodyParts.next();
+    }
+    if (bodyPart is mime:ParserError) {
+        return bodyPart;
+    }
+    return content;
+}
+
+type Order record {|
+    int id;
+    string[] items;
+    decimal total;
+|};
+
+function testSetCborAndGetCbor() returns @tainted string|error {
+    mime:Entity sender = new;
+    Order 'order = {id: 7, items: ["tea", "milk"], total: 12.50};
+    sender.setCbor('order);
+
+    mime:Entity receiver = new;
+    receiver.setByteArray(check sender.getByteArray(), sender.getContentType());
+    anydata payload = check receiver.getCbor(Order);
+    if (payload is Order) {
+        return receiver.getContentType() + "|" + payload.id.toString() + "|" + payload.items.toString() + "|" +
+            payload.total.toString();
+    }
+    return error("Payload is not an Order");
+}
@@ -19,6 +19,7 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.ballerinalang.stdlib.task.utils.TimingWheel;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.impl.StdSchedulerFactory;
@@ -36,6 +37,7 @@ import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_CO
  */
 public class TaskManager {
     private Scheduler scheduler;
+    private final TimingWheel timingWheel = new TimingWheel();
 
     private static class TaskManagerHelper {
         private static final TaskManager INSTANCE = new TaskManager();
@@ -61,6 +63,16 @@ public class TaskManager {
         return this.scheduler;
     }
 
+    /**
+     * Gets the timing wheel which runs the timers. Unlike the Quartz scheduler, which is used for the appointments,
+     * it uses a single thread for all the timers, which only triggers the strands of the timers.
+     *
+     * @return the timing wheel
+     */
+    public TimingWheel getTimingWheel() {
+        return this.timingWheel;
+    }
+
     private Properties createSchedulerProperties() {
         Properties properties = new Properties();
         properties.setProperty(QUARTZ_MISFIRE_THRESHOLD, QUARTZ_MISFIRE_THRESHOLD_VALUE);
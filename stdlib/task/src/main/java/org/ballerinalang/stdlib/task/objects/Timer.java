@@ -18,27 +18,28 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
-import org.ballerinalang.stdlib.task.utils.TaskJob;
-import org.quartz.JobDataMap;
-import org.quartz.JobDetail;
-import org.quartz.SchedulerException;
-import org.quartz.SimpleScheduleBuilder;
-import org.quartz.Trigger;
+import org.ballerinalang.stdlib.task.utils.TaskExecutor;
+import org.ballerinalang.stdlib.task.utils.TimingWheel;
 
-import java.util.Date;
-
-import static org.quartz.JobBuilder.newJob;
-import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
-import static org.quartz.TriggerBuilder.newTrigger;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.MISFIRE_THRESHOLD_MILLIS;
 
 /**
  * Represents a Timer object used to create and run Timers.
+ * <p>
+ * Timers are run by the timing wheel of the task manager rather than by Quartz, so each run only costs a timeout in
+ * the wheel, which triggers the services of the timer directly.
  *
  * @since 0.995.0
  */
 public class Timer extends AbstractTask {
 
     private long interval, delay;
+    private long runs;
+    private long nextRunTime;
+    private TimingWheel.Timeout timeout;
+    private boolean paused;
+    // Changed whenever a timeout is scheduled, fired or cancelled, so that only the latest timeout triggers a run.
+    private long generation;
 
     /**
      * Creates a Timer object.
@@ -73,15 +74,46 @@ public class Timer extends AbstractTask {
      * {@inheritDoc}
      */
     @Override
-    public void start() throws SchedulingException {
-        JobDataMap jobDataMap = getJobDataMapFromTask();
-        try {
-            scheduleTimer(jobDataMap);
-        } catch (SchedulerException e) {
-            throw new SchedulingException("Failed to schedule task.", e);
+    public synchronized void start() throws SchedulingException {
+        cancel();
+        this.paused = false;
+        this.runs = 0;
+        this.nextRunTime = TimingWheel.now() + this.getDelay();
+        schedule();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void stop() {
+        cancel();
+        this.paused = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void pause() {
+        if (this.timeout != null) {
+            cancel();
+            this.paused = true;
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void resume() {
+        if (!this.paused) {
+            return;
+        }
+        this.paused = false;
+        scheduleNextRun(this.nextRunTime - this.getInterval());
+    }
+
     /**
      * Gets the interval of this Timer.
      *
@@ -118,50 +150,66 @@ public class Timer extends AbstractTask {
         }
     }
 
+    private void schedule() {
+        long currentGeneration = ++this.generation;
+        TimingWheel.Timeout scheduledTimeout = TaskManager.getInstance().getTimingWheel()
+                .schedule(this.nextRunTime, () -> trigger(currentGeneration));
+        // A timeout which has already expired is fired before it is returned.
+        if (currentGeneration == this.generation) {
+            this.timeout = scheduledTimeout;
+        }
+    }
+
+    private void cancel() {
+        this.generation++;
+        if (this.timeout != null) {
+            this.timeout.cancel();
+            this.timeout = null;
+        }
+    }
+
+    private synchronized void trigger(long triggeredGeneration) {
+        if (triggeredGeneration != this.generation) {
+            return;
+        }
+        this.generation++;
+        this.timeout = null;
+        this.runs++;
+        for (ServiceInformation serviceInformation : this.getServicesMap().values()) {
+            TaskExecutor.executeFunction(serviceInformation);
+        }
+        scheduleNextRun(this.nextRunTime);
+    }
+
     /**
-     * Schedule a Timer.
+     * Schedules the run which follows a run at a fixed rate. An overdue run is fired late, unless it is later than the
+     * misfire threshold, in which case it is skipped.
+     * <p>
+     * The Quartz trigger which ran timers before considered a run misfired only once it was later than the same
+     * threshold, and rescheduled misfired runs with the remaining count, which counts the missed runs. The skipped runs
+     * are counted as runs in the same way, so that the timer still stops at the time of its last run.
      *
-     * @param jobData Map containing the details of the job.
-     * @throws SchedulerException if scheduling is failed.
+     * @param runTime time of the previous run
      */
-    private void scheduleTimer(JobDataMap jobData) throws SchedulerException, SchedulingException {
-        SimpleScheduleBuilder schedule = createSchedulerBuilder(this.getInterval(), this.getMaxRuns());
-        String triggerId = this.getId();
-        JobDetail job = newJob(TaskJob.class).usingJobData(jobData).withIdentity(triggerId).build();
-        Trigger trigger;
-
-        if (this.getDelay() > 0) {
-            Date startTime = new Date(System.currentTimeMillis() + this.getDelay());
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startAt(startTime)
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
-        } else {
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startNow()
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
+    private void scheduleNextRun(long runTime) {
+        if (isCompleted()) {
+            return;
         }
-
-        TaskManager.getInstance().getScheduler().scheduleJob(job, trigger);
-        quartzJobs.put(triggerId, job.getKey());
+        long nextTime = runTime + this.getInterval();
+        long misfireTime = TimingWheel.now() - MISFIRE_THRESHOLD_MILLIS;
+        if (nextTime < misfireTime) {
+            long skippedRuns = (misfireTime - nextTime + this.getInterval() - 1) / this.getInterval();
+            nextTime += skippedRuns * this.getInterval();
+            this.runs += skippedRuns;
+            if (isCompleted()) {
+                return;
+            }
+        }
+        this.nextRunTime = nextTime;
+        schedule();
     }
 
-    private static SimpleScheduleBuilder createSchedulerBuilder(long interval, long maxRuns) {
-        SimpleScheduleBuilder simpleScheduleBuilder = simpleSchedule()
-                .withMisfireHandlingInstructionNextWithRemainingCount()
-                .withIntervalInMilliseconds(interval);
-        if (maxRuns > 0) {
-            // Quartz uses number of repeats, but we count total number of runs.
-            // Hence we subtract 1 from the maxRuns to get the repeat count.
-            simpleScheduleBuilder.withRepeatCount((int) (maxRuns - 1));
-        } else {
-            simpleScheduleBuilder.repeatForever();
-        }
-        return simpleScheduleBuilder;
+    private boolean isCompleted() {
+        return this.getMaxRuns() > 0 && this.runs >= this.getMaxRuns();
     }
 }
@@ -80,5 +80,6 @@ public class TaskConstants {
     // Quartz property values
     public static final String QUARTZ_THREAD_COUNT_VALUE = "10";
     // Defines how late the trigger should be to be considered misfired
-    public static final String QUARTZ_MISFIRE_THRESHOLD_VALUE = "5000";
+    public static final long MISFIRE_THRESHOLD_MILLIS = 5000;
+    public static final String QUARTZ_MISFIRE_THRESHOLD_VALUE = Long.toString(MISFIRE_THRESHOLD_MILLIS);
 }
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.task.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel, which runs actions once their expiration time is reached.
+ * <p>
+ * Each wheel of the hierarchy is a ring of buckets, and each bucket holds the timeouts which expire within one tick of
+ * the wheel. The first wheel ticks every millisecond, and each following wheel, which is created only when a timeout
+ * expires too late for the wheels before it, ticks once per round of the previous wheel. Scheduling and cancelling a
+ * timeout therefore take constant time regardless of the number of timeouts.
+ * <p>
+ * Only the buckets which hold timeouts are queued to expire, so a single thread sleeps until the earliest bucket
+ * expires, instead of waking up on every tick. Once a bucket expires, its timeouts either expire or move to a wheel
+ * with a finer tick. The actions are run in that thread, so they are expected to hand any work off, as the Ballerina
+ * scheduler does with the strands it is asked to start.
+ *
+ * @since 2.0.0
+ */
+public class TimingWheel {
+
+    private static final long TICK_MILLIS = 1;
+    private static final int WHEEL_SIZE = 64;
+    private static final long ORIGIN_NANOS = System.nanoTime();
+    private static final AtomicInteger wheelCount = new AtomicInteger();
+
+    private final DelayQueue<Bucket> expiringBuckets = new DelayQueue<>();
+    private final Wheel wheel = new Wheel(TICK_MILLIS, now());
+    // Timeouts are added under the read lock, and the clock is advanced under the write lock.
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong size = new AtomicLong();
+
+    public TimingWheel() {
+        Thread worker = new Thread(this::run, "ballerina-task-timer-" + wheelCount.incrementAndGet());
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Gets the current time of the clock the expiration times are measured with, which does not change along with
+     * the wall clock.
+     *
+     * @return current time in milliseconds
+     */
+    public static long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ORIGIN_NANOS);
+    }
+
+    /**
+     * Schedules an action to be run once a time is reached. An action which has already expired is run in the
+     * calling thread.
+     *
+     * @param expirationTime time to run the action at, as given by {@link #now()}
+     * @param action         action to run
+     * @return timeout which could be used to cancel the action
+     */
+    public Timeout schedule(long expirationTime, Runnable action) {
+        Timeout timeout = new Timeout(this, expirationTime, action);
+        boolean added;
+        lock.readLock().lock();
+        try {
+            added = wheel.add(timeout);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (added) {
+            size.incrementAndGet();
+        } else {
+            timeout.expire();
+        }
+        return timeout;
+    }
+
+    /**
+     * Gets the number of timeouts which are yet to expire or be cancelled.
+     *
+     * @return number of pending timeouts
+     */
+    public long size() {
+        return size.get();
+    }
+
+    private void run() {
+        List<Timeout> expiredTimeouts = new ArrayList<>();
+        while (true) {
+            Bucket bucket;
+            try {
+                bucket = expiringBuckets.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                while (bucket != null) {
+                    wheel.advanceClock(bucket.getExpiration());
+                    bucket.flush(timeout -> {
+                        if (timeout.isCancelled()) {
+                            size.decrementAndGet();
+                        } else if (!wheel.add(timeout)) {
+                            expiredTimeouts.add(timeout);
+                        }
+                    });
+                    bucket = expiringBuckets.poll();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            // The actions are run without the lock, so that they could schedule further timeouts.
+            for (Timeout timeout : expiredTimeouts) {
+                size.decrementAndGet();
+                try {
+                    timeout.expire();
+                } catch (RuntimeException e) {
+                    Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                }
+            }
+            expiredTimeouts.clear();
+        }
+    }
+
+    /**
+     * An action scheduled to be run at a time.
+     */
+    public static class Timeout {
+
+        private final TimingWheel timingWheel;
+        private final long expirationTime;
+        private final Runnable action;
+        private volatile boolean cancelled;
+        // The bucket which holds the timeout, and the links to the other timeouts of the bucket.
+        private volatile Bucket bucket;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(TimingWheel timingWheel, long expirationTime, Runnable action) {
+            this.timingWheel = timingWheel;
+            this.expirationTime = expirationTime;
+            this.action = action;
+        }
+
+        public long getExpirationTime() {
+            return expirationTime;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Cancels the timeout, so that its action is not run unless it is already running.
+         */
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            Bucket currentBucket = bucket;
+            if (currentBucket != null && currentBucket.remove(this)) {
+                timingWheel.size.decrementAndGet();
+            }
+        }
+
+        private void expire() {
+            if (!cancelled) {
+                action.run();
+            }
+        }
+    }
+
+    /**
+     * A wheel of the hierarchy.
+     */
+    private class Wheel {
+
+        private final long tick;
+        private final long interval;
+        private final Bucket[] buckets = new Bucket[WHEEL_SIZE];
+        private long currentTime;
+        private volatile Wheel overflowWheel;
+
+        Wheel(long tick, long startTime) {
+            this.tick = tick;
+            this.interval = tick * WHEEL_SIZE;
+            this.currentTime = startTime - (startTime % tick);
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                buckets[i] = new Bucket();
+            }
+        }
+
+        /**
+         * Adds a timeout to the bucket of this wheel or of an overflow wheel which covers its expiration time.
+         *
+         * @param timeout the timeout
+         * @return false if the timeout has already expired
+         */
+        boolean add(Timeout timeout) {
+            long expirationTime = timeout.expirationTime;
+            if (expirationTime < currentTime + tick) {
+                return false;
+            }
+            if (expirationTime < currentTime + interval) {
+                long virtualId = expirationTime / tick;
+                Bucket bucket = buckets[(int) (virtualId % WHEEL_SIZE)];
+                bucket.add(timeout);
+                // A bucket is queued again only when it starts to hold the timeouts of another round of the wheel.
+                if (bucket.setExpiration(virtualId * tick)) {
+                    expiringBuckets.offer(bucket);
+                }
+                return true;
+            }
+            return getOverflowWheel().add(timeout);
+        }
+
+        void advanceClock(long time) {
+            if (time >= currentTime + tick) {
+                currentTime = time - (time % tick);
+                Wheel overflow = overflowWheel;
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+
+        private Wheel getOverflowWheel() {
+            Wheel overflow = overflowWheel;
+            if (overflow == null) {
+                synchronized (this) {
+                    overflow = overflowWheel;
+                    if (overflow == null) {
+                        overflow = new Wheel(interval, currentTime);
+                        overflowWheel = overflow;
+                    }
+                }
+            }
+            return overflow;
+        }
+    }
+
+    /**
+     * A bucket of timeouts which expire within the same tick of a wheel, linked as a doubly linked list.
+     */
+    private static class Bucket implements Delayed {
+
+        private final Timeout head = new Timeout(null, -1, null);
+        private final AtomicLong expiration = new AtomicLong(-1);
+
+        Bucket() {
+            head.next = head;
+            head.previous = head;
+        }
+
+        synchronized void add(Timeout timeout) {
+            Timeout tail = head.previous;
+            timeout.next = head;
+            timeout.previous = tail;
+            tail.next = timeout;
+            head.previous = timeout;
+            timeout.bucket = this;
+        }
+
+        synchronized boolean remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return false;
+            }
+            timeout.next.previous = timeout.previous;
+            timeout.previous.next = timeout.next;
+            timeout.next = null;
+            timeout.previous = null;
+            timeout.bucket = null;
+            return true;
+        }
+
+        /**
+         * Removes all the timeouts of the bucket and passes each of them to a consumer.
+         *
+         * @param consumer the consumer
+         */
+        synchronized void flush(Consumer<Timeout> consumer) {
+            Timeout timeout = head.next;
+            while (timeout != head) {
+                Timeout next = timeout.next;
+                remove(timeout);
+                consumer.accept(timeout);
+                timeout = next;
+            }
+            expiration.set(-1);
+        }
+
+        boolean setExpiration(long expirationTime) {
+            return expiration.getAndSet(expirationTime) != expirationTime;
+        }
+
+        long getExpiration() {
+            return expiration.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(getExpiration() - now(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getExpiration(), ((Bucket) other).getExpiration());
+        }
+    }
+}
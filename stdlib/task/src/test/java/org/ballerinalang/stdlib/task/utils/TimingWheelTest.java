@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.task.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the timing wheel which runs the task timers.
+ */
+public class TimingWheelTest {
+
+    @Test(description = "Tests that timeouts expire in order, no earlier than their expiration time")
+    public void testExpiration() throws InterruptedException {
+        TimingWheel timingWheel = new TimingWheel();
+        long[] delays = {5000, 1, 70, 300, 4100, 20, 1200};
+        CountDownLatch latch = new CountDownLatch(delays.length);
+        List<Long> expiredDelays = new ArrayList<>();
+        List<Long> lateness = new ArrayList<>();
+        long start = TimingWheel.now();
+        for (long delay : delays) {
+            timingWheel.schedule(start + delay, () -> {
+                synchronized (expiredDelays) {
+                    expiredDelays.add(delay);
+                    lateness.add(TimingWheel.now() - (start + delay));
+                }
+                latch.countDown();
+            });
+        }
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(expiredDelays.toArray(), new Long[]{1L, 20L, 70L, 300L, 1200L, 4100L, 5000L});
+        for (long late : lateness) {
+            Assert.assertTrue(late >= 0, "A timeout expired " + -late + "ms early");
+        }
+        Assert.assertEquals(timingWheel.size(), 0);
+    }
+
+    @Test(description = "Tests that cancelled timeouts do not expire")
+    public void testCancel() throws InterruptedException {
+        TimingWheel timingWheel = new TimingWheel();
+        AtomicInteger expiredCount = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = TimingWheel.now();
+        List<TimingWheel.Timeout> timeouts = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            timeouts.add(timingWheel.schedule(start + 50 + (i % 200), expiredCount::incrementAndGet));
+        }
+        Assert.assertEquals(timingWheel.size(), 10000);
+        for (int i = 0; i < timeouts.size(); i += 2) {
+            timeouts.get(i).cancel();
+        }
+        Assert.assertEquals(timingWheel.size(), 5000);
+        timingWheel.schedule(start + 400, latch::countDown);
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(expiredCount.get(), 5000);
+        Assert.assertEquals(timingWheel.size(), 0);
+    }
+
+    @Test(description = "Tests that an expired timeout is run when it is scheduled")
+    public void testExpiredTimeout() {
+        TimingWheel timingWheel = new TimingWheel();
+        AtomicInteger expiredCount = new AtomicInteger();
+        timingWheel.schedule(TimingWheel.now() - 10, expiredCount::incrementAndGet);
+        Assert.assertEquals(expiredCount.get(), 1);
+        Assert.assertEquals(timingWheel.size(), 0);
+    }
+}
@@ -79,4 +79,13 @@ public class HTTP2ClientActionsTestCase extends Http2BaseTest {
         Assert.assertEquals(response.getResponseCode(), 200, "Response code mismatched");
         Assert.assertEquals(response.getData(), "Sample Text", "Message content mismatched");
     }
+
+    @Test(description = "Test that submitted requests hold their HTTP/2 streams until their responses arrive")
+    public void testSubmitWithStreamLimit() throws IOException {
+        HttpResponse response = HttpClientRequest.doGet(serverInstance.getServiceURLHttp(servicePort,
+                "test2/submitWithStreamLimit"));
+        Assert.assertEquals(response.getResponseCode(), 200, "Response code mismatched");
+        // A stream is in use after each submission, none once the responses are received, and three were acquired.
+        Assert.assertEquals(response.getData(), "111HelloHelloHello03", "Message content mismatched");
+    }
 }
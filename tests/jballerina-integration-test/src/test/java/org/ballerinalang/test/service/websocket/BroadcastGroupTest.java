@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.service.websocket;
+
+import org.ballerinalang.test.util.websocket.client.WebSocketTestClient;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests broadcasting messages to a WebSocket group.
+ */
+@Test(groups = {"websocket-test"})
+public class BroadcastGroupTest extends WebSocketTestCommons {
+
+    private static final String URL = "ws://localhost:21043/broadcast";
+    private WebSocketTestClient publisher;
+    private WebSocketTestClient subscriber;
+
+    @BeforeClass(description = "Connects two members of the group")
+    public void setup() throws URISyntaxException, InterruptedException {
+        publisher = new WebSocketTestClient(URL);
+        publisher.handshake();
+        subscriber = new WebSocketTestClient(URL);
+        subscriber.handshake();
+    }
+
+    @Test(description = "Tests broadcasting a text message to all the members of the group")
+    public void testBroadcastText() throws InterruptedException {
+        CountDownLatch publisherLatch = new CountDownLatch(1);
+        CountDownLatch subscriberLatch = new CountDownLatch(1);
+        publisher.setCountDownLatch(publisherLatch);
+        subscriber.setCountDownLatch(subscriberLatch);
+        publisher.sendText("Hello everyone");
+        publisherLatch.await(TIMEOUT_IN_SECS, TimeUnit.SECONDS);
+        subscriberLatch.await(TIMEOUT_IN_SECS, TimeUnit.SECONDS);
+        Assert.assertEquals(publisher.getTextReceived(), "Hello everyone");
+        Assert.assertEquals(subscriber.getTextReceived(), "Hello everyone");
+    }
+
+    @Test(description = "Tests broadcasting a binary message to all the members of the group")
+    public void testBroadcastBinary() throws InterruptedException {
+        ByteBuffer data = ByteBuffer.wrap("binary update".getBytes(StandardCharsets.UTF_8));
+        CountDownLatch publisherLatch = new CountDownLatch(1);
+        CountDownLatch subscriberLatch = new CountDownLatch(1);
+        publisher.setCountDownLatch(publisherLatch);
+        subscriber.setCountDownLatch(subscriberLatch);
+        publisher.sendBinary(data.duplicate());
+        publisherLatch.await(TIMEOUT_IN_SECS, TimeUnit.SECONDS);
+        subscriberLatch.await(TIMEOUT_IN_SECS, TimeUnit.SECONDS);
+        Assert.assertEquals(publisher.getBufferReceived(), data);
+        Assert.assertEquals(subscriber.getBufferReceived(), data);
+    }
+
+    @Test(description = "Tests leaving the group", dependsOnMethods = {"testBroadcastText", "testBroadcastBinary"})
+    public void testLeaveGroup() throws InterruptedException {
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        subscriber.setCountDownLatch(countDownLatch);
+        subscriber.sendText("leave");
+        countDownLatch.await(TIMEOUT_IN_SECS, TimeUnit.SECONDS);
+        Assert.assertEquals(subscriber.getTextReceived(), "members: 1");
+    }
+
+    @Test(description = "Tests that a closed connection is removed from the group",
+            dependsOnMethods = "testLeaveGroup")
+    public void testCloseLeavesGroup() throws URISyntaxException, InterruptedException {
+        WebSocketTestClient member = new WebSocketTestClient(URL);
+        member.handshake();
+        member.shutDown();
+        String members = null;
+        // The connection is removed once the server has processed the close, which could happen after the shutdown.
+        for (int attempt = 0; attempt < 10 && !"members: 1".equals(members); attempt++) {
+            Thread.sleep(100 * attempt);
+            CountDownLatch countDownLatch = new CountDownLatch(1);
+            publisher.setCountDownLatch(countDownLatch);
+            publisher.sendText("members");
+            countDownLatch.await(TIMEOUT_IN_SECS, TimeUnit.SECONDS);
+            members = publisher.getTextReceived();
+        }
+        Assert.assertEquals(members, "members: 1");
+    }
+
+    @AfterClass(description = "Closes the members of the group")
+    public void cleanup() throws InterruptedException {
+        publisher.shutDown();
+        subscriber.shutDown();
+    }
+}
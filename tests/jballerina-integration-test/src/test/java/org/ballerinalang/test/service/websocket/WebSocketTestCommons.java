@@ -47,7 +47,7 @@ public class WebSocketTestCommons extends BaseTest {
                 new int[]{21001, 21002, 21003, 21004, 21005, 21006, 21007, 21008, 21009, 21010, 21011, 21022, 21021,
                         21012, 21013, 21014, 21015, 21016, 21017, 21018, 21019, 21020, 21023, 21024, 21025, 21026,
                         21027, 21028, 21029, 21030, 21031, 21032, 21033, 21034, 21035, 21036, 21037, 21038,
-                        21039, 21040, 21041, 21042};
+                        21039, 21040, 21041, 21042, 21043};
         String balFile = new File("src" + File.separator + "test" + File.separator + "resources" + File.separator +
                                           "websocket").getAbsolutePath();
         String keyStore = StringEscapeUtils.escapeJava(
@@ -17,10 +17,15 @@
 import ballerina/io;
 import ballerina/http;
 import ballerina/mime;
+import ballerina/runtime;
 
 http:Client http2Client = new("http://localhost:9102", { httpVersion: "2.0",
                                 http2Settings: { http2PriorKnowledge: true } });
 
+http:PoolConfiguration streamLimitedPool = { maxActiveStreamsPerConnection: 1, maxHttp2ConnectionsPerHost: 1 };
+http:Client streamLimitedClient = new("http://localhost:9102", { httpVersion: "2.0",
+                                http2Settings: { http2PriorKnowledge: true }, poolConfig: streamLimitedPool });
+
 @http:ServiceConfig {
     basePath: "/test1"
 }
@@ -34,6 +39,15 @@ service backEndService on new http:Listener(9102, { httpVersion: "2.0" }) {
         checkpanic caller->respond("Hello");
     }
 
+    @http:ResourceConfig {
+        methods: ["GET"],
+        path: "/slowGreeting"
+    }
+    resource function replySlowText(http:Caller caller, http:Request req) {
+        runtime:sleep(500);
+        checkpanic caller->respond("Hello");
+    }
+
     @http:ResourceConfig {
         methods: ["POST"],
         path: "/byteChannel"
@@ -244,4 +258,44 @@ service testService on new http:Listener(9103, { httpVersion: "2.0" }) {
         }
         checkpanic caller->respond(<@untainted> value);
     }
+
+    @http:ResourceConfig {
+        methods: ["GET"],
+        path: "/submitWithStreamLimit"
+    }
+    resource function testSubmitWithStreamLimit(http:Caller caller, http:Request req) {
+        string value = "";
+        http:HttpFuture[] futures = [];
+        foreach int i in 1...3 {
+            // A request waits for the stream of the previous one to be released once its response headers arrive.
+            var submission = streamLimitedClient->submit("GET", "/test1/slowGreeting", new http:Request());
+            if (submission is http:HttpFuture) {
+                futures.push(submission);
+            } else {
+                value = value + submission.message();
+            }
+            var stats = http:getConnectionPoolStats("http://localhost:9102", streamLimitedPool);
+            if (stats is http:ConnectionPoolStats) {
+                value = value + stats.activeStreams.toString();
+            }
+        }
+        foreach var future in futures {
+            var response = streamLimitedClient->getResponse(future);
+            if (response is http:Response) {
+                var result = response.getTextPayload();
+                if (result is string) {
+                    value = value + result;
+                } else {
+                    value = value + result.message();
+                }
+            } else {
+                value = value + response.message();
+            }
+        }
+        var finalStats = http:getConnectionPoolStats("http://localhost:9102", streamLimitedPool);
+        if (finalStats is http:ConnectionPoolStats) {
+            value = value + finalStats.activeStreams.toString() + finalStats.acquisitions.toString();
+        }
+        checkpanic caller->respond(<@untainted> value);
+    }
 }
@@ -0,0 +1,46 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+
+http:WebSocketGroup subscribers = new({maxPendingMessages: 16});
+
+@http:WebSocketServiceConfig {
+    path: "/broadcast"
+}
+service broadcastGroup on new http:Listener(21043) {
+
+    resource function onOpen(http:WebSocketCaller caller) {
+        boolean|http:WebSocketError added = subscribers.add(caller);
+    }
+
+    resource function onText(http:WebSocketCaller caller, string text) {
+        if (text == "leave") {
+            boolean|http:WebSocketError removed = subscribers.remove(caller);
+            http:WebSocketError? err = caller->pushText("members: " + subscribers.size().toString());
+            return;
+        }
+        if (text == "members") {
+            http:WebSocketError? err = caller->pushText("members: " + subscribers.size().toString());
+            return;
+        }
+        int|http:WebSocketError count = subscribers.broadcastText(text);
+    }
+
+    resource function onBinary(http:WebSocketCaller caller, byte[] data) {
+        int count = subscribers.broadcastBinary(data);
+    }
+}
@@ -527,4 +527,34 @@ public class CloneOperationTest {
         BValue[] results = BRunUtil.invoke(result, "testCloneMapWithError");
         Assert.assertTrue(((BBoolean) results[0]).booleanValue());
     }
+
+    @Test
+    public void testCloneDistinctEqualMembers() {
+        BValue[] results = BRunUtil.invoke(result, "testCloneDistinctEqualMembers");
+        Assert.assertTrue(((BBoolean) results[0]).booleanValue());
+    }
+
+    @Test
+    public void testCloneReadOnlySharesImmutableMembers() {
+        BValue[] results = BRunUtil.invoke(result, "testCloneReadOnlySharesImmutableMembers");
+        Assert.assertTrue(((BBoolean) results[0]).booleanValue());
+    }
+
+    @Test
+    public void testCloneReadOnlyCyclicMap() {
+        BValue[] results = BRunUtil.invoke(result, "testCloneReadOnlyCyclicMap");
+        Assert.assertTrue(((BBoolean) results[0]).booleanValue());
+    }
+
+    @Test
+    public void testCloneReadOnlyCyclicArray() {
+        BValue[] results = BRunUtil.invoke(result, "testCloneReadOnlyCyclicArray");
+        Assert.assertTrue(((BBoolean) results[0]).booleanValue());
+    }
+
+    @Test
+    public void testCloneReadOnlyCyclicTable() {
+        BValue[] results = BRunUtil.invoke(result, "testCloneReadOnlyCyclicTable");
+        Assert.assertTrue(((BBoolean) results[0]).booleanValue());
+    }
 }
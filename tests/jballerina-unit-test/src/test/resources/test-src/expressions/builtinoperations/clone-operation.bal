@@ -408,3 +408,64 @@ public function testCloneMapWithError() returns boolean {
     }
     return cloneSuccessful;
 }
+
+public function testCloneDistinctEqualMembers() returns boolean {
+    int[] a = [1, 2];
+    int[] b = [1, 2];
+    int[][] arr = [a, b];
+
+    int[][] clonedArr = arr.clone();
+    boolean cloneSuccessful = clonedArr[0] !== clonedArr[1] && clonedArr[0] == a && clonedArr[1] == b;
+
+    clonedArr[0][0] = 100;
+    return cloneSuccessful && clonedArr[1][0] == 1 && a[0] == 1;
+}
+
+public function testCloneReadOnlySharesImmutableMembers() returns boolean {
+    map<int> & readonly config = {timeout: 30, retries: 3};
+    map<anydata> wrapper = {name: "service", config: config, tags: ["a", "b"]};
+
+    map<anydata> & readonly frozenWrapper = wrapper.cloneReadOnly();
+    boolean cloneSuccessful = frozenWrapper !== wrapper && frozenWrapper["config"] === config &&
+                                frozenWrapper["tags"] !== wrapper["tags"] && frozenWrapper["tags"] is readonly;
+
+    return cloneSuccessful && frozenWrapper.cloneReadOnly() === frozenWrapper;
+}
+
+public function testCloneReadOnlyCyclicMap() returns boolean {
+    map<anydata> parent = {name: "parent"};
+    map<anydata> child = {name: "child", parent: parent};
+    parent["child"] = child;
+
+    map<anydata> & readonly frozenParent = parent.cloneReadOnly();
+    anydata frozenChild = frozenParent["child"];
+    return frozenParent !== parent && frozenChild is map<anydata> && frozenChild is readonly &&
+            frozenChild !== child && frozenChild["parent"] === frozenParent;
+}
+
+public function testCloneReadOnlyCyclicArray() returns boolean {
+    anydata[] outer = [1];
+    anydata[] inner = [2, outer];
+    outer.push(inner);
+
+    anydata[] & readonly frozenOuter = outer.cloneReadOnly();
+    anydata frozenInner = frozenOuter[1];
+    return frozenOuter !== outer && frozenInner is anydata[] && frozenInner is readonly &&
+            frozenInner !== inner && frozenInner[1] === frozenOuter;
+}
+
+type TableNode record {|
+    readonly int id;
+    anydata data;
+|};
+
+public function testCloneReadOnlyCyclicTable() returns boolean {
+    table<TableNode> key(id) nodes = table [];
+    map<anydata> data = {owner: nodes};
+    nodes.add({id: 1, data: data});
+
+    table<TableNode> key(id) & readonly frozenNodes = nodes.cloneReadOnly();
+    anydata frozenData = frozenNodes.get(1).data;
+    return frozenNodes !== nodes && frozenData is map<anydata> && frozenData is readonly &&
+            frozenData !== data && frozenData["owner"] === frozenNodes;
+}